@@ -369,6 +369,24 @@ public class AtomixClusterBuilder implements Builder<AtomixCluster> {
     return this;
   }
 
+  /**
+   * Enables the consolidation of flushes on the messaging channels.
+   *
+   * <p>Instead of flushing every message individually, the messages which are written within the
+   * same event loop iteration are flushed together. An explicit flush is done at the latest after
+   * {@code maxConsolidatedFlushes} flushes were consolidated.
+   *
+   * @param maxConsolidatedFlushes the maximum number of consolidated flushes
+   * @return the cluster builder
+   */
+  public AtomixClusterBuilder withFlushConsolidation(final int maxConsolidatedFlushes) {
+    config
+        .getMessagingConfig()
+        .setFlushConsolidationEnabled(true)
+        .setMaxConsolidatedFlushes(maxConsolidatedFlushes);
+    return this;
+  }
+
   /**
    * Enables multicast communication.
    *
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging;
+
+import io.netty.util.ReferenceCounted;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * View on the payload of a received message. The view may reference the network buffer the message
+ * was decoded from, in which case the payload is not copied. The receiver owns the view and must
+ * {@link #release()} it exactly once, after which the buffer must not be accessed anymore.
+ */
+public final class MessagePayload {
+
+  private final DirectBuffer buffer;
+  private final ReferenceCounted owner;
+
+  /**
+   * Creates a view on the given array, which does not need to be released.
+   *
+   * @param payload the payload
+   */
+  public MessagePayload(final byte[] payload) {
+    this(new UnsafeBuffer(payload), null);
+  }
+
+  /**
+   * Creates a view on the given buffer, which releases the owner of the memory once released.
+   *
+   * @param buffer the buffer containing the payload, starting at offset 0
+   * @param owner the owner of the memory or {@code null} if the memory is not reference counted
+   */
+  public MessagePayload(final DirectBuffer buffer, final ReferenceCounted owner) {
+    this.buffer = buffer;
+    this.owner = owner;
+  }
+
+  /**
+   * Returns the buffer which contains the payload, starting at offset 0.
+   *
+   * @return the payload buffer
+   */
+  public DirectBuffer buffer() {
+    return buffer;
+  }
+
+  /**
+   * Returns the length of the payload.
+   *
+   * @return the payload length
+   */
+  public int length() {
+    return buffer.capacity();
+  }
+
+  /** Releases the underlying memory. */
+  public void release() {
+    if (owner != null) {
+      owner.release();
+    }
+  }
+}
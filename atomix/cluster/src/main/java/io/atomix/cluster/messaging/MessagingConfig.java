@@ -27,6 +27,8 @@ public class MessagingConfig implements Config {
   private Integer port;
   private int connectionPoolSize = 8;
   private Duration connectTimeout = Duration.ofSeconds(10);
+  private boolean flushConsolidationEnabled = false;
+  private int maxConsolidatedFlushes = 256;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -107,4 +109,47 @@ public class MessagingConfig implements Config {
     this.connectTimeout = connectTimeout;
     return this;
   }
+
+  /**
+   * Returns whether flushes on the messaging channels are consolidated.
+   *
+   * @return true if flushes are consolidated, otherwise false
+   */
+  public boolean isFlushConsolidationEnabled() {
+    return flushConsolidationEnabled;
+  }
+
+  /**
+   * Sets whether flushes on the messaging channels are consolidated. If enabled, the messages which
+   * are written within the same event loop iteration are flushed together, instead of flushing
+   * every message individually.
+   *
+   * @param flushConsolidationEnabled true to consolidate flushes
+   * @return the messaging configuration
+   */
+  public MessagingConfig setFlushConsolidationEnabled(final boolean flushConsolidationEnabled) {
+    this.flushConsolidationEnabled = flushConsolidationEnabled;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of flushes which are consolidated before an explicit flush is done.
+   *
+   * @return the maximum number of consolidated flushes
+   */
+  public int getMaxConsolidatedFlushes() {
+    return maxConsolidatedFlushes;
+  }
+
+  /**
+   * Sets the maximum number of flushes which are consolidated before an explicit flush is done.
+   * Only applies if flush consolidation is enabled.
+   *
+   * @param maxConsolidatedFlushes the maximum number of consolidated flushes
+   * @return the messaging configuration
+   */
+  public MessagingConfig setMaxConsolidatedFlushes(final int maxConsolidatedFlushes) {
+    this.maxConsolidatedFlushes = maxConsolidatedFlushes;
+    return this;
+  }
 }
@@ -203,6 +203,21 @@ public interface MessagingService {
    */
   void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler);
 
+  /**
+   * Registers a new message handler for message type, which receives the payload as view instead of
+   * a copied array. The handler owns the payload and must release it once it is done reading it;
+   * the payload may be released on any thread.
+   *
+   * @param type message type.
+   * @param handler message handler
+   */
+  default void registerPayloadHandler(
+      final String type,
+      final BiFunction<Address, MessagePayload, CompletableFuture<byte[]>> handler) {
+    registerHandler(
+        type, (address, payload) -> handler.apply(address, new MessagePayload(payload)));
+  }
+
   /**
    * Unregister current handler, if one exists for message type.
    *
@@ -38,6 +38,7 @@ abstract class AbstractServerConnection implements ServerConnection {
       handler.accept(message, this);
     } else {
       log.debug("No handler for message type {} from {}", message.subject(), message.sender());
+      message.release();
       reply(message, ProtocolReply.Status.ERROR_NO_HANDLER, Optional.empty());
     }
   }
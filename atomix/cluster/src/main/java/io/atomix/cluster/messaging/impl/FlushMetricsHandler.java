@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Counts the messages which are written to the channel between two flushes. It must be placed in
+ * front of the handlers which consolidate flushes, so it only sees the flushes which reach the
+ * transport.
+ */
+final class FlushMetricsHandler extends ChannelOutboundHandlerAdapter {
+
+  private final MessagingMetrics metrics;
+  private int pendingMessages;
+
+  FlushMetricsHandler(final MessagingMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void write(
+      final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+    pendingMessages++;
+    ctx.write(msg, promise);
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext ctx) {
+    if (pendingMessages > 0) {
+      metrics.observeMessagesPerFlush(pendingMessages);
+      pendingMessages = 0;
+    }
+    ctx.flush();
+  }
+}
@@ -35,6 +35,8 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
   private long messageId;
   private int contentLength;
   private byte[] content;
+  // requests retain a slice of the network buffer, so their payload can be consumed without copy
+  private ByteBuf retainedContent;
   private int subjectLength;
 
   @Override
@@ -87,7 +89,9 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         if (buffer.readableBytes() < contentLength) {
           return;
         }
-        if (contentLength > 0) {
+        if (contentLength > 0 && type == ProtocolMessage.Type.REQUEST) {
+          retainedContent = buffer.readRetainedSlice(contentLength);
+        } else if (contentLength > 0) {
           // TODO: Perform a sanity check on the size before allocating
           content = new byte[contentLength];
           buffer.readBytes(content);
@@ -124,8 +128,13 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
               return;
             }
             final String subject = readString(buffer, subjectLength);
-            final ProtocolRequest message =
-                new ProtocolRequest(messageId, senderAddress, subject, content);
+            final ProtocolRequest message;
+            if (retainedContent != null) {
+              message = new ProtocolRequest(messageId, senderAddress, subject, retainedContent);
+              retainedContent = null;
+            } else {
+              message = new ProtocolRequest(messageId, senderAddress, subject, content);
+            }
             out.add(message);
             currentState = DecoderState.READ_TYPE;
             break;
@@ -153,6 +162,14 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     }
   }
 
+  @Override
+  protected void handlerRemoved0(final ChannelHandlerContext context) throws Exception {
+    if (retainedContent != null) {
+      retainedContent.release();
+      retainedContent = null;
+    }
+  }
+
   /** V2 decoder state. */
   enum DecoderState {
     READ_TYPE,
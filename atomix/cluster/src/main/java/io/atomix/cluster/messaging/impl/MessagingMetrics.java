@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.prometheus.client.Histogram;
+
+final class MessagingMetrics {
+
+  private static final String NAMESPACE = "atomix";
+  private static final String CHANNEL_TYPE_LABEL = "channelType";
+
+  private static final Histogram MESSAGES_PER_FLUSH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(CHANNEL_TYPE_LABEL)
+          .help("The number of messages which are written to the channel per flush")
+          .name("messaging_messages_per_flush")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512)
+          .register();
+
+  private final Histogram.Child messagesPerFlush;
+
+  MessagingMetrics(final String channelType) {
+    messagesPerFlush = MESSAGES_PER_FLUSH.labels(channelType);
+  }
+
+  void observeMessagesPerFlush(final int messageCount) {
+    messagesPerFlush.observe(messageCount);
+  }
+}
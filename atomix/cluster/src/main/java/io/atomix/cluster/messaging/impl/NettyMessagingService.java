@@ -23,6 +23,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.cluster.messaging.ManagedMessagingService;
+import io.atomix.cluster.messaging.MessagePayload;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
@@ -49,6 +50,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.util.concurrent.Future;
 import java.net.InetAddress;
 import java.time.Duration;
@@ -86,6 +88,8 @@ public class NettyMessagingService implements ManagedMessagingService {
   private final Map<Channel, RemoteClientConnection> connections = Maps.newConcurrentMap();
   private final AtomicLong messageIdGenerator = new AtomicLong(0);
   private final ChannelPool channelPool;
+  private final MessagingMetrics clientMetrics = new MessagingMetrics("client");
+  private final MessagingMetrics serverMetrics = new MessagingMetrics("server");
   private EventLoopGroup serverGroup;
   private EventLoopGroup clientGroup;
   private Class<? extends ServerChannel> serverChannelClass;
@@ -182,8 +186,10 @@ public class NettyMessagingService implements ManagedMessagingService {
       final String type, final BiConsumer<Address, byte[]> handler, final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(() -> handler.accept(message.sender(), message.payload())));
+        (message, connection) -> {
+          final byte[] payload = message.payload();
+          executor.execute(() -> handler.accept(message.sender(), payload));
+        });
   }
 
   @Override
@@ -193,19 +199,21 @@ public class NettyMessagingService implements ManagedMessagingService {
       final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(
-                () -> {
-                  byte[] responsePayload = null;
-                  ProtocolReply.Status status = ProtocolReply.Status.OK;
-                  try {
-                    responsePayload = handler.apply(message.sender(), message.payload());
-                  } catch (final Exception e) {
-                    log.warn("An error occurred in a message handler: {}", e);
-                    status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                  }
-                  connection.reply(message, status, Optional.ofNullable(responsePayload));
-                }));
+        (message, connection) -> {
+          final byte[] payload = message.payload();
+          executor.execute(
+              () -> {
+                byte[] responsePayload = null;
+                ProtocolReply.Status status = ProtocolReply.Status.OK;
+                try {
+                  responsePayload = handler.apply(message.sender(), payload);
+                } catch (final Exception e) {
+                  log.warn("An error occurred in a message handler: {}", e);
+                  status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+                }
+                connection.reply(message, status, Optional.ofNullable(responsePayload));
+              });
+        });
   }
 
   @Override
@@ -213,20 +221,36 @@ public class NettyMessagingService implements ManagedMessagingService {
       final String type, final BiFunction<Address, byte[], CompletableFuture<byte[]>> handler) {
     handlers.register(
         type,
-        (message, connection) -> {
-          handler
-              .apply(message.sender(), message.payload())
-              .whenComplete(
-                  (result, error) -> {
-                    final ProtocolReply.Status status;
-                    if (error == null) {
-                      status = ProtocolReply.Status.OK;
-                    } else {
-                      log.warn("An error occurred in a message handler: {}", error);
-                      status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                    }
-                    connection.reply(message, status, Optional.ofNullable(result));
-                  });
+        (message, connection) ->
+            replyOnCompletion(
+                message, connection, handler.apply(message.sender(), message.payload())));
+  }
+
+  @Override
+  public void registerPayloadHandler(
+      final String type,
+      final BiFunction<Address, MessagePayload, CompletableFuture<byte[]>> handler) {
+    handlers.register(
+        type,
+        (message, connection) ->
+            replyOnCompletion(
+                message, connection, handler.apply(message.sender(), message.retainedPayload())));
+  }
+
+  private void replyOnCompletion(
+      final ProtocolRequest message,
+      final ServerConnection connection,
+      final CompletableFuture<byte[]> response) {
+    response.whenComplete(
+        (result, error) -> {
+          final ProtocolReply.Status status;
+          if (error == null) {
+            status = ProtocolReply.Status.OK;
+          } else {
+            log.warn("An error occurred in a message handler: {}", error);
+            status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+          }
+          connection.reply(message, status, Optional.ofNullable(result));
         });
   }
 
@@ -651,6 +675,12 @@ public class NettyMessagingService implements ManagedMessagingService {
   private abstract class HandshakeHandlerAdapter<M extends ProtocolMessage>
       extends ChannelInboundHandlerAdapter {
 
+    private final MessagingMetrics metrics;
+
+    HandshakeHandlerAdapter(final MessagingMetrics metrics) {
+      this.metrics = metrics;
+    }
+
     /**
      * Writes the protocol version to the given context.
      *
@@ -701,6 +731,17 @@ public class NettyMessagingService implements ManagedMessagingService {
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
       context.pipeline().addLast("handler", new MessageDispatcher<>(connection));
+
+      // the flush handlers are placed at the head of the pipeline, to see the flushes after the
+      // messages are encoded and to get notified when a read loop is completed
+      if (config.isFlushConsolidationEnabled()) {
+        context
+            .pipeline()
+            .addFirst(
+                "flushConsolidation",
+                new FlushConsolidationHandler(config.getMaxConsolidatedFlushes(), true));
+      }
+      context.pipeline().addFirst("flushMetrics", new FlushMetricsHandler(metrics));
     }
   }
 
@@ -710,6 +751,7 @@ public class NettyMessagingService implements ManagedMessagingService {
     private final CompletableFuture<Channel> future;
 
     ClientHandshakeHandlerAdapter(final CompletableFuture<Channel> future) {
+      super(clientMetrics);
       this.future = future;
     }
 
@@ -766,6 +808,10 @@ public class NettyMessagingService implements ManagedMessagingService {
   /** Server handshake handler. */
   private class ServerHandshakeHandlerAdapter extends HandshakeHandlerAdapter<ProtocolRequest> {
 
+    ServerHandshakeHandlerAdapter() {
+      super(serverMetrics);
+    }
+
     @Override
     public void channelRead(final ChannelHandlerContext context, final Object message)
         throws Exception {
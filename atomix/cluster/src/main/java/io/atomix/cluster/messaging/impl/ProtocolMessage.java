@@ -16,17 +16,33 @@
  */
 package io.atomix.cluster.messaging.impl;
 
-/** Base class for internal messages. */
+import io.atomix.cluster.messaging.MessagePayload;
+import io.atomix.utils.misc.ArraySizeHashPrinter;
+import io.netty.buffer.ByteBuf;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Base class for internal messages. The payload is either an array or a retained slice of the
+ * network buffer the message was decoded from. A retained payload is released once it was copied by
+ * {@link #payload()}, handed over by {@link #retainedPayload()} or dropped by {@link #release()}.
+ * Messages are not thread safe.
+ */
 public abstract class ProtocolMessage {
 
   private final long id;
-  private final byte[] payload;
+  private byte[] payload;
+  private ByteBuf content;
 
   protected ProtocolMessage(final long id, final byte[] payload) {
     this.id = id;
     this.payload = payload;
   }
 
+  protected ProtocolMessage(final long id, final ByteBuf content) {
+    this.id = id;
+    this.content = content;
+  }
+
   public abstract Type type();
 
   public boolean isRequest() {
@@ -42,9 +58,68 @@ public abstract class ProtocolMessage {
   }
 
   public byte[] payload() {
+    if (payload == null) {
+      if (content == null) {
+        throw new IllegalStateException("Expected payload of message " + id + " to be available");
+      }
+
+      payload = new byte[content.readableBytes()];
+      content.getBytes(content.readerIndex(), payload);
+      release();
+    }
+
     return payload;
   }
 
+  /**
+   * Hands the payload over to the caller, without copying it if it is retained from the network
+   * buffer. The caller is responsible to release the returned payload.
+   *
+   * @return the payload view
+   */
+  public MessagePayload retainedPayload() {
+    if (content == null) {
+      return new MessagePayload(payload());
+    }
+
+    final ByteBuf retainedContent = content;
+    content = null;
+
+    final int length = retainedContent.readableBytes();
+    if (retainedContent.hasMemoryAddress()) {
+      return new MessagePayload(
+          new UnsafeBuffer(retainedContent.memoryAddress() + retainedContent.readerIndex(), length),
+          retainedContent);
+    } else if (retainedContent.hasArray()) {
+      return new MessagePayload(
+          new UnsafeBuffer(
+              retainedContent.array(),
+              retainedContent.arrayOffset() + retainedContent.readerIndex(),
+              length),
+          retainedContent);
+    }
+
+    // composite buffers are not contiguous in memory
+    final byte[] copy = new byte[length];
+    retainedContent.getBytes(retainedContent.readerIndex(), copy);
+    retainedContent.release();
+    return new MessagePayload(copy);
+  }
+
+  /** Releases the retained payload, if it was not copied or handed over yet. */
+  public void release() {
+    if (content != null) {
+      content.release();
+      content = null;
+    }
+  }
+
+  protected Object payloadToString() {
+    return content != null
+        ? "ByteBuf[length=" + content.readableBytes() + "]"
+        : ArraySizeHashPrinter.of(payload);
+  }
+
   /** Internal message type. */
   public enum Type {
     REQUEST(1),
@@ -17,7 +17,6 @@
 package io.atomix.cluster.messaging.impl;
 
 import com.google.common.base.MoreObjects;
-import io.atomix.utils.misc.ArraySizeHashPrinter;
 
 /** Internal reply message. */
 public final class ProtocolReply extends ProtocolMessage {
@@ -43,7 +42,7 @@ public final class ProtocolReply extends ProtocolMessage {
     return MoreObjects.toStringHelper(this)
         .add("id", id())
         .add("status", status())
-        .add("payload", ArraySizeHashPrinter.of(payload()))
+        .add("payload", payloadToString())
         .toString();
   }
 
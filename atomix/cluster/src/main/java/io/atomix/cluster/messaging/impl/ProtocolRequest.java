@@ -17,8 +17,8 @@
 package io.atomix.cluster.messaging.impl;
 
 import com.google.common.base.MoreObjects;
-import io.atomix.utils.misc.ArraySizeHashPrinter;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
 
 /** Internal request message. */
 public final class ProtocolRequest extends ProtocolMessage {
@@ -32,6 +32,13 @@ public final class ProtocolRequest extends ProtocolMessage {
     this.subject = subject;
   }
 
+  public ProtocolRequest(
+      final long id, final Address sender, final String subject, final ByteBuf content) {
+    super(id, content);
+    this.sender = sender;
+    this.subject = subject;
+  }
+
   @Override
   public Type type() {
     return Type.REQUEST;
@@ -51,7 +58,7 @@ public final class ProtocolRequest extends ProtocolMessage {
         .add("id", id())
         .add("subject", subject)
         .add("sender", sender)
-        .add("payload", ArraySizeHashPrinter.of(payload()))
+        .add("payload", payloadToString())
         .toString();
   }
 }
@@ -60,6 +60,8 @@ import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -90,6 +92,7 @@ public class RaftContext implements AutoCloseable {
   private final Set<Consumer<RaftMember>> electionListeners = new CopyOnWriteArraySet<>();
   private final Set<RaftCommitListener> commitListeners = new CopyOnWriteArraySet<>();
   private final Set<Runnable> failureListeners = new CopyOnWriteArraySet<>();
+  private final Deque<DurableCommitWaiter> durableCommitWaiters = new ArrayDeque<>();
   private final RaftRoleMetrics raftRoleMetrics;
   private final RaftReplicationMetrics replicationMetrics;
   private final MetaStore meta;
@@ -158,6 +161,7 @@ public class RaftContext implements AutoCloseable {
     raftLog = storage.openLog();
     logWriter = raftLog.writer();
     logReader = raftLog.openReader(1, RaftLogReader.Mode.ALL);
+    raftLog.setCommitListener(index -> threadContext.execute(() -> onDurableCommit(index)));
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -338,6 +342,34 @@ public class RaftContext implements AutoCloseable {
     commitListeners.forEach(listener -> listener.onCommit(lastCommitIndex));
   }
 
+  /**
+   * Runs the given callback on the Raft thread once the entries up to the given index are durable.
+   * Without group commit, committed entries are flushed synchronously, so the callback is run
+   * immediately.
+   *
+   * @param index the index up to which the entries must be durable
+   * @param callback the callback to run
+   */
+  public void onCommitDurable(final long index, final Runnable callback) {
+    threadContext.checkThread();
+    if (index <= raftLog.getDurableCommitIndex()) {
+      callback.run();
+    } else {
+      // commit indexes only increase, so the waiters are ordered by index
+      durableCommitWaiters.add(new DurableCommitWaiter(index, callback));
+    }
+  }
+
+  private void onDurableCommit(final long durableIndex) {
+    if (!started) {
+      return;
+    }
+
+    while (!durableCommitWaiters.isEmpty() && durableCommitWaiters.peek().index <= durableIndex) {
+      durableCommitWaiters.poll().callback.run();
+    }
+  }
+
   /**
    * Sets the commit index.
    *
@@ -578,6 +610,7 @@ public class RaftContext implements AutoCloseable {
   @Override
   public void close() {
     started = false;
+    durableCommitWaiters.clear();
     // Unregister protocol listeners.
     unregisterHandlers(protocol);
 
@@ -971,4 +1004,14 @@ public class RaftContext implements AutoCloseable {
     ACTIVE,
     READY,
   }
+
+  private static final class DurableCommitWaiter {
+    private final long index;
+    private final Runnable callback;
+
+    private DurableCommitWaiter(final long index, final Runnable callback) {
+      this.index = index;
+      this.callback = callback;
+    }
+  }
 }
@@ -472,6 +472,34 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Enables group commit: if flush on commit is enabled, commits which arrive within the given
+     * delay are flushed to disk together.
+     *
+     * @param groupCommitDelay the maximum time a commit waits to be flushed
+     * @param groupCommitMaxBytes the number of appended bytes which triggers an earlier flush
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommit(
+        final Duration groupCommitDelay, final long groupCommitMaxBytes) {
+      config
+          .getStorageConfig()
+          .setGroupCommitDelay(groupCommitDelay)
+          .setGroupCommitMaxBytes(groupCommitMaxBytes);
+      return this;
+    }
+
+    /**
+     * Sets the number of segment files which are kept ready in the background for each partition.
+     *
+     * @param preallocatedSegments the number of spare segment files to keep ready
+     * @return the Raft partition group builder
+     */
+    public Builder withPreallocatedSegments(final int preallocatedSegments) {
+      config.getStorageConfig().setPreallocatedSegments(preallocatedSegments);
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
@@ -23,6 +23,7 @@ import io.atomix.storage.StorageLevel;
 import io.atomix.utils.memory.MemorySize;
 import io.zeebe.snapshots.broker.impl.FileBasedSnapshotStoreFactory;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStoreFactory;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -33,6 +34,8 @@ public class RaftStorageConfig {
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024 * 1; // 1GB
+  private static final Duration DEFAULT_GROUP_COMMIT_DELAY = Duration.ZERO;
+  private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024L * 1024 * 4; // 4MB
   private static final ReceivableSnapshotStoreFactory DEFAULT_SNAPSHOT_STORE_FACTORY =
       new FileBasedSnapshotStoreFactory();
 
@@ -41,6 +44,9 @@ public class RaftStorageConfig {
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+  private Duration groupCommitDelay = DEFAULT_GROUP_COMMIT_DELAY;
+  private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
+  private int preallocatedSegments = 0;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
 
   @Optional("SnapshotStoreFactory")
@@ -139,6 +145,70 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns the maximum time a commit waits to be flushed together with other commits.
+   *
+   * @return the group commit delay, zero if group commit is disabled
+   */
+  public Duration getGroupCommitDelay() {
+    return groupCommitDelay;
+  }
+
+  /**
+   * Sets the maximum time a commit waits to be flushed together with other commits. Only applies if
+   * flush on commit is enabled; a delay of zero disables group commit.
+   *
+   * @param groupCommitDelay the group commit delay
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setGroupCommitDelay(final Duration groupCommitDelay) {
+    this.groupCommitDelay = checkNotNull(groupCommitDelay);
+    return this;
+  }
+
+  /**
+   * Returns the number of appended bytes after which pending commits are flushed before the group
+   * commit delay expired.
+   *
+   * @return the maximum number of bytes appended between two group commit flushes
+   */
+  public long getGroupCommitMaxBytes() {
+    return groupCommitMaxBytes;
+  }
+
+  /**
+   * Sets the number of appended bytes after which pending commits are flushed before the group
+   * commit delay expired.
+   *
+   * @param groupCommitMaxBytes the maximum number of bytes appended between two flushes
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    return this;
+  }
+
+  /**
+   * Returns the number of segment files which are kept ready in the background.
+   *
+   * @return the number of preallocated segments, zero if preallocation is disabled
+   */
+  public int getPreallocatedSegments() {
+    return preallocatedSegments;
+  }
+
+  /**
+   * Sets the number of segment files which are kept ready in the background. Compacted segment
+   * files are recycled as spares instead of being deleted.
+   *
+   * @param preallocatedSegments the number of spare segment files to keep ready
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setPreallocatedSegments(final int preallocatedSegments) {
+    this.preallocatedSegments = preallocatedSegments;
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
@@ -316,6 +316,9 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withMaxSegmentSize((int) storageConfig.getSegmentSize().bytes())
         .withMaxEntrySize((int) storageConfig.getMaxEntrySize().bytes())
         .withFlushOnCommit(storageConfig.isFlushOnCommit())
+        .withGroupCommitDelay(storageConfig.getGroupCommitDelay())
+        .withGroupCommitMaxBytes(storageConfig.getGroupCommitMaxBytes())
+        .withPreallocatedSegments(storageConfig.getPreallocatedSegments())
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
         .withNamespace(RaftNamespaces.RAFT_STORAGE)
         .withSnapshotStore(persistedSnapshotStore)
@@ -732,8 +732,14 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
               // up to date with the latest entries so it can handle configuration and initial
               // entries properly on fail over
               if (commitError == null) {
-                appendListener.onCommit(indexed);
-                raft.notifyCommitListeners(indexed.index());
+                raft.onCommitDurable(
+                    indexed.index(),
+                    () -> {
+                      if (isRunning()) {
+                        appendListener.onCommit(indexed);
+                        raft.notifyCommitListeners(indexed.index());
+                      }
+                    });
               } else {
                 appendListener.onCommitError(indexed, commitError);
                 // replicating the entry will be retried on the next append request
@@ -606,7 +606,9 @@ public class PassiveRole extends InactiveRole {
     final long previousCommitIndex = raft.setCommitIndex(commitIndex);
     if (previousCommitIndex < commitIndex) {
       log.trace("Committed entries up to index {}", commitIndex);
-      raft.notifyCommitListeners(commitIndex);
+      raft.onCommitDurable(
+          Math.min(commitIndex, raft.getLogWriter().getLastIndex()),
+          () -> raft.notifyCommitListeners(commitIndex));
     }
 
     // Return a successful append response.
@@ -37,6 +37,7 @@ import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -69,6 +70,9 @@ public final class RaftStorage {
   private final int maxEntriesPerSegment;
   private final long freeDiskSpace;
   private final boolean flushOnCommit;
+  private final Duration groupCommitDelay;
+  private final long groupCommitMaxBytes;
+  private final int preallocatedSegments;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
   private final ReceivableSnapshotStore persistedSnapshotStore;
@@ -84,6 +88,9 @@ public final class RaftStorage {
       final int maxEntriesPerSegment,
       final long freeDiskSpace,
       final boolean flushOnCommit,
+      final Duration groupCommitDelay,
+      final long groupCommitMaxBytes,
+      final int preallocatedSegments,
       final boolean retainStaleSnapshots,
       final StorageStatistics storageStatistics,
       final ReceivableSnapshotStore persistedSnapshotStore,
@@ -97,6 +104,9 @@ public final class RaftStorage {
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.freeDiskSpace = freeDiskSpace;
     this.flushOnCommit = flushOnCommit;
+    this.groupCommitDelay = groupCommitDelay;
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    this.preallocatedSegments = preallocatedSegments;
     this.retainStaleSnapshots = retainStaleSnapshots;
     statistics = storageStatistics;
     this.persistedSnapshotStore = persistedSnapshotStore;
@@ -296,6 +306,9 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withMaxEntriesPerSegment(maxEntriesPerSegment)
         .withFlushOnCommit(flushOnCommit)
+        .withGroupCommitDelay(groupCommitDelay)
+        .withGroupCommitMaxBytes(groupCommitMaxBytes)
+        .withPreallocatedSegments(preallocatedSegments)
         .withJournalIndexFactory(journalIndexFactory)
         .build();
   }
@@ -308,7 +321,10 @@ public final class RaftStorage {
    * memory.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    deleteFiles(
+        f ->
+            JournalSegmentFile.isSegmentFile(prefix, f)
+                || JournalSegmentFile.isSpareFile(prefix, f));
   }
 
   @Override
@@ -380,6 +396,7 @@ public final class RaftStorage {
     private static final double DEFAULT_FREE_MEMORY_BUFFER = .2;
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = true;
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
+    private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024L * 1024 * 4;
 
     private String prefix = DEFAULT_PREFIX;
     private StorageLevel storageLevel = StorageLevel.DISK;
@@ -390,6 +407,9 @@ public final class RaftStorage {
     private int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
     private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private Duration groupCommitDelay = Duration.ZERO;
+    private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
+    private int preallocatedSegments = 0;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
     private StorageStatistics storageStatistics;
     private ReceivableSnapshotStore persistedSnapshotStore;
@@ -569,6 +589,54 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the maximum time a commit waits to be flushed together with other commits, returning the
+     * builder for method chaining.
+     *
+     * <p>If flush-on-commit is enabled and the delay is positive, commits are flushed to disk by a
+     * dedicated thread, which makes all commits that arrived within the delay durable with a single
+     * flush. Committed entries are only acknowledged to the state machine once they are flushed. A
+     * delay of zero, the default, flushes synchronously on every commit.
+     *
+     * @param groupCommitDelay the maximum time a commit waits to be flushed
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitDelay(final Duration groupCommitDelay) {
+      this.groupCommitDelay = checkNotNull(groupCommitDelay, "groupCommitDelay cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the number of appended bytes after which pending commits are flushed before the group
+     * commit delay expired, returning the builder for method chaining.
+     *
+     * @param groupCommitMaxBytes the maximum number of bytes appended between two flushes
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+      checkArgument(groupCommitMaxBytes > 0, "groupCommitMaxBytes must be positive");
+      this.groupCommitMaxBytes = groupCommitMaxBytes;
+      return this;
+    }
+
+    /**
+     * Sets the number of segment files which are kept ready in the background, returning the
+     * builder for method chaining.
+     *
+     * <p>Spare segment files are created, sized and zero-filled in the background, such that
+     * rolling over to a new segment does not have to do this on the append path. Compacted segment
+     * files are recycled as spares instead of being deleted. Zero, the default, disables
+     * preallocation.
+     *
+     * @param preallocatedSegments the number of spare segment files to keep ready
+     * @return The storage builder.
+     */
+    public Builder withPreallocatedSegments(final int preallocatedSegments) {
+      checkArgument(preallocatedSegments >= 0, "preallocatedSegments must not be negative");
+      this.preallocatedSegments = preallocatedSegments;
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      *
@@ -641,6 +709,9 @@ public final class RaftStorage {
           maxEntriesPerSegment,
           freeDiskSpace,
           flushOnCommit,
+          groupCommitDelay,
+          groupCommitMaxBytes,
+          preallocatedSegments,
           retainStaleSnapshots,
           Optional.ofNullable(storageStatistics).orElse(new StorageStatistics(directory)),
           persistedSnapshotStore,
@@ -24,6 +24,8 @@ import io.atomix.storage.journal.SegmentedJournal;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.utils.serializer.Namespace;
 import java.io.File;
+import java.time.Duration;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 
 /** Raft log. */
@@ -113,6 +115,26 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
     commitIndex = index;
   }
 
+  /**
+   * Returns the index up to which entries are durable and readable as committed. With group commit,
+   * this lags behind the Raft log commit index until the entries are flushed.
+   *
+   * @return The durable commit index.
+   */
+  public long getDurableCommitIndex() {
+    return journal.getDurableCommitIndex();
+  }
+
+  /**
+   * Sets the listener which is notified, on the journal's flusher thread, when group commit
+   * advanced the durable commit index.
+   *
+   * @param commitListener the listener, called with the new durable commit index
+   */
+  public void setCommitListener(final LongConsumer commitListener) {
+    journal.setCommitListener(commitListener);
+  }
+
   /** Raft log builder. */
   public static class Builder implements io.atomix.utils.Builder<RaftLog> {
 
@@ -266,6 +288,42 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
       return this;
     }
 
+    /**
+     * Sets the maximum time a commit waits to be flushed together with other commits, returning the
+     * builder for method chaining. A delay of zero disables group commit.
+     *
+     * @param groupCommitDelay the maximum time a commit waits to be flushed
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitDelay(final Duration groupCommitDelay) {
+      journalBuilder.withGroupCommitDelay(groupCommitDelay);
+      return this;
+    }
+
+    /**
+     * Sets the number of appended bytes after which pending commits are flushed before the group
+     * commit delay expired, returning the builder for method chaining.
+     *
+     * @param groupCommitMaxBytes the maximum number of bytes appended between two flushes
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+      journalBuilder.withGroupCommitMaxBytes(groupCommitMaxBytes);
+      return this;
+    }
+
+    /**
+     * Sets the number of segment files which are kept ready in the background, returning the
+     * builder for method chaining. Zero disables preallocation.
+     *
+     * @param preallocatedSegments the number of spare segment files to keep ready
+     * @return The storage builder.
+     */
+    public Builder withPreallocatedSegments(final int preallocatedSegments) {
+      journalBuilder.withPreallocatedSegments(preallocatedSegments);
+      return this;
+    }
+
     public Builder withJournalIndexFactory(final Supplier<JournalIndex> journalIndexFactory) {
       journalBuilder.withJournalIndexFactory(journalIndexFactory);
       return this;
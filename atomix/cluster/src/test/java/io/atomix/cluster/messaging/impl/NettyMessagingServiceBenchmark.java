@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.ManagedMessagingService;
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.zeebe.test.util.socket.SocketUtil;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the request-response throughput between two messaging services which are connected over
+ * the loopback interface, with and without flush consolidation. The requests are sent in bursts, as
+ * it happens with the Raft replication and the command API under load.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NettyMessagingServiceBenchmark {
+
+  private static final String SUBJECT = "benchmark";
+  private static final int BURST_SIZE = 64;
+
+  @Param({"false", "true"})
+  public boolean flushConsolidationEnabled;
+
+  @Param({"128", "4096"})
+  public int payloadSize;
+
+  private ManagedMessagingService sender;
+  private ManagedMessagingService receiver;
+  private Address receiverAddress;
+  private byte[] payload;
+
+  @Setup
+  public void setUp() {
+    final MessagingConfig config =
+        new MessagingConfig().setFlushConsolidationEnabled(flushConsolidationEnabled);
+
+    receiverAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    receiver =
+        (ManagedMessagingService)
+            new NettyMessagingService("benchmark", receiverAddress, config).start().join();
+    receiver.registerHandler(SUBJECT, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+    final Address senderAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    sender =
+        (ManagedMessagingService)
+            new NettyMessagingService("benchmark", senderAddress, config).start().join();
+
+    payload = new byte[payloadSize];
+  }
+
+  @TearDown
+  public void tearDown() {
+    sender.stop().join();
+    receiver.stop().join();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST_SIZE)
+  public void sendAndReceiveBurst() {
+    final CompletableFuture<?>[] responses = new CompletableFuture<?>[BURST_SIZE];
+    for (int i = 0; i < BURST_SIZE; i++) {
+      responses[i] = sender.sendAndReceive(receiverAddress, SUBJECT, payload);
+    }
+    CompletableFuture.allOf(responses).join();
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(NettyMessagingServiceBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -424,4 +424,63 @@ public class NettyMessagingServiceTest {
     response = nettyv12.sendAndReceive(addressv22, subject, payload).get(10, TimeUnit.SECONDS);
     assertArrayEquals(payload, response);
   }
+
+  @Test
+  public void shouldSendAndReceiveWithFlushConsolidation() {
+    // given
+    final var config = new MessagingConfig().setFlushConsolidationEnabled(true);
+    final Address consolidatedAddress1 = Address.from(SocketUtil.getNextAddress().getPort());
+    final Address consolidatedAddress2 = Address.from(SocketUtil.getNextAddress().getPort());
+    final ManagedMessagingService consolidated1 =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", consolidatedAddress1, config).start().join();
+    final ManagedMessagingService consolidated2 =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", consolidatedAddress2, config).start().join();
+
+    try {
+      final String subject = nextSubject();
+      consolidated2.registerHandler(
+          subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+      // when
+      final CompletableFuture<?>[] responses = new CompletableFuture<?>[100];
+      for (int i = 0; i < responses.length; i++) {
+        responses[i] =
+            consolidated1.sendAndReceive(consolidatedAddress2, subject, new byte[] {(byte) i});
+      }
+
+      // then
+      CompletableFuture.allOf(responses).join();
+      for (int i = 0; i < responses.length; i++) {
+        assertArrayEquals(new byte[] {(byte) i}, (byte[]) responses[i].join());
+      }
+    } finally {
+      consolidated1.stop().join();
+      consolidated2.stop().join();
+    }
+  }
+
+  @Test
+  public void shouldHandOverPayloadToPayloadHandler() {
+    // given
+    final String subject = nextSubject();
+    final AtomicReference<byte[]> received = new AtomicReference<>();
+    netty2.registerPayloadHandler(
+        subject,
+        (address, payload) -> {
+          final byte[] bytes = new byte[payload.length()];
+          payload.buffer().getBytes(0, bytes);
+          payload.release();
+          received.set(bytes);
+          return CompletableFuture.completedFuture("pong".getBytes());
+        });
+
+    // when
+    final byte[] response = netty1.sendAndReceive(address2, subject, "ping".getBytes()).join();
+
+    // then
+    assertArrayEquals("pong".getBytes(), response);
+    assertArrayEquals("ping".getBytes(), received.get());
+  }
 }
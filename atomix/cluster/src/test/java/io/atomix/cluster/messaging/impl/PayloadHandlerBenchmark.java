@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.ManagedMessagingService;
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.zeebe.test.util.socket.SocketUtil;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares handlers which receive the request payload as copied array with handlers which receive
+ * it as view on the network buffer. The handlers only read the payload and reply with a constant,
+ * so the allocation rate reported by the GC profiler reflects the cost of receiving the requests.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadHandlerBenchmark {
+
+  private static final String SUBJECT = "benchmark";
+  private static final int BURST_SIZE = 64;
+  private static final byte[] RESPONSE = new byte[8];
+
+  @Param({"false", "true"})
+  public boolean payloadHandler;
+
+  @Param({"128", "4096", "65536"})
+  public int payloadSize;
+
+  private ManagedMessagingService sender;
+  private ManagedMessagingService receiver;
+  private Address receiverAddress;
+  private byte[] payload;
+
+  @Setup
+  public void setUp() {
+    final MessagingConfig config = new MessagingConfig();
+
+    receiverAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    receiver =
+        (ManagedMessagingService)
+            new NettyMessagingService("benchmark", receiverAddress, config).start().join();
+
+    final CompletableFuture<byte[]> response = CompletableFuture.completedFuture(RESPONSE);
+    if (payloadHandler) {
+      receiver.registerPayloadHandler(
+          SUBJECT,
+          (address, request) -> {
+            request.buffer().getByte(request.length() - 1);
+            request.release();
+            return response;
+          });
+    } else {
+      receiver.registerHandler(
+          SUBJECT,
+          (address, request) -> {
+            final byte last = request[request.length - 1];
+            return response;
+          });
+    }
+
+    final Address senderAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    sender =
+        (ManagedMessagingService)
+            new NettyMessagingService("benchmark", senderAddress, config).start().join();
+
+    payload = new byte[payloadSize];
+  }
+
+  @TearDown
+  public void tearDown() {
+    sender.stop().join();
+    receiver.stop().join();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST_SIZE)
+  public void sendAndReceiveBurst() {
+    final CompletableFuture<?>[] responses = new CompletableFuture<?>[BURST_SIZE];
+    for (int i = 0; i < BURST_SIZE; i++) {
+      responses[i] = sender.sendAndReceive(receiverAddress, SUBJECT, payload);
+    }
+    CompletableFuture.allOf(responses).join();
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(PayloadHandlerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.messaging.MessagePayload;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+public class ProtocolRequestTest {
+
+  private static final Address SENDER = Address.from(1234);
+  private static final byte[] PAYLOAD = {1, 2, 3, 4};
+
+  @Test
+  public void shouldHandOverRetainedHeapPayloadWithoutCopy() {
+    // given
+    final ByteBuf content = Unpooled.wrappedBuffer(PAYLOAD);
+    final ProtocolRequest request = new ProtocolRequest(1, SENDER, "subject", content);
+
+    // when
+    final MessagePayload payload = request.retainedPayload();
+
+    // then
+    assertThat(payload.length()).isEqualTo(PAYLOAD.length);
+    assertThat(payload.buffer().byteArray()).isSameAs(PAYLOAD);
+    assertThat(content.refCnt()).isEqualTo(1);
+
+    payload.release();
+    assertThat(content.refCnt()).isZero();
+  }
+
+  @Test
+  public void shouldHandOverRetainedDirectPayloadWithoutCopy() {
+    // given
+    final ByteBuf content = Unpooled.directBuffer(8).writeInt(42).writeBytes(PAYLOAD);
+    content.readInt();
+    final ProtocolRequest request = new ProtocolRequest(1, SENDER, "subject", content);
+
+    // when
+    final MessagePayload payload = request.retainedPayload();
+
+    // then
+    final byte[] bytes = new byte[payload.length()];
+    payload.buffer().getBytes(0, bytes);
+    assertThat(bytes).isEqualTo(PAYLOAD);
+
+    payload.release();
+    assertThat(content.refCnt()).isZero();
+  }
+
+  @Test
+  public void shouldCopyAndReleaseRetainedPayload() {
+    // given
+    final ByteBuf content = Unpooled.directBuffer(4).writeBytes(PAYLOAD);
+    final ProtocolRequest request = new ProtocolRequest(1, SENDER, "subject", content);
+
+    // when
+    final byte[] payload = request.payload();
+
+    // then
+    assertThat(payload).isEqualTo(PAYLOAD);
+    assertThat(request.payload()).isSameAs(payload);
+    assertThat(content.refCnt()).isZero();
+  }
+
+  @Test
+  public void shouldReleaseRetainedPayload() {
+    // given
+    final ByteBuf content = Unpooled.wrappedBuffer(PAYLOAD);
+    final ProtocolRequest request = new ProtocolRequest(1, SENDER, "subject", content);
+
+    // when
+    request.release();
+    request.release();
+
+    // then
+    assertThat(content.refCnt()).isZero();
+    assertThatThrownBy(request::payload).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldWrapArrayPayload() {
+    // given
+    final ProtocolRequest request = new ProtocolRequest(1, SENDER, "subject", PAYLOAD);
+
+    // when
+    final MessagePayload payload = request.retainedPayload();
+    payload.release();
+
+    // then
+    assertThat(payload.buffer().byteArray()).isSameAs(PAYLOAD);
+    assertThat(request.payload()).isSameAs(PAYLOAD);
+  }
+}
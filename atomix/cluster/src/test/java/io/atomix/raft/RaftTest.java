@@ -55,6 +55,7 @@ import io.atomix.utils.concurrent.ThreadContext;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -119,6 +120,12 @@ public class RaftTest extends ConcurrentTestCase {
 
   /** Creates a set of Raft servers. */
   private List<RaftServer> createServers(final int nodes) throws Throwable {
+    return createServers(nodes, Function.identity());
+  }
+
+  private List<RaftServer> createServers(
+      final int nodes, final Function<RaftStorage.Builder, RaftStorage.Builder> storageConfigurator)
+      throws Throwable {
     final List<RaftServer> servers = new ArrayList<>();
 
     for (int i = 0; i < nodes; i++) {
@@ -128,7 +135,9 @@ public class RaftTest extends ConcurrentTestCase {
     final CountDownLatch latch = new CountDownLatch(nodes);
 
     for (int i = 0; i < nodes; i++) {
-      final RaftServer server = createServer(members.get(i).memberId());
+      final MemberId memberId = members.get(i).memberId();
+      final RaftServer server =
+          createServer(memberId, b -> b.withStorage(createStorage(memberId, storageConfigurator)));
       if (members.get(i).getType() == RaftMember.Type.ACTIVE) {
         server
             .bootstrap(members.stream().map(RaftMember::memberId).collect(Collectors.toList()))
@@ -503,6 +512,25 @@ public class RaftTest extends ConcurrentTestCase {
     assertThat(0.0, is(missedHeartBeats - startMissedHeartBeats));
   }
 
+  @Test
+  public void shouldCommitEntriesWhenDurableWithGroupCommit() throws Throwable {
+    // given
+    createServers(
+        3,
+        b ->
+            b.withFlushOnCommit(true)
+                .withGroupCommitDelay(Duration.ofMillis(5))
+                .withGroupCommitMaxBytes(64 * 1024));
+    final var leader = getLeader(servers).orElseThrow();
+    appendEntries(leader, 100);
+
+    // when
+    final long commitIndex = appendEntry(leader);
+
+    // then
+    assertTrue(leader.getContext().getLog().getDurableCommitIndex() >= commitIndex);
+  }
+
   private void waitUntil(final BooleanSupplier condition, int retries) {
     try {
       while (!condition.getAsBoolean() && retries > 0) {
@@ -370,6 +370,12 @@ public class AtomixBuilder extends AtomixClusterBuilder {
     return this;
   }
 
+  @Override
+  public AtomixBuilder withFlushConsolidation(final int maxConsolidatedFlushes) {
+    super.withFlushConsolidation(maxConsolidatedFlushes);
+    return this;
+  }
+
   @Override
   public AtomixBuilder withMulticastEnabled() {
     super.withMulticastEnabled();
@@ -138,22 +138,36 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     final long firstIndex = segment.index();
     final long lastIndex = segment.lastIndex();
 
-    reset();
+    long nextIndex = firstIndex;
+    long nextPosition = JournalSegmentDescriptor.BYTES;
 
     final Position position = this.index.lookup(index - 1);
     if (position != null && position.index() >= firstIndex && position.index() <= lastIndex) {
-      currentEntry = new Indexed<>(position.index() - 1, null, 0);
-      try {
-        channel.position(position.position());
-        memory.clear().flip();
-      } catch (final IOException e) {
-        currentEntry = null;
-        throw new StorageException(e);
+      nextIndex = position.index();
+      nextPosition = position.position();
+    }
+
+    currentEntry = null;
+    nextEntry = null;
+
+    try {
+      channel.position(nextPosition);
+      memory.clear().limit(0);
+
+      // the entries up to the one preceding the given index are skipped by their length, without
+      // verifying or deserializing them; the writer verified them already when indexing the segment
+      final long skipUntilIndex = Math.min(index - 1, lastIndex);
+      while (nextIndex < skipUntilIndex && skipEntry()) {
+        nextIndex++;
       }
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
 
-      nextEntry = null;
-      readNext();
+    if (nextIndex > firstIndex) {
+      currentEntry = new Indexed<>(nextIndex - 1, null, 0);
     }
+    readNext();
 
     while (getNextIndex() < index && hasNext()) {
       next();
@@ -243,6 +257,36 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     return false;
   }
 
+  /**
+   * Moves the reader past the next entry, reading only its length.
+   *
+   * @return false if there is no valid entry to skip
+   */
+  private boolean skipEntry() throws IOException {
+    if (memory.remaining() < Integer.BYTES) {
+      readBytesIntoBuffer();
+    }
+
+    if (memory.remaining() < Integer.BYTES) {
+      return false;
+    }
+
+    final int length = memory.getInt(memory.position());
+    if (length <= 0 || length > maxEntrySize) {
+      return false;
+    }
+
+    final int entryLength = Integer.BYTES + Integer.BYTES + length;
+    if (memory.remaining() >= entryLength) {
+      memory.position(memory.position() + entryLength);
+    } else {
+      channel.position(channel.position() + memory.position() + entryLength);
+      memory.clear().limit(0);
+    }
+
+    return true;
+  }
+
   private void readBytesIntoBuffer() throws IOException {
     final long position = channel.position() + memory.position();
     channel.position(position);
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.statistics.JournalMetrics;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Flushes the journal on a dedicated thread, such that the commits which arrive within a time or
+ * byte window are made durable by a single flush (group commit). A commit index becomes visible to
+ * readers in {@link JournalReader.Mode#COMMITS} mode only once the entries up to it were flushed,
+ * and the journal's commit listener is notified on the flusher thread afterwards.
+ */
+final class JournalFlusher implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalFlusher.class);
+
+  private final SegmentedJournal<?> journal;
+  private final long maxDelayNanos;
+  private final long maxBytes;
+  private final JournalMetrics metrics;
+  private final Thread thread;
+
+  private long requestedIndex;
+  private long flushedIndex;
+  private long pendingBytes;
+  private int pendingCommits;
+  private long firstPendingCommitNanos;
+  private boolean closed;
+
+  JournalFlusher(
+      final SegmentedJournal<?> journal,
+      final Duration maxDelay,
+      final long maxBytes,
+      final JournalMetrics metrics) {
+    this.journal = journal;
+    maxDelayNanos = maxDelay.toNanos();
+    this.maxBytes = maxBytes;
+    this.metrics = metrics;
+    requestedIndex = journal.getCommitIndex();
+    flushedIndex = requestedIndex;
+
+    thread = new Thread(this::run, "journal-flusher-" + journal.name());
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Accounts the given number of appended bytes, which may trigger the flush of the pending commits
+   * before their delay expired.
+   */
+  synchronized void onAppend(final int length) {
+    pendingBytes += length;
+    if (pendingBytes >= maxBytes && requestedIndex > flushedIndex) {
+      notifyAll();
+    }
+  }
+
+  /** Requests to make the entries up to the given index durable and visible as committed. */
+  synchronized void requestFlush(final long index) {
+    if (index <= requestedIndex) {
+      return;
+    }
+
+    if (requestedIndex == flushedIndex) {
+      firstPendingCommitNanos = System.nanoTime();
+    }
+
+    requestedIndex = index;
+    pendingCommits++;
+    notifyAll();
+  }
+
+  /** Flushes the pending commits, if any, and stops the flusher thread. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      notifyAll();
+    }
+
+    try {
+      thread.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      final long index;
+      final int commits;
+      final long bytes;
+      final long firstCommitNanos;
+
+      synchronized (this) {
+        try {
+          awaitFlush();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        if (requestedIndex == flushedIndex) {
+          return;
+        }
+
+        index = requestedIndex;
+        commits = pendingCommits;
+        bytes = pendingBytes;
+        firstCommitNanos = firstPendingCommitNanos;
+        pendingCommits = 0;
+        pendingBytes = 0;
+      }
+
+      if (flush(index)) {
+        metrics.observeGroupCommit(commits, bytes, System.nanoTime() - firstCommitNanos);
+      } else {
+        synchronized (this) {
+          if (closed) {
+            return;
+          }
+
+          // retry with the next window; commits which arrived meanwhile are flushed along
+          pendingCommits += commits;
+          pendingBytes += bytes;
+          firstPendingCommitNanos = System.nanoTime();
+        }
+      }
+    }
+  }
+
+  /** Waits until the flusher is closed or the pending commits are due to be flushed. */
+  private void awaitFlush() throws InterruptedException {
+    while (!closed) {
+      if (requestedIndex == flushedIndex) {
+        wait();
+      } else if (pendingBytes >= maxBytes) {
+        return;
+      } else {
+        final long remainingNanos = maxDelayNanos - (System.nanoTime() - firstPendingCommitNanos);
+        if (remainingNanos <= 0) {
+          return;
+        }
+
+        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+      }
+    }
+  }
+
+  private boolean flush(final long index) {
+    try {
+      journal.writer().flush();
+    } catch (final RuntimeException e) {
+      LOG.error("Failed to flush journal {} up to index {}, retrying", journal.name(), index, e);
+      return false;
+    }
+
+    synchronized (this) {
+      flushedIndex = index;
+    }
+
+    journal.onFlushed(index);
+    return true;
+  }
+}
@@ -17,6 +17,7 @@
 package io.atomix.storage.journal;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * Log reader.
@@ -85,6 +86,35 @@ public interface JournalReader<E> extends Iterator<Indexed<E>>, AutoCloseable {
   @Override
   Indexed<E> next();
 
+  /**
+   * Returns whether there is an entry before the current entry.
+   *
+   * @return Whether the reader has a previous entry to read.
+   */
+  default boolean hasPrevious() {
+    return getCurrentIndex() > getFirstIndex();
+  }
+
+  /**
+   * Moves the reader back to the entry before the current entry, which becomes the current entry,
+   * and returns it. Subsequent calls to {@link #next()} return the entries following it.
+   *
+   * <p>Seeking skips the entries between the closest indexed entry and the previous entry by their
+   * length, without reading them, so iterating backwards does not depend on the size of the
+   * segment.
+   *
+   * @return The previous entry in the reader.
+   * @throws NoSuchElementException if there is no previous entry
+   */
+  default Indexed<E> previous() {
+    if (!hasPrevious()) {
+      throw new NoSuchElementException();
+    }
+
+    reset(getCurrentIndex() - 1);
+    return next();
+  }
+
   /** Resets the reader to the start. */
   void reset();
 
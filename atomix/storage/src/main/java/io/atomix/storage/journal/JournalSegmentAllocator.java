@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps spare segment files ready in the background, such that rolling over to a new segment does
+ * not have to create and size a file on the append path. A spare file has the full segment size and
+ * is zero-filled and forced to disk, so its blocks are allocated and no stale entries of a recycled
+ * segment can be read back after a restart.
+ *
+ * <p>Compacted segment files are recycled as spares instead of being deleted, up to twice the
+ * number of preallocated segments. New files are only created if fewer spares than configured are
+ * ready or being prepared.
+ */
+final class JournalSegmentAllocator implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentAllocator.class);
+  private static final int ZERO_CHUNK_SIZE = 1024 * 1024;
+
+  private final String name;
+  private final File directory;
+  private final int segmentSize;
+  private final int preallocatedSegments;
+  private final int maxSpareSegments;
+  private final ExecutorService executor;
+  private final ConcurrentLinkedQueue<File> readySpares = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger spareCount = new AtomicInteger();
+  private final AtomicLong nextSpareId = new AtomicLong();
+
+  JournalSegmentAllocator(
+      final String name,
+      final File directory,
+      final int segmentSize,
+      final int preallocatedSegments) {
+    this.name = name;
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.preallocatedSegments = preallocatedSegments;
+    maxSpareSegments = preallocatedSegments * 2;
+    executor =
+        Executors.newSingleThreadExecutor(namedThreads("journal-allocator-" + name + "-%d", LOG));
+
+    // spares left over from a previous run may not have been fully prepared, so prepare them again
+    for (final File file :
+        directory.listFiles(file -> JournalSegmentFile.isSpareFile(name, file))) {
+      if (spareCount.get() < maxSpareSegments) {
+        spareCount.incrementAndGet();
+        executor.execute(() -> prepare(file));
+      } else {
+        deleteQuietly(file);
+      }
+    }
+
+    replenish();
+  }
+
+  /**
+   * Moves a ready spare file to the given segment file.
+   *
+   * @return true if a spare file was moved, false if none was ready
+   */
+  boolean take(final File segmentFile) {
+    final File spare = readySpares.poll();
+    if (spare == null) {
+      LOG.debug("No spare segment ready for journal {}, creating segment inline", name);
+      replenish();
+      return false;
+    }
+
+    spareCount.decrementAndGet();
+    replenish();
+
+    try {
+      Files.move(spare.toPath(), segmentFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      return true;
+    } catch (final IOException e) {
+      LOG.warn("Failed to use spare segment {}, creating segment inline", spare, e);
+      deleteQuietly(spare);
+      return false;
+    }
+  }
+
+  /**
+   * Recycles the file of a compacted segment as spare, if there are fewer spares than the maximum.
+   *
+   * @return true if the file was recycled, false if it must be deleted by the caller
+   */
+  boolean recycle(final File segmentFile) {
+    if (spareCount.incrementAndGet() > maxSpareSegments) {
+      spareCount.decrementAndGet();
+      return false;
+    }
+
+    final File spare = newSpareFile();
+    try {
+      Files.move(segmentFile.toPath(), spare.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      LOG.warn("Failed to recycle segment {}, deleting it", segmentFile, e);
+      spareCount.decrementAndGet();
+      return false;
+    }
+
+    executor.execute(() -> prepare(spare));
+    return true;
+  }
+
+  /** Returns the number of spare files which are ready to be taken. */
+  int readyCount() {
+    return readySpares.size();
+  }
+
+  /** Stops preparing spares. Spare files are kept on disk and prepared again on the next open. */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    try {
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void replenish() {
+    while (true) {
+      final int count = spareCount.get();
+      if (count >= preallocatedSegments) {
+        return;
+      }
+
+      if (spareCount.compareAndSet(count, count + 1)) {
+        executor.execute(() -> prepare(newSpareFile()));
+      }
+    }
+  }
+
+  private File newSpareFile() {
+    while (true) {
+      final File file =
+          JournalSegmentFile.createSpareFile(name, directory, nextSpareId.incrementAndGet());
+      if (!file.exists()) {
+        return file;
+      }
+    }
+  }
+
+  private void prepare(final File file) {
+    try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(segmentSize);
+      final FileChannel channel = raf.getChannel();
+      final ByteBuffer zeros = ByteBuffer.allocate(Math.min(ZERO_CHUNK_SIZE, segmentSize));
+      long position = 0;
+      while (position < segmentSize && !Thread.currentThread().isInterrupted()) {
+        zeros.clear().limit((int) Math.min(zeros.capacity(), segmentSize - position));
+        position += channel.write(zeros, position);
+      }
+
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+
+      channel.force(true);
+      readySpares.add(file);
+    } catch (final ClosedByInterruptException e) {
+      // closed while preparing; the spare is prepared again on the next open
+      Thread.currentThread().interrupt();
+    } catch (final IOException e) {
+      LOG.warn("Failed to prepare spare segment {}", file, e);
+      spareCount.decrementAndGet();
+      deleteQuietly(file);
+    }
+  }
+
+  private static void deleteQuietly(final File file) {
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete spare segment {}", file, e);
+    }
+  }
+}
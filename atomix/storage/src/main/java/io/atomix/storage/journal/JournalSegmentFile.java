@@ -29,6 +29,7 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String SPARE_EXTENSION = "spare";
   private final File file;
 
   /** @throws IllegalArgumentException if {@code file} is not a valid segment file */
@@ -77,6 +78,42 @@ public final class JournalSegmentFile {
     return fileName.startsWith(journalName);
   }
 
+  /**
+   * Returns a boolean value indicating whether the given file appears to be a spare segment file,
+   * which is preallocated or recycled for a future segment of the given journal.
+   *
+   * @param journalName the name of the journal
+   * @param file the file to check
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isSpareFile(final String journalName, final File file) {
+    checkNotNull(journalName, "journalName cannot be null");
+    final String fileName = file.getName();
+    final String prefix = journalName + PART_SEPARATOR;
+    final String suffix = EXTENSION_SEPARATOR + SPARE_EXTENSION;
+
+    if (!fileName.startsWith(prefix)
+        || !fileName.endsWith(suffix)
+        || fileName.length() == prefix.length() + suffix.length()) {
+      return false;
+    }
+
+    for (int i = prefix.length(); i < fileName.length() - suffix.length(); i++) {
+      if (!Character.isDigit(fileName.charAt(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /** Creates a spare segment file for the given directory, log name and spare ID. */
+  static File createSpareFile(final String name, final File directory, final long id) {
+    return new File(
+        directory,
+        String.format("%s-%d.%s", checkNotNull(name, "name cannot be null"), id, SPARE_EXTENSION));
+  }
+
   /** Creates a segment file for the given directory, log name, segment ID, and segment version. */
   static File createSegmentFile(final String name, final File directory, final long id) {
     return new File(
@@ -123,16 +123,30 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
     final long firstIndex = segment.index();
     final long lastIndex = segment.lastIndex();
 
-    reset();
+    long nextIndex = firstIndex;
+    int nextPosition = JournalSegmentDescriptor.BYTES;
 
     final Position position = this.index.lookup(index - 1);
     if (position != null && position.index() >= firstIndex && position.index() <= lastIndex) {
-      currentEntry = new Indexed<>(position.index() - 1, null, 0);
-      buffer.position(position.position());
+      nextIndex = position.index();
+      nextPosition = position.position();
+    }
 
-      nextEntry = null;
-      readNext();
+    currentEntry = null;
+    nextEntry = null;
+    buffer.position(nextPosition);
+
+    // the entries up to the one preceding the given index are skipped by their length, without
+    // verifying or deserializing them; the writer verified them already when indexing the segment
+    final long skipUntilIndex = Math.min(index - 1, lastIndex);
+    while (nextIndex < skipUntilIndex && skipEntry()) {
+      nextIndex++;
+    }
+
+    if (nextIndex > firstIndex) {
+      currentEntry = new Indexed<>(nextIndex - 1, null, 0);
     }
+    readNext();
 
     while (getNextIndex() < index && hasNext()) {
       next();
@@ -144,6 +158,26 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
     // Do nothing. The writer is responsible for cleaning the mapped buffer.
   }
 
+  /**
+   * Moves the reader past the next entry, reading only its length.
+   *
+   * @return false if there is no valid entry to skip
+   */
+  private boolean skipEntry() {
+    if (buffer.remaining() < Integer.BYTES) {
+      return false;
+    }
+
+    final int length = buffer.getInt(buffer.position());
+    final int entryLength = Integer.BYTES + Integer.BYTES + length;
+    if (length <= 0 || length > maxEntrySize || buffer.remaining() < entryLength) {
+      return false;
+    }
+
+    buffer.position(buffer.position() + entryLength);
+    return true;
+  }
+
   /** Reads the next entry in the segment. */
   @SuppressWarnings("unchecked")
   private void readNext() {
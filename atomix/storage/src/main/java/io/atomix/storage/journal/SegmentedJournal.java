@@ -33,6 +33,7 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
@@ -40,6 +41,7 @@ import java.util.NavigableMap;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,7 +62,10 @@ public class SegmentedJournal<E> implements Journal<E> {
   private final int maxEntriesPerSegment;
   private final boolean flushOnCommit;
   private final SegmentedJournalWriter<E> writer;
+  private final JournalFlusher flusher;
+  private final JournalSegmentAllocator allocator;
   private volatile long commitIndex;
+  private volatile LongConsumer commitListener = index -> {};
   private final NavigableMap<Long, JournalSegment<E>> segments = new ConcurrentSkipListMap<>();
   private final Collection<SegmentedJournalReader> readers = Sets.newConcurrentHashSet();
   private volatile JournalSegment<E> currentSegment;
@@ -78,6 +83,36 @@ public class SegmentedJournal<E> implements Journal<E> {
       final boolean flushOnCommit,
       final Supplier<JournalIndex> journalIndexFactory,
       final long minFreeSpace) {
+    this(
+        name,
+        storageLevel,
+        directory,
+        namespace,
+        maxSegmentSize,
+        maxEntrySize,
+        maxEntriesPerSegment,
+        flushOnCommit,
+        journalIndexFactory,
+        minFreeSpace,
+        Duration.ZERO,
+        0,
+        0);
+  }
+
+  public SegmentedJournal(
+      final String name,
+      final StorageLevel storageLevel,
+      final File directory,
+      final Namespace namespace,
+      final int maxSegmentSize,
+      final int maxEntrySize,
+      final int maxEntriesPerSegment,
+      final boolean flushOnCommit,
+      final Supplier<JournalIndex> journalIndexFactory,
+      final long minFreeSpace,
+      final Duration groupCommitDelay,
+      final long groupCommitMaxBytes,
+      final int preallocatedSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.storageLevel = checkNotNull(storageLevel, "storageLevel cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
@@ -94,6 +129,14 @@ public class SegmentedJournal<E> implements Journal<E> {
     minFreeDiskSpace = minFreeSpace;
     open();
     writer = openWriter();
+    allocator =
+        preallocatedSegments > 0
+            ? new JournalSegmentAllocator(name, directory, maxSegmentSize, preallocatedSegments)
+            : null;
+    flusher =
+        flushOnCommit && !groupCommitDelay.isZero()
+            ? new JournalFlusher(this, groupCommitDelay, groupCommitMaxBytes, journalMetrics)
+            : null;
   }
 
   /**
@@ -239,6 +282,14 @@ public class SegmentedJournal<E> implements Journal<E> {
 
   @Override
   public void close() {
+    if (flusher != null) {
+      flusher.close();
+    }
+
+    if (allocator != null) {
+      allocator.close();
+    }
+
     segments
         .values()
         .forEach(
@@ -461,11 +512,16 @@ public class SegmentedJournal<E> implements Journal<E> {
   JournalSegment<E> createSegment(final JournalSegmentDescriptor descriptor) {
     final File segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
 
+    // a spare file is already sized and zero-filled, only its descriptor has to be written
+    final boolean preallocated = allocator != null && allocator.take(segmentFile);
+
     final RandomAccessFile raf;
     final FileChannel channel;
     try {
       raf = new RandomAccessFile(segmentFile, "rw");
-      raf.setLength(descriptor.maxSegmentSize());
+      if (!preallocated) {
+        raf.setLength(descriptor.maxSegmentSize());
+      }
       channel = raf.getChannel();
     } catch (final IOException e) {
       throw new StorageException(e);
@@ -667,7 +723,9 @@ public class SegmentedJournal<E> implements Journal<E> {
           log.trace("Deleting segment: {}", segment);
           segment.compactIndex(index);
           segment.close();
-          segment.delete();
+          if (allocator == null || !allocator.recycle(segment.file().file())) {
+            segment.delete();
+          }
           journalMetrics.decSegmentCount();
         }
         compactSegments.clear();
@@ -703,6 +761,51 @@ public class SegmentedJournal<E> implements Journal<E> {
     commitIndex = index;
   }
 
+  /**
+   * Returns the index up to which entries are committed and readable in {@link
+   * JournalReader.Mode#COMMITS} mode. With group commit, this lags behind the index passed to
+   * {@link JournalWriter#commit(long)} until the entries up to it are flushed.
+   *
+   * @return The journal commit index.
+   */
+  public long getDurableCommitIndex() {
+    return commitIndex;
+  }
+
+  /**
+   * Sets the listener which is notified, on the flusher thread, whenever group commit made entries
+   * durable and advanced the commit index. It is not called if group commit is disabled, as the
+   * commit index is then advanced immediately when committing.
+   *
+   * @param commitListener the listener, called with the new commit index
+   */
+  public void setCommitListener(final LongConsumer commitListener) {
+    this.commitListener = checkNotNull(commitListener, "commitListener cannot be null");
+  }
+
+  /**
+   * Returns the flusher which makes commits durable in groups, or null if group commit is disabled.
+   */
+  JournalFlusher getFlusher() {
+    return flusher;
+  }
+
+  /**
+   * Returns the allocator which keeps spare segment files ready, or null if preallocation is
+   * disabled.
+   */
+  JournalSegmentAllocator getSegmentAllocator() {
+    return allocator;
+  }
+
+  /** Called by the flusher after the entries up to the given index were flushed. */
+  void onFlushed(final long index) {
+    if (index > commitIndex) {
+      commitIndex = index;
+      commitListener.accept(index);
+    }
+  }
+
   /** Raft log builder. */
   public static class Builder<E> implements io.atomix.utils.Builder<SegmentedJournal<E>> {
 
@@ -713,6 +816,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
     private static final int DEFAULT_MAX_ENTRIES_PER_SEGMENT = 1024 * 1024;
     private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024 * 1;
+    private static final long DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024L * 1024 * 4;
     protected String name = DEFAULT_NAME;
     protected StorageLevel storageLevel = StorageLevel.DISK;
     protected File directory = new File(DEFAULT_DIRECTORY);
@@ -724,6 +828,9 @@ public class SegmentedJournal<E> implements Journal<E> {
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
     private Supplier<JournalIndex> journalIndexFactory;
     private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
+    private Duration groupCommitDelay = Duration.ZERO;
+    private long groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
+    private int preallocatedSegments = 0;
 
     protected Builder() {}
 
@@ -898,6 +1005,50 @@ public class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Enables group commit, if {@code flushOnCommit} is enabled as well: commits are flushed to
+     * disk asynchronously by a dedicated thread, which makes all commits that arrived within the
+     * given delay durable with a single flush. Committed entries only become readable once flushed.
+     * A delay of zero, the default, flushes synchronously on every commit.
+     *
+     * @param groupCommitDelay the maximum time a commit waits to be flushed
+     * @return The journal builder.
+     */
+    public Builder<E> withGroupCommitDelay(final Duration groupCommitDelay) {
+      checkNotNull(groupCommitDelay, "groupCommitDelay cannot be null");
+      checkArgument(!groupCommitDelay.isNegative(), "groupCommitDelay must not be negative");
+      this.groupCommitDelay = groupCommitDelay;
+      return this;
+    }
+
+    /**
+     * Sets the number of appended bytes after which the pending commits are flushed before the
+     * group commit delay expired.
+     *
+     * @param groupCommitMaxBytes the maximum number of bytes appended between two flushes
+     * @return The journal builder.
+     */
+    public Builder<E> withGroupCommitMaxBytes(final long groupCommitMaxBytes) {
+      checkArgument(groupCommitMaxBytes > 0, "groupCommitMaxBytes must be positive");
+      this.groupCommitMaxBytes = groupCommitMaxBytes;
+      return this;
+    }
+
+    /**
+     * Sets the number of segment files which are kept ready in the background, such that rolling
+     * over to a new segment does not create and size the file on the append path. Compacted segment
+     * files are recycled as spares instead of being deleted. Zero, the default, disables
+     * preallocation.
+     *
+     * @param preallocatedSegments the number of spare segment files to keep ready
+     * @return The journal builder.
+     */
+    public Builder<E> withPreallocatedSegments(final int preallocatedSegments) {
+      checkArgument(preallocatedSegments >= 0, "preallocatedSegments must not be negative");
+      this.preallocatedSegments = preallocatedSegments;
+      return this;
+    }
+
     @Override
     public SegmentedJournal<E> build() {
       return new SegmentedJournal<>(
@@ -910,7 +1061,10 @@ public class SegmentedJournal<E> implements Journal<E> {
           maxEntriesPerSegment,
           flushOnCommit,
           journalIndexFactory,
-          freeDiskSpace);
+          freeDiskSpace,
+          groupCommitDelay,
+          groupCommitMaxBytes,
+          preallocatedSegments);
     }
   }
 }
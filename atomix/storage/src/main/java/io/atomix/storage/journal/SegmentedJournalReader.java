@@ -163,12 +163,21 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
 
   /** Fast forwards the journal to the given index. */
   private void forward(final long index) {
-    // skip to the correct segment if there is one
-    if (!currentSegment.equals(journal.getLastSegment())) {
-      final JournalSegment<E> segment = journal.getSegment(index);
-      if (segment != null && !segment.equals(currentSegment)) {
-        replaceCurrentSegment(segment);
+    // in commit mode, the reader must not be moved past the commit index
+    final long targetIndex =
+        mode == Mode.COMMITS ? Math.min(index, journal.getCommitIndex() + 1) : index;
+
+    if (targetIndex > getNextIndex()) {
+      // skip to the segment of the entry preceding the target, so that it becomes the current entry
+      if (!currentSegment.equals(journal.getLastSegment())) {
+        final JournalSegment<E> segment = journal.getSegment(targetIndex - 1);
+        if (segment != null && !segment.equals(currentSegment)) {
+          replaceCurrentSegment(segment);
+        }
       }
+
+      // seeks within the segment, without reading the entries in between
+      currentReader.reset(targetIndex);
     }
 
     while (getNextIndex() < index && hasNext()) {
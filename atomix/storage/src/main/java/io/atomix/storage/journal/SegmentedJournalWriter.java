@@ -51,8 +51,9 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
   @Override
   public <T extends E> Indexed<T> append(final T entry) {
+    Indexed<T> indexed;
     try {
-      return currentWriter.append(entry);
+      indexed = currentWriter.append(entry);
     } catch (final BufferOverflowException e) {
       if (currentSegment.index() == currentWriter.getNextIndex()) {
         throw e;
@@ -60,8 +61,11 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
       journalMetrics.observeSegmentCreation(this::createNewSegment);
 
-      return currentWriter.append(entry);
+      indexed = currentWriter.append(entry);
     }
+
+    onAppended(indexed);
+    return indexed;
   }
 
   @Override
@@ -76,11 +80,20 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
       currentWriter.append(entry);
     }
+
+    onAppended(entry);
   }
 
   @Override
   public void commit(final long index) {
     if (index > journal.getCommitIndex()) {
+      final JournalFlusher flusher = journal.getFlusher();
+      if (flusher != null) {
+        // the commit index is advanced by the flusher, once the entries are durable
+        flusher.requestFlush(index);
+        return;
+      }
+
       journal.setCommitIndex(index);
       if (journal.isFlushOnCommit()) {
         flush();
@@ -89,7 +102,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
   }
 
   @Override
-  public void reset(final long index) {
+  public synchronized void reset(final long index) {
     if (index > currentSegment.index()) {
       currentSegment.release();
       currentSegment = journal.resetSegments(index);
@@ -102,7 +115,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
   }
 
   @Override
-  public void truncate(final long index) {
+  public synchronized void truncate(final long index) {
     if (index < journal.getCommitIndex()) {
       throw new IndexOutOfBoundsException("Cannot truncate committed index: " + index);
     }
@@ -126,17 +139,28 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
         });
   }
 
+  /**
+   * Flushes the current segment. With group commit, this is called concurrently by the flusher
+   * thread, so it is synchronized with the operations which replace or close the current segment.
+   */
   @Override
-  public void flush() {
+  public synchronized void flush() {
     journalMetrics.observeSegmentFlush(currentWriter::flush);
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
     currentWriter.close();
   }
 
-  private void createNewSegment() {
+  private void onAppended(final Indexed<?> indexed) {
+    final JournalFlusher flusher = journal.getFlusher();
+    if (flusher != null) {
+      flusher.onAppend(indexed.size());
+    }
+  }
+
+  private synchronized void createNewSegment() {
     currentWriter.flush();
     currentSegment.release();
     currentSegment = journal.getNextSegment();
@@ -47,6 +47,33 @@ public class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram GROUP_COMMIT_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_size")
+          .help("Number of commits made durable by a single flush of the journal")
+          .labelNames(PARTITION_LABEL)
+          .buckets(1, 2, 5, 10, 20, 50, 100, 200, 500, 1000)
+          .register();
+
+  private static final Histogram GROUP_COMMIT_BYTES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_bytes")
+          .help("Number of bytes appended to the journal between two group commit flushes")
+          .labelNames(PARTITION_LABEL)
+          .exponentialBuckets(1024, 4, 10)
+          .register();
+
+  private static final Histogram GROUP_COMMIT_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_commit_latency")
+          .help("Time from the first commit of a group until the group is durable")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -80,6 +107,12 @@ public class JournalMetrics {
     SEGMENT_TRUNCATE_TIME.labels(logName).time(segmentTruncation);
   }
 
+  public void observeGroupCommit(final int commits, final long bytes, final long latencyNanos) {
+    GROUP_COMMIT_SIZE.labels(logName).observe(commits);
+    GROUP_COMMIT_BYTES.labels(logName).observe(bytes);
+    GROUP_COMMIT_LATENCY.labels(logName).observe(latencyNanos / 1_000_000_000.0);
+  }
+
   public void observeJournalOpenDuration(final long durationMillis) {
     JOURNAL_OPEN_DURATION.labels(logName).set(durationMillis);
   }
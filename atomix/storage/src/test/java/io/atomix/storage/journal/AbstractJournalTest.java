@@ -469,6 +469,73 @@ public abstract class AbstractJournalTest {
     }
   }
 
+  @Test
+  public void shouldReadEntriesBackwards() {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    final JournalReader<TestEntry> reader = journal.openReader(1);
+    final int entryCount = entriesPerSegment * 3;
+    for (int i = 1; i <= entryCount; i++) {
+      writer.append(ENTRY);
+    }
+
+    reader.reset(entryCount);
+    assertEquals(entryCount, reader.next().index());
+
+    // when - then
+    for (int i = entryCount - 1; i >= 1; i--) {
+      assertTrue(reader.hasPrevious());
+      final Indexed<TestEntry> entry = reader.previous();
+      assertEquals(i, entry.index());
+      assertEquals(32, entry.entry().bytes().length);
+      assertEquals(i, reader.getCurrentIndex());
+      assertEquals(i + 1, reader.getNextIndex());
+    }
+
+    assertFalse(reader.hasPrevious());
+    assertEquals(2, reader.next().index());
+  }
+
+  @Test
+  public void shouldReadCurrentEntryAfterReset() {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    final JournalReader<TestEntry> reader = journal.openReader(1);
+    final int entryCount = entriesPerSegment * 3;
+    for (int i = 1; i <= entryCount; i++) {
+      writer.append(ENTRY);
+    }
+
+    for (int i = 2; i <= entryCount; i++) {
+      // when
+      reader.reset(i);
+
+      // then
+      assertEquals(i - 1, reader.getCurrentIndex());
+      assertNotNull(reader.getCurrentEntry().entry());
+      assertEquals(i, reader.next().index());
+    }
+  }
+
+  @Test
+  public void shouldNotResetCommittedReaderPastCommitIndex() {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    final JournalReader<TestEntry> reader = journal.openReader(1, Mode.COMMITS);
+    for (int i = 1; i <= entriesPerSegment * 3; i++) {
+      writer.append(ENTRY);
+    }
+    writer.commit(entriesPerSegment * 2);
+
+    // when
+    reader.reset(entriesPerSegment * 3);
+
+    // then
+    assertEquals(entriesPerSegment * 2, reader.getCurrentIndex());
+    assertEquals(entriesPerSegment * 2 + 1, reader.getNextIndex());
+    assertFalse(reader.hasNext());
+  }
+
   private TestEntry getTestEntry(final int size) {
     final byte[] bytes = new byte[size];
     ThreadLocalRandom.current().nextBytes(bytes);
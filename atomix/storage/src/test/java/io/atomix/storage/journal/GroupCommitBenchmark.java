@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageLevel;
+import io.atomix.utils.serializer.Namespace;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares flushing the journal synchronously on every commit with group commit. Each invocation
+ * appends and commits a burst of entries one by one, like a leader which commits every entry as
+ * soon as it is acknowledged, and waits until the last entry is durable.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupCommitBenchmark {
+
+  private static final int BURST_SIZE = 64;
+  private static final Namespace NAMESPACE = Namespace.builder().register(byte[].class).build();
+
+  @Param({"0", "1", "5"})
+  public long groupCommitDelayMillis;
+
+  @Param({"128", "4096"})
+  public int entrySize;
+
+  private File directory;
+  private SegmentedJournal<byte[]> journal;
+  private SegmentedJournalWriter<byte[]> writer;
+  private byte[] entry;
+  private volatile Thread waiter;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("journal").toFile();
+    journal =
+        SegmentedJournal.<byte[]>builder()
+            .withName("benchmark")
+            .withDirectory(directory)
+            .withNamespace(NAMESPACE)
+            .withStorageLevel(StorageLevel.DISK)
+            .withMaxSegmentSize(1024 * 1024 * 64)
+            .withMaxEntrySize(entrySize * 2)
+            .withFlushOnCommit()
+            .withGroupCommitDelay(Duration.ofMillis(groupCommitDelayMillis))
+            .build();
+    journal.setCommitListener(index -> LockSupport.unpark(waiter));
+    writer = journal.writer();
+    entry = new byte[entrySize];
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    journal.close();
+    Files.walk(directory.toPath())
+        .map(Path::toFile)
+        .sorted((a, b) -> b.compareTo(a))
+        .forEach(File::delete);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST_SIZE)
+  public void appendAndCommitBurst() {
+    long index = 0;
+    for (int i = 0; i < BURST_SIZE; i++) {
+      index = writer.append(entry).index();
+      writer.commit(index);
+    }
+
+    waiter = Thread.currentThread();
+    while (journal.getDurableCommitIndex() < index) {
+      LockSupport.park(this);
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(GroupCommitBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
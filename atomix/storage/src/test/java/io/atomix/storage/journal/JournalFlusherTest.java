@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.JournalReader.Mode;
+import io.atomix.utils.serializer.Namespace;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JournalFlusherTest {
+  private static final Namespace NAMESPACE = Namespace.builder().register(Integer.class).build();
+  private static final Duration LONG_DELAY = Duration.ofMinutes(1);
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File directory;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = temporaryFolder.newFolder();
+  }
+
+  @Test
+  public void shouldNotExposeCommitBeforeFlush() {
+    // given
+    try (final SegmentedJournal<Integer> journal = createJournal(LONG_DELAY, Long.MAX_VALUE)) {
+      final SegmentedJournalReader<Integer> reader = journal.openReader(1, Mode.COMMITS);
+      journal.writer().append(1);
+
+      // when
+      journal.writer().commit(1);
+
+      // then
+      assertEquals(0, journal.getDurableCommitIndex());
+      assertFalse(reader.hasNext());
+    }
+  }
+
+  @Test
+  public void shouldExposeCommitAfterDelay() throws Exception {
+    // given
+    try (final SegmentedJournal<Integer> journal =
+        createJournal(Duration.ofMillis(10), Long.MAX_VALUE)) {
+      final CompletableFuture<Long> durableIndex = new CompletableFuture<>();
+      journal.setCommitListener(durableIndex::complete);
+      final SegmentedJournalReader<Integer> reader = journal.openReader(1, Mode.COMMITS);
+      journal.writer().append(1);
+      journal.writer().append(2);
+
+      // when
+      journal.writer().commit(2);
+
+      // then
+      assertEquals(2L, (long) durableIndex.get(5, TimeUnit.SECONDS));
+      assertEquals(2, journal.getDurableCommitIndex());
+      assertTrue(reader.hasNext());
+      assertEquals(1, (int) reader.next().entry());
+      assertTrue(reader.hasNext());
+      assertEquals(2, (int) reader.next().entry());
+    }
+  }
+
+  @Test
+  public void shouldFlushBeforeDelayWhenMaxBytesAppended() throws Exception {
+    // given
+    try (final SegmentedJournal<Integer> journal = createJournal(LONG_DELAY, 1)) {
+      final CompletableFuture<Long> durableIndex = new CompletableFuture<>();
+      journal.setCommitListener(durableIndex::complete);
+      journal.writer().append(1);
+
+      // when
+      journal.writer().commit(1);
+
+      // then
+      assertEquals(1L, (long) durableIndex.get(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void shouldFlushPendingCommitsOnClose() {
+    // given
+    final AtomicLong durableIndex = new AtomicLong();
+    final SegmentedJournal<Integer> journal = createJournal(LONG_DELAY, Long.MAX_VALUE);
+    journal.setCommitListener(durableIndex::set);
+    journal.writer().append(1);
+    journal.writer().append(2);
+    journal.writer().commit(2);
+
+    // when
+    journal.close();
+
+    // then
+    assertEquals(2, durableIndex.get());
+  }
+
+  @Test
+  public void shouldCommitSynchronouslyWithoutDelay() {
+    // given
+    try (final SegmentedJournal<Integer> journal = createJournal(Duration.ZERO, Long.MAX_VALUE)) {
+      journal.writer().append(1);
+
+      // when
+      journal.writer().commit(1);
+
+      // then
+      assertEquals(1, journal.getDurableCommitIndex());
+    }
+  }
+
+  private SegmentedJournal<Integer> createJournal(
+      final Duration groupCommitDelay, final long groupCommitMaxBytes) {
+    return SegmentedJournal.<Integer>builder()
+        .withName("test")
+        .withDirectory(directory)
+        .withNamespace(NAMESPACE)
+        .withStorageLevel(StorageLevel.DISK)
+        .withFlushOnCommit()
+        .withGroupCommitDelay(groupCommitDelay)
+        .withGroupCommitMaxBytes(groupCommitMaxBytes)
+        .build();
+  }
+}
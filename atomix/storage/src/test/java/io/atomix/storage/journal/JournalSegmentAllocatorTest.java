@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.JournalReader.Mode;
+import io.atomix.utils.serializer.Namespace;
+import java.io.File;
+import java.io.IOException;
+import java.util.function.BooleanSupplier;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JournalSegmentAllocatorTest {
+  private static final Namespace NAMESPACE = Namespace.builder().register(Integer.class).build();
+  // length and checksum headers of an entry
+  private static final int ENTRY_SIZE = NAMESPACE.serialize(1).length + Integer.BYTES * 2;
+  private static final int ENTRIES_PER_SEGMENT = 4;
+  private static final int SEGMENT_SIZE =
+      JournalSegmentDescriptor.BYTES + ENTRIES_PER_SEGMENT * ENTRY_SIZE;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File directory;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = temporaryFolder.newFolder();
+  }
+
+  @Test
+  public void shouldPreallocateSpareSegments() {
+    // when
+    try (final SegmentedJournal<Integer> journal = createJournal(2)) {
+      awaitReadySpares(journal, 2);
+
+      // then
+      final File[] spares = listSpareFiles();
+      assertEquals(2, spares.length);
+      for (final File spare : spares) {
+        assertEquals(SEGMENT_SIZE, spare.length());
+      }
+    }
+  }
+
+  @Test
+  public void shouldUseSpareSegmentOnRollover() {
+    // given
+    try (final SegmentedJournal<Integer> journal = createJournal(1)) {
+      awaitReadySpares(journal, 1);
+
+      // when
+      appendEntries(journal, 1, ENTRIES_PER_SEGMENT + 1);
+
+      // then
+      assertEquals(2, journal.segments().size());
+      assertEntries(journal, 1, ENTRIES_PER_SEGMENT + 1);
+      awaitReadySpares(journal, 1);
+    }
+  }
+
+  @Test
+  public void shouldRecycleCompactedSegments() {
+    // given
+    try (final SegmentedJournal<Integer> journal = createJournal(1)) {
+      appendEntries(journal, 1, ENTRIES_PER_SEGMENT * 3);
+      awaitReadySpares(journal, 1);
+
+      // when
+      journal.compact(ENTRIES_PER_SEGMENT * 2 + 1);
+
+      // then
+      assertEquals(1, journal.segments().size());
+      awaitReadySpares(journal, 2);
+      assertEquals(1, listSegmentFiles().length);
+      assertEquals(2, listSpareFiles().length);
+    }
+  }
+
+  @Test
+  public void shouldNotReadStaleEntriesFromRecycledSegment() {
+    // given
+    final int lastIndex;
+    try (final SegmentedJournal<Integer> journal = createJournal(1)) {
+      appendEntries(journal, 1, ENTRIES_PER_SEGMENT * 3);
+      journal.compact(ENTRIES_PER_SEGMENT * 2 + 1);
+      awaitReadySpares(journal, 2);
+
+      // when
+      lastIndex = ENTRIES_PER_SEGMENT * 4 + 1;
+      appendEntries(journal, ENTRIES_PER_SEGMENT * 3 + 1, lastIndex);
+    }
+
+    // then
+    try (final SegmentedJournal<Integer> journal = createJournal(0)) {
+      assertEquals(lastIndex, journal.writer().getLastIndex());
+      assertEntries(journal, ENTRIES_PER_SEGMENT * 2 + 1, lastIndex);
+    }
+  }
+
+  @Test
+  public void shouldReuseSpareSegmentsAfterRestart() {
+    // given
+    try (final SegmentedJournal<Integer> journal = createJournal(2)) {
+      awaitReadySpares(journal, 2);
+    }
+
+    // when
+    try (final SegmentedJournal<Integer> journal = createJournal(1)) {
+      awaitReadySpares(journal, 2);
+
+      // then
+      assertEquals(2, listSpareFiles().length);
+    }
+  }
+
+  private SegmentedJournal<Integer> createJournal(final int preallocatedSegments) {
+    return SegmentedJournal.<Integer>builder()
+        .withName("test")
+        .withDirectory(directory)
+        .withNamespace(NAMESPACE)
+        .withStorageLevel(StorageLevel.DISK)
+        .withMaxEntrySize(1024)
+        .withMaxSegmentSize(SEGMENT_SIZE)
+        .withPreallocatedSegments(preallocatedSegments)
+        .build();
+  }
+
+  private void appendEntries(
+      final SegmentedJournal<Integer> journal, final int fromIndex, final int toIndex) {
+    for (int i = fromIndex; i <= toIndex; i++) {
+      assertEquals(i, journal.writer().append(i).index());
+    }
+  }
+
+  private void assertEntries(
+      final SegmentedJournal<Integer> journal, final int fromIndex, final int toIndex) {
+    final SegmentedJournalReader<Integer> reader = journal.openReader(fromIndex, Mode.ALL);
+    for (int i = fromIndex; i <= toIndex; i++) {
+      assertTrue(reader.hasNext());
+      final Indexed<Integer> entry = reader.next();
+      assertEquals(i, entry.index());
+      assertEquals(i, (int) entry.entry());
+    }
+    assertFalse(reader.hasNext());
+  }
+
+  private void awaitReadySpares(final SegmentedJournal<Integer> journal, final int count) {
+    awaitUntil(() -> journal.getSegmentAllocator().readyCount() == count);
+  }
+
+  private File[] listSpareFiles() {
+    return directory.listFiles(file -> JournalSegmentFile.isSpareFile("test", file));
+  }
+
+  private File[] listSegmentFiles() {
+    return directory.listFiles(file -> JournalSegmentFile.isSegmentFile("test", file));
+  }
+
+  private static void awaitUntil(final BooleanSupplier condition) {
+    final long deadline = System.currentTimeMillis() + 5_000;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline) {
+        throw new AssertionError("Condition not met within 5 seconds");
+      }
+      try {
+        Thread.sleep(10);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new AssertionError(e);
+      }
+    }
+  }
+}
@@ -38,4 +38,20 @@ public class JournalSegmentFileTest {
         JournalSegmentFile.createSegmentFile("foo", new File(System.getProperty("user.dir")), 1);
     assertTrue(JournalSegmentFile.isSegmentFile("foo", file));
   }
+
+  @Test
+  public void testIsSpareFile() throws Exception {
+    assertTrue(JournalSegmentFile.isSpareFile("foo", new File("foo-1.spare")));
+    assertFalse(JournalSegmentFile.isSpareFile("foo", new File("foo-1.log")));
+    assertFalse(JournalSegmentFile.isSpareFile("foo", new File("foo-bar-1.spare")));
+    assertFalse(JournalSegmentFile.isSpareFile("foo", new File("foo-.spare")));
+  }
+
+  @Test
+  public void testCreateSpareFile() throws Exception {
+    final File file =
+        JournalSegmentFile.createSpareFile("foo", new File(System.getProperty("user.dir")), 1);
+    assertTrue(JournalSegmentFile.isSpareFile("foo", file));
+    assertFalse(JournalSegmentFile.isSegmentFile("foo", file));
+  }
 }
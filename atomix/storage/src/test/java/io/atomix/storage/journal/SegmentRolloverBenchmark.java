@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageLevel;
+import io.atomix.utils.serializer.Namespace;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Samples the append latency of the journal with and without preallocated segments. The segments
+ * are small, so that the rollover to a new segment shows in the high percentiles, and the journal
+ * is compacted regularly, so that compacted segments can be recycled.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SegmentRolloverBenchmark {
+
+  private static final int SEGMENT_SIZE = 4 * 1024 * 1024;
+  private static final int ENTRY_SIZE = 4096;
+  private static final int RETAINED_ENTRIES = 4 * SEGMENT_SIZE / ENTRY_SIZE;
+  private static final Namespace NAMESPACE = Namespace.builder().register(byte[].class).build();
+
+  @Param({"0", "1"})
+  public int preallocatedSegments;
+
+  @Param({"DISK", "MAPPED"})
+  public StorageLevel storageLevel;
+
+  private File directory;
+  private SegmentedJournal<byte[]> journal;
+  private SegmentedJournalWriter<byte[]> writer;
+  private byte[] entry;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("journal").toFile();
+    journal =
+        SegmentedJournal.<byte[]>builder()
+            .withName("benchmark")
+            .withDirectory(directory)
+            .withNamespace(NAMESPACE)
+            .withStorageLevel(storageLevel)
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMaxEntrySize(ENTRY_SIZE * 2)
+            .withPreallocatedSegments(preallocatedSegments)
+            .build();
+    writer = journal.writer();
+    entry = new byte[ENTRY_SIZE];
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    journal.close();
+    Files.walk(directory.toPath())
+        .map(Path::toFile)
+        .sorted((a, b) -> b.compareTo(a))
+        .forEach(File::delete);
+  }
+
+  @Benchmark
+  public long append() {
+    final long index = writer.append(entry).index();
+    if (index % RETAINED_ENTRIES == 0) {
+      journal.compact(index - RETAINED_ENTRIES / 2);
+    }
+    return index;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SegmentRolloverBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -22,44 +22,66 @@ import static io.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_20_SCHEMA_LOCATIO
 import io.zeebe.model.bpmn.Bpmn;
 import java.io.InputStream;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import org.camunda.bpm.model.xml.ModelParseException;
 import org.camunda.bpm.model.xml.impl.ModelImpl;
 import org.camunda.bpm.model.xml.impl.parser.AbstractModelParser;
+import org.camunda.bpm.model.xml.impl.util.DomUtil;
 import org.camunda.bpm.model.xml.impl.util.ReflectUtil;
 import org.camunda.bpm.model.xml.instance.DomDocument;
+import org.xml.sax.SAXException;
 
 /**
  * The parser used when parsing BPMN Files
  *
+ * <p>The documents are validated against the precompiled BPMN schema while they are parsed. This
+ * avoids loading the schema for every document, and validating the parsed document a second time.
+ *
  * @author Daniel Meyer
  */
 public class BpmnParser extends AbstractModelParser {
 
-  private static final String JAXP_SCHEMA_SOURCE =
-      "http://java.sun.com/xml/jaxp/properties/schemaSource";
-  private static final String JAXP_SCHEMA_LANGUAGE =
-      "http://java.sun.com/xml/jaxp/properties/schemaLanguage";
-
   private static final String W3C_XML_SCHEMA = "http://www.w3.org/2001/XMLSchema";
 
+  private static final Schema BPMN_SCHEMA = createBpmnSchema();
+
+  private final DocumentBuilderFactory documentBuilderFactory;
+
   public BpmnParser() {
     schemaFactory = SchemaFactory.newInstance(W3C_XML_SCHEMA);
-    addSchema(BPMN20_NS, createSchema(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader()));
+    addSchema(BPMN20_NS, BPMN_SCHEMA);
+
+    documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    configureFactory(documentBuilderFactory);
+  }
+
+  private static Schema createBpmnSchema() {
+    try {
+      return SchemaFactory.newInstance(W3C_XML_SCHEMA)
+          .newSchema(
+              ReflectUtil.getResource(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader()));
+    } catch (final SAXException e) {
+      throw new ModelParseException("Unable to parse schema: " + BPMN_20_SCHEMA_LOCATION, e);
+    }
   }
 
   @Override
   protected void configureFactory(final DocumentBuilderFactory dbf) {
-    dbf.setAttribute(JAXP_SCHEMA_LANGUAGE, W3C_XML_SCHEMA);
-    dbf.setAttribute(
-        JAXP_SCHEMA_SOURCE,
-        ReflectUtil.getResource(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader())
-            .toString());
     super.configureFactory(dbf);
+    // validate against the schema instead of a DTD
+    dbf.setValidating(false);
+    dbf.setSchema(BPMN_SCHEMA);
   }
 
   @Override
   public BpmnModelInstanceImpl parseModelFromStream(final InputStream inputStream) {
-    return (BpmnModelInstanceImpl) super.parseModelFromStream(inputStream);
+    final DomDocument document;
+    synchronized (documentBuilderFactory) {
+      // fails if the document is not valid
+      document = DomUtil.parseInputStream(documentBuilderFactory, inputStream);
+    }
+    return createModelInstance(document);
   }
 
   @Override
@@ -20,6 +20,7 @@ import io.zeebe.broker.clustering.atomix.AtomixFactory;
 import io.zeebe.broker.clustering.topology.TopologyManagerImpl;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
 import io.zeebe.broker.engine.impl.DeploymentDistributorImpl;
+import io.zeebe.broker.engine.impl.JobAvailableInterests;
 import io.zeebe.broker.engine.impl.LongPollingJobNotification;
 import io.zeebe.broker.engine.impl.PartitionCommandSenderImpl;
 import io.zeebe.broker.engine.impl.SubscriptionApiCommandMessageHandlerService;
@@ -29,6 +30,7 @@ import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.ClusterCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.broker.system.configuration.NetworkCfg;
+import io.zeebe.broker.system.configuration.RocksdbCfg;
 import io.zeebe.broker.system.configuration.backpressure.BackpressureCfg;
 import io.zeebe.broker.system.management.LeaderManagementRequestHandler;
 import io.zeebe.broker.system.management.deployment.PushDeploymentRequestHandler;
@@ -38,11 +40,17 @@ import io.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.zeebe.broker.system.partitions.TypedRecordProcessorsFactory;
 import io.zeebe.broker.system.partitions.ZeebePartition;
 import io.zeebe.broker.system.partitions.impl.AtomixPartitionMessagingService;
+import io.zeebe.broker.system.partitions.impl.SnapshotPermits;
 import io.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
 import io.zeebe.broker.transport.commandapi.CommandApiService;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.SharedRocksDbResources;
 import io.zeebe.engine.processing.EngineProcessors;
 import io.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.processing.streamprocessor.ProcessingContext;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.storage.atomix.ZeebeIndexAdapter;
@@ -80,6 +88,7 @@ public final class Broker implements AutoCloseable {
   private CompletableFuture<Broker> startFuture;
   private TopologyManagerImpl topologyManager;
   private LeaderManagementRequestHandler managementRequestHandler;
+  private JobAvailableInterests jobAvailableInterests;
   private CommandApiService commandHandler;
   private ActorScheduler scheduler;
   private CloseProcess closeProcess;
@@ -91,6 +100,7 @@ public final class Broker implements AutoCloseable {
   private final SpringBrokerBridge springBrokerBridge;
   private DiskSpaceUsageMonitor diskSpaceUsageMonitor;
   private SnapshotStoreSupplier snapshotStoreSupplier;
+  private ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory;
 
   public Broker(final SystemContext systemContext, final SpringBrokerBridge springBrokerBridge) {
     brokerContext = systemContext;
@@ -164,7 +174,7 @@ public final class Broker implements AutoCloseable {
     startContext.addStep("actor scheduler", this::actorSchedulerStep);
     startContext.addStep("membership and replication protocol", () -> atomixCreateStep(brokerCfg));
     startContext.addStep(
-        "command api transport", () -> commandApiTransportStep(clusterCfg, localBroker));
+        "command api transport", () -> commandApiTransportStep(brokerCfg, localBroker));
     startContext.addStep(
         "command api handler", () -> commandApiHandlerStep(brokerCfg, localBroker));
     startContext.addStep("subscription api", () -> subscriptionAPIStep(localBroker));
@@ -182,7 +192,10 @@ public final class Broker implements AutoCloseable {
     startContext.addStep("monitoring services", () -> monitoringServerStep(localBroker));
     startContext.addStep("disk space monitor", () -> diskSpaceMonitorStep(brokerCfg.getData()));
     startContext.addStep(
-        "leader management request handler", () -> managementRequestStep(localBroker));
+        "leader management request handler", () -> managementRequestStep(brokerCfg, localBroker));
+    startContext.addStep("job available interests", () -> jobAvailableInterestsStep(brokerCfg));
+    startContext.addStep(
+        "state database factory", () -> zeebeDbFactoryStep(brokerCfg.getData().getRocksdb()));
     startContext.addStep(
         "zeebe partitions", () -> partitionsStep(brokerCfg, clusterCfg, localBroker));
     startContext.addStep("register diskspace usage listeners", () -> addDiskSpaceUsageListeners());
@@ -198,7 +211,12 @@ public final class Broker implements AutoCloseable {
   }
 
   private AutoCloseable atomixCreateStep(final BrokerCfg brokerCfg) {
-    final var snapshotStoreFactory = new FileBasedSnapshotStoreFactory();
+    final var snapshotCfg = brokerCfg.getExperimental().getSnapshot();
+    final var checksumRateLimit = snapshotCfg.getChecksumRateLimit();
+    final var snapshotStoreFactory =
+        new FileBasedSnapshotStoreFactory(
+            snapshotCfg.getChecksumThreads(),
+            checksumRateLimit != null ? checksumRateLimit.toBytes() : 0);
     snapshotStoreSupplier = snapshotStoreFactory;
     atomix = AtomixFactory.fromConfiguration(brokerCfg, snapshotStoreFactory);
 
@@ -217,18 +235,26 @@ public final class Broker implements AutoCloseable {
               raftPartition.setJournalIndexFactory(() -> zeebeIndex);
             });
 
-    return () ->
-        atomix.stop().get(brokerContext.getStepTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    return () -> {
+      atomix.stop().get(brokerContext.getStepTimeout().toMillis(), TimeUnit.MILLISECONDS);
+      snapshotStoreFactory.close();
+    };
   }
 
   private AutoCloseable commandApiTransportStep(
-      final ClusterCfg clusterCfg, final BrokerInfo localBroker) {
+      final BrokerCfg brokerCfg, final BrokerInfo localBroker) {
+
+    final var flushConsolidationCfg = brokerCfg.getExperimental().getFlushConsolidation();
+    final var messagingConfig =
+        new MessagingConfig()
+            .setFlushConsolidationEnabled(flushConsolidationCfg.isEnabled())
+            .setMaxConsolidatedFlushes(flushConsolidationCfg.getMaxConsolidatedFlushes());
 
     final var nettyMessagingService =
         new NettyMessagingService(
-            clusterCfg.getClusterName(),
+            brokerCfg.getCluster().getClusterName(),
             Address.from(localBroker.getCommandApiAddress()),
-            new MessagingConfig());
+            messagingConfig);
 
     nettyMessagingService.start().join();
     LOG.debug("Bound command API to {} ", nettyMessagingService.address());
@@ -307,14 +333,52 @@ public final class Broker implements AutoCloseable {
     }
   }
 
-  private AutoCloseable managementRequestStep(final BrokerInfo localBroker) {
-    managementRequestHandler = new LeaderManagementRequestHandler(localBroker, atomix);
+  private AutoCloseable zeebeDbFactoryStep(final RocksdbCfg rocksdbCfg) {
+    final var configuration =
+        new RocksDbConfiguration()
+            .setColumnFamilyOptions(rocksdbCfg.getColumnFamilyOptions())
+            .setStatisticsLevel(rocksdbCfg.getStatistics().getEffectiveLevel());
+    rocksdbCfg.getPerColumnFamilyOptions().forEach(configuration::setColumnFamilyOptions);
+
+    final AutoCloseable closeable;
+    if (rocksdbCfg.getMemoryLimit() != null) {
+      // the resources are shared by all partitions, so they are closed after the partitions
+      final var ioRateLimit = rocksdbCfg.getIoRateLimit();
+      final var sharedResources =
+          SharedRocksDbResources.create(
+              rocksdbCfg.getMemoryLimit().toBytes(),
+              rocksdbCfg.getWriteBufferRatio(),
+              ioRateLimit != null ? ioRateLimit.toBytes() : 0);
+      configuration.setSharedResources(sharedResources);
+      closeable = sharedResources;
+    } else {
+      closeable = () -> {};
+    }
+
+    zeebeDbFactory = DefaultZeebeDbFactory.defaultFactory(configuration);
+    return closeable;
+  }
+
+  private AutoCloseable managementRequestStep(
+      final BrokerCfg brokerCfg, final BrokerInfo localBroker) {
+    managementRequestHandler =
+        new LeaderManagementRequestHandler(
+            localBroker, atomix, brokerCfg.getExperimental().getDeploymentDistribution());
     scheduleActor(managementRequestHandler);
     partitionListeners.add(managementRequestHandler);
     diskSpaceUsageListeners.add(managementRequestHandler);
     return managementRequestHandler;
   }
 
+  private AutoCloseable jobAvailableInterestsStep(final BrokerCfg brokerCfg) {
+    jobAvailableInterests =
+        new JobAvailableInterests(
+            atomix.getCommunicationService(),
+            brokerCfg.getExperimental().getJobNotification().getInterestTimeout());
+    jobAvailableInterests.open();
+    return jobAvailableInterests;
+  }
+
   private AutoCloseable partitionsStep(
       final BrokerCfg brokerCfg, final ClusterCfg clusterCfg, final BrokerInfo localBroker)
       throws Exception {
@@ -330,6 +394,8 @@ public final class Broker implements AutoCloseable {
             .collect(Collectors.toList());
 
     final StartProcess partitionStartProcess = new StartProcess("Broker-" + nodeId + " partitions");
+    final var snapshotPermits =
+        new SnapshotPermits(brokerCfg.getExperimental().getSnapshot().getMaxConcurrentSnapshots());
 
     for (final RaftPartition owningPartition : owningPartitions) {
       final var partitionId = owningPartition.id().id();
@@ -352,7 +418,9 @@ public final class Broker implements AutoCloseable {
                     commandHandler,
                     partitionIndexes.get(partitionId),
                     snapshotStoreSupplier,
-                    createFactory(topologyManager, clusterCfg, atomix, managementRequestHandler));
+                    zeebeDbFactory,
+                    createFactory(topologyManager, brokerCfg, atomix, managementRequestHandler),
+                    snapshotPermits);
             scheduleActor(zeebePartition);
             healthCheckService.registerMonitoredPartition(
                 owningPartition.id().id(), zeebePartition);
@@ -365,9 +433,10 @@ public final class Broker implements AutoCloseable {
 
   private TypedRecordProcessorsFactory createFactory(
       final TopologyManagerImpl topologyManager,
-      final ClusterCfg clusterCfg,
+      final BrokerCfg brokerCfg,
       final Atomix atomix,
       final LeaderManagementRequestHandler requestHandler) {
+    final ClusterCfg clusterCfg = brokerCfg.getCluster();
     return (ActorControl actor, ZeebeState zeebeState, ProcessingContext processingContext) -> {
       final LogStream stream = processingContext.getLogStream();
 
@@ -377,10 +446,19 @@ public final class Broker implements AutoCloseable {
 
       final DeploymentDistributorImpl deploymentDistributor =
           new DeploymentDistributorImpl(
-              clusterCfg, atomix, partitionListener, zeebeState.getDeploymentState(), actor);
+              clusterCfg,
+              brokerCfg.getExperimental().getDeploymentDistribution(),
+              atomix,
+              partitionListener,
+              zeebeState.getDeploymentState(),
+              actor);
 
       final PartitionCommandSenderImpl partitionCommandSender =
-          new PartitionCommandSenderImpl(atomix, topologyManager, actor);
+          new PartitionCommandSenderImpl(
+              atomix,
+              topologyManager,
+              actor,
+              brokerCfg.getExperimental().getSubscriptionBatching());
       final SubscriptionCommandSender subscriptionCommandSender =
           new SubscriptionCommandSender(stream.getPartitionId(), partitionCommandSender);
 
@@ -388,7 +466,13 @@ public final class Broker implements AutoCloseable {
           requestHandler.getPushDeploymentRequestHandler();
 
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(atomix.getEventService());
+          new LongPollingJobNotification(
+              atomix.getEventService(),
+              atomix.getCommunicationService(),
+              jobAvailableInterests,
+              actor,
+              brokerCfg.getExperimental().getJobNotification(),
+              stream.getPartitionId());
 
       return EngineProcessors.createEngineProcessors(
           processingContext,
@@ -23,6 +23,8 @@ import io.zeebe.broker.Loggers;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.ClusterCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
+import io.zeebe.broker.system.configuration.FlushConsolidationCfg;
+import io.zeebe.broker.system.configuration.GroupCommitCfg;
 import io.zeebe.broker.system.configuration.MembershipCfg;
 import io.zeebe.broker.system.configuration.NetworkCfg;
 import io.zeebe.logstreams.impl.log.ZeebeEntryValidator;
@@ -76,6 +78,12 @@ public final class AtomixFactory {
                     networkCfg.getInternalApi().getAdvertisedPort()))
             .withMembershipProvider(discoveryProvider);
 
+    final FlushConsolidationCfg flushConsolidationCfg =
+        configuration.getExperimental().getFlushConsolidation();
+    if (flushConsolidationCfg.isEnabled()) {
+      atomixBuilder.withFlushConsolidation(flushConsolidationCfg.getMaxConsolidatedFlushes());
+    }
+
     final DataCfg dataConfiguration = configuration.getData();
     final String rootDirectory = dataConfiguration.getDirectories().get(0);
     IoUtil.ensureDirectoryExists(new File(rootDirectory), "Zeebe data directory");
@@ -108,7 +116,8 @@ public final class AtomixFactory {
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushOnCommit()
-            .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark());
+            .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark())
+            .withPreallocatedSegments(dataCfg.getPreallocatedLogSegments());
 
     // by default, the Atomix max entry size is 1 MB
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
@@ -124,6 +133,12 @@ public final class AtomixFactory {
 
     partitionGroupBuilder.withSegmentSize(segmentSize);
 
+    final GroupCommitCfg groupCommitCfg = configuration.getExperimental().getGroupCommit();
+    if (groupCommitCfg.isEnabled()) {
+      partitionGroupBuilder.withGroupCommit(
+          groupCommitCfg.getMaxDelay(), groupCommitCfg.getMaxBytes().toBytes());
+    }
+
     return partitionGroupBuilder.build();
   }
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class DeploymentDistributionMetrics {
+
+  private static final Histogram DISTRIBUTION_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_latency")
+          .help(
+              "Time between the start of the distribution of a deployment and the acknowledgement of all partitions in seconds")
+          .buckets(0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60)
+          .register();
+
+  private static final Histogram PUSH_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_push_latency")
+          .help("Time until a deployment push request is answered by a partition in seconds")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram DEPLOYMENTS_PER_PUSH =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_deployments_per_push")
+          .help("Number of deployments which are pushed to a partition in one request")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 254)
+          .register();
+
+  private static final Gauge PENDING_DEPLOYMENTS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_pending")
+          .help("Number of deployments which are not yet acknowledged by all partitions")
+          .register();
+
+  public void setPendingDeployments(final int pendingDeployments) {
+    PENDING_DEPLOYMENTS.set(pendingDeployments);
+  }
+
+  public void distributionCompleted(final long latencyMillis) {
+    DISTRIBUTION_LATENCY.observe(latencyMillis / 1000.0);
+  }
+
+  public void deploymentsPushed(final int deploymentCount) {
+    DEPLOYMENTS_PER_PUSH.observe(deploymentCount);
+  }
+
+  public void pushAnswered(final int partitionId, final long latencyMillis) {
+    PUSH_LATENCY.labels(String.valueOf(partitionId)).observe(latencyMillis / 1000.0);
+  }
+}
@@ -8,10 +8,15 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterEventService;
+import io.atomix.cluster.messaging.Subscription;
 import io.atomix.core.Atomix;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
 import io.zeebe.broker.system.configuration.ClusterCfg;
+import io.zeebe.broker.system.configuration.DeploymentDistributionCfg;
+import io.zeebe.broker.system.management.deployment.DeploymentAcknowledgementBatch;
+import io.zeebe.broker.system.management.deployment.PushDeploymentBatchRequest;
 import io.zeebe.broker.system.management.deployment.PushDeploymentRequest;
 import io.zeebe.broker.system.management.deployment.PushDeploymentResponse;
 import io.zeebe.engine.processing.deployment.distribute.DeploymentDistributor;
@@ -22,43 +27,71 @@ import io.zeebe.protocol.impl.encoding.ErrorResponse;
 import io.zeebe.protocol.record.ErrorCode;
 import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
-import java.nio.ByteOrder;
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntArrayList;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
+/**
+ * Distributes the deployments of the deployment partition to the other partitions. The deployments
+ * are queued per partition and pushed with a bounded number of requests in flight. If batching is
+ * enabled, the deployments which are queued for the same partition are pushed in one request and
+ * the partitions acknowledge them in batches, otherwise every deployment is pushed and acknowledged
+ * on its own. Deployments which are not acknowledged by a partition in time are pushed again.
+ */
 public final class DeploymentDistributorImpl implements DeploymentDistributor {
 
   public static final Duration PUSH_REQUEST_TIMEOUT = Duration.ofSeconds(15);
   public static final Duration RETRY_DELAY = Duration.ofMillis(100);
+  public static final String DEPLOYMENT_ACKNOWLEDGEMENT_TOPIC = "deployment-acknowledgements";
+  private static final String DEPLOYMENT_TOPIC = "deployment";
   private static final Logger LOG = Loggers.WORKFLOW_REPOSITORY_LOGGER;
-  private final PushDeploymentResponse pushDeploymentResponse = new PushDeploymentResponse();
 
+  private final PushDeploymentResponse pushDeploymentResponse = new PushDeploymentResponse();
+  private final DeploymentAcknowledgementBatch acknowledgementBatch =
+      new DeploymentAcknowledgementBatch();
   private final ErrorResponse errorResponse = new ErrorResponse();
+  private final DeploymentDistributionMetrics metrics = new DeploymentDistributionMetrics();
 
   private final TopologyPartitionListenerImpl partitionListener;
   private final ActorControl actor;
-
-  private final transient Long2ObjectHashMap<ActorFuture<Void>> pendingDeploymentFutures =
-      new Long2ObjectHashMap<>();
   private final DeploymentsState deploymentsState;
+  private final Atomix atomix;
 
   private final IntArrayList partitionsToDistributeTo;
-  private final Atomix atomix;
-  private final Map<String, IntArrayList> deploymentResponses = new HashMap<>();
+  private final int maxConcurrentPushes;
+  private final boolean batchingEnabled;
+  private final int maxDeploymentsPerPush;
+  private final long maxPushSize;
+
+  private final Long2ObjectHashMap<ActorFuture<Void>> pendingDeploymentFutures =
+      new Long2ObjectHashMap<>();
+  private final Long2LongHashMap distributionStartTimes = new Long2LongHashMap(-1L);
+  // the partitions which did not acknowledge the deployment yet
+  private final Long2ObjectHashMap<IntArrayList> missingAcknowledgements =
+      new Long2ObjectHashMap<>();
+  // the deployments which wait to be pushed, in order of their distribution
+  private final Int2ObjectHashMap<LongArrayList> queuedDeployments = new Int2ObjectHashMap<>();
+
+  private int inFlightPushes;
+  private int nextPartitionIndex;
+  private boolean isRetryScheduled;
+  private boolean isSubscribedToAcknowledgements;
 
   public DeploymentDistributorImpl(
       final ClusterCfg clusterCfg,
+      final DeploymentDistributionCfg distributionCfg,
       final Atomix atomix,
       final TopologyPartitionListenerImpl partitionListener,
       final DeploymentsState deploymentsState,
@@ -68,6 +101,14 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
     this.actor = actor;
     this.deploymentsState = deploymentsState;
     partitionsToDistributeTo = partitionsToDistributeTo(clusterCfg);
+
+    maxConcurrentPushes = distributionCfg.getMaxConcurrentPushes();
+    batchingEnabled = distributionCfg.isBatchingEnabled();
+    maxDeploymentsPerPush =
+        Math.min(
+            distributionCfg.getMaxDeploymentsPerPush(),
+            PushDeploymentBatchRequest.MAX_DEPLOYMENT_COUNT);
+    maxPushSize = distributionCfg.getMaxPushSize().toBytes();
   }
 
   private IntArrayList partitionsToDistributeTo(final ClusterCfg clusterCfg) {
@@ -89,7 +130,26 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
     deploymentsState.putPendingDeployment(key, pendingDeploymentDistribution);
     pendingDeploymentFutures.put(key, pushedFuture);
 
-    pushDeploymentToPartitions(key);
+    if (partitionsToDistributeTo.isEmpty()) {
+      LOG.trace("No other partitions to distribute deployment {}. Deployment finished", key);
+      pendingDeploymentFutures.remove(key).complete(null);
+      return pushedFuture;
+    }
+
+    LOG.trace("Distribute deployment {} to other partitions.", key);
+    distributionStartTimes.put(key, ActorClock.currentTimeMillis());
+    metrics.setPendingDeployments(pendingDeploymentFutures.size());
+    subscribeToAcknowledgements(key);
+
+    final IntArrayList missingPartitions = new IntArrayList();
+    missingPartitions.addAll(partitionsToDistributeTo);
+    missingAcknowledgements.put(key, missingPartitions);
+
+    for (int i = 0; i < partitionsToDistributeTo.size(); i++) {
+      queueDeployment(partitionsToDistributeTo.getInt(i), key);
+    }
+    pushQueuedDeployments();
+    scheduleAcknowledgementCheck(key);
 
     return pushedFuture;
   }
@@ -99,168 +159,273 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
     return deploymentsState.removePendingDeployment(key);
   }
 
-  private void pushDeploymentToPartitions(final long key) {
-    if (!partitionsToDistributeTo.isEmpty()) {
-      deployOnMultiplePartitions(key);
-    } else {
-      LOG.trace("No other partitions to distribute deployment {}. Deployment finished", key);
-      pendingDeploymentFutures.remove(key).complete(null);
+  private void queueDeployment(final int partitionId, final long deploymentKey) {
+    final LongArrayList queue =
+        queuedDeployments.computeIfAbsent(partitionId, p -> new LongArrayList());
+    if (!queue.containsLong(deploymentKey)) {
+      queue.addLong(deploymentKey);
     }
   }
 
-  private void deployOnMultiplePartitions(final long key) {
-    LOG.trace("Distribute deployment {} to other partitions.", key);
+  private void pushQueuedDeployments() {
+    final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
+    final int partitionCount = partitionsToDistributeTo.size();
+
+    // visit the partitions round robin, until no more pushes are allowed or possible
+    int visitedWithoutPush = 0;
+    while (inFlightPushes < maxConcurrentPushes && visitedWithoutPush < partitionCount) {
+      final int partitionId = partitionsToDistributeTo.getInt(nextPartitionIndex);
+      nextPartitionIndex = (nextPartitionIndex + 1) % partitionCount;
+
+      final LongArrayList queue = queuedDeployments.get(partitionId);
+      if (queue == null || queue.isEmpty() || !partitionLeaders.containsKey(partitionId)) {
+        visitedWithoutPush += 1;
+      } else {
+        pushDeployments(partitionLeaders.get(partitionId), partitionId, queue);
+        visitedWithoutPush = 0;
+      }
+    }
 
-    final PendingDeploymentDistribution pendingDeploymentDistribution =
-        deploymentsState.getPendingDeployment(key);
-    final DirectBuffer directBuffer = pendingDeploymentDistribution.getDeployment();
+    if (inFlightPushes < maxConcurrentPushes && hasQueuedDeployments() && !isRetryScheduled) {
+      // the leader of some partitions is not known yet
+      isRetryScheduled = true;
+      actor.runDelayed(
+          RETRY_DELAY,
+          () -> {
+            isRetryScheduled = false;
+            pushQueuedDeployments();
+          });
+    }
+  }
 
-    final PushDeploymentRequest pushRequest =
-        new PushDeploymentRequest().deployment(directBuffer).deploymentKey(key);
+  private boolean hasQueuedDeployments() {
+    for (final LongArrayList queue : queuedDeployments.values()) {
+      if (!queue.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void pushDeployments(
+      final int partitionLeaderId, final int partitionId, final LongArrayList queue) {
+    final LongArrayList deploymentKeys = new LongArrayList();
+    final byte[] request =
+        batchingEnabled
+            ? createBatchRequest(partitionId, queue, deploymentKeys)
+            : createRequest(partitionId, queue, deploymentKeys);
+
+    if (deploymentKeys.isEmpty()) {
+      // the queued deployments were acknowledged in the meantime
+      return;
+    }
 
-    final IntArrayList modifiablePartitionsList = new IntArrayList();
-    modifiablePartitionsList.addAll(partitionsToDistributeTo);
+    inFlightPushes += 1;
+    metrics.deploymentsPushed(deploymentKeys.size());
 
-    prepareToDistribute(modifiablePartitionsList, pushRequest);
+    final long pushStartTime = ActorClock.currentTimeMillis();
+    final MemberId memberId = new MemberId(Integer.toString(partitionLeaderId));
+    final CompletableFuture<byte[]> pushDeploymentFuture =
+        atomix
+            .getCommunicationService()
+            .send(DEPLOYMENT_TOPIC, request, memberId, PUSH_REQUEST_TIMEOUT);
+
+    pushDeploymentFuture.whenComplete(
+        (response, throwable) ->
+            actor.call(
+                () -> {
+                  inFlightPushes -= 1;
+                  metrics.pushAnswered(partitionId, ActorClock.currentTimeMillis() - pushStartTime);
+
+                  onPushAnswered(
+                      partitionLeaderId, partitionId, deploymentKeys, response, throwable);
+                  pushQueuedDeployments();
+                }));
   }
 
-  private void prepareToDistribute(
-      final IntArrayList partitionsToDistributeTo, final PushDeploymentRequest pushRequest) {
-    actor.runDelayed(
-        PUSH_REQUEST_TIMEOUT,
-        () -> {
-          final String topic = getDeploymentResponseTopic(pushRequest.deploymentKey());
-          final IntArrayList missingResponses = getPartitionResponses(topic);
+  private byte[] createRequest(
+      final int partitionId, final LongArrayList queue, final LongArrayList deploymentKeys) {
+    while (!queue.isEmpty()) {
+      final long deploymentKey = queue.getLong(0);
+      queue.removeLong(deploymentKey);
+
+      final PendingDeploymentDistribution pendingDeploymentDistribution =
+          getPendingDistribution(deploymentKey, partitionId);
+      if (pendingDeploymentDistribution != null) {
+        deploymentKeys.addLong(deploymentKey);
+        return new PushDeploymentRequest()
+            .partitionId(partitionId)
+            .deploymentKey(deploymentKey)
+            .deployment(pendingDeploymentDistribution.getDeployment())
+            .toBytes();
+      }
+    }
 
-          if (!missingResponses.isEmpty()) {
-            LOG.warn(
-                "Failed to receive deployment response for partitions {} (topic '{}'). Retrying",
-                missingResponses,
-                topic);
+    return null;
+  }
 
-            prepareToDistribute(missingResponses, pushRequest);
-          }
-        });
+  private byte[] createBatchRequest(
+      final int partitionId, final LongArrayList queue, final LongArrayList deploymentKeys) {
+    final PushDeploymentBatchRequest batchRequest =
+        new PushDeploymentBatchRequest().partitionId(partitionId);
+
+    while (!queue.isEmpty() && deploymentKeys.size() < maxDeploymentsPerPush) {
+      final long deploymentKey = queue.getLong(0);
+      final PendingDeploymentDistribution pendingDeploymentDistribution =
+          getPendingDistribution(deploymentKey, partitionId);
+
+      if (pendingDeploymentDistribution != null) {
+        final DirectBuffer deployment = pendingDeploymentDistribution.getDeployment();
+        if (!deploymentKeys.isEmpty()
+            && batchRequest.getLength() + deployment.capacity() > maxPushSize) {
+          break;
+        }
+
+        batchRequest.addDeployment(deploymentKey, deployment);
+        deploymentKeys.addLong(deploymentKey);
+      }
+
+      queue.removeLong(deploymentKey);
+    }
 
-    distributeDeployment(partitionsToDistributeTo, pushRequest);
+    return batchRequest.toBytes();
   }
 
-  private void distributeDeployment(
-      final IntArrayList partitionsToDistribute, final PushDeploymentRequest pushRequest) {
-    final IntArrayList remainingPartitions =
-        distributeDeploymentToPartitions(partitionsToDistribute, pushRequest);
+  private PendingDeploymentDistribution getPendingDistribution(
+      final long deploymentKey, final int partitionId) {
+    final IntArrayList missingPartitions = missingAcknowledgements.get(deploymentKey);
+    if (missingPartitions == null || !missingPartitions.containsInt(partitionId)) {
+      return null;
+    }
+
+    return deploymentsState.getPendingDeployment(deploymentKey);
+  }
 
-    if (remainingPartitions.isEmpty()) {
-      LOG.debug("Pushed deployment {} to all partitions.", pushRequest.deploymentKey());
+  private void onPushAnswered(
+      final int partitionLeaderId,
+      final int partitionId,
+      final LongArrayList deploymentKeys,
+      final byte[] response,
+      final Throwable throwable) {
+    if (throwable != null) {
+      LOG.warn(
+          "Failed to push deployments {} to node {} for partition {}",
+          deploymentKeys,
+          partitionLeaderId,
+          partitionId,
+          throwable);
+      retryPush(partitionId, deploymentKeys);
       return;
     }
 
-    actor.runDelayed(RETRY_DELAY, () -> distributeDeployment(remainingPartitions, pushRequest));
-  }
+    final DirectBuffer responseBuffer = new UnsafeBuffer(response);
+    if (errorResponse.tryWrap(responseBuffer)) {
+      errorResponse.wrap(responseBuffer, 0, responseBuffer.capacity());
 
-  private IntArrayList distributeDeploymentToPartitions(
-      final IntArrayList remainingPartitions, final PushDeploymentRequest pushRequest) {
-    final Int2IntHashMap currentPartitionLeaders = partitionListener.getPartitionLeaders();
-
-    final Iterator<Integer> iterator = remainingPartitions.iterator();
-    while (iterator.hasNext()) {
-      final Integer partitionId = iterator.next();
-      if (currentPartitionLeaders.containsKey(partitionId)) {
-        final int leader = currentPartitionLeaders.get(partitionId);
-        iterator.remove();
-        pushDeploymentToPartition(leader, partitionId, pushRequest);
+      if (errorResponse.getErrorCode() == ErrorCode.PARTITION_LEADER_MISMATCH) {
+        LOG.debug(
+            "Received partition leader mismatch error from partition {} for deployments {}. Retrying.",
+            partitionId,
+            deploymentKeys);
+
+      } else if (errorResponse.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
+        LOG.warn(
+            "Received rejected deployment push due to error of type {}: '{}'. Will be retried after a delay",
+            errorResponse.getErrorCode().name(),
+            BufferUtil.bufferAsString(errorResponse.getErrorData()));
+        // the deployments are pushed again if they are not acknowledged in time
+        return;
+      } else {
+        LOG.warn(
+            "Received rejected deployment push due to error of type {}: '{}'",
+            errorResponse.getErrorCode().name(),
+            BufferUtil.bufferAsString(errorResponse.getErrorData()));
       }
+
+      retryPush(partitionId, deploymentKeys);
     }
-    return remainingPartitions;
   }
 
-  private void pushDeploymentToPartition(
-      final int partitionLeaderId, final int partition, final PushDeploymentRequest pushRequest) {
-    pushRequest.partitionId(partition);
-    final byte[] bytes = pushRequest.toBytes();
-    final MemberId memberId = new MemberId(Integer.toString(partitionLeaderId));
+  private void retryPush(final int partitionId, final LongArrayList deploymentKeys) {
+    LOG.trace("Retry deployment push to partition {} after {}", partitionId, RETRY_DELAY);
 
-    createResponseSubscription(pushRequest.deploymentKey(), pushRequest);
-    final CompletableFuture<byte[]> pushDeploymentFuture =
-        atomix.getCommunicationService().send("deployment", bytes, memberId, PUSH_REQUEST_TIMEOUT);
+    actor.runDelayed(
+        RETRY_DELAY,
+        () -> {
+          for (int i = 0; i < deploymentKeys.size(); i++) {
+            queueDeployment(partitionId, deploymentKeys.getLong(i));
+          }
+          pushQueuedDeployments();
+        });
+  }
 
-    pushDeploymentFuture.whenComplete(
-        (response, throwable) ->
-            actor.call(
-                () -> {
-                  if (throwable != null) {
-                    LOG.warn(
-                        "Failed to push deployment to node {} for partition {}",
-                        partitionLeaderId,
-                        partition,
-                        throwable);
-                    handleRetry(partitionLeaderId, partition, pushRequest);
-
-                  } else {
-                    final DirectBuffer responseBuffer = new UnsafeBuffer(response);
-                    if (errorResponse.tryWrap(responseBuffer)) {
-                      errorResponse.wrap(responseBuffer, 0, responseBuffer.capacity());
-
-                      if (errorResponse.getErrorCode() == ErrorCode.PARTITION_LEADER_MISMATCH) {
-                        final int responsePartition =
-                            errorResponse.getErrorData().getInt(0, ByteOrder.LITTLE_ENDIAN);
-                        LOG.debug(
-                            "Received partition leader mismatch error from partition {} for deployment {}. Retrying.",
-                            partition,
-                            pushRequest.deploymentKey());
-
-                      } else if (errorResponse.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
-                        LOG.warn(
-                            "Received rejected deployment push due to error of type {}: '{}'. Will be retried after a delay",
-                            errorResponse.getErrorCode().name(),
-                            BufferUtil.bufferAsString(errorResponse.getErrorData()));
-                        return;
-                      } else {
-                        LOG.warn(
-                            "Received rejected deployment push due to error of type {}: '{}'",
-                            errorResponse.getErrorCode().name(),
-                            BufferUtil.bufferAsString(errorResponse.getErrorData()));
-                      }
-
-                      handleRetry(partitionLeaderId, partition, pushRequest);
-                    }
-                  }
-                }));
+  private void scheduleAcknowledgementCheck(final long deploymentKey) {
+    actor.runDelayed(
+        PUSH_REQUEST_TIMEOUT,
+        () -> {
+          final IntArrayList missingPartitions = missingAcknowledgements.get(deploymentKey);
+          if (missingPartitions == null) {
+            return;
+          }
+
+          LOG.warn(
+              "Failed to receive deployment response for partitions {} (deployment {}). Retrying",
+              missingPartitions,
+              deploymentKey);
+
+          for (int i = 0; i < missingPartitions.size(); i++) {
+            queueDeployment(missingPartitions.getInt(i), deploymentKey);
+          }
+          pushQueuedDeployments();
+          scheduleAcknowledgementCheck(deploymentKey);
+        });
+  }
+
+  private void subscribeToAcknowledgements(final long deploymentKey) {
+    final String topic =
+        batchingEnabled
+            ? DEPLOYMENT_ACKNOWLEDGEMENT_TOPIC
+            : getDeploymentResponseTopic(deploymentKey);
+    final ClusterEventService eventService = atomix.getEventService();
+
+    if (batchingEnabled && !isSubscribedToAcknowledgements) {
+      // a distributor of a previous term may still be subscribed on this node
+      eventService.getSubscriptions(topic).forEach(Subscription::close);
+      subscribe(eventService, topic, this::handleAcknowledgements);
+      isSubscribedToAcknowledgements = true;
+
+    } else if (!batchingEnabled && eventService.getSubscriptions(topic).isEmpty()) {
+      subscribe(eventService, topic, this::handleResponse);
+    }
   }
 
-  private void createResponseSubscription(
-      final long deploymentKey, final PushDeploymentRequest pushRequest) {
-    final String topic = getDeploymentResponseTopic(pushRequest.deploymentKey());
-
-    if (atomix.getEventService().getSubscriptions(topic).isEmpty()) {
-      LOG.trace("Setting up deployment subscription for topic {}", topic);
-      atomix
-          .getEventService()
-          .subscribe(
-              topic,
-              (byte[] response) -> {
-                final CompletableFuture future = new CompletableFuture();
-                actor.call(
-                    () -> {
-                      LOG.trace("Receiving deployment response on topic {}", topic);
-
-                      handleResponse(response, deploymentKey, topic);
-                      future.complete(null);
-                      return future;
-                    });
+  private void subscribe(
+      final ClusterEventService eventService,
+      final String topic,
+      final Consumer<byte[]> responseHandler) {
+    LOG.trace("Setting up deployment subscription for topic {}", topic);
+    eventService.subscribe(
+        topic,
+        (byte[] response) -> {
+          final CompletableFuture future = new CompletableFuture();
+          actor.call(
+              () -> {
+                LOG.trace("Receiving deployment response on topic {}", topic);
+
+                responseHandler.accept(response);
+                future.complete(null);
                 return future;
               });
-    }
+          return future;
+        });
   }
 
-  private void handleResponse(final byte[] response, final long deploymentKey, final String topic) {
+  private void handleResponse(final byte[] response) {
     final DirectBuffer responseBuffer = new UnsafeBuffer(response);
 
     if (pushDeploymentResponse.tryWrap(responseBuffer)) {
-      if (handlePushResponse()) {
-        final IntArrayList missingResponses = getPartitionResponses(topic);
-        missingResponses.removeInt(pushDeploymentResponse.partitionId());
-      }
+      onDeploymentAcknowledged(
+          pushDeploymentResponse.partitionId(), pushDeploymentResponse.deploymentKey());
     } else if (errorResponse.tryWrap(responseBuffer)) {
       errorResponse.wrap(responseBuffer, 0, responseBuffer.capacity());
       LOG.warn(
@@ -268,64 +433,51 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
           errorResponse.getErrorCode().name(),
           BufferUtil.bufferAsString(errorResponse.getErrorData()));
     } else {
-      LOG.warn("Received unknown deployment response on topic {}", topic);
+      LOG.warn("Received unknown deployment response");
     }
   }
 
-  private void handleRetry(
-      final int partitionLeaderId, final int partition, final PushDeploymentRequest pushRequest) {
-    LOG.trace("Retry deployment push to partition {} after {}", partition, RETRY_DELAY);
+  private void handleAcknowledgements(final byte[] acknowledgements) {
+    final DirectBuffer buffer = new UnsafeBuffer(acknowledgements);
 
-    actor.runDelayed(
-        RETRY_DELAY,
-        () -> {
-          final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
-          if (partitionLeaders.containsKey(partition)) {
-            pushDeploymentToPartition(partitionLeaders.get(partition), partition, pushRequest);
-          } else {
-            pushDeploymentToPartition(partitionLeaderId, partition, pushRequest);
-          }
-        });
+    if (acknowledgementBatch.tryWrap(buffer)) {
+      acknowledgementBatch.forEachAcknowledgement(this::onDeploymentAcknowledged);
+    } else {
+      LOG.warn("Received unknown deployment acknowledgements");
+    }
   }
 
-  private boolean handlePushResponse() {
-    final long deploymentKey = pushDeploymentResponse.deploymentKey();
+  private void onDeploymentAcknowledged(final int partitionId, final long deploymentKey) {
+    final IntArrayList missingPartitions = missingAcknowledgements.get(deploymentKey);
+    if (missingPartitions == null || !missingPartitions.removeInt(partitionId)) {
+      LOG.trace(
+          "Ignoring unexpected push deployment response for deployment key {} and partition {}",
+          deploymentKey,
+          partitionId);
+      return;
+    }
+
     final PendingDeploymentDistribution pendingDeploymentDistribution =
         deploymentsState.getPendingDeployment(deploymentKey);
-    final boolean pendingDeploymentExists = pendingDeploymentDistribution != null;
-
-    if (pendingDeploymentExists) {
-      final long remainingPartitions = pendingDeploymentDistribution.decrementDistributionCount();
+    if (pendingDeploymentDistribution != null) {
+      pendingDeploymentDistribution.decrementDistributionCount();
       deploymentsState.putPendingDeployment(deploymentKey, pendingDeploymentDistribution);
+    }
 
-      LOG.trace(
-          "Deployment {} was pushed to partition {} successfully.",
-          deploymentKey,
-          pushDeploymentResponse.partitionId());
+    LOG.trace("Deployment {} was pushed to partition {} successfully.", deploymentKey, partitionId);
 
-      if (remainingPartitions == 0) {
-        LOG.debug("Deployment {} distributed to all partitions successfully.", deploymentKey);
-        pendingDeploymentFutures.remove(deploymentKey).complete(null);
-      }
-    } else {
-      LOG.trace(
-          "Ignoring unexpected push deployment response for deployment key {}", deploymentKey);
-    }
+    if (missingPartitions.isEmpty()) {
+      LOG.debug("Deployment {} distributed to all partitions successfully.", deploymentKey);
+      missingAcknowledgements.remove(deploymentKey);
+      metrics.distributionCompleted(
+          ActorClock.currentTimeMillis() - distributionStartTimes.remove(deploymentKey));
 
-    return pendingDeploymentExists;
+      pendingDeploymentFutures.remove(deploymentKey).complete(null);
+      metrics.setPendingDeployments(pendingDeploymentFutures.size());
+    }
   }
 
   public static String getDeploymentResponseTopic(final long deploymentKey) {
     return String.format("deployment-response-%d", deploymentKey);
   }
-
-  private IntArrayList getPartitionResponses(final String topic) {
-    return deploymentResponses.computeIfAbsent(
-        topic,
-        k -> {
-          final IntArrayList responses = new IntArrayList();
-          responses.addAll(partitionsToDistributeTo);
-          return responses;
-        });
-  }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.zeebe.broker.Loggers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+
+/**
+ * Keeps track of the gateways which have long polling requests parked for a job type. A gateway
+ * registers its interest when it parks a request and refreshes it as long as requests of the type
+ * are parked; an interest which is not refreshed within the interest timeout expires. The interests
+ * are shared by all partitions of the broker.
+ */
+public final class JobAvailableInterests implements AutoCloseable {
+
+  public static final String INTEREST_TOPIC = "jobsAvailableInterest";
+  private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+
+  private final ClusterCommunicationService communicationService;
+  private final long interestTimeoutMillis;
+  private final LongSupplier clock;
+
+  // jobType -> gateway member -> expiry time
+  private final Map<String, Map<MemberId, Long>> interests = new ConcurrentHashMap<>();
+
+  public JobAvailableInterests(
+      final ClusterCommunicationService communicationService, final Duration interestTimeout) {
+    this(communicationService, interestTimeout, System::currentTimeMillis);
+  }
+
+  JobAvailableInterests(
+      final ClusterCommunicationService communicationService,
+      final Duration interestTimeout,
+      final LongSupplier clock) {
+    this.communicationService = communicationService;
+    interestTimeoutMillis = interestTimeout.toMillis();
+    this.clock = clock;
+  }
+
+  public void open() {
+    communicationService.subscribe(INTEREST_TOPIC, this::onInterest);
+  }
+
+  @Override
+  public void close() {
+    communicationService.unsubscribe(INTEREST_TOPIC);
+    interests.clear();
+  }
+
+  /**
+   * Handles an interest registration of a gateway, which consists of the member id of the gateway
+   * and the job type.
+   */
+  private CompletableFuture<Void> onInterest(final String[] interest) {
+    if (interest == null || interest.length != 2) {
+      LOG.warn("Ignoring malformed job availability interest {}", (Object) interest);
+    } else {
+      register(MemberId.from(interest[0]), interest[1]);
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  void register(final MemberId gateway, final String jobType) {
+    final long expiryTime = clock.getAsLong() + interestTimeoutMillis;
+    interests.compute(
+        jobType,
+        (type, gateways) -> {
+          final Map<MemberId, Long> interested =
+              gateways != null ? gateways : new ConcurrentHashMap<>();
+          interested.put(gateway, expiryTime);
+          return interested;
+        });
+  }
+
+  /**
+   * Returns the gateways which currently have an interest in the given job type, and removes the
+   * expired interests of the type.
+   */
+  public Collection<MemberId> getInterestedGateways(final String jobType) {
+    final Map<MemberId, Long> gateways = interests.get(jobType);
+    if (gateways == null) {
+      return List.of();
+    }
+
+    final long now = clock.getAsLong();
+    gateways.values().removeIf(expiryTime -> expiryTime < now);
+    if (gateways.isEmpty()) {
+      interests.computeIfPresent(
+          jobType, (type, interested) -> interested.isEmpty() ? null : interested);
+      return List.of();
+    }
+
+    return new ArrayList<>(gateways.keySet());
+  }
+}
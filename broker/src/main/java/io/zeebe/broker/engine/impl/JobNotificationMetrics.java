@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.prometheus.client.Counter;
+
+public final class JobNotificationMetrics {
+
+  private static final Counter NOTIFICATIONS_SENT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("job_available_notifications_sent_total")
+          .help("Number of job available notifications sent to gateways")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter NOTIFICATIONS_COALESCED =
+      Counter.build()
+          .namespace("zeebe")
+          .name("job_available_notifications_coalesced_total")
+          .help("Number of jobs available events which were coalesced into a pending notification")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public JobNotificationMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void notificationsSent(final int count) {
+    NOTIFICATIONS_SENT.labels(partitionIdLabel).inc(count);
+  }
+
+  public void notificationCoalesced() {
+    NOTIFICATIONS_COALESCED.labels(partitionIdLabel).inc();
+  }
+}
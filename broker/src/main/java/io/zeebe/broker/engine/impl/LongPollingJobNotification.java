@@ -7,17 +7,86 @@
  */
 package io.zeebe.broker.engine.impl;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.broker.system.configuration.JobNotificationCfg;
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
+/**
+ * Notifies the gateways that jobs of a type became available, so they can unblock their long
+ * polling requests.
+ *
+ * <p>By default, every notification is broadcast to all gateways which subscribed to the topic. If
+ * targeted notifications are enabled, the job types are collected during the coalescing window and
+ * each type is then sent once to the gateways which registered an interest in it (see {@link
+ * JobAvailableInterests}). The event service delivers broadcasts as plain messages on the topic
+ * subject, so the targeted messages reach the same gateway subscription.
+ */
 public final class LongPollingJobNotification {
+
   private static final String TOPIC = "jobsAvailable";
+
   private final ClusterEventService eventService;
+  private final ClusterCommunicationService communicationService;
+  private final JobAvailableInterests interests;
+  private final ActorControl actor;
+  private final JobNotificationMetrics metrics;
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  private final boolean targeted;
+  private final Duration coalescingWindow;
+  private final Set<String> pendingJobTypes = new HashSet<>();
+  private boolean isFlushScheduled;
+
+  public LongPollingJobNotification(
+      final ClusterEventService eventService,
+      final ClusterCommunicationService communicationService,
+      final JobAvailableInterests interests,
+      final ActorControl actor,
+      final JobNotificationCfg notificationCfg,
+      final int partitionId) {
     this.eventService = eventService;
+    this.communicationService = communicationService;
+    this.interests = interests;
+    this.actor = actor;
+    metrics = new JobNotificationMetrics(partitionId);
+
+    targeted = notificationCfg.isTargeted();
+    coalescingWindow = notificationCfg.getCoalescingWindow();
   }
 
   public void onJobsAvailable(final String jobType) {
-    eventService.broadcast(TOPIC, jobType);
+    if (!targeted) {
+      eventService.broadcast(TOPIC, jobType);
+      metrics.notificationsSent(eventService.getSubscribers(TOPIC).size());
+      return;
+    }
+
+    if (!pendingJobTypes.add(jobType)) {
+      metrics.notificationCoalesced();
+    }
+
+    if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      actor.runDelayed(coalescingWindow, this::flushPendingNotifications);
+    }
+  }
+
+  private void flushPendingNotifications() {
+    isFlushScheduled = false;
+
+    for (final String jobType : pendingJobTypes) {
+      final Collection<MemberId> gateways = interests.getInterestedGateways(jobType);
+      for (final MemberId gateway : gateways) {
+        communicationService.unicast(TOPIC, jobType, gateway);
+      }
+      metrics.notificationsSent(gateways.size());
+    }
+
+    pendingJobTypes.clear();
   }
 }
@@ -11,41 +11,111 @@ import io.atomix.cluster.MemberId;
 import io.atomix.core.Atomix;
 import io.zeebe.broker.clustering.topology.TopologyManager;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
+import io.zeebe.broker.system.configuration.SubscriptionBatchingCfg;
 import io.zeebe.engine.processing.message.command.PartitionCommandSender;
+import io.zeebe.engine.processing.message.command.SubscriptionCommandBatch;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Sends the subscription commands to the leader of the receiver partition. If batching is enabled,
+ * the commands are queued per receiver partition and sent as one message when the flush interval
+ * elapsed or the batch reached its maximum size. The commands are fire-and-forget, so pending
+ * commands which are lost (e.g. on leader change) are resent by the pending subscription checkers.
+ */
 public final class PartitionCommandSenderImpl implements PartitionCommandSender {
 
+  private static final String SUBSCRIPTION_TOPIC = "subscription";
+
   private final Atomix atomix;
+  private final ActorControl actor;
 
   private final TopologyPartitionListenerImpl partitionListener;
 
+  private final boolean batchingEnabled;
+  private final Duration flushInterval;
+  private final long maxBatchSize;
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> pendingBatches =
+      new Int2ObjectHashMap<>();
+  private boolean isFlushScheduled;
+
   public PartitionCommandSenderImpl(
-      final Atomix atomix, final TopologyManager topologyManager, final ActorControl actor) {
+      final Atomix atomix,
+      final TopologyManager topologyManager,
+      final ActorControl actor,
+      final SubscriptionBatchingCfg batchingCfg) {
     this.atomix = atomix;
+    this.actor = actor;
     partitionListener = new TopologyPartitionListenerImpl(actor);
     topologyManager.addTopologyPartitionListener(partitionListener);
+
+    batchingEnabled = batchingCfg.isEnabled();
+    flushInterval = batchingCfg.getFlushInterval();
+    maxBatchSize = batchingCfg.getMaxBatchSize().toBytes();
   }
 
+  @Override
   public boolean sendCommand(final int receiverPartitionId, final BufferWriter command) {
+    if (!batchingEnabled) {
+      send(receiverPartitionId, command);
+      return true;
+    }
+
+    final SubscriptionCommandBatch batch =
+        pendingBatches.computeIfAbsent(receiverPartitionId, this::newBatch);
+
+    batch.addCommand(command);
+
+    if (batch.getLength() >= maxBatchSize || batch.isFull()) {
+      flush(receiverPartitionId, batch);
+    } else if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      actor.runDelayed(flushInterval, this::flushPendingBatches);
+    }
+
+    return true;
+  }
+
+  private SubscriptionCommandBatch newBatch(final int receiverPartitionId) {
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.setReceiverPartitionId(receiverPartitionId);
+    return batch;
+  }
+
+  private void flushPendingBatches() {
+    isFlushScheduled = false;
+    pendingBatches.forEach(this::flush);
+  }
+
+  private void flush(final int receiverPartitionId, final SubscriptionCommandBatch batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    send(receiverPartitionId, batch);
+
+    batch.reset();
+    batch.setReceiverPartitionId(receiverPartitionId);
+  }
 
+  private void send(final int receiverPartitionId, final BufferWriter command) {
     final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
     if (!partitionLeaders.containsKey(receiverPartitionId)) {
-      return true;
+      return;
     }
     final int partitionLeader = partitionLeaders.get(receiverPartitionId);
 
-    final byte bytes[] = new byte[command.getLength()];
+    final byte[] bytes = new byte[command.getLength()];
     final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
     command.write(buffer, 0);
 
     atomix
         .getCommunicationService()
-        .send("subscription", bytes, MemberId.from("" + partitionLeader));
-    return true;
+        .send(SUBSCRIPTION_TOPIC, bytes, MemberId.from("" + partitionLeader));
   }
 }
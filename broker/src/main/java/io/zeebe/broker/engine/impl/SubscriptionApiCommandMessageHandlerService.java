@@ -13,7 +13,7 @@ import io.zeebe.broker.PartitionListener;
 import io.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.zeebe.engine.processing.message.command.SubscriptionCommandMessageHandler;
 import io.zeebe.logstreams.log.LogStream;
-import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
@@ -27,7 +27,7 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
 
   private static final String SUBSCRIPTION_TOPIC = "subscription";
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
-  private final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions =
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leaderPartitions =
       new Int2ObjectHashMap<>();
   private final Atomix atomix;
   private final String actorName;
@@ -66,11 +66,11 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
     actor.submit(
         () ->
             logStream
-                .newLogStreamRecordWriter()
+                .newLogStreamBatchWriter()
                 .onComplete(
-                    (recordWriter, error) -> {
+                    (batchWriter, error) -> {
                       if (error == null) {
-                        leaderPartitions.put(partitionId, recordWriter);
+                        leaderPartitions.put(partitionId, batchWriter);
                         future.complete(null);
                       } else {
                         LOG.error(
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.logstreams;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.logstreams.impl.log.LogEntryDescriptor;
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.storage.archive.LogArchive;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Copies the entries which are about to be compacted from the log into a {@link LogArchive}, before
+ * it delegates the compaction. The entries are archived in chunks of about the configured size,
+ * starting after the last archived position; if the log was already compacted beyond it (e.g. after
+ * a snapshot was installed from the leader), the archive continues at the first entry of the log,
+ * leaving a gap.
+ *
+ * <p>If the entries cannot be archived, the log is not compacted, such that no entry gets lost;
+ * compaction is retried with the next snapshot.
+ *
+ * <p>The entries are archived on the calling thread, so the caller is expected to run on an I/O
+ * bound actor.
+ */
+public final class ArchivingLogCompactor implements LogCompactor {
+  private final LogStorage logStorage;
+  private final LogArchive archive;
+  private final LogCompactor delegate;
+  private final int chunkSize;
+
+  private final DirectBuffer block = new UnsafeBuffer();
+  private final ExpandableDirectByteBuffer chunk = new ExpandableDirectByteBuffer(0);
+  private int chunkLength;
+
+  public ArchivingLogCompactor(
+      final LogStorage logStorage,
+      final LogArchive archive,
+      final LogCompactor delegate,
+      final int chunkSize) {
+    this.logStorage = logStorage;
+    this.archive = archive;
+    this.delegate = delegate;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public CompletableFuture<Void> compactLog(final long compactionBound) {
+    try {
+      archiveUpTo(compactionBound);
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    return delegate.compactLog(compactionBound);
+  }
+
+  private void archiveUpTo(final long compactionBound) throws Exception {
+    final long lastArchivedPosition = archive.getLastPosition();
+    long expectedPosition = lastArchivedPosition + 1;
+    chunkLength = 0;
+
+    try (final var reader = logStorage.newReader()) {
+      long address =
+          reader.lookUpApproximateAddress(
+              lastArchivedPosition < 0 ? Long.MIN_VALUE : expectedPosition);
+
+      while (address >= 0) {
+        final long nextAddress = reader.read(block, address);
+        // the address of the block which was read is the one before the next address, which may be
+        // greater than the requested address if there are entries in between which are no blocks
+        if (nextAddress < 0 || nextAddress - 1 >= compactionBound) {
+          break;
+        }
+
+        int offset = 0;
+        while (offset < block.capacity()) {
+          final long position = LogEntryDescriptor.getPosition(block, offset);
+          final int fragmentLength = LogEntryDescriptor.getFragmentLength(block, offset);
+          if (position > lastArchivedPosition) {
+            if (position != expectedPosition && lastArchivedPosition >= 0) {
+              Loggers.DELETION_SERVICE.warn(
+                  "Expected to archive position {}, but the log continues at position {}; the"
+                      + " archive will not contain the positions in between",
+                  expectedPosition,
+                  position);
+            }
+
+            addToChunk(offset, fragmentLength);
+            expectedPosition = position + 1;
+          }
+          offset += fragmentLength;
+        }
+
+        address = nextAddress;
+      }
+    }
+
+    archiveChunk();
+    archive.flush();
+  }
+
+  private void addToChunk(final int offset, final int fragmentLength) {
+    if (chunkLength > 0 && chunkLength + fragmentLength > chunkSize) {
+      archiveChunk();
+    }
+
+    chunk.putBytes(chunkLength, block, offset, fragmentLength);
+    chunkLength += fragmentLength;
+  }
+
+  private void archiveChunk() {
+    if (chunkLength > 0) {
+      archive.archive(chunk, 0, chunkLength);
+      chunkLength = 0;
+    }
+  }
+}
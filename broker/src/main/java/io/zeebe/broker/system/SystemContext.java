@@ -126,12 +126,21 @@ public final class SystemContext {
     final int cpuThreads = cfg.getCpuThreadCount();
     final int ioThreads = cfg.getIoThreadCount();
 
-    return ActorScheduler.newActorScheduler()
-        .setActorClock(clock)
-        .setCpuBoundActorThreadCount(cpuThreads)
-        .setIoBoundActorThreadCount(ioThreads)
-        .setSchedulerName(brokerId)
-        .build();
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setActorClock(clock)
+            .setCpuBoundActorThreadCount(cpuThreads)
+            .setIoBoundActorThreadCount(ioThreads)
+            .setSchedulerName(brokerId);
+
+    final var actorPlacementCfg = brokerCfg.getExperimental().getActorPlacement();
+    if (actorPlacementCfg.isEnabled()) {
+      builder
+          .setActorPlacementInterval(actorPlacementCfg.getRebalanceInterval())
+          .setActorIsolationThreshold(actorPlacementCfg.getIsolationThreshold());
+    }
+
+    return builder.build();
   }
 
   public ActorScheduler getScheduler() {
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+
+public final class ActorPlacementCfg implements ConfigurationEntry {
+
+  private static final Duration DEFAULT_REBALANCE_INTERVAL = Duration.ofSeconds(10);
+  private static final double DEFAULT_ISOLATION_THRESHOLD = 0.8;
+
+  private boolean enabled = false;
+  private Duration rebalanceInterval = DEFAULT_REBALANCE_INTERVAL;
+  private double isolationThreshold = DEFAULT_ISOLATION_THRESHOLD;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (rebalanceInterval == null || rebalanceInterval.isNegative() || rebalanceInterval.isZero()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected rebalanceInterval to be positive, but found %s", rebalanceInterval));
+    }
+
+    if (isolationThreshold <= 0 || isolationThreshold > 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected isolationThreshold to be in the range (0,1], but found %f",
+              isolationThreshold));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getRebalanceInterval() {
+    return rebalanceInterval;
+  }
+
+  public void setRebalanceInterval(final Duration rebalanceInterval) {
+    this.rebalanceInterval = rebalanceInterval;
+  }
+
+  public double getIsolationThreshold() {
+    return isolationThreshold;
+  }
+
+  public void setIsolationThreshold(final double isolationThreshold) {
+    this.isolationThreshold = isolationThreshold;
+  }
+
+  @Override
+  public String toString() {
+    return "ActorPlacementCfg{"
+        + "enabled="
+        + enabled
+        + ", rebalanceInterval="
+        + rebalanceInterval
+        + ", isolationThreshold="
+        + isolationThreshold
+        + '}';
+  }
+}
@@ -34,6 +34,7 @@ public final class BrokerCfg {
   private Map<String, ExporterCfg> exporters = new HashMap<>();
   private EmbeddedGatewayCfg gateway = new EmbeddedGatewayCfg();
   private BackpressureCfg backpressure = new BackpressureCfg();
+  private ExperimentalCfg experimental = new ExperimentalCfg();
 
   private Duration stepTimeout = Duration.ofMinutes(5);
   private boolean executionMetricsExporterEnabled;
@@ -56,6 +57,7 @@ public final class BrokerCfg {
     exporters.values().forEach(e -> e.init(this, brokerBase));
     gateway.init(this, brokerBase);
     backpressure.init(this, brokerBase);
+    experimental.init(this, brokerBase);
   }
 
   private void applyEnvironment(final Environment environment) {
@@ -126,6 +128,15 @@ public final class BrokerCfg {
     return this;
   }
 
+  public ExperimentalCfg getExperimental() {
+    return experimental;
+  }
+
+  public BrokerCfg setExperimental(final ExperimentalCfg experimental) {
+    this.experimental = experimental;
+    return this;
+  }
+
   public Duration getStepTimeout() {
     return stepTimeout;
   }
@@ -159,6 +170,8 @@ public final class BrokerCfg {
         + gateway
         + ", backpressure="
         + backpressure
+        + ", experimental="
+        + experimental
         + ", stepTimeout="
         + stepTimeout
         + ", executionMetricsExporter="
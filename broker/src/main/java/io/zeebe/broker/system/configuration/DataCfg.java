@@ -11,6 +11,7 @@ import static io.zeebe.util.StringUtil.LIST_SANITIZER;
 
 import io.atomix.storage.StorageLevel;
 import io.zeebe.broker.Loggers;
+import io.zeebe.logstreams.storage.atomix.EntryCompression;
 import java.io.File;
 import java.time.Duration;
 import java.util.Arrays;
@@ -26,6 +27,7 @@ public final class DataCfg implements ConfigurationEntry {
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
 
   private static final DataSize DEFAULT_DATA_SIZE = DataSize.ofMegabytes(512);
+  private static final DataSize DEFAULT_LOG_ENTRY_CACHE_SIZE = DataSize.ofMegabytes(4);
   private static final boolean DEFAULT_DISK_USAGE_MONITORING_ENABLED = true;
   private static final double DEFAULT_DISK_USAGE_REPLICATION_WATERMARK = 0.99;
   private static final double DEFAULT_DISK_USAGE_COMMAND_WATERMARK = 0.97;
@@ -36,6 +38,9 @@ public final class DataCfg implements ConfigurationEntry {
   private List<String> directories = Arrays.asList(DEFAULT_DIRECTORY);
 
   private DataSize logSegmentSize = DEFAULT_DATA_SIZE;
+  private DataSize logEntryCacheSize = DEFAULT_LOG_ENTRY_CACHE_SIZE;
+  private int preallocatedLogSegments = 0;
+  private EntryCompression logCompression = EntryCompression.NONE;
 
   private Duration snapshotPeriod = Duration.ofMinutes(15);
 
@@ -58,6 +63,23 @@ public final class DataCfg implements ConfigurationEntry {
       diskUsageReplicationWatermark = DISABLED_DISK_USAGE_WATERMARK;
       diskUsageCommandWatermark = DISABLED_DISK_USAGE_WATERMARK;
     }
+
+    if (logEntryCacheSize == null) {
+      logEntryCacheSize = DataSize.ofBytes(0);
+    } else if (logEntryCacheSize.toBytes() < 0 || logEntryCacheSize.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected logEntryCacheSize to be between 0 and %d bytes, but found %s",
+              Integer.MAX_VALUE, logEntryCacheSize));
+    }
+
+    if (preallocatedLogSegments < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected preallocatedLogSegments to be greater than or equal to 0, but found %d",
+              preallocatedLogSegments));
+    }
+
     rocksdb.init(globalConfig, brokerBase);
   }
 
@@ -81,6 +103,30 @@ public final class DataCfg implements ConfigurationEntry {
     this.logSegmentSize = logSegmentSize;
   }
 
+  public DataSize getLogEntryCacheSize() {
+    return logEntryCacheSize;
+  }
+
+  public void setLogEntryCacheSize(final DataSize logEntryCacheSize) {
+    this.logEntryCacheSize = logEntryCacheSize;
+  }
+
+  public int getPreallocatedLogSegments() {
+    return preallocatedLogSegments;
+  }
+
+  public void setPreallocatedLogSegments(final int preallocatedLogSegments) {
+    this.preallocatedLogSegments = preallocatedLogSegments;
+  }
+
+  public EntryCompression getLogCompression() {
+    return logCompression;
+  }
+
+  public void setLogCompression(final String logCompression) {
+    this.logCompression = EntryCompression.valueOf(logCompression.toUpperCase());
+  }
+
   public Duration getSnapshotPeriod() {
     return snapshotPeriod;
   }
@@ -166,6 +212,12 @@ public final class DataCfg implements ConfigurationEntry {
         + directories
         + ", logSegmentSize="
         + logSegmentSize
+        + ", logEntryCacheSize="
+        + logEntryCacheSize
+        + ", preallocatedLogSegments="
+        + preallocatedLogSegments
+        + ", logCompression="
+        + logCompression
         + ", snapshotPeriod="
         + snapshotPeriod
         + ", logIndexDensity="
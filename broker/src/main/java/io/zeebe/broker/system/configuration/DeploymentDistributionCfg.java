@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import static io.zeebe.broker.system.configuration.ConfigurationUtil.checkPositive;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+public final class DeploymentDistributionCfg implements ConfigurationEntry {
+
+  private static final int DEFAULT_MAX_CONCURRENT_PUSHES = 16;
+  private static final int DEFAULT_MAX_DEPLOYMENTS_PER_PUSH = 16;
+  private static final DataSize DEFAULT_MAX_PUSH_SIZE = DataSize.ofMegabytes(1);
+  private static final Duration DEFAULT_ACKNOWLEDGEMENT_FLUSH_INTERVAL = Duration.ofMillis(10);
+
+  private int maxConcurrentPushes = DEFAULT_MAX_CONCURRENT_PUSHES;
+  private boolean batchingEnabled = false;
+  private int maxDeploymentsPerPush = DEFAULT_MAX_DEPLOYMENTS_PER_PUSH;
+  private DataSize maxPushSize = DEFAULT_MAX_PUSH_SIZE;
+  private Duration acknowledgementFlushInterval = DEFAULT_ACKNOWLEDGEMENT_FLUSH_INTERVAL;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    checkPositive(maxConcurrentPushes, "maxConcurrentPushes");
+    checkPositive(maxDeploymentsPerPush, "maxDeploymentsPerPush");
+
+    if (maxPushSize == null || maxPushSize.toBytes() <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected maxPushSize to be positive, but found %s", maxPushSize));
+    }
+
+    if (acknowledgementFlushInterval == null
+        || acknowledgementFlushInterval.isNegative()
+        || acknowledgementFlushInterval.isZero()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected acknowledgementFlushInterval to be positive, but found %s",
+              acknowledgementFlushInterval));
+    }
+  }
+
+  public int getMaxConcurrentPushes() {
+    return maxConcurrentPushes;
+  }
+
+  public void setMaxConcurrentPushes(final int maxConcurrentPushes) {
+    this.maxConcurrentPushes = maxConcurrentPushes;
+  }
+
+  public boolean isBatchingEnabled() {
+    return batchingEnabled;
+  }
+
+  public void setBatchingEnabled(final boolean batchingEnabled) {
+    this.batchingEnabled = batchingEnabled;
+  }
+
+  public int getMaxDeploymentsPerPush() {
+    return maxDeploymentsPerPush;
+  }
+
+  public void setMaxDeploymentsPerPush(final int maxDeploymentsPerPush) {
+    this.maxDeploymentsPerPush = maxDeploymentsPerPush;
+  }
+
+  public DataSize getMaxPushSize() {
+    return maxPushSize;
+  }
+
+  public void setMaxPushSize(final DataSize maxPushSize) {
+    this.maxPushSize = maxPushSize;
+  }
+
+  public Duration getAcknowledgementFlushInterval() {
+    return acknowledgementFlushInterval;
+  }
+
+  public void setAcknowledgementFlushInterval(final Duration acknowledgementFlushInterval) {
+    this.acknowledgementFlushInterval = acknowledgementFlushInterval;
+  }
+
+  @Override
+  public String toString() {
+    return "DeploymentDistributionCfg{"
+        + "maxConcurrentPushes="
+        + maxConcurrentPushes
+        + ", batchingEnabled="
+        + batchingEnabled
+        + ", maxDeploymentsPerPush="
+        + maxDeploymentsPerPush
+        + ", maxPushSize="
+        + maxPushSize
+        + ", acknowledgementFlushInterval="
+        + acknowledgementFlushInterval
+        + '}';
+  }
+}
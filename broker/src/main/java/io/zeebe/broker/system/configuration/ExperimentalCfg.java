@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+/**
+ * Configuration for features which are not yet production ready or whose defaults are still being
+ * evaluated. Options in this section may change or be removed between versions.
+ */
+public final class ExperimentalCfg implements ConfigurationEntry {
+
+  private SubscriptionBatchingCfg subscriptionBatching = new SubscriptionBatchingCfg();
+  private FlushConsolidationCfg flushConsolidation = new FlushConsolidationCfg();
+  private DeploymentDistributionCfg deploymentDistribution = new DeploymentDistributionCfg();
+  private GroupCommitCfg groupCommit = new GroupCommitCfg();
+  private LogArchiveCfg logArchive = new LogArchiveCfg();
+  private JobNotificationCfg jobNotification = new JobNotificationCfg();
+  private SnapshotCfg snapshot = new SnapshotCfg();
+  private ActorPlacementCfg actorPlacement = new ActorPlacementCfg();
+  private boolean processingPhaseMetrics = false;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    subscriptionBatching.init(globalConfig, brokerBase);
+    flushConsolidation.init(globalConfig, brokerBase);
+    deploymentDistribution.init(globalConfig, brokerBase);
+    groupCommit.init(globalConfig, brokerBase);
+    logArchive.init(globalConfig, brokerBase);
+    jobNotification.init(globalConfig, brokerBase);
+    snapshot.init(globalConfig, brokerBase);
+    actorPlacement.init(globalConfig, brokerBase);
+  }
+
+  public SubscriptionBatchingCfg getSubscriptionBatching() {
+    return subscriptionBatching;
+  }
+
+  public void setSubscriptionBatching(final SubscriptionBatchingCfg subscriptionBatching) {
+    this.subscriptionBatching = subscriptionBatching;
+  }
+
+  public FlushConsolidationCfg getFlushConsolidation() {
+    return flushConsolidation;
+  }
+
+  public void setFlushConsolidation(final FlushConsolidationCfg flushConsolidation) {
+    this.flushConsolidation = flushConsolidation;
+  }
+
+  public DeploymentDistributionCfg getDeploymentDistribution() {
+    return deploymentDistribution;
+  }
+
+  public void setDeploymentDistribution(final DeploymentDistributionCfg deploymentDistribution) {
+    this.deploymentDistribution = deploymentDistribution;
+  }
+
+  public GroupCommitCfg getGroupCommit() {
+    return groupCommit;
+  }
+
+  public void setGroupCommit(final GroupCommitCfg groupCommit) {
+    this.groupCommit = groupCommit;
+  }
+
+  public LogArchiveCfg getLogArchive() {
+    return logArchive;
+  }
+
+  public void setLogArchive(final LogArchiveCfg logArchive) {
+    this.logArchive = logArchive;
+  }
+
+  public JobNotificationCfg getJobNotification() {
+    return jobNotification;
+  }
+
+  public void setJobNotification(final JobNotificationCfg jobNotification) {
+    this.jobNotification = jobNotification;
+  }
+
+  public SnapshotCfg getSnapshot() {
+    return snapshot;
+  }
+
+  public void setSnapshot(final SnapshotCfg snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  public ActorPlacementCfg getActorPlacement() {
+    return actorPlacement;
+  }
+
+  public void setActorPlacement(final ActorPlacementCfg actorPlacement) {
+    this.actorPlacement = actorPlacement;
+  }
+
+  public boolean isProcessingPhaseMetrics() {
+    return processingPhaseMetrics;
+  }
+
+  public void setProcessingPhaseMetrics(final boolean processingPhaseMetrics) {
+    this.processingPhaseMetrics = processingPhaseMetrics;
+  }
+
+  @Override
+  public String toString() {
+    return "ExperimentalCfg{"
+        + "subscriptionBatching="
+        + subscriptionBatching
+        + ", flushConsolidation="
+        + flushConsolidation
+        + ", deploymentDistribution="
+        + deploymentDistribution
+        + ", groupCommit="
+        + groupCommit
+        + ", logArchive="
+        + logArchive
+        + ", jobNotification="
+        + jobNotification
+        + ", snapshot="
+        + snapshot
+        + ", actorPlacement="
+        + actorPlacement
+        + ", processingPhaseMetrics="
+        + processingPhaseMetrics
+        + '}';
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import static io.zeebe.broker.system.configuration.ConfigurationUtil.checkPositive;
+
+public final class FlushConsolidationCfg implements ConfigurationEntry {
+
+  private static final int DEFAULT_MAX_CONSOLIDATED_FLUSHES = 256;
+
+  private boolean enabled = false;
+  private int maxConsolidatedFlushes = DEFAULT_MAX_CONSOLIDATED_FLUSHES;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    checkPositive(maxConsolidatedFlushes, "maxConsolidatedFlushes");
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxConsolidatedFlushes() {
+    return maxConsolidatedFlushes;
+  }
+
+  public void setMaxConsolidatedFlushes(final int maxConsolidatedFlushes) {
+    this.maxConsolidatedFlushes = maxConsolidatedFlushes;
+  }
+
+  @Override
+  public String toString() {
+    return "FlushConsolidationCfg{"
+        + "enabled="
+        + enabled
+        + ", maxConsolidatedFlushes="
+        + maxConsolidatedFlushes
+        + '}';
+  }
+}
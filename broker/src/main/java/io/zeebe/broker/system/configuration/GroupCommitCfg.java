@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+public final class GroupCommitCfg implements ConfigurationEntry {
+
+  private static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(1);
+  private static final DataSize DEFAULT_MAX_BYTES = DataSize.ofMegabytes(4);
+
+  private boolean enabled = false;
+  private Duration maxDelay = DEFAULT_MAX_DELAY;
+  private DataSize maxBytes = DEFAULT_MAX_BYTES;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+      throw new IllegalArgumentException(
+          String.format("Expected maxDelay to be positive, but found %s", maxDelay));
+    }
+
+    if (maxBytes == null || maxBytes.toBytes() <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected maxBytes to be positive, but found %s", maxBytes));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  public void setMaxDelay(final Duration maxDelay) {
+    this.maxDelay = maxDelay;
+  }
+
+  public DataSize getMaxBytes() {
+    return maxBytes;
+  }
+
+  public void setMaxBytes(final DataSize maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitCfg{"
+        + "enabled="
+        + enabled
+        + ", maxDelay="
+        + maxDelay
+        + ", maxBytes="
+        + maxBytes
+        + '}';
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+
+public final class JobNotificationCfg implements ConfigurationEntry {
+
+  private static final Duration DEFAULT_COALESCING_WINDOW = Duration.ofMillis(10);
+  private static final Duration DEFAULT_INTEREST_TIMEOUT = Duration.ofSeconds(30);
+
+  private boolean targeted = false;
+  private Duration coalescingWindow = DEFAULT_COALESCING_WINDOW;
+  private Duration interestTimeout = DEFAULT_INTEREST_TIMEOUT;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (coalescingWindow == null || coalescingWindow.isNegative() || coalescingWindow.isZero()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected coalescingWindow to be positive, but found %s", coalescingWindow));
+    }
+
+    if (interestTimeout == null || interestTimeout.isNegative() || interestTimeout.isZero()) {
+      throw new IllegalArgumentException(
+          String.format("Expected interestTimeout to be positive, but found %s", interestTimeout));
+    }
+  }
+
+  public boolean isTargeted() {
+    return targeted;
+  }
+
+  public void setTargeted(final boolean targeted) {
+    this.targeted = targeted;
+  }
+
+  public Duration getCoalescingWindow() {
+    return coalescingWindow;
+  }
+
+  public void setCoalescingWindow(final Duration coalescingWindow) {
+    this.coalescingWindow = coalescingWindow;
+  }
+
+  public Duration getInterestTimeout() {
+    return interestTimeout;
+  }
+
+  public void setInterestTimeout(final Duration interestTimeout) {
+    this.interestTimeout = interestTimeout;
+  }
+
+  @Override
+  public String toString() {
+    return "JobNotificationCfg{"
+        + "targeted="
+        + targeted
+        + ", coalescingWindow="
+        + coalescingWindow
+        + ", interestTimeout="
+        + interestTimeout
+        + '}';
+  }
+}
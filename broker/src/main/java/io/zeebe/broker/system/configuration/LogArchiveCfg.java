@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import org.springframework.util.unit.DataSize;
+
+public final class LogArchiveCfg implements ConfigurationEntry {
+
+  private static final DataSize DEFAULT_CHUNK_SIZE = DataSize.ofMegabytes(1);
+
+  private boolean enabled = false;
+  private DataSize chunkSize = DEFAULT_CHUNK_SIZE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (chunkSize == null || chunkSize.toBytes() <= 0 || chunkSize.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected chunkSize to be between 1 and %d bytes, but found %s",
+              Integer.MAX_VALUE, chunkSize));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public DataSize getChunkSize() {
+    return chunkSize;
+  }
+
+  public void setChunkSize(final DataSize chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public String toString() {
+    return "LogArchiveCfg{" + "enabled=" + enabled + ", chunkSize=" + chunkSize + '}';
+  }
+}
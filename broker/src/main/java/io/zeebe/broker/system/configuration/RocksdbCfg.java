@@ -7,14 +7,24 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.regex.Pattern;
+import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
 
+  private static final double DEFAULT_WRITE_BUFFER_RATIO = 0.5;
+
   private Properties columnFamilyOptions;
+  private Map<String, Properties> perColumnFamilyOptions;
+  private DataSize memoryLimit;
+  private double writeBufferRatio = DEFAULT_WRITE_BUFFER_RATIO;
+  private DataSize ioRateLimit;
+  private RocksdbStatisticsCfg statistics = new RocksdbStatisticsCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -26,6 +36,34 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    final var initializedPerColumnFamilyOptions = new HashMap<String, Properties>();
+    if (perColumnFamilyOptions != null) {
+      perColumnFamilyOptions.forEach(
+          (columnFamily, options) ->
+              initializedPerColumnFamilyOptions.put(
+                  columnFamily, initColumnFamilyOptions(options)));
+    }
+    perColumnFamilyOptions = initializedPerColumnFamilyOptions;
+
+    if (memoryLimit != null && memoryLimit.toBytes() <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected memoryLimit to be positive, but found %s", memoryLimit));
+    }
+
+    if (writeBufferRatio <= 0 || writeBufferRatio >= 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected writeBufferRatio to be between 0 and 1 (exclusive), but found %s",
+              writeBufferRatio));
+    }
+
+    if (ioRateLimit != null && ioRateLimit.toBytes() <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected ioRateLimit to be positive, but found %s", ioRateLimit));
+    }
+
+    statistics.init(globalConfig, brokerBase);
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -44,6 +82,48 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.columnFamilyOptions = columnFamilyOptions;
   }
 
+  public Map<String, Properties> getPerColumnFamilyOptions() {
+    return perColumnFamilyOptions;
+  }
+
+  public void setPerColumnFamilyOptions(final Map<String, Properties> perColumnFamilyOptions) {
+    this.perColumnFamilyOptions = perColumnFamilyOptions;
+  }
+
+  /** @return the memory which is shared by the state of all partitions, or null if not limited */
+  public DataSize getMemoryLimit() {
+    return memoryLimit;
+  }
+
+  public void setMemoryLimit(final DataSize memoryLimit) {
+    this.memoryLimit = memoryLimit;
+  }
+
+  public double getWriteBufferRatio() {
+    return writeBufferRatio;
+  }
+
+  public void setWriteBufferRatio(final double writeBufferRatio) {
+    this.writeBufferRatio = writeBufferRatio;
+  }
+
+  /** @return the disk write rate per second of all partitions, or null if not limited */
+  public DataSize getIoRateLimit() {
+    return ioRateLimit;
+  }
+
+  public void setIoRateLimit(final DataSize ioRateLimit) {
+    this.ioRateLimit = ioRateLimit;
+  }
+
+  public RocksdbStatisticsCfg getStatistics() {
+    return statistics;
+  }
+
+  public void setStatistics(final RocksdbStatisticsCfg statistics) {
+    this.statistics = statistics;
+  }
+
   private static final class RocksDBColumnFamilyOption {
 
     private static final Pattern DOT_CHAR_PATTERN = Pattern.compile("\\.");
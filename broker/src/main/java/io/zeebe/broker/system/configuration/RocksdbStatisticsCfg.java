@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import io.zeebe.db.impl.rocksdb.RocksDbStatisticsLevel;
+import java.time.Duration;
+
+public final class RocksdbStatisticsCfg implements ConfigurationEntry {
+
+  private static final RocksDbStatisticsLevel DEFAULT_LEVEL =
+      RocksDbStatisticsLevel.EXCEPT_DETAILED_TIMERS;
+  private static final Duration DEFAULT_SAMPLING_INTERVAL = Duration.ofSeconds(15);
+
+  private boolean enabled = false;
+  private RocksDbStatisticsLevel level = DEFAULT_LEVEL;
+  private Duration samplingInterval = DEFAULT_SAMPLING_INTERVAL;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (level == null) {
+      throw new IllegalArgumentException("Expected level to be set, but found null");
+    }
+
+    if (samplingInterval == null || samplingInterval.isNegative() || samplingInterval.isZero()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected samplingInterval to be positive, but found %s", samplingInterval));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public RocksDbStatisticsLevel getLevel() {
+    return level;
+  }
+
+  public void setLevel(final RocksDbStatisticsLevel level) {
+    this.level = level;
+  }
+
+  public Duration getSamplingInterval() {
+    return samplingInterval;
+  }
+
+  public void setSamplingInterval(final Duration samplingInterval) {
+    this.samplingInterval = samplingInterval;
+  }
+
+  /** @return the level of the collected statistics, or {@code null} if they are disabled */
+  public RocksDbStatisticsLevel getEffectiveLevel() {
+    return enabled ? level : null;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksdbStatisticsCfg{"
+        + "enabled="
+        + enabled
+        + ", level="
+        + level
+        + ", samplingInterval="
+        + samplingInterval
+        + '}';
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import org.springframework.util.unit.DataSize;
+
+public final class SnapshotCfg implements ConfigurationEntry {
+
+  private int maxConcurrentSnapshots = 0;
+  private boolean staggered = false;
+  private int checksumThreads = 1;
+  private DataSize checksumRateLimit;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (maxConcurrentSnapshots < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected maxConcurrentSnapshots to be non-negative, but found %s",
+              maxConcurrentSnapshots));
+    }
+
+    if (checksumThreads <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected checksumThreads to be positive, but found %s", checksumThreads));
+    }
+
+    if (checksumRateLimit != null && checksumRateLimit.toBytes() <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected checksumRateLimit to be positive, but found %s", checksumRateLimit));
+    }
+  }
+
+  public int getMaxConcurrentSnapshots() {
+    return maxConcurrentSnapshots;
+  }
+
+  public void setMaxConcurrentSnapshots(final int maxConcurrentSnapshots) {
+    this.maxConcurrentSnapshots = maxConcurrentSnapshots;
+  }
+
+  public boolean isStaggered() {
+    return staggered;
+  }
+
+  public void setStaggered(final boolean staggered) {
+    this.staggered = staggered;
+  }
+
+  public int getChecksumThreads() {
+    return checksumThreads;
+  }
+
+  public void setChecksumThreads(final int checksumThreads) {
+    this.checksumThreads = checksumThreads;
+  }
+
+  public DataSize getChecksumRateLimit() {
+    return checksumRateLimit;
+  }
+
+  public void setChecksumRateLimit(final DataSize checksumRateLimit) {
+    this.checksumRateLimit = checksumRateLimit;
+  }
+
+  @Override
+  public String toString() {
+    return "SnapshotCfg{"
+        + "maxConcurrentSnapshots="
+        + maxConcurrentSnapshots
+        + ", staggered="
+        + staggered
+        + ", checksumThreads="
+        + checksumThreads
+        + ", checksumRateLimit="
+        + checksumRateLimit
+        + '}';
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+public final class SubscriptionBatchingCfg implements ConfigurationEntry {
+
+  private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(5);
+  private static final DataSize DEFAULT_MAX_BATCH_SIZE = DataSize.ofKilobytes(32);
+
+  private boolean enabled = false;
+  private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+  private DataSize maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) {
+      throw new IllegalArgumentException(
+          String.format("Expected flushInterval to be positive, but found %s", flushInterval));
+    }
+
+    if (maxBatchSize == null || maxBatchSize.toBytes() <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected maxBatchSize to be positive, but found %s", maxBatchSize));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getFlushInterval() {
+    return flushInterval;
+  }
+
+  public void setFlushInterval(final Duration flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  public DataSize getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final DataSize maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public String toString() {
+    return "SubscriptionBatchingCfg{"
+        + "enabled="
+        + enabled
+        + ", flushInterval="
+        + flushInterval
+        + ", maxBatchSize="
+        + maxBatchSize
+        + '}';
+  }
+}
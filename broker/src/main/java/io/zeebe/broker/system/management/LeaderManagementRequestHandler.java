@@ -10,6 +10,7 @@ package io.zeebe.broker.system.management;
 import io.atomix.core.Atomix;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.PartitionListener;
+import io.zeebe.broker.system.configuration.DeploymentDistributionCfg;
 import io.zeebe.broker.system.management.deployment.PushDeploymentRequestHandler;
 import io.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.zeebe.logstreams.log.LogStream;
@@ -36,9 +37,14 @@ public final class LeaderManagementRequestHandler extends Actor
   private PushDeploymentRequestHandler pushDeploymentRequestHandler;
   private final Atomix atomix;
   private final ErrorResponse outOfDiskSpaceError;
+  private final DeploymentDistributionCfg distributionCfg;
 
-  public LeaderManagementRequestHandler(final BrokerInfo localBroker, final Atomix atomix) {
+  public LeaderManagementRequestHandler(
+      final BrokerInfo localBroker,
+      final Atomix atomix,
+      final DeploymentDistributionCfg distributionCfg) {
     this.atomix = atomix;
+    this.distributionCfg = distributionCfg;
     actorName = buildActorName(localBroker.getNodeId(), "ManagementRequestHandler");
     outOfDiskSpaceError = new ErrorResponse();
     outOfDiskSpaceError
@@ -91,7 +97,7 @@ public final class LeaderManagementRequestHandler extends Actor
   @Override
   protected void onActorStarting() {
     pushDeploymentRequestHandler =
-        new PushDeploymentRequestHandler(leaderForPartitions, actor, atomix);
+        new PushDeploymentRequestHandler(leaderForPartitions, actor, atomix, distributionCfg);
     atomix.getCommunicationService().subscribe(DEPLOYMENT_TOPIC, pushDeploymentRequestHandler);
   }
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.management.deployment;
+
+import io.zeebe.clustering.management.DeploymentAcknowledgementBatchDecoder;
+import io.zeebe.clustering.management.DeploymentAcknowledgementBatchDecoder.AcknowledgementsDecoder;
+import io.zeebe.clustering.management.DeploymentAcknowledgementBatchEncoder;
+import io.zeebe.clustering.management.DeploymentAcknowledgementBatchEncoder.AcknowledgementsEncoder;
+import io.zeebe.protocol.impl.encoding.SbeBufferWriterReader;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+
+/** Acknowledges that multiple deployments were created on the other partitions. */
+public final class DeploymentAcknowledgementBatch
+    extends SbeBufferWriterReader<
+        DeploymentAcknowledgementBatchEncoder, DeploymentAcknowledgementBatchDecoder> {
+
+  // the number of group entries is encoded as uint8 - see groupSizeEncoding
+  public static final int MAX_ACKNOWLEDGEMENT_COUNT = 254;
+
+  private final DeploymentAcknowledgementBatchEncoder bodyEncoder =
+      new DeploymentAcknowledgementBatchEncoder();
+  private final DeploymentAcknowledgementBatchDecoder bodyDecoder =
+      new DeploymentAcknowledgementBatchDecoder();
+
+  private final IntArrayList partitionIds = new IntArrayList();
+  private final LongArrayList deploymentKeys = new LongArrayList();
+
+  /**
+   * Appends the acknowledgement of the given deployment.
+   *
+   * @return {@code false} if the batch reached the maximum number of acknowledgements, in which
+   *     case the acknowledgement is not added
+   */
+  public boolean addAcknowledgement(final int partitionId, final long deploymentKey) {
+    if (isFull()) {
+      return false;
+    }
+
+    partitionIds.addInt(partitionId);
+    deploymentKeys.addLong(deploymentKey);
+    return true;
+  }
+
+  public boolean isEmpty() {
+    return partitionIds.isEmpty();
+  }
+
+  public boolean isFull() {
+    return partitionIds.size() >= MAX_ACKNOWLEDGEMENT_COUNT;
+  }
+
+  /** Iterates over the acknowledgements of the wrapped batch. */
+  public void forEachAcknowledgement(final AcknowledgementConsumer consumer) {
+    final AcknowledgementsDecoder acknowledgementsDecoder = bodyDecoder.acknowledgements();
+    while (acknowledgementsDecoder.hasNext()) {
+      acknowledgementsDecoder.next();
+      consumer.accept(
+          acknowledgementsDecoder.partitionId(), acknowledgementsDecoder.deploymentKey());
+    }
+  }
+
+  @Override
+  protected DeploymentAcknowledgementBatchEncoder getBodyEncoder() {
+    return bodyEncoder;
+  }
+
+  @Override
+  protected DeploymentAcknowledgementBatchDecoder getBodyDecoder() {
+    return bodyDecoder;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+
+    partitionIds.clear();
+    deploymentKeys.clear();
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength()
+        + AcknowledgementsEncoder.sbeHeaderSize()
+        + partitionIds.size() * AcknowledgementsEncoder.sbeBlockLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    final AcknowledgementsEncoder acknowledgementsEncoder =
+        bodyEncoder.acknowledgementsCount(partitionIds.size());
+    for (int i = 0; i < partitionIds.size(); i++) {
+      acknowledgementsEncoder
+          .next()
+          .partitionId(partitionIds.getInt(i))
+          .deploymentKey(deploymentKeys.getLong(i));
+    }
+  }
+
+  @FunctionalInterface
+  public interface AcknowledgementConsumer {
+    void accept(int partitionId, long deploymentKey);
+  }
+}
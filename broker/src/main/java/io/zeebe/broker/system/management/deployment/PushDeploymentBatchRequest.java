@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.management.deployment;
+
+import io.zeebe.clustering.management.PushDeploymentBatchRequestDecoder;
+import io.zeebe.clustering.management.PushDeploymentBatchRequestDecoder.DeploymentsDecoder;
+import io.zeebe.clustering.management.PushDeploymentBatchRequestEncoder;
+import io.zeebe.clustering.management.PushDeploymentBatchRequestEncoder.DeploymentsEncoder;
+import io.zeebe.protocol.impl.encoding.SbeBufferWriterReader;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Pushes multiple deployments to one partition. The deployments are copied when they are added, so
+ * the request can be built from buffers which are only valid temporarily (e.g. state values).
+ */
+public final class PushDeploymentBatchRequest
+    extends SbeBufferWriterReader<
+        PushDeploymentBatchRequestEncoder, PushDeploymentBatchRequestDecoder> {
+
+  // the number of group entries is encoded as uint8 - see groupSizeEncoding
+  public static final int MAX_DEPLOYMENT_COUNT = 254;
+
+  private static final int STAGED_HEADER_LENGTH = Long.BYTES + Integer.BYTES;
+
+  private final PushDeploymentBatchRequestEncoder bodyEncoder =
+      new PushDeploymentBatchRequestEncoder();
+  private final PushDeploymentBatchRequestDecoder bodyDecoder =
+      new PushDeploymentBatchRequestDecoder();
+
+  private final ExpandableArrayBuffer stagedDeployments = new ExpandableArrayBuffer();
+  private final UnsafeBuffer deploymentView = new UnsafeBuffer(0, 0);
+
+  private int partitionId = PushDeploymentBatchRequestEncoder.partitionIdNullValue();
+  private int stagedLength;
+  private int deploymentCount;
+
+  public PushDeploymentBatchRequest partitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public int partitionId() {
+    return partitionId;
+  }
+
+  /**
+   * Appends a copy of the given deployment to the request.
+   *
+   * @return {@code false} if the request reached the maximum number of deployments, in which case
+   *     the deployment is not added
+   */
+  public boolean addDeployment(final long deploymentKey, final DirectBuffer deployment) {
+    if (deploymentCount >= MAX_DEPLOYMENT_COUNT) {
+      return false;
+    }
+
+    final int deploymentLength = deployment.capacity();
+    stagedDeployments.putLong(stagedLength, deploymentKey);
+    stagedDeployments.putInt(stagedLength + Long.BYTES, deploymentLength);
+    stagedDeployments.putBytes(
+        stagedLength + STAGED_HEADER_LENGTH, deployment, 0, deploymentLength);
+
+    stagedLength += STAGED_HEADER_LENGTH + deploymentLength;
+    deploymentCount += 1;
+    return true;
+  }
+
+  public int deploymentCount() {
+    return deploymentCount;
+  }
+
+  /**
+   * Iterates over the deployments of the wrapped request. The deployment buffer passed to the
+   * consumer is only valid during the invocation, but it can be wrapped as long as the request
+   * buffer is valid.
+   */
+  public void forEachDeployment(final DeploymentConsumer consumer) {
+    final DeploymentsDecoder deploymentsDecoder = bodyDecoder.deployments();
+    while (deploymentsDecoder.hasNext()) {
+      final long deploymentKey = deploymentsDecoder.next().deploymentKey();
+      deploymentsDecoder.wrapDeployment(deploymentView);
+      consumer.accept(deploymentKey, deploymentView);
+    }
+  }
+
+  @Override
+  protected PushDeploymentBatchRequestEncoder getBodyEncoder() {
+    return bodyEncoder;
+  }
+
+  @Override
+  protected PushDeploymentBatchRequestDecoder getBodyDecoder() {
+    return bodyDecoder;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+
+    partitionId = PushDeploymentBatchRequestEncoder.partitionIdNullValue();
+    stagedLength = 0;
+    deploymentCount = 0;
+  }
+
+  @Override
+  public int getLength() {
+    // every staged deployment has a key and a length header, like the encoded group entries
+    return super.getLength() + DeploymentsEncoder.sbeHeaderSize() + stagedLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    final DeploymentsEncoder deploymentsEncoder =
+        bodyEncoder.partitionId(partitionId).deploymentsCount(deploymentCount);
+
+    int stagedOffset = 0;
+    for (int i = 0; i < deploymentCount; i++) {
+      final long deploymentKey = stagedDeployments.getLong(stagedOffset);
+      final int deploymentLength = stagedDeployments.getInt(stagedOffset + Long.BYTES);
+      stagedOffset += STAGED_HEADER_LENGTH;
+
+      deploymentsEncoder
+          .next()
+          .deploymentKey(deploymentKey)
+          .putDeployment(stagedDeployments, stagedOffset, deploymentLength);
+      stagedOffset += deploymentLength;
+    }
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    super.wrap(buffer, offset, length);
+
+    partitionId = bodyDecoder.partitionId();
+  }
+
+  @FunctionalInterface
+  public interface DeploymentConsumer {
+    void accept(long deploymentKey, DirectBuffer deployment);
+  }
+}
@@ -10,7 +10,9 @@ package io.zeebe.broker.system.management.deployment;
 import io.atomix.core.Atomix;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.engine.impl.DeploymentDistributorImpl;
+import io.zeebe.broker.system.configuration.DeploymentDistributionCfg;
 import io.zeebe.clustering.management.MessageHeaderDecoder;
+import io.zeebe.clustering.management.PushDeploymentBatchRequestDecoder;
 import io.zeebe.clustering.management.PushDeploymentRequestDecoder;
 import io.zeebe.engine.processing.deployment.DeploymentResponder;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
@@ -25,10 +27,14 @@ import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
@@ -45,13 +51,22 @@ public final class PushDeploymentRequestHandler
   private final ActorControl actor;
   private final Atomix atomix;
 
+  private final boolean batchingEnabled;
+  private final Duration acknowledgementFlushInterval;
+  private final DeploymentAcknowledgementBatch pendingAcknowledgements =
+      new DeploymentAcknowledgementBatch();
+  private boolean isFlushScheduled;
+
   public PushDeploymentRequestHandler(
       final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions,
       final ActorControl actor,
-      final Atomix atomix) {
+      final Atomix atomix,
+      final DeploymentDistributionCfg distributionCfg) {
     this.leaderPartitions = leaderPartitions;
     this.actor = actor;
     this.atomix = atomix;
+    batchingEnabled = distributionCfg.isBatchingEnabled();
+    acknowledgementFlushInterval = distributionCfg.getAcknowledgementFlushInterval();
   }
 
   @Override
@@ -71,6 +86,8 @@ public final class PushDeploymentRequestHandler
             final int templateId = messageHeaderDecoder.templateId();
             if (PushDeploymentRequestDecoder.TEMPLATE_ID == templateId) {
               handleValidRequest(responseFuture, buffer, offset, length);
+            } else if (PushDeploymentBatchRequestDecoder.TEMPLATE_ID == templateId) {
+              handleValidBatchRequest(responseFuture, buffer, offset, length);
             } else {
               final String errorMsg =
                   String.format(
@@ -91,6 +108,11 @@ public final class PushDeploymentRequestHandler
 
   @Override
   public void sendDeploymentResponse(final long deploymentKey, final int partitionId) {
+    if (batchingEnabled) {
+      actor.run(() -> addAcknowledgement(deploymentKey, partitionId));
+      return;
+    }
+
     final PushDeploymentResponse deploymentResponse = new PushDeploymentResponse();
     deploymentResponse.deploymentKey(deploymentKey).partitionId(partitionId);
     final String topic = DeploymentDistributorImpl.getDeploymentResponseTopic(deploymentKey);
@@ -121,6 +143,103 @@ public final class PushDeploymentRequestHandler
     }
   }
 
+  private void addAcknowledgement(final long deploymentKey, final int partitionId) {
+    pendingAcknowledgements.addAcknowledgement(partitionId, deploymentKey);
+
+    if (pendingAcknowledgements.isFull()) {
+      flushAcknowledgements();
+    } else if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      actor.runDelayed(
+          acknowledgementFlushInterval,
+          () -> {
+            isFlushScheduled = false;
+            flushAcknowledgements();
+          });
+    }
+  }
+
+  private void flushAcknowledgements() {
+    if (pendingAcknowledgements.isEmpty()) {
+      return;
+    }
+
+    final String topic = DeploymentDistributorImpl.DEPLOYMENT_ACKNOWLEDGEMENT_TOPIC;
+    atomix.getEventService().broadcast(topic, pendingAcknowledgements.toBytes());
+    LOG.trace("Send deployment acknowledgements on topic {}", topic);
+
+    pendingAcknowledgements.reset();
+  }
+
+  private void handleValidBatchRequest(
+      final CompletableFuture<byte[]> responseFuture,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length) {
+    final PushDeploymentBatchRequest batchRequest = new PushDeploymentBatchRequest();
+    batchRequest.wrap(buffer, offset, length);
+    final int partitionId = batchRequest.partitionId();
+
+    if (leaderPartitions.get(partitionId) == null) {
+      LOG.error("Rejecting deployments for partition {} as not leader", partitionId);
+      sendNotLeaderRejection(responseFuture, partitionId);
+      return;
+    }
+
+    // the deployments are wrapped, the request buffer stays valid until the response is sent
+    final LongArrayList deploymentKeys = new LongArrayList();
+    final List<DeploymentRecord> deploymentRecords = new ArrayList<>();
+    batchRequest.forEachDeployment(
+        (deploymentKey, deployment) -> {
+          final DeploymentRecord deploymentRecord = new DeploymentRecord();
+          deploymentRecord.wrap(new UnsafeBuffer(deployment));
+          deploymentKeys.addLong(deploymentKey);
+          deploymentRecords.add(deploymentRecord);
+        });
+
+    LOG.trace("Handling deployments {} for partition {} as leader", deploymentKeys, partitionId);
+    handlePushDeploymentBatchRequest(
+        responseFuture, deploymentKeys, deploymentRecords, partitionId);
+  }
+
+  private void handlePushDeploymentBatchRequest(
+      final CompletableFuture<byte[]> responseFuture,
+      final LongArrayList deploymentKeys,
+      final List<DeploymentRecord> deploymentRecords,
+      final int partitionId) {
+    final int[] writtenDeployments = {0};
+
+    actor.runUntilDone(
+        () -> {
+          final LogStreamRecordWriter logStream = leaderPartitions.get(partitionId);
+          if (logStream == null) {
+            LOG.debug("Leader change on partition {}, ignore push deployment request", partitionId);
+            actor.done();
+            return;
+          }
+
+          while (writtenDeployments[0] < deploymentKeys.size()) {
+            final int index = writtenDeployments[0];
+            final long deploymentKey = deploymentKeys.getLong(index);
+            if (!writeCreatingDeployment(logStream, deploymentKey, deploymentRecords.get(index))) {
+              actor.yield();
+              return;
+            }
+
+            writtenDeployments[0] += 1;
+          }
+
+          LOG.debug(
+              "Deployment CREATE commands for deployments {} were written on partition {}",
+              deploymentKeys,
+              partitionId);
+          actor.done();
+
+          sendResponse(
+              responseFuture, deploymentKeys.getLong(deploymentKeys.size() - 1), partitionId);
+        });
+  }
+
   private void handlePushDeploymentRequest(
       final CompletableFuture<byte[]> responseFuture,
       final DirectBuffer deployment,
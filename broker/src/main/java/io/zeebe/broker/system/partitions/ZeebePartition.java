@@ -21,6 +21,7 @@ import io.zeebe.broker.exporter.repo.ExporterLoadException;
 import io.zeebe.broker.exporter.repo.ExporterRepository;
 import io.zeebe.broker.exporter.stream.ExporterDirector;
 import io.zeebe.broker.exporter.stream.ExporterDirectorContext;
+import io.zeebe.broker.logstreams.ArchivingLogCompactor;
 import io.zeebe.broker.logstreams.AtomixLogCompactor;
 import io.zeebe.broker.logstreams.LogCompactor;
 import io.zeebe.broker.logstreams.LogDeletionService;
@@ -32,15 +33,19 @@ import io.zeebe.broker.system.monitoring.HealthMetrics;
 import io.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.zeebe.broker.system.partitions.impl.AtomixRecordEntrySupplierImpl;
 import io.zeebe.broker.system.partitions.impl.NoneSnapshotReplication;
+import io.zeebe.broker.system.partitions.impl.RandomDuration;
+import io.zeebe.broker.system.partitions.impl.SnapshotPermits;
 import io.zeebe.broker.system.partitions.impl.StateControllerImpl;
 import io.zeebe.broker.system.partitions.impl.StateReplication;
 import io.zeebe.broker.transport.commandapi.CommandApiService;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDBMetricExporter;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessor;
-import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.storage.archive.LogArchive;
 import io.zeebe.logstreams.storage.atomix.AtomixLogStorage;
 import io.zeebe.logstreams.storage.atomix.ZeebeIndexMapping;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
@@ -54,8 +59,10 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.AsyncClosable;
+import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -79,7 +86,9 @@ public final class ZeebePartition extends Actor
 
   private final ActorScheduler scheduler;
   private final SnapshotStoreSupplier snapshotStoreSupplier;
+  private final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory;
   private final TypedRecordProcessorsFactory typedRecordProcessorsFactory;
+  private final SnapshotPermits snapshotPermits;
   private final CommandApiService commandApiService;
   private final List<PartitionListener> partitionListeners;
   private final List<ClosingStep> closingSteps = new ArrayList<>();
@@ -115,13 +124,17 @@ public final class ZeebePartition extends Actor
       final CommandApiService commandApiService,
       final ZeebeIndexMapping zeebeIndexMapping,
       final SnapshotStoreSupplier snapshotStoreSupplier,
-      final TypedRecordProcessorsFactory typedRecordProcessorsFactory) {
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory,
+      final TypedRecordProcessorsFactory typedRecordProcessorsFactory,
+      final SnapshotPermits snapshotPermits) {
     this.localBroker = localBroker;
     this.atomixRaftPartition = atomixRaftPartition;
     this.messagingService = messagingService;
     this.brokerCfg = brokerCfg;
     this.snapshotStoreSupplier = snapshotStoreSupplier;
+    this.zeebeDbFactory = zeebeDbFactory;
     this.typedRecordProcessorsFactory = typedRecordProcessorsFactory;
+    this.snapshotPermits = snapshotPermits;
     this.commandApiService = commandApiService;
     this.partitionListeners = Collections.unmodifiableList(partitionListeners);
     partitionId = atomixRaftPartition.id().id();
@@ -400,7 +413,27 @@ public final class ZeebePartition extends Actor
     addClosingStep("snapshot controller", this::closeSnapshotController);
     snapshotController = controller;
 
-    final LogCompactor logCompactor = new AtomixLogCompactor(atomixRaftPartition.getServer());
+    LogCompactor logCompactor = new AtomixLogCompactor(atomixRaftPartition.getServer());
+    final var logArchiveCfg = brokerCfg.getExperimental().getLogArchive();
+    if (logArchiveCfg.isEnabled()) {
+      final var archive =
+          new LogArchive(atomixRaftPartition.dataDirectory().toPath().resolve("archive"));
+      try {
+        archive.open();
+      } catch (final IOException e) {
+        LOG.error("Failed to open the log archive of partition {}", partitionId, e);
+        return CompletableActorFuture.completedExceptionally(e);
+      }
+
+      addClosingStep("log archive", () -> closeLogArchive(archive));
+      logCompactor =
+          new ArchivingLogCompactor(
+              atomixLogStorage,
+              archive,
+              logCompactor,
+              (int) logArchiveCfg.getChunkSize().toBytes());
+    }
+
     final LogDeletionService deletionService =
         new LogDeletionService(
             localBroker.getNodeId(),
@@ -409,7 +442,10 @@ public final class ZeebePartition extends Actor
             snapshotStoreSupplier.getPersistedSnapshotStore(atomixRaftPartition.name()));
     addClosingStep("deletion service", deletionService);
 
-    return scheduler.submitActor(deletionService);
+    // archiving copies the compacted entries into files, which blocks the actor thread on I/O
+    return logArchiveCfg.isEnabled()
+        ? scheduler.submitActor(deletionService, SchedulingHints.ioBound())
+        : scheduler.submitActor(deletionService);
   }
 
   private void registerSnapshotListenerForReplication() {
@@ -435,10 +471,9 @@ public final class ZeebePartition extends Actor
             ? new StateReplication(messagingService, partitionId, localBroker.getNodeId())
             : new NoneSnapshotReplication();
 
-    final var databaseCfg = brokerCfg.getData().getRocksdb();
     return new StateControllerImpl(
         partitionId,
-        DefaultZeebeDbFactory.defaultFactory(databaseCfg.getColumnFamilyOptions()),
+        zeebeDbFactory,
         snapshotStoreSupplier.getConstructableSnapshotStore(atomixRaftPartition.name()),
         snapshotStoreSupplier.getReceivableSnapshotStore(atomixRaftPartition.name()),
         runtimeDirectory,
@@ -514,6 +549,24 @@ public final class ZeebePartition extends Actor
           metricsTimer.cancel();
           return CompletableActorFuture.completed(null);
         });
+
+    final var statisticsCfg = brokerCfg.getData().getRocksdb().getStatistics();
+    if (statisticsCfg.isEnabled()) {
+      final var statisticsTimer =
+          actor.runAtFixedRate(
+              statisticsCfg.getSamplingInterval(),
+              () -> {
+                if (zeebeDb != null) {
+                  metricExporter.exportStatistics();
+                }
+              });
+      addClosingStep(
+          "RocksDB statistics timer",
+          () -> {
+            statisticsTimer.cancel();
+            return CompletableActorFuture.completed(null);
+          });
+    }
   }
 
   private StreamProcessor createStreamProcessor(final ZeebeDb zeebeDb) {
@@ -524,6 +577,7 @@ public final class ZeebePartition extends Actor
         .nodeId(localBroker.getNodeId())
         .commandResponseWriter(commandApiService.newCommandResponseWriter())
         .onProcessedListener(commandApiService.getOnProcessedListener(partitionId))
+        .phaseMetricsEnabled(brokerCfg.getExperimental().isProcessingPhaseMetrics())
         .streamProcessorFactory(
             (processingContext) -> {
               final ActorControl actor = processingContext.getActor();
@@ -537,13 +591,21 @@ public final class ZeebePartition extends Actor
   private ActorFuture<Void> installSnapshotDirector(
       final StreamProcessor streamProcessor, final DataCfg dataCfg) {
     final Duration snapshotPeriod = dataCfg.getSnapshotPeriod();
+    final var firstSnapshotDelay =
+        brokerCfg.getExperimental().getSnapshot().isStaggered()
+            ? AsyncSnapshotDirector.getStaggeredSnapshotDelay(
+                partitionId, brokerCfg.getCluster().getPartitionsCount(), snapshotPeriod)
+            : RandomDuration.getRandomDurationMinuteBased(
+                AsyncSnapshotDirector.MINIMUM_SNAPSHOT_PERIOD, snapshotPeriod);
     final var asyncSnapshotDirector =
         new AsyncSnapshotDirector(
             localBroker.getNodeId(),
             streamProcessor,
             snapshotController,
             logStream,
-            snapshotPeriod);
+            snapshotPeriod,
+            firstSnapshotDelay,
+            snapshotPermits);
     addClosingStep("snapshot director", asyncSnapshotDirector);
     return scheduler.submitActor(asyncSnapshotDirector);
   }
@@ -576,6 +638,11 @@ public final class ZeebePartition extends Actor
     return logStreamToClose.closeAsync();
   }
 
+  private ActorFuture<Void> closeLogArchive(final LogArchive archive) {
+    archive.close();
+    return CompletableActorFuture.completed(null);
+  }
+
   private ActorFuture<Void> closeSnapshotController() {
     try {
       if (snapshotController != null) {
@@ -616,7 +683,13 @@ public final class ZeebePartition extends Actor
 
   @Override
   public void onActorStarting() {
-    atomixLogStorage = AtomixLogStorage.ofPartition(zeebeIndexMapping, atomixRaftPartition);
+    final var dataCfg = brokerCfg.getData();
+    atomixLogStorage =
+        AtomixLogStorage.ofPartition(
+            zeebeIndexMapping,
+            atomixRaftPartition,
+            (int) dataCfg.getLogEntryCacheSize().toBytes(),
+            dataCfg.getLogCompression());
     atomixRaftPartition.addRoleChangeListener(this);
     criticalComponentsHealthMonitor.addFailureListener(this);
     onRoleChange(atomixRaftPartition.getRole(), atomixRaftPartition.term());
@@ -20,6 +20,13 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
 import org.slf4j.Logger;
 
+/**
+ * Takes the snapshots of a partition periodically. Taking a snapshot has two phases: first the
+ * state is checkpointed, then the director waits until the last written position is committed and
+ * persists the snapshot, which includes calculating its checksum. Both phases are I/O heavy, so the
+ * director holds a permit of the broker-wide {@link SnapshotPermits} during each of them, but not
+ * while waiting for the commit.
+ */
 public final class AsyncSnapshotDirector extends Actor {
 
   public static final Duration MINIMUM_SNAPSHOT_PERIOD = Duration.ofMinutes(1);
@@ -40,7 +47,10 @@ public final class AsyncSnapshotDirector extends Actor {
   private final String processorName;
   private final StreamProcessor streamProcessor;
   private final String actorName;
+  private final Duration firstSnapshotDelay;
+  private final SnapshotPermits snapshotPermits;
 
+  private ActorFuture<Void> snapshotPermit;
   private ActorCondition commitCondition;
   private Long lastWrittenEventPosition;
   private TransientSnapshot pendingSnapshot;
@@ -53,11 +63,31 @@ public final class AsyncSnapshotDirector extends Actor {
       final StateController stateController,
       final LogStream logStream,
       final Duration snapshotRate) {
+    this(
+        nodeId,
+        streamProcessor,
+        stateController,
+        logStream,
+        snapshotRate,
+        RandomDuration.getRandomDurationMinuteBased(MINIMUM_SNAPSHOT_PERIOD, snapshotRate),
+        SnapshotPermits.unlimited());
+  }
+
+  public AsyncSnapshotDirector(
+      final int nodeId,
+      final StreamProcessor streamProcessor,
+      final StateController stateController,
+      final LogStream logStream,
+      final Duration snapshotRate,
+      final Duration firstSnapshotDelay,
+      final SnapshotPermits snapshotPermits) {
     this.streamProcessor = streamProcessor;
     this.stateController = stateController;
     this.logStream = logStream;
     processorName = streamProcessor.getName();
     this.snapshotRate = snapshotRate;
+    this.firstSnapshotDelay = firstSnapshotDelay;
+    this.snapshotPermits = snapshotPermits;
     actorName = buildActorName(nodeId, "SnapshotDirector-" + logStream.getPartitionId());
   }
 
@@ -69,9 +99,7 @@ public final class AsyncSnapshotDirector extends Actor {
   @Override
   protected void onActorStarting() {
     actor.setSchedulingHints(SchedulingHints.ioBound());
-    final var firstSnapshotTime =
-        RandomDuration.getRandomDurationMinuteBased(MINIMUM_SNAPSHOT_PERIOD, snapshotRate);
-    actor.runDelayed(firstSnapshotTime, this::scheduleSnapshotOnRate);
+    actor.runDelayed(firstSnapshotDelay, this::scheduleSnapshotOnRate);
 
     lastWrittenEventPosition = null;
     commitCondition = actor.onCondition(getConditionNameForPosition(), this::onCommitCheck);
@@ -83,6 +111,11 @@ public final class AsyncSnapshotDirector extends Actor {
     logStream.removeOnCommitPositionUpdatedCondition(commitCondition);
   }
 
+  @Override
+  protected void onActorClosing() {
+    releasePermit();
+  }
+
   @Override
   public ActorFuture<Void> closeAsync() {
     if (actor.isClosed()) {
@@ -97,6 +130,38 @@ public final class AsyncSnapshotDirector extends Actor {
     prepareTakingSnapshot();
   }
 
+  /**
+   * Returns the delay of the first snapshot of the given partition, such that the snapshots of the
+   * partitions of a broker are spread evenly over the snapshot period instead of being taken at the
+   * same time.
+   */
+  public static Duration getStaggeredSnapshotDelay(
+      final int partitionId, final int partitionsCount, final Duration snapshotRate) {
+    final var slot = Math.floorMod(partitionId - 1, Math.max(partitionsCount, 1));
+    final var offset = snapshotRate.multipliedBy(slot).dividedBy(Math.max(partitionsCount, 1));
+    return MINIMUM_SNAPSHOT_PERIOD.plus(offset);
+  }
+
+  private void acquirePermit(final Runnable onAcquired) {
+    final var permit = snapshotPermits.acquire();
+    snapshotPermit = permit;
+    actor.runOnCompletion(
+        permit,
+        (ignored, error) -> {
+          // the permit was released in between, e.g. because the director is closing
+          if (snapshotPermit == permit) {
+            onAcquired.run();
+          }
+        });
+  }
+
+  private void releasePermit() {
+    if (snapshotPermit != null) {
+      snapshotPermits.release(snapshotPermit);
+      snapshotPermit = null;
+    }
+  }
+
   private String getConditionNameForPosition() {
     return getName() + "-wait-for-endPosition-committed";
   }
@@ -107,6 +172,10 @@ public final class AsyncSnapshotDirector extends Actor {
     }
 
     takingSnapshot = true;
+    acquirePermit(this::resolveLastProcessedPosition);
+  }
+
+  private void resolveLastProcessedPosition() {
     final var futureLastProcessedPosition = streamProcessor.getLastProcessedPositionAsync();
     actor.runOnCompletion(
         futureLastProcessedPosition,
@@ -115,6 +184,7 @@ public final class AsyncSnapshotDirector extends Actor {
             if (lastProcessedPosition == StreamProcessor.UNSET_POSITION) {
               LOG.debug(
                   "We will skip taking this snapshot, because we haven't processed something yet.");
+              releasePermit();
               takingSnapshot = false;
               return;
             }
@@ -123,6 +193,7 @@ public final class AsyncSnapshotDirector extends Actor {
             takeSnapshot();
           } else {
             LOG.error(ERROR_MSG_ON_RESOLVE_PROCESSED_POS, error);
+            releasePermit();
             takingSnapshot = false;
           }
         });
@@ -138,6 +209,7 @@ public final class AsyncSnapshotDirector extends Actor {
               if (errorOnRetrievingCommitPosition == null) {
                 final var optionalPendingSnapshot =
                     stateController.takeTransientSnapshot(tempSnapshotPosition);
+                releasePermit();
                 if (optionalPendingSnapshot.isEmpty()) {
                   takingSnapshot = false;
                   return;
@@ -163,6 +235,7 @@ public final class AsyncSnapshotDirector extends Actor {
                       }
                     });
               } else {
+                releasePermit();
                 takingSnapshot = false;
                 LOG.error(
                     "Unexpected error on retrieving commit position",
@@ -179,23 +252,46 @@ public final class AsyncSnapshotDirector extends Actor {
               if (pendingSnapshot != null
                   && lastWrittenEventPosition != null
                   && currentCommitPosition >= lastWrittenEventPosition) {
-
-                try {
-                  final var snapshot = pendingSnapshot.persist();
-
-                  LOG.info(
-                      "Current commit position {} is greater than {}, snapshot {} is valid and has been persisted.",
-                      currentCommitPosition,
-                      lastWrittenEventPosition,
-                      snapshot.getId());
-                } catch (final Exception ex) {
-                  LOG.error(ERROR_MSG_MOVE_SNAPSHOT, ex);
-                } finally {
-                  lastWrittenEventPosition = null;
-                  takingSnapshot = false;
-                  pendingSnapshot = null;
-                }
+                final var snapshotPosition = lastWrittenEventPosition;
+                // the snapshot is persisted once, even if the commit position is updated again
+                // while we wait for the permit
+                lastWrittenEventPosition = null;
+                acquirePermit(() -> computeChecksum(currentCommitPosition, snapshotPosition));
               }
             });
   }
+
+  private void computeChecksum(final long commitPosition, final long snapshotPosition) {
+    // the checksum is computed off the actor thread, since reading the snapshot files is slow
+    actor.runOnCompletion(
+        pendingSnapshot.computeChecksum(),
+        (ignored, error) -> {
+          if (error != null) {
+            LOG.warn(
+                "Failed to compute the checksum of snapshot {}, it is computed when it is replicated",
+                pendingSnapshot,
+                error);
+          }
+
+          persistSnapshot(commitPosition, snapshotPosition);
+        });
+  }
+
+  private void persistSnapshot(final long commitPosition, final long snapshotPosition) {
+    try {
+      final var snapshot = pendingSnapshot.persist();
+
+      LOG.info(
+          "Current commit position {} is greater than {}, snapshot {} is valid and has been persisted.",
+          commitPosition,
+          snapshotPosition,
+          snapshot.getId());
+    } catch (final Exception ex) {
+      LOG.error(ERROR_MSG_MOVE_SNAPSHOT, ex);
+    } finally {
+      releasePermit();
+      takingSnapshot = false;
+      pendingSnapshot = null;
+    }
+  }
 }
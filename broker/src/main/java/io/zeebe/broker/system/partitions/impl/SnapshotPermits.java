@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions.impl;
+
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Limits the number of partitions which take a snapshot at the same time. The permits are shared by
+ * the snapshot directors of all partitions of the broker; a director which can't get a permit waits
+ * for the returned future instead of blocking its actor. The waiting directors get the permits in
+ * the order of their requests.
+ */
+public final class SnapshotPermits {
+
+  private static final SnapshotPermits UNLIMITED = new SnapshotPermits(0);
+
+  private final boolean limited;
+  private final Deque<CompletableActorFuture<Void>> waiting = new ArrayDeque<>();
+  private int available;
+
+  /**
+   * @param maxConcurrentSnapshots the maximum number of snapshots which are taken at the same time,
+   *     or a non-positive value for no limit
+   */
+  public SnapshotPermits(final int maxConcurrentSnapshots) {
+    limited = maxConcurrentSnapshots > 0;
+    available = maxConcurrentSnapshots;
+  }
+
+  public static SnapshotPermits unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * Requests a permit. The returned future is completed when the permit is granted, and must be
+   * passed to {@link #release(ActorFuture)} afterwards, also if it isn't completed yet.
+   */
+  public ActorFuture<Void> acquire() {
+    if (!limited) {
+      return CompletableActorFuture.completed(null);
+    }
+
+    synchronized (this) {
+      if (available > 0) {
+        available -= 1;
+        return CompletableActorFuture.completed(null);
+      }
+
+      final var permit = new CompletableActorFuture<Void>();
+      waiting.add(permit);
+      return permit;
+    }
+  }
+
+  /**
+   * Returns the given permit. If it wasn't granted yet, the request is cancelled; otherwise the
+   * permit is passed to the next waiting request, if any.
+   */
+  public void release(final ActorFuture<Void> permit) {
+    if (!limited) {
+      return;
+    }
+
+    final CompletableActorFuture<Void> next;
+    synchronized (this) {
+      if (waiting.remove(permit)) {
+        return;
+      }
+
+      next = waiting.poll();
+      if (next == null) {
+        available += 1;
+        return;
+      }
+    }
+
+    next.complete(null);
+  }
+
+  synchronized int getAvailablePermits() {
+    return available;
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.broker.system.configuration.JobNotificationCfg;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class LongPollingJobNotificationTest {
+
+  private static final Duration COALESCING_WINDOW = Duration.ofMillis(10);
+  private static final Duration INTEREST_TIMEOUT = Duration.ofSeconds(30);
+  private static final MemberId GATEWAY = MemberId.from("gateway");
+  private static final MemberId OTHER_GATEWAY = MemberId.from("other-gateway");
+
+  @Rule
+  public final ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  private final ClusterEventService eventService = mock(ClusterEventService.class);
+  private final ClusterCommunicationService communicationService =
+      mock(ClusterCommunicationService.class);
+  private final AtomicLong currentTime = new AtomicLong();
+  private JobAvailableInterests interests;
+
+  @Before
+  public void setUp() {
+    when(eventService.getSubscribers(anyString())).thenReturn(Set.of(GATEWAY, OTHER_GATEWAY));
+    interests = new JobAvailableInterests(communicationService, INTEREST_TIMEOUT, currentTime::get);
+  }
+
+  @Test
+  public void shouldBroadcastNotificationsByDefault() {
+    // given
+    final NotificationActor notificationActor = startNotificationActor(false);
+
+    // when
+    notificationActor.jobsAvailable("foo");
+    notificationActor.jobsAvailable("foo");
+    schedulerRule.workUntilDone();
+
+    // then
+    verify(eventService, times(2)).broadcast("jobsAvailable", "foo");
+    verify(communicationService, never()).unicast(anyString(), any(), any(MemberId.class));
+  }
+
+  @Test
+  public void shouldCoalesceNotificationsWithinWindow() {
+    // given
+    interests.register(GATEWAY, "foo");
+    final NotificationActor notificationActor = startNotificationActor(true);
+
+    // when
+    notificationActor.jobsAvailable("foo");
+    notificationActor.jobsAvailable("foo");
+    notificationActor.jobsAvailable("foo");
+    schedulerRule.workUntilDone();
+    verify(communicationService, never()).unicast(anyString(), any(), any(MemberId.class));
+
+    schedulerRule.getClock().addTime(COALESCING_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // then
+    verify(communicationService, times(1)).unicast("jobsAvailable", "foo", GATEWAY);
+    verify(eventService, never()).broadcast(anyString(), any());
+  }
+
+  @Test
+  public void shouldNotifyOnlyInterestedGateways() {
+    // given
+    interests.register(GATEWAY, "foo");
+    interests.register(OTHER_GATEWAY, "bar");
+    final NotificationActor notificationActor = startNotificationActor(true);
+
+    // when
+    notificationActor.jobsAvailable("foo");
+    notificationActor.jobsAvailable("baz");
+    schedulerRule.workUntilDone();
+    schedulerRule.getClock().addTime(COALESCING_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // then
+    verify(communicationService, times(1)).unicast("jobsAvailable", "foo", GATEWAY);
+    verify(communicationService, never()).unicast(anyString(), any(), eq(OTHER_GATEWAY));
+    verify(communicationService, never()).unicast(anyString(), eq("baz"), any(MemberId.class));
+  }
+
+  @Test
+  public void shouldNotifyAgainAfterWindow() {
+    // given
+    interests.register(GATEWAY, "foo");
+    final NotificationActor notificationActor = startNotificationActor(true);
+    notificationActor.jobsAvailable("foo");
+    schedulerRule.workUntilDone();
+    schedulerRule.getClock().addTime(COALESCING_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // when
+    notificationActor.jobsAvailable("foo");
+    schedulerRule.workUntilDone();
+    schedulerRule.getClock().addTime(COALESCING_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // then
+    verify(communicationService, times(2)).unicast("jobsAvailable", "foo", GATEWAY);
+  }
+
+  @Test
+  public void shouldExpireInterestWhichIsNotRefreshed() {
+    // given
+    interests.register(GATEWAY, "foo");
+    interests.register(OTHER_GATEWAY, "foo");
+
+    // when
+    currentTime.addAndGet(INTEREST_TIMEOUT.toMillis() / 2);
+    interests.register(OTHER_GATEWAY, "foo");
+    currentTime.addAndGet(INTEREST_TIMEOUT.toMillis() / 2 + 1);
+
+    // then
+    assertThat(interests.getInterestedGateways("foo")).containsExactly(OTHER_GATEWAY);
+  }
+
+  private NotificationActor startNotificationActor(final boolean targeted) {
+    final JobNotificationCfg notificationCfg = new JobNotificationCfg();
+    notificationCfg.setTargeted(targeted);
+    notificationCfg.setCoalescingWindow(COALESCING_WINDOW);
+
+    final NotificationActor notificationActor = new NotificationActor(notificationCfg);
+    schedulerRule.submitActor(notificationActor);
+    schedulerRule.workUntilDone();
+    return notificationActor;
+  }
+
+  private final class NotificationActor extends Actor {
+
+    private final JobNotificationCfg notificationCfg;
+    private LongPollingJobNotification notification;
+
+    private NotificationActor(final JobNotificationCfg notificationCfg) {
+      this.notificationCfg = notificationCfg;
+    }
+
+    @Override
+    protected void onActorStarted() {
+      notification =
+          new LongPollingJobNotification(
+              eventService, communicationService, interests, actor, notificationCfg, 1);
+    }
+
+    private void jobsAvailable(final String jobType) {
+      actor.run(() -> notification.onJobsAvailable(jobType));
+    }
+  }
+}
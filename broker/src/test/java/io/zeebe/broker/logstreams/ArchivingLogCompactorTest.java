@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.logstreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.dispatcher.impl.log.DataFrameDescriptor;
+import io.zeebe.logstreams.impl.log.LogEntryDescriptor;
+import io.zeebe.logstreams.impl.log.LogStreamReaderImpl;
+import io.zeebe.logstreams.storage.archive.LogArchive;
+import io.zeebe.logstreams.util.AtomixLogStorageRule;
+import io.zeebe.protocol.Protocol;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public final class ArchivingLogCompactorTest {
+
+  private final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private final AtomixLogStorageRule logStorageRule = new AtomixLogStorageRule(temporaryFolder);
+
+  @Rule public final RuleChain chain = RuleChain.outerRule(temporaryFolder).around(logStorageRule);
+
+  private final List<Long> compactionBounds = new ArrayList<>();
+  private LogArchive archive;
+
+  @Before
+  public void setUp() throws IOException {
+    archive = new LogArchive(temporaryFolder.newFolder("archive").toPath());
+    archive.open();
+  }
+
+  @After
+  public void tearDown() {
+    archive.close();
+  }
+
+  @Test
+  public void shouldArchiveEntriesBeforeCompactionBound() {
+    // given
+    final var compactor = newCompactor(1024);
+    appendEntries(1, 2);
+    appendEntries(3, 4);
+    final long bound = appendEntries(5, 6);
+
+    // when
+    compactor.compactLog(bound).join();
+
+    // then
+    assertThat(compactionBounds).containsExactly(bound);
+    assertThat(archive.getLastPosition()).isEqualTo(4);
+    assertThat(readArchivedPositions()).containsExactly(1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldContinueAfterLastArchivedPosition() {
+    // given
+    final var compactor = newCompactor(1024);
+    appendEntries(1, 2);
+    final long firstBound = appendEntries(3, 4);
+    final long secondBound = appendEntries(5, 6);
+    appendEntries(7, 8);
+
+    // when
+    compactor.compactLog(firstBound).join();
+    compactor.compactLog(secondBound).join();
+    compactor.compactLog(secondBound).join();
+
+    // then
+    assertThat(readArchivedPositions()).containsExactly(1L, 2L, 3L, 4L);
+    assertThat(compactionBounds).containsExactly(firstBound, secondBound, secondBound);
+  }
+
+  @Test
+  public void shouldSplitArchivedEntriesIntoChunks() {
+    // given
+    final var compactor = newCompactor(1);
+    appendEntries(1, 3);
+    final long bound = appendEntries(4, 4);
+
+    // when
+    compactor.compactLog(bound).join();
+
+    // then
+    final var reader = archive.newReader();
+    assertThat(reader.lookUpApproximateAddress(1)).isEqualTo(0);
+    assertThat(reader.lookUpApproximateAddress(3)).isEqualTo(2);
+    assertThat(readArchivedPositions()).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldNotCompactIfEntriesCannotBeArchived() {
+    // given
+    final var compactor = newCompactor(1024);
+    appendEntries(1, 2);
+    final long bound = appendEntries(3, 4);
+    archive.close();
+
+    // when
+    final var result = compactor.compactLog(bound);
+
+    // then
+    assertThat(result).isCompletedExceptionally();
+    assertThat(compactionBounds).isEmpty();
+  }
+
+  private ArchivingLogCompactor newCompactor(final int chunkSize) {
+    return new ArchivingLogCompactor(
+        logStorageRule.get(),
+        archive,
+        bound -> {
+          compactionBounds.add(bound);
+          return CompletableFuture.completedFuture(null);
+        },
+        chunkSize);
+  }
+
+  private List<Long> readArchivedPositions() {
+    final List<Long> positions = new ArrayList<>();
+    final var reader = new LogStreamReaderImpl(archive);
+    reader.seekToFirstEvent();
+    while (reader.hasNext()) {
+      positions.add(reader.next().getPosition());
+    }
+
+    reader.close();
+    return positions;
+  }
+
+  /** @return the index of the appended entry */
+  private long appendEntries(final long lowestPosition, final long highestPosition) {
+    final var buffer =
+        new UnsafeBuffer(new byte[(int) (highestPosition - lowestPosition + 1) * 64]);
+    int offset = 0;
+
+    for (long position = lowestPosition; position <= highestPosition; position++) {
+      final int messageLength = LogEntryDescriptor.headerLength(0) + Long.BYTES;
+      final int messageOffset = DataFrameDescriptor.messageOffset(offset);
+
+      buffer.putInt(
+          DataFrameDescriptor.lengthOffset(offset),
+          DataFrameDescriptor.framedLength(messageLength),
+          Protocol.ENDIANNESS);
+      LogEntryDescriptor.setPosition(buffer, messageOffset, position);
+      buffer.putLong(LogEntryDescriptor.valueOffset(messageOffset, 0), position);
+
+      offset += DataFrameDescriptor.alignedFramedLength(messageLength);
+    }
+
+    final var data = ByteBuffer.allocate(offset);
+    buffer.getBytes(0, data, offset);
+    return logStorageRule.appendEntry(lowestPosition, highestPosition, data.flip()).index();
+  }
+}
@@ -8,11 +8,14 @@
 package io.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.atomix.storage.StorageLevel;
+import io.zeebe.logstreams.storage.atomix.EntryCompression;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public class DataCfgTest {
 
@@ -84,4 +87,76 @@ public class DataCfgTest {
     assertThat(dataCfg.getDiskUsageCommandWatermark()).isEqualTo(1.0);
     assertThat(dataCfg.getDiskUsageReplicationWatermark()).isEqualTo(1.0);
   }
+
+  @Test
+  public void shouldEnableLogEntryCacheByDefault() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.init(new BrokerCfg(), "/base");
+
+    // then
+    assertThat(dataCfg.getLogEntryCacheSize()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  public void shouldRejectLogEntryCacheSizeLargerThan2GB() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+    dataCfg.setLogEntryCacheSize(DataSize.ofGigabytes(2));
+
+    // when - then
+    assertThatThrownBy(() -> dataCfg.init(new BrokerCfg(), "/base"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("logEntryCacheSize");
+  }
+
+  @Test
+  public void shouldDisableLogSegmentPreallocationByDefault() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.init(new BrokerCfg(), "/base");
+
+    // then
+    assertThat(dataCfg.getPreallocatedLogSegments()).isZero();
+  }
+
+  @Test
+  public void shouldRejectNegativePreallocatedLogSegments() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+    dataCfg.setPreallocatedLogSegments(-1);
+
+    // when - then
+    assertThatThrownBy(() -> dataCfg.init(new BrokerCfg(), "/base"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("preallocatedLogSegments");
+  }
+
+  @Test
+  public void shouldDisableLogCompressionByDefault() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.init(new BrokerCfg(), "/base");
+
+    // then
+    assertThat(dataCfg.getLogCompression()).isEqualTo(EntryCompression.NONE);
+  }
+
+  @Test
+  public void shouldSetLogCompressionIgnoringCase() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.setLogCompression("deflate_dictionary");
+
+    // then
+    assertThat(dataCfg.getLogCompression()).isEqualTo(EntryCompression.DEFLATE_DICTIONARY);
+  }
 }
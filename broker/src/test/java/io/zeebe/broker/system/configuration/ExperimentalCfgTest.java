@@ -0,0 +1,311 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.springframework.util.unit.DataSize;
+
+public final class ExperimentalCfgTest {
+
+  public final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  public void shouldSetSubscriptionBatchingConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final SubscriptionBatchingCfg subscriptionBatching =
+        cfg.getExperimental().getSubscriptionBatching();
+
+    // then
+    assertThat(subscriptionBatching.isEnabled()).isTrue();
+    assertThat(subscriptionBatching.getFlushInterval()).isEqualTo(Duration.ofMillis(10));
+    assertThat(subscriptionBatching.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(64));
+  }
+
+  @Test
+  public void shouldDisableSubscriptionBatchingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final SubscriptionBatchingCfg subscriptionBatching =
+        cfg.getExperimental().getSubscriptionBatching();
+
+    // then
+    assertThat(subscriptionBatching.isEnabled()).isFalse();
+    assertThat(subscriptionBatching.getFlushInterval()).isEqualTo(Duration.ofMillis(5));
+    assertThat(subscriptionBatching.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(32));
+  }
+
+  @Test
+  public void shouldSetSubscriptionBatchingConfigFromEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.subscriptionBatching.enabled", "true");
+    environment.put("zeebe.broker.experimental.subscriptionBatching.flushInterval", "1ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final SubscriptionBatchingCfg subscriptionBatching =
+        cfg.getExperimental().getSubscriptionBatching();
+
+    // then
+    assertThat(subscriptionBatching.isEnabled()).isTrue();
+    assertThat(subscriptionBatching.getFlushInterval()).isEqualTo(Duration.ofMillis(1));
+  }
+
+  @Test
+  public void shouldSetFlushConsolidationConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final FlushConsolidationCfg flushConsolidation = cfg.getExperimental().getFlushConsolidation();
+
+    // then
+    assertThat(flushConsolidation.isEnabled()).isTrue();
+    assertThat(flushConsolidation.getMaxConsolidatedFlushes()).isEqualTo(64);
+  }
+
+  @Test
+  public void shouldDisableFlushConsolidationByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final FlushConsolidationCfg flushConsolidation = cfg.getExperimental().getFlushConsolidation();
+
+    // then
+    assertThat(flushConsolidation.isEnabled()).isFalse();
+    assertThat(flushConsolidation.getMaxConsolidatedFlushes()).isEqualTo(256);
+  }
+
+  @Test
+  public void shouldSetDeploymentDistributionConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final DeploymentDistributionCfg deploymentDistribution =
+        cfg.getExperimental().getDeploymentDistribution();
+
+    // then
+    assertThat(deploymentDistribution.getMaxConcurrentPushes()).isEqualTo(4);
+    assertThat(deploymentDistribution.isBatchingEnabled()).isTrue();
+    assertThat(deploymentDistribution.getMaxDeploymentsPerPush()).isEqualTo(8);
+    assertThat(deploymentDistribution.getMaxPushSize()).isEqualTo(DataSize.ofKilobytes(512));
+    assertThat(deploymentDistribution.getAcknowledgementFlushInterval())
+        .isEqualTo(Duration.ofMillis(20));
+  }
+
+  @Test
+  public void shouldUseDefaultDeploymentDistributionConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final DeploymentDistributionCfg deploymentDistribution =
+        cfg.getExperimental().getDeploymentDistribution();
+
+    // then
+    assertThat(deploymentDistribution.getMaxConcurrentPushes()).isEqualTo(16);
+    assertThat(deploymentDistribution.isBatchingEnabled()).isFalse();
+    assertThat(deploymentDistribution.getMaxDeploymentsPerPush()).isEqualTo(16);
+    assertThat(deploymentDistribution.getMaxPushSize()).isEqualTo(DataSize.ofMegabytes(1));
+    assertThat(deploymentDistribution.getAcknowledgementFlushInterval())
+        .isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  public void shouldSetGroupCommitConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final GroupCommitCfg groupCommit = cfg.getExperimental().getGroupCommit();
+
+    // then
+    assertThat(groupCommit.isEnabled()).isTrue();
+    assertThat(groupCommit.getMaxDelay()).isEqualTo(Duration.ofMillis(2));
+    assertThat(groupCommit.getMaxBytes()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  public void shouldDisableGroupCommitByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final GroupCommitCfg groupCommit = cfg.getExperimental().getGroupCommit();
+
+    // then
+    assertThat(groupCommit.isEnabled()).isFalse();
+    assertThat(groupCommit.getMaxDelay()).isEqualTo(Duration.ofMillis(1));
+    assertThat(groupCommit.getMaxBytes()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  public void shouldRejectNonPositiveGroupCommitMaxDelay() {
+    // given
+    environment.put("zeebe.broker.experimental.groupCommit.maxDelay", "0ms");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected maxDelay to be positive");
+  }
+
+  @Test
+  public void shouldSetLogArchiveConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final LogArchiveCfg logArchive = cfg.getExperimental().getLogArchive();
+
+    // then
+    assertThat(logArchive.isEnabled()).isTrue();
+    assertThat(logArchive.getChunkSize()).isEqualTo(DataSize.ofKilobytes(256));
+  }
+
+  @Test
+  public void shouldDisableLogArchiveByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final LogArchiveCfg logArchive = cfg.getExperimental().getLogArchive();
+
+    // then
+    assertThat(logArchive.isEnabled()).isFalse();
+    assertThat(logArchive.getChunkSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  public void shouldRejectNonPositiveLogArchiveChunkSize() {
+    // given
+    environment.put("zeebe.broker.experimental.logArchive.chunkSize", "0KB");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected chunkSize to be between 1 and");
+  }
+
+  @Test
+  public void shouldSetJobNotificationConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final JobNotificationCfg jobNotification = cfg.getExperimental().getJobNotification();
+
+    // then
+    assertThat(jobNotification.isTargeted()).isTrue();
+    assertThat(jobNotification.getCoalescingWindow()).isEqualTo(Duration.ofMillis(50));
+    assertThat(jobNotification.getInterestTimeout()).isEqualTo(Duration.ofMinutes(1));
+  }
+
+  @Test
+  public void shouldBroadcastJobNotificationsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final JobNotificationCfg jobNotification = cfg.getExperimental().getJobNotification();
+
+    // then
+    assertThat(jobNotification.isTargeted()).isFalse();
+    assertThat(jobNotification.getCoalescingWindow()).isEqualTo(Duration.ofMillis(10));
+    assertThat(jobNotification.getInterestTimeout()).isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  public void shouldRejectNonPositiveJobNotificationInterestTimeout() {
+    // given
+    environment.put("zeebe.broker.experimental.jobNotification.interestTimeout", "0s");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected interestTimeout to be positive");
+  }
+
+  @Test
+  public void shouldSetSnapshotConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final SnapshotCfg snapshot = cfg.getExperimental().getSnapshot();
+
+    // then
+    assertThat(snapshot.getMaxConcurrentSnapshots()).isEqualTo(2);
+    assertThat(snapshot.isStaggered()).isTrue();
+    assertThat(snapshot.getChecksumThreads()).isEqualTo(4);
+    assertThat(snapshot.getChecksumRateLimit()).isEqualTo(DataSize.ofMegabytes(32));
+  }
+
+  @Test
+  public void shouldNotLimitSnapshotsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final SnapshotCfg snapshot = cfg.getExperimental().getSnapshot();
+
+    // then
+    assertThat(snapshot.getMaxConcurrentSnapshots()).isZero();
+    assertThat(snapshot.isStaggered()).isFalse();
+    assertThat(snapshot.getChecksumThreads()).isOne();
+    assertThat(snapshot.getChecksumRateLimit()).isNull();
+  }
+
+  @Test
+  public void shouldRejectNonPositiveSnapshotChecksumThreads() {
+    // given
+    environment.put("zeebe.broker.experimental.snapshot.checksumThreads", "0");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected checksumThreads to be positive");
+  }
+
+  @Test
+  public void shouldSetActorPlacementConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final ActorPlacementCfg actorPlacement = cfg.getExperimental().getActorPlacement();
+
+    // then
+    assertThat(actorPlacement.isEnabled()).isTrue();
+    assertThat(actorPlacement.getRebalanceInterval()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(actorPlacement.getIsolationThreshold()).isEqualTo(0.5);
+  }
+
+  @Test
+  public void shouldDisableActorPlacementByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final ActorPlacementCfg actorPlacement = cfg.getExperimental().getActorPlacement();
+
+    // then
+    assertThat(actorPlacement.isEnabled()).isFalse();
+    assertThat(actorPlacement.getRebalanceInterval()).isEqualTo(Duration.ofSeconds(10));
+    assertThat(actorPlacement.getIsolationThreshold()).isEqualTo(0.8);
+  }
+
+  @Test
+  public void shouldRejectActorIsolationThresholdAboveOne() {
+    // given
+    environment.put("zeebe.broker.experimental.actorPlacement.isolationThreshold", "1.5");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected isolationThreshold to be in the range (0,1]");
+  }
+
+  @Test
+  public void shouldEnableProcessingPhaseMetrics() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isProcessingPhaseMetrics()).isTrue();
+  }
+
+  @Test
+  public void shouldDisableProcessingPhaseMetricsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isProcessingPhaseMetrics()).isFalse();
+  }
+}
@@ -9,9 +9,12 @@ package io.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.impl.rocksdb.RocksDbStatisticsLevel;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfgTest {
 
@@ -42,4 +45,89 @@ public final class RocksdbCfgTest {
     final var columnFamilyOptions = rocksdb.getColumnFamilyOptions();
     assertThat(columnFamilyOptions).containsEntry("arena_block_size", "16777216");
   }
+
+  @Test
+  public void shouldNotLimitMemoryByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getMemoryLimit()).isNull();
+    assertThat(rocksdb.getWriteBufferRatio()).isEqualTo(0.5);
+    assertThat(rocksdb.getIoRateLimit()).isNull();
+    assertThat(rocksdb.getPerColumnFamilyOptions()).isEmpty();
+  }
+
+  @Test
+  public void shouldSetMemoryLimitConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getMemoryLimit()).isEqualTo(DataSize.ofMegabytes(512));
+    assertThat(rocksdb.getWriteBufferRatio()).isEqualTo(0.25);
+    assertThat(rocksdb.getIoRateLimit()).isEqualTo(DataSize.ofMegabytes(64));
+  }
+
+  @Test
+  public void shouldSetPerColumnFamilyOptionsConfig() {
+    // given
+    environment.put(
+        "zeebe.broker.data.rocksdb.perColumnFamilyOptions.job_activatable.write.buffer.size",
+        "8388608");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var perColumnFamilyOptions = cfg.getData().getRocksdb().getPerColumnFamilyOptions();
+
+    // then
+    assertThat(perColumnFamilyOptions.get("variables"))
+        .containsEntry("write_buffer_size", "16777216");
+    assertThat(perColumnFamilyOptions.get("job_activatable"))
+        .containsEntry("write_buffer_size", "8388608");
+  }
+
+  @Test
+  public void shouldDisableStatisticsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var statistics = cfg.getData().getRocksdb().getStatistics();
+
+    // then
+    assertThat(statistics.isEnabled()).isFalse();
+    assertThat(statistics.getLevel()).isEqualTo(RocksDbStatisticsLevel.EXCEPT_DETAILED_TIMERS);
+    assertThat(statistics.getSamplingInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(statistics.getEffectiveLevel()).isNull();
+  }
+
+  @Test
+  public void shouldSetStatisticsConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var statistics = cfg.getData().getRocksdb().getStatistics();
+
+    // then
+    assertThat(statistics.isEnabled()).isTrue();
+    assertThat(statistics.getEffectiveLevel()).isEqualTo(RocksDbStatisticsLevel.ALL);
+    assertThat(statistics.getSamplingInterval()).isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  public void shouldSetStatisticsConfigFromEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.data.rocksdb.statistics.enabled", "true");
+    environment.put("zeebe.broker.data.rocksdb.statistics.level", "EXCEPT_TIME_FOR_MUTEX");
+    environment.put("zeebe.broker.data.rocksdb.statistics.samplingInterval", "1m");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var statistics = cfg.getData().getRocksdb().getStatistics();
+
+    // then
+    assertThat(statistics.getEffectiveLevel())
+        .isEqualTo(RocksDbStatisticsLevel.EXCEPT_TIME_FOR_MUTEX);
+    assertThat(statistics.getSamplingInterval()).isEqualTo(Duration.ofMinutes(1));
+  }
 }
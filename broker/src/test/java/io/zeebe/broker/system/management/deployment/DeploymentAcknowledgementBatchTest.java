@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.management.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.assertj.core.groups.Tuple;
+import org.junit.Test;
+
+public final class DeploymentAcknowledgementBatchTest {
+
+  @Test
+  public void shouldWriteAndReadAcknowledgements() {
+    // given
+    final DeploymentAcknowledgementBatch acknowledgements = new DeploymentAcknowledgementBatch();
+    acknowledgements.addAcknowledgement(2, 10L);
+    acknowledgements.addAcknowledgement(3, 11L);
+
+    // when
+    final DeploymentAcknowledgementBatch readAcknowledgements =
+        new DeploymentAcknowledgementBatch();
+    final boolean wrapped =
+        readAcknowledgements.tryWrap(new UnsafeBuffer(acknowledgements.toBytes()));
+
+    final List<Tuple> acknowledged = new ArrayList<>();
+    readAcknowledgements.forEachAcknowledgement(
+        (partitionId, key) -> acknowledged.add(tuple(partitionId, key)));
+
+    // then
+    assertThat(wrapped).isTrue();
+    assertThat(acknowledged).containsExactly(tuple(2, 10L), tuple(3, 11L));
+  }
+
+  @Test
+  public void shouldLimitNumberOfAcknowledgements() {
+    // given
+    final DeploymentAcknowledgementBatch acknowledgements = new DeploymentAcknowledgementBatch();
+    for (int i = 0; i < DeploymentAcknowledgementBatch.MAX_ACKNOWLEDGEMENT_COUNT; i++) {
+      assertThat(acknowledgements.addAcknowledgement(2, i)).isTrue();
+    }
+
+    // when
+    final boolean added = acknowledgements.addAcknowledgement(2, -1L);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(acknowledgements.isFull()).isTrue();
+  }
+}
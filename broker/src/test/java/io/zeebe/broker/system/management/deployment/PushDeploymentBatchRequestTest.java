@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.management.deployment;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.assertj.core.groups.Tuple;
+import org.junit.Test;
+
+public final class PushDeploymentBatchRequestTest {
+
+  @Test
+  public void shouldWriteAndReadDeployments() {
+    // given
+    final PushDeploymentBatchRequest request = new PushDeploymentBatchRequest().partitionId(3);
+    request.addDeployment(1L, wrapString("first"));
+    request.addDeployment(2L, wrapString("second deployment"));
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[request.getLength()]);
+    request.write(buffer, 0);
+
+    // when
+    final PushDeploymentBatchRequest readRequest = new PushDeploymentBatchRequest();
+    readRequest.wrap(buffer, 0, buffer.capacity());
+
+    final List<Tuple> deployments = new ArrayList<>();
+    readRequest.forEachDeployment(
+        (key, deployment) -> deployments.add(tuple(key, bufferAsString(deployment))));
+
+    // then
+    assertThat(readRequest.partitionId()).isEqualTo(3);
+    assertThat(deployments).containsExactly(tuple(1L, "first"), tuple(2L, "second deployment"));
+  }
+
+  @Test
+  public void shouldCopyAddedDeployment() {
+    // given
+    final UnsafeBuffer deployment = new UnsafeBuffer(wrapString("deployment"));
+    final PushDeploymentBatchRequest request = new PushDeploymentBatchRequest().partitionId(2);
+    request.addDeployment(1L, deployment);
+
+    // when
+    deployment.putBytes(0, "overwritten".getBytes(), 0, deployment.capacity());
+
+    // then
+    final PushDeploymentBatchRequest readRequest = new PushDeploymentBatchRequest();
+    readRequest.wrap(new UnsafeBuffer(request.toBytes()));
+
+    final List<String> deployments = new ArrayList<>();
+    readRequest.forEachDeployment((key, d) -> deployments.add(bufferAsString(d)));
+    assertThat(deployments).containsExactly("deployment");
+  }
+
+  @Test
+  public void shouldLimitNumberOfDeployments() {
+    // given
+    final PushDeploymentBatchRequest request = new PushDeploymentBatchRequest().partitionId(2);
+    for (int i = 0; i < PushDeploymentBatchRequest.MAX_DEPLOYMENT_COUNT; i++) {
+      assertThat(request.addDeployment(i, wrapString("deployment"))).isTrue();
+    }
+
+    // when
+    final boolean added = request.addDeployment(-1L, wrapString("deployment"));
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(request.deploymentCount())
+        .isEqualTo(PushDeploymentBatchRequest.MAX_DEPLOYMENT_COUNT);
+  }
+}
@@ -10,6 +10,8 @@ package io.zeebe.broker.system.partitions;
 import static io.zeebe.test.util.TestUtil.waitUntil;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -21,6 +23,7 @@ import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
 import io.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.zeebe.broker.system.partitions.impl.NoneSnapshotReplication;
+import io.zeebe.broker.system.partitions.impl.SnapshotPermits;
 import io.zeebe.broker.system.partitions.impl.StateControllerImpl;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
@@ -258,4 +261,59 @@ public final class AsyncSnapshotingTest {
     waitUntil(() -> snapshotController.getValidSnapshotsCount() == 1);
     assertThat(snapshotController.getValidSnapshotsCount()).isEqualTo(1);
   }
+
+  @Test
+  public void shouldWaitForSnapshotPermit() {
+    // given
+    asyncSnapshotDirector.closeAsync().join();
+    conditionList.clear();
+    when(mockStreamProcessor.getLastProcessedPositionAsync())
+        .thenReturn(CompletableActorFuture.completed(25L));
+
+    final var snapshotPermits = new SnapshotPermits(1);
+    final var otherPermit = snapshotPermits.acquire();
+    asyncSnapshotDirector =
+        new AsyncSnapshotDirector(
+            0,
+            mockStreamProcessor,
+            snapshotController,
+            logStream,
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(1),
+            snapshotPermits);
+    actorSchedulerRule.submitActor(asyncSnapshotDirector).join();
+
+    setCommitPosition(100L);
+    clock.addTime(Duration.ofMinutes(1));
+    verify(snapshotController, after(500).never()).takeTransientSnapshot(anyLong());
+
+    // when
+    snapshotPermits.release(otherPermit);
+
+    // then
+    waitUntil(() -> snapshotController.getValidSnapshotsCount() == 1);
+    assertThat(snapshotPermits.acquire().isDone()).isTrue();
+  }
+
+  @Test
+  public void shouldStaggerFirstSnapshotsOfPartitions() {
+    // given
+    final var snapshotPeriod = Duration.ofMinutes(15);
+
+    // when
+    final var delays =
+        List.of(
+            AsyncSnapshotDirector.getStaggeredSnapshotDelay(1, 3, snapshotPeriod),
+            AsyncSnapshotDirector.getStaggeredSnapshotDelay(2, 3, snapshotPeriod),
+            AsyncSnapshotDirector.getStaggeredSnapshotDelay(3, 3, snapshotPeriod),
+            AsyncSnapshotDirector.getStaggeredSnapshotDelay(4, 3, snapshotPeriod));
+
+    // then
+    assertThat(delays)
+        .containsExactly(
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(6),
+            Duration.ofMinutes(11),
+            Duration.ofMinutes(1));
+  }
 }
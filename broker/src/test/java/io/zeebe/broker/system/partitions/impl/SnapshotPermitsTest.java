@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public final class SnapshotPermitsTest {
+
+  @Test
+  public void shouldGrantPermitsUpToLimit() {
+    // given
+    final var permits = new SnapshotPermits(2);
+
+    // when
+    final var first = permits.acquire();
+    final var second = permits.acquire();
+    final var third = permits.acquire();
+
+    // then
+    assertThat(first.isDone()).isTrue();
+    assertThat(second.isDone()).isTrue();
+    assertThat(third.isDone()).isFalse();
+  }
+
+  @Test
+  public void shouldPassReleasedPermitToNextWaitingRequest() {
+    // given
+    final var permits = new SnapshotPermits(1);
+    final var first = permits.acquire();
+    final var second = permits.acquire();
+    final var third = permits.acquire();
+
+    // when
+    permits.release(first);
+
+    // then
+    assertThat(second.isDone()).isTrue();
+    assertThat(third.isDone()).isFalse();
+    assertThat(permits.getAvailablePermits()).isZero();
+  }
+
+  @Test
+  public void shouldCancelWaitingRequestOnRelease() {
+    // given
+    final var permits = new SnapshotPermits(1);
+    final var first = permits.acquire();
+    final var second = permits.acquire();
+
+    // when
+    permits.release(second);
+    permits.release(first);
+
+    // then
+    assertThat(second.isDone()).isFalse();
+    assertThat(permits.getAvailablePermits()).isOne();
+  }
+
+  @Test
+  public void shouldNotLimitUnlimitedPermits() {
+    // given
+    final var permits = SnapshotPermits.unlimited();
+
+    // when
+    final var first = permits.acquire();
+    final var second = permits.acquire();
+
+    // then
+    assertThat(first.isDone()).isTrue();
+    assertThat(second.isDone()).isTrue();
+  }
+}
@@ -98,5 +98,18 @@ public interface ActivateJobsCommandStep1 {
      *     it to the broker.
      */
     ActivateJobsCommandStep3 fetchVariables(String... fetchVariables);
+
+    /**
+     * Request the variables of the activated jobs as MessagePack instead of JSON.
+     *
+     * <p>The gateway passes the variables through without converting them to JSON, and the client
+     * decodes them only when they are accessed. This reduces the overhead for jobs with large
+     * variable documents.
+     *
+     * @param binaryVariables {@code true} to receive the variables as MessagePack
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    ActivateJobsCommandStep3 binaryVariables(boolean binaryVariables);
   }
 }
@@ -56,4 +56,25 @@ public interface CompleteJobCommandStep1 extends FinalCommandStep<CompleteJobRes
    *     to the broker.
    */
   CompleteJobCommandStep1 variables(Object variables);
+
+  /**
+   * Set the variables to complete the job with, encoded as MessagePack. The variables are passed
+   * through the gateway without converting them from JSON. If set, they take precedence over the
+   * JSON variables.
+   *
+   * @param variables the variables as MessagePack document
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CompleteJobCommandStep1 binaryVariables(byte[] variables);
+
+  /**
+   * Set the variables to complete the job with. The object is serialized to MessagePack instead of
+   * JSON - see {@link #binaryVariables(byte[])}.
+   *
+   * @param variables the variables as object
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CompleteJobCommandStep1 binaryVariables(Object variables);
 }
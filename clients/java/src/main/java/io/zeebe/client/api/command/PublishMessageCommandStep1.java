@@ -104,5 +104,26 @@ public interface PublishMessageCommandStep1 {
      *     it to the broker.
      */
     PublishMessageCommandStep3 variables(Object variables);
+
+    /**
+     * Set the variables of the message, encoded as MessagePack. The variables are passed through
+     * the gateway without converting them from JSON. If set, they take precedence over the JSON
+     * variables.
+     *
+     * @param variables the variables as MessagePack document
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessageCommandStep3 binaryVariables(byte[] variables);
+
+    /**
+     * Set the variables of the message. The object is serialized to MessagePack instead of JSON -
+     * see {@link #binaryVariables(byte[])}.
+     *
+     * @param variables the variables as object
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessageCommandStep3 binaryVariables(Object variables);
   }
 }
@@ -18,6 +18,7 @@ package io.zeebe.client.api.worker;
 import io.zeebe.client.ZeebeClientConfiguration;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 public interface JobWorkerBuilderStep1 {
   /**
@@ -176,6 +177,64 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 fetchVariables(String... fetchVariables);
 
+    /**
+     * Request the variables of the activated jobs as MessagePack instead of JSON. The variables are
+     * decoded only when they are accessed by the job handler.
+     *
+     * @param binaryVariables {@code true} to receive the variables as MessagePack
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 binaryVariables(boolean binaryVariables);
+
+    /**
+     * Size the activate jobs requests by the observed throughput and latency of the job handler,
+     * instead of filling up to the {@link #maxJobsActive(int)} jobs.
+     *
+     * <p>The worker keeps enough jobs to bridge the round-trip time of an activation, plus some
+     * headroom. This avoids that jobs wait in the worker while their timeout runs down, but the
+     * worker never holds more than {@link #maxJobsActive(int)} jobs.
+     *
+     * @param adaptiveActivation {@code true} to size the requests adaptively
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 adaptiveActivation(boolean adaptiveActivation);
+
+    /**
+     * Set the maximum number of activate jobs requests which the worker sends at the same time. The
+     * jobs which the worker can take are split between the requests. More than one request can help
+     * to keep the handler busy when the round-trip time of an activation is high.
+     *
+     * <p>If no maximum is set then the worker sends one request at a time.
+     *
+     * @param maxActivationStreams the maximum number of concurrent activate jobs requests
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 maxActivationStreams(int maxActivationStreams);
+
+    /**
+     * Set the executor which runs the job handler. The executor is not shut down by the client.
+     *
+     * <p>This can be used to run the handler on a dedicated thread pool, or on virtual threads
+     * (e.g. {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21 or newer) if the handler
+     * blocks most of the time.
+     *
+     * <p>If no executor is set then the handler runs on the job worker threads of the client - see
+     * {@link io.zeebe.client.ZeebeClientBuilder#numJobWorkerExecutionThreads(int)}.
+     *
+     * @param handlerExecutor the executor for the job handler
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 handlerExecutor(Executor handlerExecutor);
+
+    /**
+     * Set the metrics which receive the queue depth, the handler latency and the round-trip time of
+     * the activations of this worker.
+     *
+     * @param metrics the metrics of the worker
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 metrics(JobWorkerMetrics metrics);
+
     /**
      * Open the worker and start to work on available tasks.
      *
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.worker;
+
+/**
+ * Receives the measurements of a job worker, e.g. to record them in a metrics registry. The
+ * callbacks are invoked from the threads of the worker and the job handler, so the implementation
+ * must be thread-safe and should not block.
+ */
+public interface JobWorkerMetrics {
+
+  /** @return metrics which ignore all measurements */
+  static JobWorkerMetrics noop() {
+    return new JobWorkerMetrics() {};
+  }
+
+  /**
+   * Invoked when an activate jobs request of the worker is completed.
+   *
+   * @param activatedJobs the number of jobs which were activated by the request
+   * @param roundTripNanos the time in nanoseconds between sending the request and its completion
+   */
+  default void activationCompleted(final int activatedJobs, final long roundTripNanos) {}
+
+  /**
+   * Invoked when the job handler returned (or threw an exception) for a job.
+   *
+   * @param handlerLatencyNanos the time in nanoseconds the handler took for the job
+   */
+  default void jobHandled(final long handlerLatencyNanos) {}
+
+  /**
+   * Invoked when the number of activated jobs which wait for the job handler changed.
+   *
+   * @param queuedJobs the number of activated jobs which are not yet passed to the handler
+   */
+  default void queueDepthChanged(final int queuedJobs) {}
+}
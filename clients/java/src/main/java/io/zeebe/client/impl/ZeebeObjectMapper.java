@@ -23,6 +23,7 @@ import io.zeebe.client.api.command.InternalClientException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class ZeebeObjectMapper extends ObjectMapper {
 
@@ -32,6 +33,10 @@ public final class ZeebeObjectMapper extends ObjectMapper {
   private static final TypeReference<Map<String, String>> STRING_MAP_TYPE_REFERENCE =
       new TypeReference<Map<String, String>>() {};
 
+  private final ObjectMapper msgPackMapper =
+      new ObjectMapper(new MessagePackFactory())
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
   public ZeebeObjectMapper() {
     configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
   }
@@ -91,4 +96,39 @@ public final class ZeebeObjectMapper extends ObjectMapper {
           String.format("Failed to validate json input stream for property '%s'", propertyName), e);
     }
   }
+
+  public <T> T fromMsgPack(final byte[] msgPack, final Class<T> typeClass) {
+    try {
+      return msgPackMapper.readValue(msgPack, typeClass);
+    } catch (final IOException e) {
+      throw new InternalClientException(
+          String.format("Failed to deserialize msgpack to class '%s'", typeClass), e);
+    }
+  }
+
+  public Map<String, Object> fromMsgPackAsMap(final byte[] msgPack) {
+    try {
+      return msgPackMapper.readValue(msgPack, MAP_TYPE_REFERENCE);
+    } catch (final IOException e) {
+      throw new InternalClientException(
+          "Failed to deserialize msgpack to 'Map<String, Object>'", e);
+    }
+  }
+
+  public byte[] toMsgPack(final Object value) {
+    try {
+      return msgPackMapper.writeValueAsBytes(value);
+    } catch (final JsonProcessingException e) {
+      throw new InternalClientException(
+          String.format("Failed to serialize object '%s' to msgpack", value), e);
+    }
+  }
+
+  public String msgPackToJson(final byte[] msgPack) {
+    try {
+      return writeValueAsString(msgPackMapper.readTree(msgPack));
+    } catch (final IOException e) {
+      throw new InternalClientException("Failed to convert msgpack to json", e);
+    }
+  }
 }
@@ -95,6 +95,12 @@ public final class ActivateJobsCommandImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public ActivateJobsCommandStep3 binaryVariables(final boolean binaryVariables) {
+    builder.setBinaryVariables(binaryVariables);
+    return this;
+  }
+
   @Override
   public FinalCommandStep<ActivateJobsResponse> requestTimeout(final Duration requestTimeout) {
     builder.setRequestTimeout(requestTimeout.toMillis());
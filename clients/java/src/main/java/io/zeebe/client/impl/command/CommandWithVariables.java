@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import java.io.InputStream;
 import java.util.Map;
@@ -47,5 +48,17 @@ public abstract class CommandWithVariables<T> {
     return setVariablesInternal(objectMapper.toJson(variables));
   }
 
+  public T binaryVariables(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    return setBinaryVariablesInternal(ByteString.copyFrom(variables));
+  }
+
+  public T binaryVariables(final Object variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    return setBinaryVariablesInternal(ByteString.copyFrom(objectMapper.toMsgPack(variables)));
+  }
+
   protected abstract T setVariablesInternal(String variables);
+
+  protected abstract T setBinaryVariablesInternal(ByteString variables);
 }
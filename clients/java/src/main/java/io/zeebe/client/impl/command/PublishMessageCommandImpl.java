@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.ZeebeClientConfiguration;
 import io.zeebe.client.api.ZeebeFuture;
@@ -109,4 +110,10 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .publishMessage(request, streamObserver);
   }
+
+  @Override
+  protected PublishMessageCommandImpl setBinaryVariablesInternal(final ByteString variables) {
+    builder.setBinaryVariables(variables);
+    return this;
+  }
 }
@@ -37,7 +37,8 @@ public final class ActivatedJobImpl implements ActivatedJob {
   private final String worker;
   private final int retries;
   private final long deadline;
-  private final String variables;
+  @JsonIgnore private final byte[] binaryVariables;
+  private String variables;
 
   public ActivatedJobImpl(
       final ZeebeObjectMapper objectMapper, final GatewayOuterClass.ActivatedJob job) {
@@ -49,7 +50,13 @@ public final class ActivatedJobImpl implements ActivatedJob {
     worker = job.getWorker();
     retries = job.getRetries();
     deadline = job.getDeadline();
-    variables = job.getVariables();
+    if (job.getBinaryVariables().isEmpty()) {
+      binaryVariables = null;
+      variables = job.getVariables();
+    } else {
+      // the variables are only converted to JSON if requested
+      binaryVariables = job.getBinaryVariables().toByteArray();
+    }
     workflowInstanceKey = job.getWorkflowInstanceKey();
     bpmnProcessId = job.getBpmnProcessId();
     workflowDefinitionVersion = job.getWorkflowDefinitionVersion();
@@ -120,16 +127,25 @@ public final class ActivatedJobImpl implements ActivatedJob {
 
   @Override
   public String getVariables() {
+    if (variables == null) {
+      variables = objectMapper.msgPackToJson(binaryVariables);
+    }
     return variables;
   }
 
   @Override
   public Map<String, Object> getVariablesAsMap() {
+    if (binaryVariables != null) {
+      return objectMapper.fromMsgPackAsMap(binaryVariables);
+    }
     return objectMapper.fromJsonAsMap(variables);
   }
 
   @Override
   public <T> T getVariablesAsType(final Class<T> variableType) {
+    if (binaryVariables != null) {
+      return objectMapper.fromMsgPack(binaryVariables, variableType);
+    }
     return objectMapper.fromJson(variables, variableType);
   }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Determines how many jobs a worker should hold and when it should activate more jobs.
+ *
+ * <p>Without adaptive activation, the worker fills up to the maximum of active jobs when it holds
+ * at most 30% of them. With adaptive activation, the target is derived from the observed handler
+ * throughput (jobs per time) and latency. By Little's law, the worker needs {@code throughput *
+ * (handler latency + activation round-trip time)} jobs to keep the handler busy, and should
+ * activate again before it holds less than {@code throughput * round-trip time} jobs.
+ */
+public final class JobActivationSizer {
+
+  private static final float FIXED_THRESHOLD_FACTOR = 0.3f;
+  private static final double HEADROOM = 1.5;
+  private static final double SMOOTHING = 0.2;
+  private static final long THROUGHPUT_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final int maxJobsActive;
+  private final boolean adaptive;
+
+  private double handlerLatencyNanos = Double.NaN;
+  private double activationRoundTripNanos = Double.NaN;
+  private double jobsPerNano = Double.NaN;
+
+  private boolean windowStarted;
+  private long windowStartNanos;
+  private int windowHandledJobs;
+
+  private int targetJobsActive;
+  private int activationThreshold;
+
+  public JobActivationSizer(final int maxJobsActive, final boolean adaptive) {
+    this.maxJobsActive = maxJobsActive;
+    this.adaptive = adaptive;
+
+    targetJobsActive = maxJobsActive;
+    activationThreshold = Math.round(maxJobsActive * FIXED_THRESHOLD_FACTOR);
+  }
+
+  /**
+   * @param latencyNanos the time the handler took for the job
+   * @param nowNanos the current time
+   * @param saturated {@code true} if jobs were waiting for the handler, i.e. the throughput is
+   *     limited by the handler and not by the available jobs
+   */
+  public synchronized void onJobHandled(
+      final long latencyNanos, final long nowNanos, final boolean saturated) {
+    if (!adaptive) {
+      return;
+    }
+
+    handlerLatencyNanos = smooth(handlerLatencyNanos, latencyNanos);
+
+    if (!windowStarted) {
+      windowStarted = true;
+      windowStartNanos = nowNanos;
+    }
+    windowHandledJobs += 1;
+
+    final long elapsedNanos = nowNanos - windowStartNanos;
+    if (elapsedNanos >= THROUGHPUT_WINDOW_NANOS) {
+      final double sample = (double) windowHandledJobs / elapsedNanos;
+      // if the handler was idle then the sample shows the rate of the available jobs, which must
+      // not lower the estimated capacity of the handler
+      if (saturated || Double.isNaN(jobsPerNano) || sample > jobsPerNano) {
+        jobsPerNano = smooth(jobsPerNano, sample);
+      }
+
+      windowStartNanos = nowNanos;
+      windowHandledJobs = 0;
+      updateTarget();
+    }
+  }
+
+  /** @param roundTripNanos the time between sending an activate jobs request and its completion */
+  public synchronized void onActivationCompleted(final long roundTripNanos) {
+    if (!adaptive) {
+      return;
+    }
+
+    activationRoundTripNanos = smooth(activationRoundTripNanos, roundTripNanos);
+    updateTarget();
+  }
+
+  /** @return the number of jobs the worker should hold, at most the maximum of active jobs */
+  public synchronized int getTargetJobsActive() {
+    return targetJobsActive;
+  }
+
+  /** @return the number of jobs the worker holds at most when it should activate more jobs */
+  public synchronized int getActivationThreshold() {
+    return activationThreshold;
+  }
+
+  private void updateTarget() {
+    if (Double.isNaN(jobsPerNano)
+        || Double.isNaN(handlerLatencyNanos)
+        || Double.isNaN(activationRoundTripNanos)) {
+      return;
+    }
+
+    final double jobsInFlight =
+        jobsPerNano * (handlerLatencyNanos + activationRoundTripNanos) * HEADROOM;
+    targetJobsActive = clamp((int) Math.ceil(jobsInFlight), 1, maxJobsActive);
+
+    final double jobsDuringActivation = jobsPerNano * activationRoundTripNanos * HEADROOM;
+    activationThreshold =
+        clamp(
+            Math.max(
+                (int) Math.ceil(jobsDuringActivation),
+                Math.round(targetJobsActive * FIXED_THRESHOLD_FACTOR)),
+            0,
+            targetJobsActive);
+  }
+
+  private static double smooth(final double average, final double sample) {
+    return Double.isNaN(average) ? sample : average + SMOOTHING * (sample - average);
+  }
+
+  private static int clamp(final int value, final int min, final int max) {
+    return Math.max(min, Math.min(max, value));
+  }
+}
@@ -26,14 +26,17 @@ import io.zeebe.client.api.worker.JobWorker;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest.Builder;
 import java.io.Closeable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
@@ -56,6 +59,11 @@ public final class JobWorkerBuilderImpl
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
+  private boolean binaryVariables;
+  private boolean adaptiveActivation;
+  private int maxActivationStreams = 1;
+  private Executor handlerExecutor;
+  private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -136,6 +144,36 @@ public final class JobWorkerBuilderImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public JobWorkerBuilderStep3 binaryVariables(final boolean binaryVariables) {
+    this.binaryVariables = binaryVariables;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 adaptiveActivation(final boolean adaptiveActivation) {
+    this.adaptiveActivation = adaptiveActivation;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 maxActivationStreams(final int maxActivationStreams) {
+    this.maxActivationStreams = maxActivationStreams;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 handlerExecutor(final Executor handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -143,6 +181,8 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("timeout", timeout, 0L);
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
+    ensureGreaterThan("maxActivationStreams", maxActivationStreams, 0);
+    ensureNotNull("metrics", metrics);
 
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
@@ -150,7 +190,8 @@ public final class JobWorkerBuilderImpl
             .setTimeout(timeout)
             .setWorker(workerName)
             .setMaxJobsToActivate(maxJobsActive)
-            .setRequestTimeout(requestTimeout.toMillis());
+            .setRequestTimeout(requestTimeout.toMillis())
+            .setBinaryVariables(binaryVariables);
 
     if (fetchVariables != null) {
       requestBuilder.addAllFetchVariable(fetchVariables);
@@ -159,12 +200,24 @@ public final class JobWorkerBuilderImpl
     final Duration deadline = requestTimeout.plus(DEADLINE_OFFSET);
 
     final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
-    final JobPoller jobPoller =
-        new JobPoller(gatewayStub, requestBuilder, objectMapper, deadline, retryPredicate);
+    // each poller modifies its request, so they can't share the builder
+    final int activationStreams = Math.min(maxActivationStreams, maxJobsActive);
+    final List<JobPoller> jobPollers = new ArrayList<>(activationStreams);
+    for (int i = 0; i < activationStreams; i++) {
+      jobPollers.add(
+          new JobPoller(
+              gatewayStub, requestBuilder.clone(), objectMapper, deadline, retryPredicate));
+    }
 
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
-            maxJobsActive, executorService, pollInterval, jobRunnableFactory, jobPoller);
+            executorService,
+            handlerExecutor != null ? handlerExecutor : executorService,
+            pollInterval,
+            jobRunnableFactory,
+            jobPollers,
+            new JobActivationSizer(maxJobsActive, adaptiveActivation),
+            metrics);
     closeables.add(jobWorker);
     return jobWorker;
   }
@@ -17,49 +17,67 @@ package io.zeebe.client.impl.worker;
 
 import io.zeebe.client.api.response.ActivatedJob;
 import io.zeebe.client.api.worker.JobWorker;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
 import io.zeebe.client.impl.Loggers;
 import java.io.Closeable;
 import java.time.Duration;
-import java.util.concurrent.ExecutorService;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 
+/**
+ * Activates jobs with one or more {@link JobPoller}s and passes them to the handler. Each poller
+ * sends at most one activate jobs request at a time. Before a request is sent, the number of jobs
+ * it may activate is reserved, so that the concurrent requests never exceed the target of active
+ * jobs - see {@link JobActivationSizer}.
+ */
 public final class JobWorkerImpl implements JobWorker, Closeable {
 
   private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
 
   // job queue state
-  private final int maxJobsActive;
-  private final int activationThreshold;
-  private final AtomicInteger remainingJobs;
+  private final JobActivationSizer activationSizer;
+  private final int activationStreams;
+  // jobs which are passed to the handler but not yet handled
+  private final AtomicInteger remainingJobs = new AtomicInteger(0);
+  // jobs which may still be activated by the pending requests
+  private final AtomicInteger reservedJobs = new AtomicInteger(0);
+  // jobs which are passed to the handler executor but not yet started
+  private final AtomicInteger queuedJobs = new AtomicInteger(0);
 
   // job execution facilities
-  private final ExecutorService executor;
+  private final Executor handlerExecutor;
   private final JobRunnableFactory jobRunnableFactory;
+  private final JobWorkerMetrics metrics;
 
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
-  private final AtomicReference<JobPoller> jobPoller;
+  private final Queue<JobPoller> idlePollers = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingPolls = new AtomicInteger(0);
 
   public JobWorkerImpl(
-      final int maxJobsActive,
       final ScheduledExecutorService executor,
+      final Executor handlerExecutor,
       final Duration pollInterval,
       final JobRunnableFactory jobRunnableFactory,
-      final JobPoller jobPoller) {
+      final List<JobPoller> jobPollers,
+      final JobActivationSizer activationSizer,
+      final JobWorkerMetrics metrics) {
 
-    this.maxJobsActive = maxJobsActive;
-    activationThreshold = Math.round(maxJobsActive * 0.3f);
-    remainingJobs = new AtomicInteger(0);
+    this.activationSizer = activationSizer;
+    activationStreams = jobPollers.size();
 
-    this.executor = executor;
+    this.handlerExecutor = handlerExecutor;
     this.jobRunnableFactory = jobRunnableFactory;
+    this.metrics = metrics;
 
-    this.jobPoller = new AtomicReference<>(jobPoller);
+    idlePollers.addAll(jobPollers);
 
     executor.scheduleWithFixedDelay(
         this::tryActivateJobs, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
@@ -72,7 +90,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   @Override
   public boolean isClosed() {
-    return !isOpen() && jobPoller.get() != null && remainingJobs.get() <= 0;
+    return !isOpen() && pendingPolls.get() <= 0 && remainingJobs.get() <= 0;
   }
 
   @Override
@@ -81,51 +99,112 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private void tryActivateJobs() {
-    final int remainingJobs = this.remainingJobs.get();
-    if (shouldActivateJobs(remainingJobs)) {
-      activateJobs();
+    // send as many requests as the pollers and the remaining capacity allow
+    boolean activated = true;
+    while (activated && shouldActivateJobs(remainingJobs.get())) {
+      activated = activateJobs();
     }
   }
 
-  private void activateJobs() {
-    final JobPoller jobPoller = this.jobPoller.getAndSet(null);
-    if (jobPoller != null) {
-      // check the condition again within the critical section
-      // to avoid race conditions that would let us exceed the buffer size
-      final int currentRemainingJobs = remainingJobs.get();
-      if (shouldActivateJobs(currentRemainingJobs)) {
-        final int maxActivatedJobs = maxJobsActive - currentRemainingJobs;
-        try {
-          jobPoller.poll(
-              maxActivatedJobs,
-              this::submitJob,
-              activatedJobs -> {
-                remainingJobs.addAndGet(activatedJobs);
-                this.jobPoller.set(jobPoller);
-              },
-              this::isOpen);
-        } catch (final Exception e) {
-          LOG.warn("Failed to activate jobs", e);
-          this.jobPoller.set(jobPoller);
-        }
-      } else {
-        this.jobPoller.set(jobPoller);
-      }
+  /** @return {@code true} if a request was sent */
+  private boolean activateJobs() {
+    final JobPoller jobPoller = idlePollers.poll();
+    if (jobPoller == null) {
+      return false;
+    }
+
+    // check the condition again within the critical section
+    // to avoid race conditions that would let us exceed the buffer size
+    final int maxActivatedJobs = reserveJobs();
+    if (maxActivatedJobs <= 0) {
+      idlePollers.add(jobPoller);
+      return false;
+    }
+
+    pendingPolls.incrementAndGet();
+    final long startNanos = System.nanoTime();
+    try {
+      jobPoller.poll(
+          maxActivatedJobs,
+          this::submitJob,
+          activatedJobs -> pollingDone(jobPoller, maxActivatedJobs, activatedJobs, startNanos),
+          this::isOpen);
+      return true;
+    } catch (final Exception e) {
+      LOG.warn("Failed to activate jobs", e);
+      reservedJobs.addAndGet(-maxActivatedJobs);
+      pendingPolls.decrementAndGet();
+      idlePollers.add(jobPoller);
+      return false;
+    }
+  }
+
+  private synchronized int reserveJobs() {
+    final int currentRemainingJobs = remainingJobs.get();
+    if (!shouldActivateJobs(currentRemainingJobs)) {
+      return 0;
+    }
+
+    final int targetJobsActive = activationSizer.getTargetJobsActive();
+    final int capacity = targetJobsActive - currentRemainingJobs - reservedJobs.get();
+    // split the jobs between the streams, so that more than one request can be pending
+    final int jobsPerStream = (targetJobsActive + activationStreams - 1) / activationStreams;
+    final int maxActivatedJobs = Math.min(capacity, jobsPerStream);
+
+    if (maxActivatedJobs > 0) {
+      reservedJobs.addAndGet(maxActivatedJobs);
+    }
+    return maxActivatedJobs;
+  }
+
+  private void pollingDone(
+      final JobPoller jobPoller,
+      final int maxActivatedJobs,
+      final int activatedJobs,
+      final long startNanos) {
+    final long roundTripNanos = System.nanoTime() - startNanos;
+    metrics.activationCompleted(activatedJobs, roundTripNanos);
+    if (activatedJobs > 0) {
+      // without jobs, the round-trip time is the long polling timeout
+      activationSizer.onActivationCompleted(roundTripNanos);
+    }
+
+    // release the reserved jobs which were not activated
+    reservedJobs.addAndGet(activatedJobs - maxActivatedJobs);
+    idlePollers.add(jobPoller);
+    pendingPolls.decrementAndGet();
+
+    if (activatedJobs > 0) {
+      tryActivateJobs();
     }
   }
 
   private boolean shouldActivateJobs(final int remainingJobs) {
-    return acquiringJobs.get() && remainingJobs <= activationThreshold;
+    return acquiringJobs.get() && remainingJobs <= activationSizer.getActivationThreshold();
   }
 
   private void submitJob(final ActivatedJob job) {
-    executor.execute(jobRunnableFactory.create(job, this::jobHandlerFinished));
+    reservedJobs.decrementAndGet();
+    remainingJobs.incrementAndGet();
+    metrics.queueDepthChanged(queuedJobs.incrementAndGet());
+
+    handlerExecutor.execute(
+        () -> {
+          metrics.queueDepthChanged(queuedJobs.decrementAndGet());
+          final long startNanos = System.nanoTime();
+          jobRunnableFactory.create(job, () -> jobHandlerFinished(startNanos)).run();
+        });
   }
 
-  private void jobHandlerFinished() {
+  private void jobHandlerFinished(final long startNanos) {
+    final long nowNanos = System.nanoTime();
+    final long latencyNanos = nowNanos - startNanos;
+    metrics.jobHandled(latencyNanos);
+    activationSizer.onJobHandled(latencyNanos, nowNanos, queuedJobs.get() > 0);
+
     final int remainingJobs = this.remainingJobs.decrementAndGet();
     if (shouldActivateJobs(remainingJobs)) {
-      activateJobs();
+      tryActivateJobs();
     }
   }
 }
@@ -18,7 +18,9 @@ package io.zeebe.client.job;
 import static io.zeebe.client.util.JsonUtil.fromJsonAsMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
+import com.google.protobuf.ByteString;
 import io.zeebe.client.api.command.ClientException;
 import io.zeebe.client.api.response.ActivateJobsResponse;
 import io.zeebe.client.impl.ZeebeObjectMapper;
@@ -246,6 +248,44 @@ public final class ActivateJobsTest extends ClientTest {
     assertThat(variablesPojo.getA()).isEqualTo(1);
   }
 
+  @Test
+  public void shouldRequestBinaryVariables() {
+    // when
+    client
+        .newActivateJobsCommand()
+        .jobType("foo")
+        .maxJobsToActivate(3)
+        .binaryVariables(true)
+        .send()
+        .join();
+
+    // then
+    final ActivateJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getBinaryVariables()).isTrue();
+  }
+
+  @Test
+  public void shouldDecodeBinaryVariables() {
+    // given
+    final ZeebeObjectMapper objectMapper = new ZeebeObjectMapper();
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl(
+            objectMapper,
+            ActivatedJob.newBuilder()
+                .setCustomHeaders("{}")
+                .setBinaryVariables(
+                    ByteString.copyFrom(objectMapper.toMsgPack(new VariablesPojo().setA(1))))
+                .build());
+
+    // when
+    final VariablesPojo variablesPojo = activatedJob.getVariablesAsType(VariablesPojo.class);
+
+    // then
+    assertThat(variablesPojo.getA()).isEqualTo(1);
+    assertThat(activatedJob.getVariablesAsMap()).containsOnly(entry("a", 1));
+    assertThat(fromJsonAsMap(activatedJob.getVariables())).containsOnly(entry("a", 1));
+  }
+
   static class VariablesPojo {
 
     int a;
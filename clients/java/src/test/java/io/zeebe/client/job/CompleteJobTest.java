@@ -17,6 +17,7 @@ package io.zeebe.client.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.client.util.ClientTest;
 import io.zeebe.client.util.JsonUtil;
 import io.zeebe.client.util.StringUtil;
@@ -115,6 +116,27 @@ public final class CompleteJobTest extends ClientTest {
     JsonUtil.assertEquality(request.getVariables(), expectedJson);
   }
 
+  @Test
+  public void shouldCompleteWithBinaryVariables() {
+    // given
+    final long jobKey = 12;
+    final POJO pojo = new POJO();
+    pojo.setKey("val");
+
+    // when
+    client.newCompleteCommand(jobKey).binaryVariables(pojo).send().join();
+
+    // then
+    final CompleteJobRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobKey()).isEqualTo(jobKey);
+    assertThat(request.getVariables()).isEmpty();
+    assertThat(
+            new ZeebeObjectMapper()
+                .fromMsgPack(request.getBinaryVariables().toByteArray(), POJO.class)
+                .getKey())
+        .isEqualTo("val");
+  }
+
   @Test
   public void shouldSetRequestTimeout() {
     // given
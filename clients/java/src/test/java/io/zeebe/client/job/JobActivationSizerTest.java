@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.client.impl.worker.JobActivationSizer;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public final class JobActivationSizerTest {
+
+  private static final long HANDLER_LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long ROUND_TRIP_TIME = TimeUnit.MILLISECONDS.toNanos(5);
+
+  @Test
+  public void shouldFillUpToMaxJobsActiveIfNotAdaptive() {
+    // given
+    final JobActivationSizer sizer = new JobActivationSizer(100, false);
+
+    // when
+    handleJobs(sizer, 0, 1_000, true);
+    sizer.onActivationCompleted(ROUND_TRIP_TIME);
+
+    // then
+    assertThat(sizer.getTargetJobsActive()).isEqualTo(100);
+    assertThat(sizer.getActivationThreshold()).isEqualTo(30);
+  }
+
+  @Test
+  public void shouldSizeByThroughputAndLatency() {
+    // given
+    final JobActivationSizer sizer = new JobActivationSizer(100, true);
+
+    // when - one job per millisecond
+    handleJobs(sizer, 0, 1_000, true);
+    sizer.onActivationCompleted(ROUND_TRIP_TIME);
+
+    // then - 1 job/ms * (10 ms + 5 ms) * 1.5 headroom
+    assertThat(sizer.getTargetJobsActive()).isEqualTo(23);
+    // 1 job/ms * 5 ms * 1.5 headroom
+    assertThat(sizer.getActivationThreshold()).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldNotExceedMaxJobsActive() {
+    // given
+    final JobActivationSizer sizer = new JobActivationSizer(10, true);
+
+    // when
+    handleJobs(sizer, 0, 1_000, true);
+    sizer.onActivationCompleted(ROUND_TRIP_TIME);
+
+    // then
+    assertThat(sizer.getTargetJobsActive()).isEqualTo(10);
+    assertThat(sizer.getActivationThreshold()).isLessThanOrEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotShrinkIfHandlerIsIdle() {
+    // given
+    final JobActivationSizer sizer = new JobActivationSizer(100, true);
+    final long now = handleJobs(sizer, 0, 1_000, true);
+    sizer.onActivationCompleted(ROUND_TRIP_TIME);
+
+    // when - only one job per 10 milliseconds is available
+    for (int i = 1; i <= 100; i++) {
+      sizer.onJobHandled(HANDLER_LATENCY, now + TimeUnit.MILLISECONDS.toNanos(i * 10), false);
+    }
+
+    // then
+    assertThat(sizer.getTargetJobsActive()).isEqualTo(23);
+  }
+
+  private static long handleJobs(
+      final JobActivationSizer sizer, final long start, final int jobs, final boolean saturated) {
+    long now = start;
+    for (int i = 0; i < jobs; i++) {
+      now += TimeUnit.MILLISECONDS.toNanos(1);
+      sizer.onJobHandled(HANDLER_LATENCY, now, saturated);
+    }
+    return now;
+  }
+}
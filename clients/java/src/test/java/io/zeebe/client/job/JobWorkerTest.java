@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.client.api.worker.JobWorker;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public final class JobWorkerTest extends ClientTest {
+
+  private final Queue<ActivateJobsRequest> activateJobsRequests = new ConcurrentLinkedQueue<>();
+
+  @Test
+  public void shouldSplitJobsBetweenActivationStreams() throws Exception {
+    // given
+    final CountDownLatch requestsReceived = new CountDownLatch(2);
+    gatewayService.addRequestHandler(
+        ActivateJobsRequest.class,
+        request -> {
+          activateJobsRequests.add((ActivateJobsRequest) request);
+          requestsReceived.countDown();
+          return ActivateJobsResponse.getDefaultInstance();
+        });
+
+    // when
+    final JobWorker worker =
+        client
+            .newWorker()
+            .jobType("foo")
+            .handler((jobClient, job) -> {})
+            .maxJobsActive(10)
+            .maxActivationStreams(2)
+            .open();
+
+    // then
+    try {
+      assertThat(requestsReceived.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(activateJobsRequests)
+          .extracting(ActivateJobsRequest::getMaxJobsToActivate)
+          .containsOnly(5);
+    } finally {
+      worker.close();
+    }
+  }
+
+  @Test
+  public void shouldRunHandlerOnExecutorAndRecordMetrics() throws Exception {
+    // given
+    gatewayService.onActivateJobsRequest(
+        ActivatedJob.newBuilder()
+            .setKey(12)
+            .setType("foo")
+            .setCustomHeaders("{}")
+            .setVariables("{}")
+            .build());
+
+    final AtomicInteger executedJobs = new AtomicInteger();
+    final Executor handlerExecutor =
+        job -> {
+          executedJobs.incrementAndGet();
+          job.run();
+        };
+
+    final CountDownLatch jobHandled = new CountDownLatch(1);
+    final AtomicInteger activatedJobs = new AtomicInteger();
+    final JobWorkerMetrics metrics =
+        new JobWorkerMetrics() {
+          @Override
+          public void activationCompleted(final int jobs, final long roundTripNanos) {
+            activatedJobs.addAndGet(jobs);
+          }
+
+          @Override
+          public void jobHandled(final long handlerLatencyNanos) {
+            jobHandled.countDown();
+          }
+        };
+
+    // when
+    final JobWorker worker =
+        client
+            .newWorker()
+            .jobType("foo")
+            .handler((jobClient, job) -> {})
+            .maxJobsActive(1)
+            .handlerExecutor(handlerExecutor)
+            .metrics(metrics)
+            .open();
+
+    // then
+    try {
+      assertThat(jobHandled.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(executedJobs.get()).isPositive();
+      assertThat(activatedJobs.get()).isPositive();
+    } finally {
+      worker.close();
+    }
+  }
+}
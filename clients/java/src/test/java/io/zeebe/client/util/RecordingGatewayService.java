@@ -351,7 +351,7 @@ public final class RecordingGatewayService extends GatewayImplBase {
   }
 
   @FunctionalInterface
-  interface RequestHandler<
+  public interface RequestHandler<
       RequestT extends GeneratedMessageV3, ResponseT extends GeneratedMessageV3> {
     ResponseT handle(RequestT request) throws Exception;
   }
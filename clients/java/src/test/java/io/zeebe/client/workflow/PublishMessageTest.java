@@ -21,10 +21,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
 import io.zeebe.client.api.command.ClientException;
+import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.client.util.ClientTest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import java.io.ByteArrayInputStream;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -126,6 +128,28 @@ public final class PublishMessageTest extends ClientTest {
     assertThat(fromJsonAsMap(request.getVariables())).contains(entry("foo", "bar"));
   }
 
+  @Test
+  public void shouldPublishMessageWithBinaryVariables() {
+    // given
+    final ZeebeObjectMapper objectMapper = new ZeebeObjectMapper();
+    final byte[] variables = objectMapper.toMsgPack(Collections.singletonMap("foo", "bar"));
+
+    // when
+    client
+        .newPublishMessageCommand()
+        .messageName("name")
+        .correlationKey("key")
+        .binaryVariables(variables)
+        .send()
+        .join();
+
+    // then
+    final PublishMessageRequest request = gatewayService.getLastRequest();
+    assertThat(request.getBinaryVariables().toByteArray()).isEqualTo(variables);
+    assertThat(objectMapper.fromMsgPackAsMap(request.getBinaryVariables().toByteArray()))
+        .containsOnly(entry("foo", "bar"));
+  }
+
   @Test
   public void shouldRaiseExceptionOnError() {
     // given
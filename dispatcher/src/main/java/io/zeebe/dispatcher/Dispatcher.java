@@ -11,6 +11,8 @@ import static io.zeebe.dispatcher.impl.PositionUtil.partitionId;
 import static io.zeebe.dispatcher.impl.PositionUtil.partitionOffset;
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.tailFragmentCount;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.tailPartitionOffset;
 
 import io.zeebe.dispatcher.impl.log.LogBuffer;
 import io.zeebe.dispatcher.impl.log.LogBufferAppender;
@@ -20,7 +22,6 @@ import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.FutureUtil;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.Arrays;
-import java.util.function.BiFunction;
 import org.slf4j.Logger;
 
 /** Component for sending and receiving messages between different threads. */
@@ -35,7 +36,6 @@ public class Dispatcher extends Actor {
 
   private final AtomicPosition publisherLimit;
   private final AtomicPosition publisherPosition;
-  private long recordPosition;
   private final String[] defaultSubscriptionNames;
   private final int maxFragmentLength;
   private final String name;
@@ -60,7 +60,9 @@ public class Dispatcher extends Actor {
     this.logAppender = logAppender;
     this.publisherLimit = publisherLimit;
     this.publisherPosition = publisherPosition;
-    recordPosition = initialPosition;
+    logBuffer
+        .getPartition(logBuffer.getActivePartitionIdVolatile())
+        .setBasePositionOrdered(initialPosition);
     this.name = name;
 
     this.logWindowLength = logWindowLength;
@@ -140,12 +142,21 @@ public class Dispatcher extends Actor {
    */
   public long claimSingleFragment(
       final ClaimedFragment claim, final int length, final int streamId) {
-    return offer(
-        (partition, activePartitionId) ->
-            logAppender.claim(
-                partition, activePartitionId, claim, length, streamId, onClaimComplete),
-        1,
-        LogBufferAppender.claimedFragmentLength(length));
+    if (isClosed) {
+      return -1;
+    }
+
+    final int activePartitionId = logBuffer.getActivePartitionIdVolatile();
+    final LogBufferPartition partition = logBuffer.getPartition(activePartitionId);
+
+    if (!canClaim(partition, activePartitionId, LogBufferAppender.claimedFragmentLength(length))) {
+      return -1;
+    }
+
+    final long result =
+        logAppender.claim(partition, activePartitionId, claim, length, streamId, onClaimComplete);
+
+    return onClaimed(partition, activePartitionId, result, 1);
   }
 
   /**
@@ -161,66 +172,67 @@ public class Dispatcher extends Actor {
    */
   public long claimFragmentBatch(
       final ClaimedFragmentBatch batch, final int fragmentCount, final int batchLength) {
-    return offer(
-        (partition, activePartitionId) ->
-            logAppender.claim(
-                partition, activePartitionId, batch, fragmentCount, batchLength, onClaimComplete),
-        fragmentCount,
-        LogBufferAppender.claimedBatchLength(fragmentCount, batchLength));
-  }
-
-  private synchronized long offer(
-      final BiFunction<LogBufferPartition, Integer, Integer> claimer,
-      final int fragmentCount,
-      final int length) {
-    long newPosition = -1;
-
-    if (!isClosed) {
-      final long limit = publisherLimit.get();
+    if (isClosed) {
+      return -1;
+    }
 
-      final int activePartitionId = logBuffer.getActivePartitionIdVolatile();
-      final LogBufferPartition partition = logBuffer.getPartition(activePartitionId);
+    final int activePartitionId = logBuffer.getActivePartitionIdVolatile();
+    final LogBufferPartition partition = logBuffer.getPartition(activePartitionId);
 
-      final int partitionOffset = partition.getTailCounterVolatile();
-      final long position = position(activePartitionId, partitionOffset);
+    if (!canClaim(
+        partition,
+        activePartitionId,
+        LogBufferAppender.claimedBatchLength(fragmentCount, batchLength))) {
+      return -1;
+    }
 
-      if (position < limit) {
-        final int newOffset;
+    final long result =
+        logAppender.claim(
+            partition, activePartitionId, batch, fragmentCount, batchLength, onClaimComplete);
 
-        if (length < maxFragmentLength) {
-          newOffset = claimer.apply(partition, activePartitionId);
-        } else {
-          throw new IllegalArgumentException(
-              String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
-        }
+    return onClaimed(partition, activePartitionId, result, fragmentCount);
+  }
 
-        newPosition = updatePublisherPosition(activePartitionId, newOffset);
+  private boolean canClaim(
+      final LogBufferPartition partition, final int activePartitionId, final int length) {
+    final long limit = publisherLimit.get();
+    final long position = position(activePartitionId, partition.getTailCounterVolatile());
 
-        // if successful, replace internal publisher position with simple counter and return it
-        if (newPosition > 0) {
-          newPosition = recordPosition;
-          recordPosition += fragmentCount;
-        }
-        signalSubscriptions();
-      }
+    if (position >= limit) {
+      return false;
+    } else if (length >= maxFragmentLength) {
+      throw new IllegalArgumentException(
+          String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
     }
 
-    return newPosition;
+    return true;
   }
 
-  private long updatePublisherPosition(final int activePartitionId, final int newOffset) {
+  private long onClaimed(
+      final LogBufferPartition partition,
+      final int activePartitionId,
+      final long result,
+      final int fragmentCount) {
     long newPosition = -1;
 
-    if (newOffset > 0) {
-      newPosition = position(activePartitionId, newOffset);
-    } else if (newOffset == RESULT_PADDING_AT_END_OF_PARTITION) {
-      logBuffer.onActivePartitionFilled(activePartitionId);
+    if (result >= 0) {
+      final long newPublisherPosition = position(activePartitionId, tailPartitionOffset(result));
+      if (publisherPosition.proposeMaxOrdered(newPublisherPosition)) {
+        LOG.trace("Updated publisher position to {}", newPublisherPosition);
+      }
+
+      // the fragments of a partition are counted by the tail, so the position of the claim is
+      // ordered like its offset in the buffer, even if it is claimed by concurrent producers
+      newPosition = partition.getBasePositionVolatile() + tailFragmentCount(result) - fragmentCount;
+
+    } else if (result == RESULT_PADDING_AT_END_OF_PARTITION) {
+      // only one claim trips the end of a partition, so there is no concurrent activation. The
+      // producer may have read the active partition id one cycle of the partition before.
+      logBuffer.onActivePartitionFilled(logBuffer.getActivePartitionIdVolatile());
       newPosition = -2;
     }
 
-    if (publisherPosition.proposeMaxOrdered(newPosition)) {
-      LOG.trace("Updated publisher position to {}", newPosition);
-    }
+    signalSubscriptions();
 
     return newPosition;
   }
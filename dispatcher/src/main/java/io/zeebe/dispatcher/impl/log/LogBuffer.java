@@ -10,8 +10,10 @@ package io.zeebe.dispatcher.impl.log;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_ACTIVE_PARTITION_ID_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_MAX_FRAME_LENGTH_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_META_DATA_LENGTH;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_CLEAN;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_NEEDS_CLEANING;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.logMetadataOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.partitionTerm;
 
 import io.zeebe.dispatcher.Loggers;
 import io.zeebe.util.allocation.AllocatedBuffer;
@@ -40,6 +42,11 @@ public class LogBuffer {
         new UnsafeBuffer(
             rawBuffer.getRawBuffer(), logMetadataOffset(partitionSize), LOG_META_DATA_LENGTH);
 
+    // the partitions which are not active yet can't be claimed before they are activated or cleaned
+    for (int i = 1; i < partitions.length; i++) {
+      partitions[i].sealTailOrdered();
+    }
+
     metadataBuffer.putIntVolatile(LOG_ACTIVE_PARTITION_ID_OFFSET, 0);
   }
 
@@ -59,12 +66,28 @@ public class LogBuffer {
     return metadataBuffer.getInt(LOG_MAX_FRAME_LENGTH_OFFSET);
   }
 
+  /**
+   * Activates the next partition after the active one is filled. The position of the first fragment
+   * in the next partition is derived from the fragments of the filled partition, and published
+   * before the partition becomes active.
+   *
+   * <p>The tail of the next partition is only reset if the partition is clean. Otherwise, it keeps
+   * the term of its previous cycle, so all claims on the partition fail until it is cleaned (see
+   * {@link #cleanPartitions()}).
+   */
   public void onActivePartitionFilled(final int activePartitionId) {
     final int nextPartitionId = 1 + activePartitionId;
     final int nextNextPartitionId = 1 + nextPartitionId;
+    final LogBufferPartition activePartition = partitions[activePartitionId % getPartitionCount()];
+    final LogBufferPartition nextPartition = partitions[nextPartitionId % getPartitionCount()];
     final LogBufferPartition nextNextPartition =
         partitions[(nextNextPartitionId) % getPartitionCount()];
 
+    nextPartition.setBasePositionOrdered(
+        activePartition.getBasePositionVolatile() + activePartition.getFragmentCountVolatile());
+    if (nextPartition.getStatusVolatile() == PARTITION_CLEAN) {
+      nextPartition.resetTailOrdered(partitionTerm(nextPartitionId));
+    }
     nextNextPartition.setStatusOrdered(PARTITION_NEEDS_CLEANING);
     metadataBuffer.putIntOrdered(LOG_ACTIVE_PARTITION_ID_OFFSET, nextPartitionId);
 
@@ -74,14 +97,23 @@ public class LogBuffer {
         (nextPartitionId % getPartitionCount()));
   }
 
+  /**
+   * Cleans the partitions which are marked for cleaning and resets their tails for the cycle in
+   * which they become active next. A partition isn't reused before it is cleaned, so this is the
+   * first partition id of the partition which is not behind the active one.
+   */
   public void cleanPartitions() {
+    final int activePartitionId = getActivePartitionIdVolatile();
+
     for (int i = 0; i < LogBufferDescriptor.PARTITION_COUNT; i++) {
       final LogBufferPartition partition = partitions[i];
 
       if (partition.getStatusVolatile() == PARTITION_NEEDS_CLEANING) {
         LOG.trace("Clean partition {}", i);
 
-        partition.clean();
+        final int partitionId =
+            activePartitionId + Math.floorMod(i - activePartitionId, getPartitionCount());
+        partition.clean(partitionTerm(partitionId));
       }
     }
   }
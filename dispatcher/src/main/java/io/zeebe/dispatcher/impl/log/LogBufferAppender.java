@@ -17,6 +17,11 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.packTail;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.partitionTerm;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.tailFragmentCount;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.tailPartitionOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.tailTerm;
 import static org.agrona.BitUtil.align;
 import static org.agrona.UnsafeAccess.UNSAFE;
 
@@ -40,16 +45,15 @@ public class LogBufferAppender {
       final int start,
       final int length,
       final int streamId) {
-    final int partitionSize = partition.getPartitionSize();
     final int framedLength = framedLength(length);
     final int alignedFrameLength = alignedLength(framedLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
-
-    int newTail = frameOffset + alignedFrameLength;
+    final long rawTail = moveTail(partition, activePartitionId, alignedFrameLength, 1);
+    final int newTail;
 
-    if (newTail <= (partitionSize - HEADER_LENGTH)) {
+    if (rawTail >= 0) {
+      final int frameOffset = tailPartitionOffset(rawTail);
       final UnsafeBuffer buffer = partition.getDataBuffer();
 
       // write negative length field
@@ -61,30 +65,38 @@ public class LogBufferAppender {
 
       // commit the message
       buffer.putIntOrdered(lengthOffset(frameOffset), framedLength);
+      newTail = frameOffset + alignedFrameLength;
     } else {
-      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+      newTail = (int) rawTail;
     }
 
     return newTail;
   }
 
-  public int claim(
+  /**
+   * Claims a fragment in the given partition. The claim is thread-safe, i.e. it can be called by
+   * concurrent producers on the same partition.
+   *
+   * @return the raw tail of the partition after the claim (see {@link
+   *     LogBufferDescriptor#packTail(int, int, int)}), or one of the negative result codes if the
+   *     fragment doesn't fit into the partition
+   */
+  public long claim(
       final LogBufferPartition partition,
       final int activePartitionId,
       final ClaimedFragment claim,
       final int length,
       final int streamId,
       final Runnable onComplete) {
-    final int partitionSize = partition.getPartitionSize();
     final int framedMessageLength = claimedFragmentLength(length);
     final int alignedFrameLength = alignedLength(framedMessageLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
+    final long rawTail = moveTail(partition, activePartitionId, alignedFrameLength, 1);
+    final long result;
 
-    int newTail = frameOffset + alignedFrameLength;
-
-    if (newTail <= (partitionSize - HEADER_LENGTH)) {
+    if (rawTail >= 0) {
+      final int frameOffset = tailPartitionOffset(rawTail);
       final UnsafeBuffer buffer = partition.getDataBuffer();
 
       // write negative length field
@@ -95,42 +107,57 @@ public class LogBufferAppender {
 
       claim.wrap(buffer, frameOffset, framedMessageLength, onComplete);
       // Do not commit the message
+      result =
+          packTail(
+              tailTerm(rawTail), tailFragmentCount(rawTail) + 1, frameOffset + alignedFrameLength);
     } else {
-      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+      result = rawTail;
     }
 
-    return newTail;
+    return result;
   }
 
   public static int claimedFragmentLength(final int length) {
     return framedLength(length);
   }
 
-  public int claim(
+  /**
+   * Claims a batch of fragments in the given partition. The claim is thread-safe, i.e. it can be
+   * called by concurrent producers on the same partition.
+   *
+   * @return the raw tail of the partition after the claim (see {@link
+   *     LogBufferDescriptor#packTail(int, int, int)}), or one of the negative result codes if the
+   *     batch doesn't fit into the partition
+   */
+  public long claim(
       final LogBufferPartition partition,
       final int activePartitionId,
       final ClaimedFragmentBatch batch,
       final int fragmentCount,
       final int batchLength,
       final Runnable onComplete) {
-    final int partitionSize = partition.getPartitionSize();
     final int alignedFrameLength = claimedBatchLength(fragmentCount, batchLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
+    final long rawTail = moveTail(partition, activePartitionId, alignedFrameLength, fragmentCount);
+    final long result;
 
-    int newTail = frameOffset + alignedFrameLength;
-
-    if (newTail <= (partitionSize - HEADER_LENGTH)) {
+    if (rawTail >= 0) {
+      final int frameOffset = tailPartitionOffset(rawTail);
       final UnsafeBuffer buffer = partition.getDataBuffer();
       // all fragment data are written using the claimed batch
       batch.wrap(buffer, activePartitionId, frameOffset, alignedFrameLength, onComplete);
+      result =
+          packTail(
+              tailTerm(rawTail),
+              tailFragmentCount(rawTail) + fragmentCount,
+              frameOffset + alignedFrameLength);
 
     } else {
-      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+      result = rawTail;
     }
 
-    return newTail;
+    return result;
   }
 
   public static int claimedBatchLength(final int fragmentCount, final int batchLength) {
@@ -140,30 +167,69 @@ public class LogBufferAppender {
     return align(framedMessageLength, FRAME_ALIGNMENT);
   }
 
-  protected int onEndOfPartition(
-      final LogBufferPartition partition, final int partitionOffset, final int activePartitionId) {
-    int newTail = RESULT_END_OF_PARTITION;
-
-    final int padLength = partition.getPartitionSize() - partitionOffset;
+  /**
+   * Moves the tail of the partition by the given length and fragment count. The tail is only moved
+   * if it has the term of the given partition id, so a producer which read the active partition id
+   * before the partition was filled and activated again can't claim on it (ABA).
+   *
+   * <p>The claim which trips the end of the partition moves the tail to the end of the partition
+   * and fills the rest with padding. All following claims fail.
+   *
+   * @return the raw tail before the claim, or one of the negative result codes if the claim doesn't
+   *     fit into the partition
+   */
+  private long moveTail(
+      final LogBufferPartition partition,
+      final int activePartitionId,
+      final int alignedFrameLength,
+      final int fragmentCount) {
+    final int term = partitionTerm(activePartitionId);
+    final int partitionSize = partition.getPartitionSize();
 
-    if (padLength >= HEADER_LENGTH) {
-      LOG.trace(
-          "The claimed size doesn't fit into the partition {}, fill the rest with padding",
-          activePartitionId);
+    while (true) {
+      final long rawTail = partition.getRawTailVolatile();
+      final int partitionOffset = tailPartitionOffset(rawTail);
+
+      if (tailTerm(rawTail) != term || partitionOffset > partitionSize - HEADER_LENGTH) {
+        LOG.trace("The partition {} is not active or already filled", activePartitionId);
+        return RESULT_END_OF_PARTITION;
+      }
+
+      final int fragments = tailFragmentCount(rawTail);
+      final int newTail = partitionOffset + alignedFrameLength;
+
+      if (newTail <= partitionSize - HEADER_LENGTH) {
+        if (partition.compareAndSetTail(
+            rawTail, packTail(term, fragments + fragmentCount, newTail))) {
+          return rawTail;
+        }
+      } else if (partition.compareAndSetTail(rawTail, packTail(term, fragments, partitionSize))) {
+        onEndOfPartition(partition, rawTail, activePartitionId);
+        return RESULT_PADDING_AT_END_OF_PARTITION;
+      }
+    }
+  }
 
-      // this message tripped the end of the partition, fill buffer with padding
-      final UnsafeBuffer buffer = partition.getDataBuffer();
-      buffer.putIntOrdered(lengthOffset(partitionOffset), -padLength);
-      UNSAFE.storeFence();
-      buffer.putShort(typeOffset(partitionOffset), TYPE_PADDING);
-      buffer.putIntOrdered(lengthOffset(partitionOffset), padLength);
+  /**
+   * Fills the rest of the partition with padding and seals the number of fragments of the
+   * partition. It is called by the only claim which tripped the end of the partition.
+   */
+  protected void onEndOfPartition(
+      final LogBufferPartition partition, final long rawTail, final int activePartitionId) {
+    final int partitionOffset = tailPartitionOffset(rawTail);
+    final int padLength = partition.getPartitionSize() - partitionOffset;
 
-      newTail = RESULT_PADDING_AT_END_OF_PARTITION;
+    LOG.trace(
+        "The claimed size doesn't fit into the partition {}, fill the rest with padding",
+        activePartitionId);
 
-    } else {
-      LOG.trace("The claimed size doesn't fit into the partition {}", activePartitionId);
-    }
+    // this message tripped the end of the partition, fill buffer with padding
+    final UnsafeBuffer buffer = partition.getDataBuffer();
+    buffer.putIntOrdered(lengthOffset(partitionOffset), -padLength);
+    UNSAFE.storeFence();
+    buffer.putShort(typeOffset(partitionOffset), TYPE_PADDING);
+    buffer.putIntOrdered(lengthOffset(partitionOffset), padLength);
 
-    return newTail;
+    partition.setFragmentCountOrdered(tailFragmentCount(rawTail));
   }
 }
@@ -9,6 +9,7 @@ package io.zeebe.dispatcher.impl.log;
 
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 /**
  * Describes data layout in the log buffer
@@ -48,12 +49,25 @@ public final class LogBufferDescriptor {
   /** A Partition is dirty and requires cleaning. */
   public static final int PARTITION_NEEDS_CLEANING = 1;
 
-  /** Offset within the Partition meta data where the tail value is stored. */
+  /**
+   * Offset within the Partition meta data where the tail value is stored. The tail is a long which
+   * holds the term of the Partition, the number of claimed fragments and the partition offset, so
+   * all of them can be moved by a single atomic operation (see {@link #packTail(int, int, int)}).
+   */
   public static final int PARTITION_TAIL_COUNTER_OFFSET;
 
   /** Offset within the Partition meta data where current status is stored */
   public static final int PARTITION_STATUS_OFFSET;
 
+  /** Offset within the Partition meta data where the position of the first fragment is stored. */
+  public static final int PARTITION_BASE_POSITION_OFFSET;
+
+  /**
+   * Offset within the Partition meta data where the number of fragments is stored, once the
+   * Partition is filled.
+   */
+  public static final int PARTITION_FRAGMENT_COUNT_OFFSET;
+
   /** Total length of the Partition meta data buffer in bytes. */
   public static final int PARTITION_META_DATA_LENGTH;
   /** Offset within the log meta data where the current publisher limit is stored. */
@@ -89,6 +103,12 @@ public final class LogBufferDescriptor {
    */
   public static final int LOG_META_DATA_LENGTH;
 
+  private static final int TAIL_PARTITION_OFFSET_MASK = (1 << 30) - 1;
+  private static final int TAIL_FRAGMENT_COUNT_SHIFT = 30;
+  private static final int TAIL_FRAGMENT_COUNT_MASK = (1 << 26) - 1;
+  private static final int TAIL_TERM_SHIFT = 56;
+  private static final int TAIL_TERM_MASK = (1 << 7) - 1;
+
   static {
     int offset = (CACHE_LINE_LENGTH * 2);
     PARTITION_TAIL_COUNTER_OFFSET = offset;
@@ -96,6 +116,10 @@ public final class LogBufferDescriptor {
     offset += (CACHE_LINE_LENGTH * 2);
     PARTITION_STATUS_OFFSET = offset;
 
+    offset += (CACHE_LINE_LENGTH * 2);
+    PARTITION_BASE_POSITION_OFFSET = offset;
+    PARTITION_FRAGMENT_COUNT_OFFSET = offset + SIZE_OF_LONG;
+
     offset += (CACHE_LINE_LENGTH * 2);
     PARTITION_META_DATA_LENGTH = offset;
   }
@@ -131,6 +155,50 @@ public final class LogBufferDescriptor {
     return partitionNumber * partitionSize;
   }
 
+  /**
+   * Returns the term of the Partition with the given id. The term distinguishes the cycles in which
+   * the same Partition is active, so a producer which claims on a Partition from a previous cycle
+   * doesn't move the tail of the current one.
+   */
+  public static int partitionTerm(final int partitionId) {
+    return (partitionId / PARTITION_COUNT) & TAIL_TERM_MASK;
+  }
+
+  /**
+   * Packs the given term, fragment count and partition offset into a tail value of a Partition.
+   *
+   * <pre>
+   *   63  62    56 55                    30 29                     0
+   *  +---+--------+------------------------+------------------------+
+   *  | 0 |  Term  |     Fragment Count     |    Partition Offset    |
+   *  +---+--------+------------------------+------------------------+
+   * </pre>
+   *
+   * The Partition size is less than 2^30 bytes since the whole buffer is addressed by an int, and
+   * each fragment takes at least {@link DataFrameDescriptor#FRAME_ALIGNMENT} * 2 bytes, so neither
+   * the offset nor the fragment count overflow. The sign bit is never set.
+   */
+  public static long packTail(final int term, final int fragmentCount, final int partitionOffset) {
+    return ((long) (term & TAIL_TERM_MASK) << TAIL_TERM_SHIFT)
+        | ((long) (fragmentCount & TAIL_FRAGMENT_COUNT_MASK) << TAIL_FRAGMENT_COUNT_SHIFT)
+        | (partitionOffset & TAIL_PARTITION_OFFSET_MASK);
+  }
+
+  /** Returns the partition offset of the given tail value. */
+  public static int tailPartitionOffset(final long rawTail) {
+    return (int) (rawTail & TAIL_PARTITION_OFFSET_MASK);
+  }
+
+  /** Returns the number of fragments which are claimed in the Partition of the given tail value. */
+  public static int tailFragmentCount(final long rawTail) {
+    return (int) ((rawTail >>> TAIL_FRAGMENT_COUNT_SHIFT) & TAIL_FRAGMENT_COUNT_MASK);
+  }
+
+  /** Returns the term of the Partition of the given tail value. */
+  public static int tailTerm(final long rawTail) {
+    return (int) ((rawTail >>> TAIL_TERM_SHIFT) & TAIL_TERM_MASK);
+  }
+
   public static int logMetadataOffset(final int partitionSize) {
     return (PARTITION_COUNT * partitionSize) + (PARTITION_COUNT * PARTITION_META_DATA_LENGTH);
   }
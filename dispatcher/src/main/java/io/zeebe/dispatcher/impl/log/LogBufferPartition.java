@@ -7,10 +7,14 @@
  */
 package io.zeebe.dispatcher.impl.log;
 
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_BASE_POSITION_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_CLEAN;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_FRAGMENT_COUNT_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_NEEDS_CLEANING;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_STATUS_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.packTail;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.tailPartitionOffset;
 
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -42,9 +46,13 @@ public class LogBufferPartition {
     dataBuffer.setMemory(0, partitionSize, (byte) 0);
   }
 
-  public void clean() {
+  /**
+   * Zeroes the data of the partition and resets its tail for the given term. The tail is reset only
+   * after the data is zeroed, so no producer can claim on the partition before it is clean.
+   */
+  public void clean(final int term) {
     dataBuffer.setMemory(0, partitionSize, (byte) 0);
-    metadataBuffer.putInt(PARTITION_TAIL_COUNTER_OFFSET, 0);
+    resetTailOrdered(term);
     setStatusOrdered(PARTITION_CLEAN);
   }
 
@@ -53,11 +61,46 @@ public class LogBufferPartition {
   }
 
   public int getTailCounterVolatile() {
-    return metadataBuffer.getIntVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    return tailPartitionOffset(getRawTailVolatile());
+  }
+
+  public long getRawTailVolatile() {
+    return metadataBuffer.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+  }
+
+  /**
+   * Sets the tail of the partition if it is still the expected one. The tail holds the term, the
+   * fragment count and the offset of the partition (see {@link LogBufferDescriptor#packTail(int,
+   * int, int)}), so concurrent producers get distinct, ordered slots without locking.
+   */
+  public boolean compareAndSetTail(final long expectedRawTail, final long rawTail) {
+    return metadataBuffer.compareAndSetLong(
+        PARTITION_TAIL_COUNTER_OFFSET, expectedRawTail, rawTail);
+  }
+
+  public void resetTailOrdered(final int term) {
+    metadataBuffer.putLongOrdered(PARTITION_TAIL_COUNTER_OFFSET, packTail(term, 0, 0));
+  }
+
+  /** Moves the tail to the end of the partition, so all claims fail until the tail is reset. */
+  public void sealTailOrdered() {
+    metadataBuffer.putLongOrdered(PARTITION_TAIL_COUNTER_OFFSET, packTail(0, 0, partitionSize));
+  }
+
+  public long getBasePositionVolatile() {
+    return metadataBuffer.getLongVolatile(PARTITION_BASE_POSITION_OFFSET);
+  }
+
+  public void setBasePositionOrdered(final long basePosition) {
+    metadataBuffer.putLongOrdered(PARTITION_BASE_POSITION_OFFSET, basePosition);
+  }
+
+  public int getFragmentCountVolatile() {
+    return metadataBuffer.getIntVolatile(PARTITION_FRAGMENT_COUNT_OFFSET);
   }
 
-  public int getAndAddTail(final int frameLength) {
-    return metadataBuffer.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, frameLength);
+  public void setFragmentCountOrdered(final int fragmentCount) {
+    metadataBuffer.putIntOrdered(PARTITION_FRAGMENT_COUNT_OFFSET, fragmentCount);
   }
 
   public int getPartitionSize() {
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.dispatcher;
+
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput and the latency distribution of claiming and committing fragments on a
+ * dispatcher by concurrent producers, while a single subscription consumes the fragments. The
+ * number of producers is the number of benchmark threads, see {@link #main(String[])}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatcherClaimBenchmark {
+
+  private static final int[] PRODUCER_COUNTS = {1, 4, 16};
+
+  @Param({"64", "1024"})
+  public int messageLength;
+
+  private ActorScheduler actorScheduler;
+  private Dispatcher dispatcher;
+  private Thread consumerThread;
+  private volatile boolean isRunning;
+
+  @Setup
+  public void setUp() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    dispatcher =
+        Dispatchers.create("benchmark")
+            .actorScheduler(actorScheduler)
+            .bufferSize((int) ByteValue.ofMegabytes(4))
+            .build();
+
+    final Subscription subscription = dispatcher.openSubscription("consumer");
+    final FragmentHandler handler =
+        (buffer, offset, length, streamId, isMarkedFailed) ->
+            FragmentHandler.CONSUME_FRAGMENT_RESULT;
+
+    isRunning = true;
+    consumerThread =
+        new Thread(
+            () -> {
+              while (isRunning) {
+                subscription.poll(handler, Integer.MAX_VALUE);
+              }
+            },
+            "consumer");
+    consumerThread.start();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    isRunning = false;
+    consumerThread.join();
+
+    dispatcher.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  public long claimAndCommit(final Producer producer) {
+    final ClaimedFragment fragment = producer.fragment;
+
+    long position;
+    do {
+      // retry on back pressure and at the end of a partition
+      position = dispatcher.claimSingleFragment(fragment, messageLength);
+    } while (position < 0);
+
+    fragment.getBuffer().putLong(fragment.getOffset(), position);
+    fragment.commit();
+
+    return position;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    for (final int producers : PRODUCER_COUNTS) {
+      new Runner(
+              new OptionsBuilder()
+                  .include(DispatcherClaimBenchmark.class.getSimpleName())
+                  .threads(producers)
+                  .build())
+          .run();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Producer {
+    private final ClaimedFragment fragment = new ClaimedFragment();
+  }
+}
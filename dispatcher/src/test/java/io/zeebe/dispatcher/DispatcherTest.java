@@ -10,10 +10,13 @@ package io.zeebe.dispatcher;
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.FRAME_ALIGNMENT;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.HEADER_LENGTH;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.packTail;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -107,6 +110,33 @@ public final class DispatcherTest {
             return subscriptionSpy;
           }
         };
+
+    when(logBufferPartition0.getBasePositionVolatile()).thenReturn(INITIAL_POSITION);
+    // ignore the interactions on creating the dispatcher
+    clearInvocations(logBuffer, logBufferPartition0);
+  }
+
+  @Test
+  public void shouldSetInitialPositionAsBasePositionOfActivePartition() {
+    // given
+    final LogBufferPartition partition = mock(LogBufferPartition.class);
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(1);
+    when(logBuffer.getPartition(1)).thenReturn(partition);
+
+    // when
+    new Dispatcher(
+        logBuffer,
+        logAppender,
+        publisherLimit,
+        publisherPosition,
+        INITIAL_POSITION,
+        A_LOG_WINDOW_LENGTH,
+        A_LOG_WINDOW_LENGTH,
+        new String[0],
+        "test");
+
+    // then
+    verify(partition).setBasePositionOrdered(INITIAL_POSITION);
   }
 
   @Test
@@ -148,7 +178,7 @@ public final class DispatcherTest {
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(packTail(0, 1, A_FRAGMENT_LENGTH));
 
     // if
     final long newPosition =
@@ -274,7 +304,7 @@ public final class DispatcherTest {
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(packTail(0, 1, A_FRAGMENT_LENGTH), packTail(0, 2, 2 * A_FRAGMENT_LENGTH));
 
     // when
     long newPosition =
@@ -301,7 +331,9 @@ public final class DispatcherTest {
             eq(fragmentCount),
             eq(A_MSG_PAYLOAD_LENGTH),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(
+            packTail(0, fragmentCount, A_FRAGMENT_LENGTH),
+            packTail(0, 2 * fragmentCount, 2 * A_FRAGMENT_LENGTH));
 
     // when
     long newPosition =
@@ -313,4 +345,28 @@ public final class DispatcherTest {
         dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
     assertThat(newPosition).isEqualTo(INITIAL_POSITION + fragmentCount);
   }
+
+  @Test
+  public void shouldActivateNextPartitionIfClaimTripsEndOfPartition() {
+    // given
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0);
+    when(publisherLimit.get()).thenReturn(position(1, 0));
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn((long) RESULT_PADDING_AT_END_OF_PARTITION);
+
+    // when
+    final long newPosition =
+        dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+
+    // then
+    assertThat(newPosition).isEqualTo(RESULT_PADDING_AT_END_OF_PARTITION);
+    verify(logBuffer).onActivePartitionFilled(0);
+    verifyNoMoreInteractions(publisherPosition);
+  }
 }
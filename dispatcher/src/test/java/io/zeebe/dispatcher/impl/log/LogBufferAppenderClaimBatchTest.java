@@ -13,10 +13,15 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.TYPE_PADDING;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.framedLength;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_FRAGMENT_COUNT_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.packTail;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.partitionTerm;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -34,6 +39,7 @@ public final class LogBufferAppenderClaimBatchTest {
   private static final Runnable DO_NOTHING = () -> {};
 
   private static final int PARTITION_ID = 10;
+  private static final int TERM = partitionTerm(PARTITION_ID);
   private static final int PARTITION_LENGTH = 1024;
 
   private static final int BATCH_FRAGMENT_COUNT = 3;
@@ -72,17 +78,30 @@ public final class LogBufferAppenderClaimBatchTest {
     return align(batchLength(fragmentCount), FRAME_ALIGNMENT);
   }
 
+  private long givenTail(final int currentTail) {
+    final long rawTail = packTail(TERM, 0, currentTail);
+    when(metadataBufferMock.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET)).thenReturn(rawTail);
+    when(metadataBufferMock.compareAndSetLong(
+            eq(PARTITION_TAIL_COUNTER_OFFSET), eq(rawTail), anyLong()))
+        .thenReturn(true);
+    return rawTail;
+  }
+
+  private void verifyTailMoved(final long rawTail, final long newRawTail) {
+    verify(metadataBufferMock).getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    verify(metadataBufferMock)
+        .compareAndSetLong(PARTITION_TAIL_COUNTER_OFFSET, rawTail, newRawTail);
+  }
+
   @Test
   public void shouldClaimSingleFragmentBatch() {
     // given
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(
-            PARTITION_TAIL_COUNTER_OFFSET, SINGLE_BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -92,13 +111,12 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + SINGLE_BATCH_FRAGMENT_LENGTH);
+    assertThat(newTail).isEqualTo(packTail(TERM, 1, currentTail + SINGLE_BATCH_FRAGMENT_LENGTH));
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, SINGLE_BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock)
-        .getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, SINGLE_BATCH_FRAGMENT_LENGTH);
+    verifyTailMoved(rawTail, packTail(TERM, 1, currentTail + SINGLE_BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -107,11 +125,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -121,12 +138,14 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
+    assertThat(newTail)
+        .isEqualTo(packTail(TERM, BATCH_FRAGMENT_COUNT, currentTail + BATCH_FRAGMENT_LENGTH));
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verifyTailMoved(
+        rawTail, packTail(TERM, BATCH_FRAGMENT_COUNT, currentTail + BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -135,11 +154,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH - BATCH_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -149,12 +167,14 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
+    assertThat(newTail)
+        .isEqualTo(packTail(TERM, BATCH_FRAGMENT_COUNT, currentTail + BATCH_FRAGMENT_LENGTH));
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verifyTailMoved(
+        rawTail, packTail(TERM, BATCH_FRAGMENT_COUNT, currentTail + BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -164,10 +184,9 @@ public final class LogBufferAppenderClaimBatchTest {
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH - BATCH_FRAGMENT_LENGTH + 1;
 
     // when
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
-    final int newTail =
+    final long newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -180,7 +199,8 @@ public final class LogBufferAppenderClaimBatchTest {
     assertThat(newTail).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verifyTailMoved(rawTail, packTail(TERM, 0, PARTITION_LENGTH));
+    verify(metadataBufferMock).putIntOrdered(PARTITION_FRAGMENT_COUNT_OFFSET, 0);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -200,11 +220,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -217,7 +236,8 @@ public final class LogBufferAppenderClaimBatchTest {
     assertThat(newTail).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verifyTailMoved(rawTail, packTail(TERM, 0, PARTITION_LENGTH));
+    verify(metadataBufferMock).putIntOrdered(PARTITION_FRAGMENT_COUNT_OFFSET, 0);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -237,11 +257,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long newTail =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -254,7 +273,7 @@ public final class LogBufferAppenderClaimBatchTest {
     assertThat(newTail).isEqualTo(-1);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verify(metadataBufferMock).getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
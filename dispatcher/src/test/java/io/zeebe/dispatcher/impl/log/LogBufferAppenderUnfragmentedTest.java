@@ -16,9 +16,14 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_FRAGMENT_COUNT_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.packTail;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.partitionTerm;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -40,6 +45,7 @@ public final class LogBufferAppenderUnfragmentedTest {
   static final int A_FRAGMENT_LENGTH = align(A_MSG_PAYLOAD_LENGTH + HEADER_LENGTH, FRAME_ALIGNMENT);
   static final UnsafeBuffer A_MSG = new UnsafeBuffer(A_MSG_PAYLOAD);
   static final int A_PARTITION_ID = 10;
+  static final int TERM = partitionTerm(A_PARTITION_ID);
   static final int A_STREAM_ID = 20;
 
   UnsafeBuffer metadataBufferMock;
@@ -60,14 +66,28 @@ public final class LogBufferAppenderUnfragmentedTest {
     logBufferAppender = new LogBufferAppender();
   }
 
+  private long givenTail(final int currentTail) {
+    final long rawTail = packTail(TERM, 0, currentTail);
+    when(metadataBufferMock.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET)).thenReturn(rawTail);
+    when(metadataBufferMock.compareAndSetLong(
+            eq(PARTITION_TAIL_COUNTER_OFFSET), eq(rawTail), anyLong()))
+        .thenReturn(true);
+    return rawTail;
+  }
+
+  private void verifyTailMoved(final long rawTail, final long newRawTail) {
+    verify(metadataBufferMock).getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    verify(metadataBufferMock)
+        .compareAndSetLong(PARTITION_TAIL_COUNTER_OFFSET, rawTail, newRawTail);
+  }
+
   @Test
   public void shouldAppendFrame() {
     // given
     // that the message + next message header fit into the buffer and there is more space
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // if
     final int newTail =
@@ -78,7 +98,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verifyTailMoved(rawTail, packTail(TERM, 1, currentTail + A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the message is appended to the buffer
@@ -102,8 +122,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header EXACTLY fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // if
     final int newTail =
@@ -114,7 +133,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verifyTailMoved(rawTail, packTail(TERM, 1, currentTail + A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the message is appended to the buffer
@@ -135,8 +154,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header do NOT fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // if
     final int newTail =
@@ -147,7 +165,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verifyTailMoved(rawTail, packTail(TERM, 0, A_PARTITION_LENGTH));
+    verify(metadataBufferMock).putIntOrdered(PARTITION_FRAGMENT_COUNT_OFFSET, 0);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -169,8 +188,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // header fits the buffer)
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // if
     final int newTail =
@@ -181,7 +199,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verifyTailMoved(rawTail, packTail(TERM, 0, A_PARTITION_LENGTH));
+    verify(metadataBufferMock).putIntOrdered(PARTITION_FRAGMENT_COUNT_OFFSET, 0);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -202,8 +221,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the tail is beyond the trip point
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    final long rawTail = givenTail(currentTail);
 
     // if
     final int newTail =
@@ -214,7 +232,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(-1);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock).getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
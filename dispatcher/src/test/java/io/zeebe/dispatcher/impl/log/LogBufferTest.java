@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.dispatcher.impl.log;
+
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.requiredCapacity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.allocation.BufferAllocators;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class LogBufferTest {
+  private static final int PARTITION_SIZE = 1024;
+  private static final UnsafeBuffer A_MSG = new UnsafeBuffer(new byte[64]);
+  private static final int A_STREAM_ID = 1;
+
+  private final LogBufferAppender appender = new LogBufferAppender();
+  private LogBuffer logBuffer;
+
+  @Before
+  public void setup() {
+    logBuffer =
+        new LogBuffer(
+            BufferAllocators.allocateDirect(requiredCapacity(PARTITION_SIZE)), PARTITION_SIZE);
+  }
+
+  @After
+  public void tearDown() {
+    logBuffer.close();
+  }
+
+  @Test
+  public void shouldNotClaimOnActivatedPartitionBeforeItIsCleaned() {
+    // given
+    fillAndActivateNextPartition(0);
+    fillAndActivateNextPartition(1);
+    final LogBufferPartition partition = logBuffer.getPartition(2);
+    assertThat(partition.needsCleaning()).isTrue();
+
+    // when
+    final int result = append(partition, 2);
+
+    // then
+    assertThat(result).isEqualTo(RESULT_END_OF_PARTITION);
+
+    logBuffer.cleanPartitions();
+    assertThat(append(partition, 2)).isPositive();
+  }
+
+  @Test
+  public void shouldNotClaimOnPartitionOfPreviousCycle() {
+    // given
+    fillAndActivateNextPartition(0);
+    fillAndActivateNextPartition(1);
+    logBuffer.cleanPartitions();
+    fillAndActivateNextPartition(2);
+    logBuffer.cleanPartitions();
+
+    final LogBufferPartition partition = logBuffer.getPartition(3);
+    final long rawTail = partition.getRawTailVolatile();
+
+    // when
+    final int result = append(partition, 0);
+
+    // then
+    assertThat(result).isEqualTo(RESULT_END_OF_PARTITION);
+    assertThat(partition.getRawTailVolatile()).isEqualTo(rawTail);
+
+    assertThat(append(partition, 3)).isPositive();
+  }
+
+  private void fillAndActivateNextPartition(final int partitionId) {
+    final LogBufferPartition partition = logBuffer.getPartition(partitionId);
+
+    int result;
+    do {
+      result = append(partition, partitionId);
+    } while (result > 0);
+
+    assertThat(result).isEqualTo(RESULT_PADDING_AT_END_OF_PARTITION);
+    logBuffer.onActivePartitionFilled(partitionId);
+  }
+
+  private int append(final LogBufferPartition partition, final int partitionId) {
+    return appender.appendFrame(partition, partitionId, A_MSG, 0, A_MSG.capacity(), A_STREAM_ID);
+  }
+}
@@ -22,7 +22,10 @@ import io.zeebe.dispatcher.Subscription;
 import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.junit.Rule;
@@ -99,6 +102,69 @@ public final class DispatcherIntegrationTest {
     assertThat(consumer.counters).contains(1, 2);
   }
 
+  @Test
+  public void shouldReadFragmentsInPositionOrderIfClaimedConcurrently() throws Exception {
+    // given
+    final int producerCount = 4;
+    final int fragmentsPerProducer = 50_000;
+    final int totalWork = producerCount * fragmentsPerProducer;
+
+    final Dispatcher dispatcher =
+        Dispatchers.create("default")
+            .actorScheduler(actorSchedulerRule.get())
+            .bufferSize((int) ByteValue.ofKilobytes(256))
+            .build();
+
+    final Subscription subscription = dispatcher.openSubscription("test");
+    final List<Long> positions = new ArrayList<>();
+
+    final Thread consumerThread =
+        new Thread(
+            () -> {
+              while (positions.size() < totalWork) {
+                subscription.poll(
+                    (buffer, offset, length, streamId, isMarkedFailed) -> {
+                      positions.add(buffer.getLong(offset));
+                      return FragmentHandler.CONSUME_FRAGMENT_RESULT;
+                    },
+                    Integer.MAX_VALUE);
+              }
+            });
+    consumerThread.start();
+
+    // when
+    final List<Thread> producers = new ArrayList<>();
+    for (int i = 0; i < producerCount; i++) {
+      final Thread producer =
+          new Thread(
+              () -> {
+                final ClaimedFragment claimedFragment = new ClaimedFragment();
+                for (int n = 0; n < fragmentsPerProducer; n++) {
+                  long position;
+                  do {
+                    position = dispatcher.claimSingleFragment(claimedFragment, 59);
+                  } while (position <= 0);
+
+                  claimedFragment.getBuffer().putLong(claimedFragment.getOffset(), position);
+                  claimedFragment.commit();
+                }
+              });
+      producer.start();
+      producers.add(producer);
+    }
+
+    for (final Thread producer : producers) {
+      producer.join();
+    }
+    consumerThread.join();
+    dispatcher.close();
+
+    // then
+    assertThat(positions)
+        .containsExactlyElementsOf(
+            LongStream.rangeClosed(1, totalWork).boxed().collect(Collectors.toList()));
+  }
+
   @Test
   public void testPeekBlock() throws Exception {
     final int totalWork = 10000000;
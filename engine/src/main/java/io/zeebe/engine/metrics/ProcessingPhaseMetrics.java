@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import java.util.Arrays;
+
+/**
+ * Measures where the time goes while a record is processed, i.e. in which phase of the processing
+ * state machine and in which processor. It is opt-in because it reads the clock a few times per
+ * record (and per state operation). The histograms have fixed exponential buckets, and the labeled
+ * children are resolved once and kept, so observing a value doesn't allocate.
+ *
+ * <p>If disabled, {@link #start()} returns {@code 0} and the observations are ignored.
+ */
+public final class ProcessingPhaseMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+  // exponential buckets from 1 microsecond to ~1 second
+  private static final double BUCKETS_START = 0.000_001;
+  private static final double BUCKETS_FACTOR = 2;
+  private static final int BUCKETS_COUNT = 21;
+
+  private static final Histogram PHASE_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_phase_latency")
+          .help("Time spent in the phases of processing a record in seconds")
+          .exponentialBuckets(BUCKETS_START, BUCKETS_FACTOR, BUCKETS_COUNT)
+          .labelNames("phase", "partition")
+          .register();
+
+  private static final Histogram PROCESSOR_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_processor_latency")
+          .help(
+              "Time spent in the processor of a record in seconds, including its state operations")
+          .exponentialBuckets(BUCKETS_START, BUCKETS_FACTOR, BUCKETS_COUNT)
+          .labelNames("valueType", "intent", "partition")
+          .register();
+
+  private static final Histogram.Child[] NO_CHILDREN = new Histogram.Child[0];
+
+  private final boolean enabled;
+  private final String partitionIdLabel;
+  private final Histogram.Child[] phaseLatencies;
+  private final Histogram.Child[][] processorLatencies;
+
+  public ProcessingPhaseMetrics(final int partitionId, final boolean enabled) {
+    this.enabled = enabled;
+    partitionIdLabel = String.valueOf(partitionId);
+
+    final Phase[] phases = Phase.values();
+    phaseLatencies = new Histogram.Child[phases.length];
+    processorLatencies = new Histogram.Child[ValueType.values().length][];
+    Arrays.fill(processorLatencies, NO_CHILDREN);
+
+    if (enabled) {
+      for (final Phase phase : phases) {
+        phaseLatencies[phase.ordinal()] = PHASE_LATENCY.labels(phase.label, partitionIdLabel);
+      }
+    }
+  }
+
+  /** @return the start time of a phase, or {@code 0} if disabled */
+  public long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /** Observes the time since the given start time for the phase. */
+  public void observe(final Phase phase, final long startNanos) {
+    if (enabled) {
+      observeNanos(phase, System.nanoTime() - startNanos);
+    }
+  }
+
+  /** Observes the given time for the phase, e.g. if it was accumulated. */
+  public void observeNanos(final Phase phase, final long nanos) {
+    if (enabled) {
+      phaseLatencies[phase.ordinal()].observe(nanos / NANOS_PER_SECOND);
+    }
+  }
+
+  /** Observes the time since the given start time for the processor of the record. */
+  public void observeProcessor(
+      final ValueType valueType, final Intent intent, final long startNanos) {
+    if (enabled) {
+      final long nanos = System.nanoTime() - startNanos;
+      getProcessorLatency(valueType, intent).observe(nanos / NANOS_PER_SECOND);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  private Histogram.Child getProcessorLatency(final ValueType valueType, final Intent intent) {
+    final int intentValue = intent.value();
+
+    Histogram.Child[] children = processorLatencies[valueType.ordinal()];
+    if (intentValue >= children.length) {
+      children = Arrays.copyOf(children, intentValue + 1);
+      processorLatencies[valueType.ordinal()] = children;
+    }
+
+    Histogram.Child child = children[intentValue];
+    if (child == null) {
+      child = PROCESSOR_LATENCY.labels(valueType.name(), intent.name(), partitionIdLabel);
+      children[intentValue] = child;
+    }
+    return child;
+  }
+
+  public enum Phase {
+    /** reading the next record from the log */
+    READ("read"),
+    /** decoding the value of the record */
+    DECODE("decode"),
+    /** the get, put and delete operations on the state while processing the record */
+    STATE_ACCESS("stateAccess"),
+    /** committing the state changes of the record */
+    STATE_COMMIT("stateCommit"),
+    /** writing the follow-up records to the log */
+    WRITE("write"),
+    /** executing the side effects, e.g. sending the responses */
+    SIDE_EFFECTS("sideEffects");
+
+    private final String label;
+
+    Phase(final String label) {
+      this.label = label;
+    }
+  }
+}
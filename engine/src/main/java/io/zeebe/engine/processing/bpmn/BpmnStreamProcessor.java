@@ -142,6 +142,9 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<WorkflowI
       final BpmnElementProcessor<ExecutableFlowElement> processor) {
 
     return workflowState.getFlowElement(
-        recordValue.getWorkflowKey(), recordValue.getElementIdBuffer(), processor.getType());
+        recordValue.getWorkflowKey(),
+        recordValue.getElementIndex(),
+        recordValue.getElementIdBuffer(),
+        processor.getType());
   }
 }
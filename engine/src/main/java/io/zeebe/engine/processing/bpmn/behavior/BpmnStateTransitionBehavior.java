@@ -126,6 +126,7 @@ public final class BpmnStateTransitionBehavior {
         context
             .getRecordValue()
             .setElementId(sequenceFlow.getId())
+            .setElementIndex(sequenceFlow.getIndex())
             .setBpmnElementType(sequenceFlow.getElementType());
 
     streamWriter.appendNewEvent(
@@ -142,6 +143,7 @@ public final class BpmnStateTransitionBehavior {
             .getRecordValue()
             .setFlowScopeKey(context.getElementInstanceKey())
             .setElementId(childElement.getId())
+            .setElementIndex(childElement.getIndex())
             .setBpmnElementType(childElement.getElementType());
 
     final var childInstanceKey = keyGenerator.nextKey();
@@ -162,6 +164,7 @@ public final class BpmnStateTransitionBehavior {
             .getRecordValue()
             .setFlowScopeKey(context.getFlowScopeKey())
             .setElementId(element.getId())
+            .setElementIndex(element.getIndex())
             .setBpmnElementType(element.getElementType());
 
     final var elementInstanceKey = keyGenerator.nextKey();
@@ -291,6 +294,7 @@ public final class BpmnStateTransitionBehavior {
         .setParentWorkflowInstanceKey(context.getWorkflowInstanceKey())
         .setParentElementInstanceKey(context.getElementInstanceKey())
         .setElementId(workflow.getWorkflow().getId())
+        .setElementIndex(workflow.getWorkflow().getIndex())
         .setBpmnElementType(workflow.getWorkflow().getElementType());
 
     streamWriter.appendFollowUpEvent(
@@ -74,6 +74,7 @@ public final class ExclusiveGatewayProcessor
               // defer sequence flow taken, as it will only be taken when the gateway is completed
               record.wrap(context.getRecordValue());
               record.setElementId(sequenceFlow.getId());
+              record.setElementIndex(sequenceFlow.getIndex());
               record.setBpmnElementType(BpmnElementType.SEQUENCE_FLOW);
               deferredRecordsBehavior.deferNewRecord(
                   context,
@@ -56,6 +56,7 @@ public final class EventHandle {
         eventOccurredRecord.wrap(eventScopeInstance.getValue());
         eventOccurredRecord
             .setElementId(catchEvent.getId())
+            .setElementIndex(catchEvent.getIndex())
             .setBpmnElementType(BpmnElementType.START_EVENT)
             .setFlowScopeKey(eventScopeInstance.getKey());
 
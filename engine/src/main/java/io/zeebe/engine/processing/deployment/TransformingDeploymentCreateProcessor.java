@@ -71,7 +71,8 @@ public final class TransformingDeploymentCreateProcessor
     final boolean accepted = deploymentTransformer.transform(deploymentEvent);
     if (accepted) {
       final long key = keyGenerator.nextKey();
-      if (workflowState.putDeployment(key, deploymentEvent)) {
+      if (workflowState.putDeployment(
+          key, deploymentEvent, deploymentTransformer.getExecutableWorkflows())) {
         try {
           createTimerIfTimerStartEvent(command, streamWriter);
         } catch (final RuntimeException e) {
@@ -16,6 +16,7 @@ public abstract class AbstractFlowElement implements ExecutableFlowElement {
   private final DirectBuffer id;
   private BpmnElementType elementType;
   private ExecutableFlowElement flowScope;
+  private int index = -1;
 
   public AbstractFlowElement(final String id) {
     this.id = BufferUtil.wrapString(id);
@@ -44,4 +45,13 @@ public abstract class AbstractFlowElement implements ExecutableFlowElement {
   public void setFlowScope(final ExecutableFlowElement flowScope) {
     this.flowScope = flowScope;
   }
+
+  @Override
+  public int getIndex() {
+    return index;
+  }
+
+  void setIndex(final int index) {
+    this.index = index;
+  }
 }
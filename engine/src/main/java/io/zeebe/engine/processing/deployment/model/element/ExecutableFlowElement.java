@@ -17,4 +17,10 @@ public interface ExecutableFlowElement {
   BpmnElementType getElementType();
 
   ExecutableFlowElement getFlowScope();
+
+  /**
+   * @return the index of the element in its workflow, which is assigned when the workflow is
+   *     transformed - see {@link ExecutableWorkflow#getElementByIndex(int, DirectBuffer, Class)}
+   */
+  int getIndex();
 }
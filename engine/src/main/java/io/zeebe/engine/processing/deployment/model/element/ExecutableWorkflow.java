@@ -11,6 +11,8 @@ import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.zeebe.util.buffer.BufferUtil.wrapString;
 
 import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
@@ -19,6 +21,9 @@ import org.agrona.DirectBuffer;
 public class ExecutableWorkflow extends ExecutableFlowElementContainer {
 
   private final Map<DirectBuffer, AbstractFlowElement> flowElements = new HashMap<>();
+  // the flow elements by their index - an element with the same id replaces the previous one
+  private AbstractFlowElement[] flowElementsByIndex = new AbstractFlowElement[16];
+  private int elementCount;
 
   public ExecutableWorkflow(final String id) {
     super(id);
@@ -26,7 +31,21 @@ public class ExecutableWorkflow extends ExecutableFlowElementContainer {
   }
 
   public void addFlowElement(final AbstractFlowElement element) {
-    flowElements.put(element.getId(), element);
+    final var replacedElement = flowElements.put(element.getId(), element);
+
+    final int index;
+    if (replacedElement != null) {
+      // e.g. the multi-instance body replaces its inner activity, and both share the index
+      index = replacedElement.getIndex();
+    } else {
+      index = elementCount++;
+      if (index == flowElementsByIndex.length) {
+        flowElementsByIndex = Arrays.copyOf(flowElementsByIndex, index * 2);
+      }
+    }
+
+    flowElementsByIndex[index] = element;
+    element.setIndex(index);
   }
 
   public AbstractFlowElement getElementById(final DirectBuffer id) {
@@ -42,22 +61,55 @@ public class ExecutableWorkflow extends ExecutableFlowElementContainer {
   public <T extends ExecutableFlowElement> T getElementById(
       final DirectBuffer id, final Class<T> expectedClass) {
 
-    final var elementType =
-        ExecutableMultiInstanceBody.class.isAssignableFrom(expectedClass)
-            ? BpmnElementType.MULTI_INSTANCE_BODY
-            : BpmnElementType.UNSPECIFIED;
-
-    return getElementById(id, elementType, expectedClass);
+    return getElementById(id, elementTypeOf(expectedClass), expectedClass);
   }
 
   public <T extends ExecutableFlowElement> T getElementById(
       final DirectBuffer id, final BpmnElementType elementType, final Class<T> expectedClass) {
 
-    var element = flowElements.get(id);
+    final var element = flowElements.get(id);
     if (element == null) {
       return null;
     }
 
+    return resolveElement(element, id, elementType, expectedClass);
+  }
+
+  /**
+   * Returns the element with the given index, without hashing its id. If the index doesn't belong
+   * to the element with the given id (e.g. it is unknown or was assigned by a different
+   * transformation), the element is looked up by its id instead.
+   *
+   * @param index the index of the element - see {@link ExecutableFlowElement#getIndex()}
+   * @param id the id of the element
+   * @param expectedClass the expected class of the element
+   * @return the element, or {@code null} if there is no element with the given id
+   */
+  public <T extends ExecutableFlowElement> T getElementByIndex(
+      final int index, final DirectBuffer id, final Class<T> expectedClass) {
+
+    if (index >= 0 && index < elementCount) {
+      final var element = flowElementsByIndex[index];
+      if (BufferUtil.equals(element.getId(), id)) {
+        return resolveElement(element, id, elementTypeOf(expectedClass), expectedClass);
+      }
+    }
+
+    return getElementById(id, expectedClass);
+  }
+
+  /** @return the number of elements, which is the upper bound (exclusive) of the indices */
+  public int getElementCount() {
+    return elementCount;
+  }
+
+  private <T extends ExecutableFlowElement> T resolveElement(
+      final AbstractFlowElement flowElement,
+      final DirectBuffer id,
+      final BpmnElementType elementType,
+      final Class<T> expectedClass) {
+
+    ExecutableFlowElement element = flowElement;
     if (element instanceof ExecutableMultiInstanceBody
         && elementType != BpmnElementType.MULTI_INSTANCE_BODY) {
       // the multi-instance body and the inner activity have the same element id
@@ -83,4 +135,10 @@ public class ExecutableWorkflow extends ExecutableFlowElementContainer {
               element.getClass().getSimpleName()));
     }
   }
+
+  private static BpmnElementType elementTypeOf(final Class<?> expectedClass) {
+    return ExecutableMultiInstanceBody.class.isAssignableFrom(expectedClass)
+        ? BpmnElementType.MULTI_INSTANCE_BODY
+        : BpmnElementType.UNSPECIFIED;
+  }
 }
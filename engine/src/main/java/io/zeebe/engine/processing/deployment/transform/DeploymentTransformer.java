@@ -12,6 +12,8 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.processing.common.ExpressionProcessor;
 import io.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.zeebe.engine.processing.deployment.model.element.ExecutableWorkflow;
+import io.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
 import io.zeebe.engine.processing.deployment.model.yaml.BpmnYamlParser;
 import io.zeebe.engine.state.KeyGenerator;
 import io.zeebe.engine.state.ZeebeState;
@@ -31,6 +33,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -41,12 +44,15 @@ public final class DeploymentTransformer {
   private static final Logger LOG = Loggers.WORKFLOW_PROCESSOR_LOGGER;
 
   private final BpmnValidator validator;
+  private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final BpmnYamlParser yamlParser = new BpmnYamlParser();
   private final WorkflowState workflowState;
   private final KeyGenerator keyGenerator;
   private final MessageDigest digestGenerator;
   // process id duplicate checking
   private final Map<String, String> processIdToResourceName = new HashMap<>();
+  // the transformed workflows of the deployment by their process id
+  private final Map<DirectBuffer, ExecutableWorkflow> executableWorkflows = new HashMap<>();
   // internal changes during processing
   private RejectionType rejectionType;
   private String rejectionReason;
@@ -68,6 +74,7 @@ public final class DeploymentTransformer {
     final StringBuilder errors = new StringBuilder();
     boolean success = true;
     processIdToResourceName.clear();
+    executableWorkflows.clear();
 
     final Iterator<DeploymentResource> resourceIterator = deploymentEvent.resources().iterator();
     if (!resourceIterator.hasNext()) {
@@ -105,12 +112,13 @@ public final class DeploymentTransformer {
 
       if (validationError == null) {
         // transform the model to avoid unexpected failures that are not covered by the validator
-        BpmnFactory.createTransformer().transformDefinitions(definition);
+        final List<ExecutableWorkflow> workflows = transformer.transformDefinitions(definition);
 
         final String bpmnIdDuplicateError = checkForDuplicateBpmnId(definition, resourceName);
 
         if (bpmnIdDuplicateError == null) {
           transformWorkflowResource(deploymentEvent, deploymentResource, definition);
+          workflows.forEach(workflow -> executableWorkflows.put(workflow.getId(), workflow));
           success = true;
         } else {
           errors.append("\n").append(bpmnIdDuplicateError);
@@ -220,6 +228,14 @@ public final class DeploymentTransformer {
     }
   }
 
+  /**
+   * @return the transformed workflows of the last deployment by their BPMN process id, which can be
+   *     put into the workflow cache instead of reading the resources again
+   */
+  public Map<DirectBuffer, ExecutableWorkflow> getExecutableWorkflows() {
+    return executableWorkflows;
+  }
+
   public RejectionType getRejectionType() {
     return rejectionType;
   }
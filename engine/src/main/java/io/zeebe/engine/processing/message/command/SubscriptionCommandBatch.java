@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import io.zeebe.engine.processing.message.command.SubscriptionCommandBatchDecoder.CommandsDecoder;
+import io.zeebe.engine.processing.message.command.SubscriptionCommandBatchEncoder.CommandsEncoder;
+import io.zeebe.protocol.impl.encoding.SbeBufferWriterReader;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Coalesces multiple subscription commands which are addressed to the same partition into a single
+ * message. The commands are staged as length-prefixed frames, which have the same layout as the
+ * entries of the encoded commands group, so the batch can be written in one pass.
+ */
+public final class SubscriptionCommandBatch
+    extends SbeBufferWriterReader<
+        SubscriptionCommandBatchEncoder, SubscriptionCommandBatchDecoder> {
+
+  private static final int COMMAND_HEADER_LENGTH = CommandsEncoder.commandHeaderLength();
+  // the number of group entries is encoded as uint8 - see groupSizeEncoding
+  private static final int MAX_COMMAND_COUNT = 254;
+
+  private final SubscriptionCommandBatchEncoder encoder = new SubscriptionCommandBatchEncoder();
+  private final SubscriptionCommandBatchDecoder decoder = new SubscriptionCommandBatchDecoder();
+
+  private final ExpandableArrayBuffer stagedCommands = new ExpandableArrayBuffer();
+  private final UnsafeBuffer commandView = new UnsafeBuffer(0, 0);
+
+  private int receiverPartitionId;
+  private int stagedLength;
+  private int commandCount;
+
+  @Override
+  protected SubscriptionCommandBatchEncoder getBodyEncoder() {
+    return encoder;
+  }
+
+  @Override
+  protected SubscriptionCommandBatchDecoder getBodyDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public void reset() {
+    receiverPartitionId = SubscriptionCommandBatchDecoder.receiverPartitionIdNullValue();
+    stagedLength = 0;
+    commandCount = 0;
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength() + CommandsEncoder.sbeHeaderSize() + stagedLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    final CommandsEncoder commandsEncoder =
+        encoder.receiverPartitionId(receiverPartitionId).commandsCount(commandCount);
+
+    int stagedOffset = 0;
+    for (int i = 0; i < commandCount; i++) {
+      final int commandLength = stagedCommands.getInt(stagedOffset);
+      stagedOffset += COMMAND_HEADER_LENGTH;
+
+      commandsEncoder.next().putCommand(stagedCommands, stagedOffset, commandLength);
+      stagedOffset += commandLength;
+    }
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    super.wrap(buffer, offset, length);
+
+    receiverPartitionId = decoder.receiverPartitionId();
+  }
+
+  /**
+   * Iterates over the commands of the wrapped batch. The buffer passed to the consumer is only
+   * valid during the invocation.
+   */
+  public void forEachCommand(final CommandConsumer consumer) {
+    final CommandsDecoder commandsDecoder = decoder.commands();
+    while (commandsDecoder.hasNext()) {
+      commandsDecoder.next().wrapCommand(commandView);
+      consumer.accept(commandView, 0, commandView.capacity());
+    }
+  }
+
+  /**
+   * Appends the given command to the batch.
+   *
+   * @return {@code false} if the batch reached the maximum number of commands, in which case the
+   *     command is not added
+   */
+  public boolean addCommand(final BufferWriter command) {
+    if (commandCount >= MAX_COMMAND_COUNT) {
+      return false;
+    }
+
+    final int commandLength = command.getLength();
+    stagedCommands.putInt(stagedLength, commandLength);
+    command.write(stagedCommands, stagedLength + COMMAND_HEADER_LENGTH);
+
+    stagedLength += COMMAND_HEADER_LENGTH + commandLength;
+    commandCount += 1;
+    return true;
+  }
+
+  public boolean isEmpty() {
+    return commandCount == 0;
+  }
+
+  public boolean isFull() {
+    return commandCount >= MAX_COMMAND_COUNT;
+  }
+
+  public int getCommandCount() {
+    return commandCount;
+  }
+
+  public int getReceiverPartitionId() {
+    return receiverPartitionId;
+  }
+
+  public void setReceiverPartitionId(final int receiverPartitionId) {
+    this.receiverPartitionId = receiverPartitionId;
+  }
+
+  @FunctionalInterface
+  public interface CommandConsumer {
+    void accept(DirectBuffer buffer, int offset, int length);
+  }
+}
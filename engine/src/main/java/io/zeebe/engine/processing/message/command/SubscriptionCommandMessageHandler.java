@@ -7,7 +7,8 @@
  */
 package io.zeebe.engine.processing.message.command;
 
-import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.engine.Loggers;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.RecordMetadata;
@@ -24,10 +25,13 @@ import java.util.function.Function;
 import java.util.function.IntFunction;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
 
 public final class SubscriptionCommandMessageHandler
     implements Function<byte[], CompletableFuture<Void>> {
 
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
+
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
 
   private final OpenMessageSubscriptionCommand openMessageSubscriptionCommand =
@@ -52,6 +56,8 @@ public final class SubscriptionCommandMessageHandler
   private final RejectCorrelateMessageSubscriptionCommand resetMessageCorrelationCommand =
       new RejectCorrelateMessageSubscriptionCommand();
 
+  private final SubscriptionCommandBatch subscriptionCommandBatch = new SubscriptionCommandBatch();
+
   private final RecordMetadata recordMetadata = new RecordMetadata();
 
   private final MessageSubscriptionRecord messageSubscriptionRecord =
@@ -61,13 +67,18 @@ public final class SubscriptionCommandMessageHandler
       new WorkflowInstanceSubscriptionRecord();
 
   private final Consumer<Runnable> enviromentToRun;
-  private final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier;
+  private final IntFunction<LogStreamBatchWriter> logStreamBatchWriterSupplier;
+
+  // set while the commands of a batch are collected, to write them as one log batch
+  private LogStreamBatchWriter pendingBatchWriter;
+  private int commandCount;
+  private int failedCommandCount;
 
   public SubscriptionCommandMessageHandler(
       final Consumer<Runnable> enviromentToRun,
-      final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier) {
+      final IntFunction<LogStreamBatchWriter> logStreamBatchWriterSupplier) {
     this.enviromentToRun = enviromentToRun;
-    this.logstreamRecordWriterSupplier = logstreamRecordWriterSupplier;
+    this.logStreamBatchWriterSupplier = logStreamBatchWriterSupplier;
   }
 
   @Override
@@ -76,43 +87,93 @@ public final class SubscriptionCommandMessageHandler
     enviromentToRun.accept(
         () -> {
           final DirectBuffer buffer = new UnsafeBuffer(bytes);
-          final int offset = 0;
-          final int length = buffer.capacity();
-          messageHeaderDecoder.wrap(buffer, offset);
-
-          if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
-
-            switch (messageHeaderDecoder.templateId()) {
-              case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
-                onOpenMessageSubscription(buffer, offset, length);
-                break;
-              case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onOpenWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCloseMessageSubscription(buffer, offset, length);
-                break;
-              case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCloseWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onRejectCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              default:
-                break;
-            }
+          messageHeaderDecoder.wrap(buffer, 0);
+
+          if (messageHeaderDecoder.schemaId() == SubscriptionCommandBatchDecoder.SCHEMA_ID
+              && messageHeaderDecoder.templateId() == SubscriptionCommandBatchDecoder.TEMPLATE_ID) {
+            onCommandBatch(buffer, 0, buffer.capacity());
+          } else {
+            onCommand(buffer, 0, buffer.capacity());
           }
           future.complete(null);
         });
     return future;
   }
 
+  private boolean onCommandBatch(final DirectBuffer buffer, final int offset, final int length) {
+    subscriptionCommandBatch.wrap(buffer, offset, length);
+
+    final LogStreamBatchWriter batchWriter =
+        logStreamBatchWriterSupplier.apply(subscriptionCommandBatch.getReceiverPartitionId());
+    if (batchWriter == null) {
+      // ignore message if you are not the leader of the partition
+      return true;
+    }
+
+    batchWriter.reset();
+    pendingBatchWriter = batchWriter;
+    try {
+      subscriptionCommandBatch.forEachCommand(this::onCommand);
+    } finally {
+      pendingBatchWriter = null;
+    }
+
+    final long position = batchWriter.tryWrite();
+    if (position > 0) {
+      return true;
+    }
+
+    // the batch could not be written as a whole (e.g. it exceeds the max fragment length), so the
+    // commands are written one by one, and each one succeeds or fails on its own
+    subscriptionCommandBatch.wrap(buffer, offset, length);
+    commandCount = 0;
+    failedCommandCount = 0;
+    subscriptionCommandBatch.forEachCommand(
+        (commandBuffer, commandOffset, commandLength) -> {
+          commandCount += 1;
+          if (!onCommand(commandBuffer, commandOffset, commandLength)) {
+            failedCommandCount += 1;
+          }
+        });
+
+    if (failedCommandCount > 0) {
+      LOG.debug(
+          "Failed to write {} of {} subscription commands to partition {}",
+          failedCommandCount,
+          commandCount,
+          subscriptionCommandBatch.getReceiverPartitionId());
+    }
+
+    return failedCommandCount == 0;
+  }
+
+  private boolean onCommand(final DirectBuffer buffer, final int offset, final int length) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    if (messageHeaderDecoder.schemaId() != OpenMessageSubscriptionDecoder.SCHEMA_ID) {
+      return false;
+    }
+
+    switch (messageHeaderDecoder.templateId()) {
+      case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
+        return onOpenMessageSubscription(buffer, offset, length);
+      case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+        return onOpenWorkflowInstanceSubscription(buffer, offset, length);
+      case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+        return onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
+      case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+        return onCorrelateMessageSubscription(buffer, offset, length);
+      case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
+        return onCloseMessageSubscription(buffer, offset, length);
+      case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+        return onCloseWorkflowInstanceSubscription(buffer, offset, length);
+      case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+        return onRejectCorrelateMessageSubscription(buffer, offset, length);
+      default:
+        return false;
+    }
+  }
+
   private boolean onOpenMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     openMessageSubscriptionCommand.wrap(buffer, offset, length);
@@ -274,21 +335,28 @@ public final class SubscriptionCommandMessageHandler
       final Intent intent,
       final UnpackedObject command) {
 
-    final LogStreamRecordWriter logStreamRecordWriter =
-        logstreamRecordWriterSupplier.apply(partitionId);
-    if (logStreamRecordWriter == null) {
-      // ignore message if you are not the leader of the partition
+    recordMetadata.reset().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+
+    if (pendingBatchWriter != null) {
+      // the command is part of a batch - it is written together with the other commands
+      pendingBatchWriter.event().key(-1).metadataWriter(recordMetadata).valueWriter(command).done();
       return true;
     }
 
-    logStreamRecordWriter.reset();
-    recordMetadata.reset().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+    final LogStreamBatchWriter batchWriter = logStreamBatchWriterSupplier.apply(partitionId);
+    if (batchWriter == null) {
+      // ignore message if you are not the leader of the partition
+      return true;
+    }
 
+    batchWriter.reset();
     final long position =
-        logStreamRecordWriter
+        batchWriter
+            .event()
             .key(-1)
             .metadataWriter(recordMetadata)
             .valueWriter(command)
+            .done()
             .tryWrite();
 
     return position > 0;
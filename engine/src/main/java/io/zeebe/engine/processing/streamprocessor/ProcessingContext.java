@@ -35,6 +35,7 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private BooleanSupplier abortCondition;
   private Consumer<TypedRecord> onProcessedListener = record -> {};
   private int maxFragmentSize;
+  private boolean phaseMetricsEnabled;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -97,6 +98,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext phaseMetricsEnabled(final boolean phaseMetricsEnabled) {
+    this.phaseMetricsEnabled = phaseMetricsEnabled;
+    return this;
+  }
+
   public ProcessingContext maxFragmentSize(final int maxFragmentSize) {
     this.maxFragmentSize = maxFragmentSize;
     return this;
@@ -165,4 +171,8 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   public Consumer<TypedRecord> getOnProcessedListener() {
     return onProcessedListener;
   }
+
+  public boolean isPhaseMetricsEnabled() {
+    return phaseMetricsEnabled;
+  }
 }
@@ -9,6 +9,8 @@ package io.zeebe.engine.processing.streamprocessor;
 
 import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.engine.metrics.ProcessingPhaseMetrics;
+import io.zeebe.engine.metrics.ProcessingPhaseMetrics.Phase;
 import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriterImpl;
@@ -122,6 +124,7 @@ public final class ProcessingStateMachine {
   private final RecordProcessorMap recordProcessorMap;
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
+  private final ProcessingPhaseMetrics phaseMetrics;
   private final Consumer<TypedRecord> onProcessed;
 
   // current iteration
@@ -161,6 +164,7 @@ public final class ProcessingStateMachine {
     responseWriter = new TypedResponseWriterImpl(context.getCommandResponseWriter(), partitionId);
 
     metrics = new StreamProcessorMetrics(partitionId);
+    phaseMetrics = new ProcessingPhaseMetrics(partitionId, context.isPhaseMetricsEnabled());
     onProcessed = context.getOnProcessedListener();
   }
 
@@ -196,8 +200,10 @@ public final class ProcessingStateMachine {
   }
 
   private void tryToReadNextEvent() {
+    final long readStart = phaseMetrics.start();
     if (shouldProcessNext.getAsBoolean() && logStreamReader.hasNext() && currentProcessor == null) {
       currentEvent = logStreamReader.next();
+      phaseMetrics.observe(Phase.READ, readStart);
 
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
         processEvent(currentEvent);
@@ -221,8 +227,10 @@ public final class ProcessingStateMachine {
         metadata.getRecordType(), event.getTimestamp(), ActorClock.currentTimeMillis());
 
     try {
+      final long decodeStart = phaseMetrics.start();
       final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
       typedEvent.wrap(event, metadata, value);
+      phaseMetrics.observe(Phase.DECODE, decodeStart);
 
       processInTransaction(typedEvent);
 
@@ -255,25 +263,35 @@ public final class ProcessingStateMachine {
 
   private void processInTransaction(final TypedEventImpl typedRecord) throws Exception {
     zeebeDbTransaction = dbContext.getCurrentTransaction();
-    zeebeDbTransaction.run(
-        () -> {
-          final long position = typedRecord.getPosition();
-          resetOutput(position);
-
-          // default side effect is responses; can be changed by processor
-          sideEffectProducer = responseWriter;
-          final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
-          if (isNotOnBlacklist) {
-            currentProcessor.processRecord(
-                position,
-                typedRecord,
-                responseWriter,
-                logStreamWriter,
-                this::setSideEffectProducer);
-          }
-
-          zeebeState.markAsProcessed(position);
-        });
+    zeebeDbTransaction.setOperationTimingEnabled(phaseMetrics.isEnabled());
+    // discard the time of the operations outside of the processing, e.g. of the error handling
+    zeebeDbTransaction.getAndResetOperationNanos();
+    try {
+      zeebeDbTransaction.run(
+          () -> {
+            final long position = typedRecord.getPosition();
+            resetOutput(position);
+
+            // default side effect is responses; can be changed by processor
+            sideEffectProducer = responseWriter;
+            final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
+            if (isNotOnBlacklist) {
+              final long processorStart = phaseMetrics.start();
+              currentProcessor.processRecord(
+                  position,
+                  typedRecord,
+                  responseWriter,
+                  logStreamWriter,
+                  this::setSideEffectProducer);
+              phaseMetrics.observeProcessor(
+                  metadata.getValueType(), metadata.getIntent(), processorStart);
+            }
+
+            zeebeState.markAsProcessed(position);
+          });
+    } finally {
+      phaseMetrics.observeNanos(Phase.STATE_ACCESS, zeebeDbTransaction.getAndResetOperationNanos());
+    }
   }
 
   private void resetOutput(final long sourceRecordPosition) {
@@ -349,7 +367,9 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         writeRetryStrategy.runWithRetry(
             () -> {
+              final long writeStart = phaseMetrics.start();
               writtenEventPosition = logStreamWriter.flush();
+              phaseMetrics.observe(Phase.WRITE, writeStart);
               return writtenEventPosition >= 0;
             },
             abortCondition);
@@ -371,7 +391,9 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
+              final long commitStart = phaseMetrics.start();
               zeebeDbTransaction.commit();
+              phaseMetrics.observe(Phase.STATE_COMMIT, commitStart);
 
               // needs to be directly after commit
               // so no other ActorJob can interfere between commit and update the positions
@@ -415,7 +437,7 @@ public final class ProcessingStateMachine {
 
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
-        sideEffectsRetryStrategy.runWithRetry(sideEffectProducer::flush, abortCondition);
+        sideEffectsRetryStrategy.runWithRetry(this::flushSideEffects, abortCondition);
 
     actor.runOnCompletion(
         retryFuture,
@@ -432,6 +454,13 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private boolean flushSideEffects() {
+    final long sideEffectsStart = phaseMetrics.start();
+    final boolean flushed = sideEffectProducer.flush();
+    phaseMetrics.observe(Phase.SIDE_EFFECTS, sideEffectsStart);
+    return flushed;
+  }
+
   public long getLastSuccessfulProcessedEventPosition() {
     return lastSuccessfulProcessedEventPosition;
   }
@@ -64,6 +64,15 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Enables the histograms of the processing phases and processors - see {@link
+   * io.zeebe.engine.metrics.ProcessingPhaseMetrics}.
+   */
+  public StreamProcessorBuilder phaseMetricsEnabled(final boolean phaseMetricsEnabled) {
+    processingContext.phaseMetricsEnabled(phaseMetricsEnabled);
+    return this;
+  }
+
   public StreamProcessorBuilder zeebeDb(final ZeebeDb zeebeDb) {
     this.zeebeDb = zeebeDb;
     return this;
@@ -79,7 +79,10 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
 
     initMetadata(type, intent, value);
     metadata.rejectionType(rejectionType);
-    metadata.rejectionReason(rejectionReason);
+    if (!rejectionReason.isEmpty()) {
+      // the metadata is reset to an empty reason - avoid encoding it for every follow-up record
+      metadata.rejectionReason(rejectionReason);
+    }
     additionalMetadata.accept(metadata);
 
     if (key >= 0) {
@@ -134,6 +134,7 @@ public final class CreateWorkflowInstanceProcessor
     newWorkflowInstance.setWorkflowInstanceKey(workflowInstanceKey);
     newWorkflowInstance.setBpmnElementType(BpmnElementType.PROCESS);
     newWorkflowInstance.setElementId(workflow.getWorkflow().getId());
+    newWorkflowInstance.setElementIndex(workflow.getWorkflow().getIndex());
     newWorkflowInstance.setFlowScopeKey(-1);
 
     final ElementInstance instance =
@@ -9,6 +9,7 @@ package io.zeebe.engine.state;
 
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDBMetricExporter;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import java.util.Properties;
@@ -21,6 +22,19 @@ public final class DefaultZeebeDbFactory {
           (partitionId, database) ->
               new ZeebeRocksDBMetricExporter<>(partitionId, database, ZbColumnFamilies.class);
 
+  // the keys of these column families start with a long, which is the prefix of the iterations
+  private static final ZbColumnFamilies[] LONG_PREFIXED_COLUMN_FAMILIES = {
+    ZbColumnFamilies.VARIABLES, ZbColumnFamilies.ELEMENT_INSTANCE_PARENT_CHILD
+  };
+  // the keys of these column families start with a string, which is (part of) the prefix of the
+  // iterations - the prefix is capped after the length and the first bytes of the string, because
+  // a longer prefix couldn't be used to iterate over shorter strings
+  private static final ZbColumnFamilies[] STRING_PREFIXED_COLUMN_FAMILIES = {
+    ZbColumnFamilies.JOB_ACTIVATABLE,
+    ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY
+  };
+  private static final int STRING_PREFIX_LENGTH = Integer.BYTES + 4;
+
   /**
    * Returns the default zeebe database factory, which is used in most of the places except for the
    * exporters.
@@ -40,7 +54,31 @@ public final class DefaultZeebeDbFactory {
    */
   public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
       final Properties userProvidedColumnFamilyOptions) {
-    return defaultFactory(ZbColumnFamilies.class, userProvidedColumnFamilyOptions);
+    return defaultFactory(
+        new RocksDbConfiguration().setColumnFamilyOptions(userProvidedColumnFamilyOptions));
+  }
+
+  /**
+   * Returns the default zeebe database factory, which is used in most of the places except for the
+   * exporters.
+   *
+   * @param configuration the configuration of the created databases
+   * @return the created zeebe database factory
+   */
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final RocksDbConfiguration configuration) {
+    // one place to replace the zeebe database implementation
+    return ZeebeRocksDbFactory.newFactory(ZbColumnFamilies.class, withPrefixLengths(configuration));
+  }
+
+  private static RocksDbConfiguration withPrefixLengths(final RocksDbConfiguration configuration) {
+    for (final ZbColumnFamilies columnFamily : LONG_PREFIXED_COLUMN_FAMILIES) {
+      configuration.setPrefixLength(columnFamily.name(), Long.BYTES);
+    }
+    for (final ZbColumnFamilies columnFamily : STRING_PREFIXED_COLUMN_FAMILIES) {
+      configuration.setPrefixLength(columnFamily.name(), STRING_PREFIX_LENGTH);
+    }
+    return configuration;
   }
 
   /**
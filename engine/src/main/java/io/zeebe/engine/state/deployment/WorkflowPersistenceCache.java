@@ -90,7 +90,10 @@ public final class WorkflowPersistenceCache {
     workflowsByKey = new Long2ObjectHashMap<>();
   }
 
-  boolean putDeployment(final long deploymentKey, final DeploymentRecord deploymentRecord) {
+  boolean putDeployment(
+      final long deploymentKey,
+      final DeploymentRecord deploymentRecord,
+      final Map<DirectBuffer, ExecutableWorkflow> executableWorkflows) {
     final boolean isNewDeployment = !deployments.contains(deploymentKey);
     if (isNewDeployment) {
       for (final Workflow workflow : deploymentRecord.workflows()) {
@@ -100,6 +103,14 @@ public final class WorkflowPersistenceCache {
           if (resource.getResourceNameBuffer().equals(resourceName)) {
             persistWorkflow(workflowKey, workflow, resource);
             updateLatestVersion(workflow);
+
+            final ExecutableWorkflow executableWorkflow =
+                executableWorkflows.get(workflow.getBpmnProcessIdBuffer());
+            if (executableWorkflow != null) {
+              // avoid reading the resource again when the workflow is used
+              addWorkflowToInMemoryState(
+                  new DeployedWorkflow(executableWorkflow, copyWorkflow(persistedWorkflow)));
+            }
           }
         }
       }
@@ -133,14 +144,7 @@ public final class WorkflowPersistenceCache {
 
   // is called on getters, if workflow is not in memory
   private DeployedWorkflow updateInMemoryState(final PersistedWorkflow persistedWorkflow) {
-
-    // we have to copy to store this in cache
-    final byte[] bytes = new byte[persistedWorkflow.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    persistedWorkflow.write(buffer, 0);
-
-    final PersistedWorkflow copiedWorkflow = new PersistedWorkflow();
-    copiedWorkflow.wrap(buffer, 0, persistedWorkflow.getLength());
+    final PersistedWorkflow copiedWorkflow = copyWorkflow(persistedWorkflow);
 
     final BpmnModelInstance modelInstance =
         readModelInstanceFromBuffer(copiedWorkflow.getResource());
@@ -160,6 +164,17 @@ public final class WorkflowPersistenceCache {
     return deployedWorkflow;
   }
 
+  private PersistedWorkflow copyWorkflow(final PersistedWorkflow persistedWorkflow) {
+    // we have to copy to store this in cache
+    final byte[] bytes = new byte[persistedWorkflow.getLength()];
+    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
+    persistedWorkflow.write(buffer, 0);
+
+    final PersistedWorkflow copiedWorkflow = new PersistedWorkflow();
+    copiedWorkflow.wrap(buffer, 0, persistedWorkflow.getLength());
+    return copiedWorkflow;
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
       return Bpmn.readModelFromStream(stream);
@@ -295,7 +310,12 @@ public final class WorkflowPersistenceCache {
   }
 
   private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+    workflowColumnFamily.forEach(
+        (key, workflow) -> {
+          if (!workflowsByKey.containsKey(key.getValue())) {
+            updateInMemoryState(workflow);
+          }
+        });
   }
 
   public void putLatestVersionDigest(final DirectBuffer processId, final DirectBuffer digest) {
@@ -12,6 +12,7 @@ import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.zeebe.engine.processing.deployment.model.element.ExecutableWorkflow;
 import io.zeebe.engine.state.KeyGenerator;
 import io.zeebe.engine.state.NextValueManager;
 import io.zeebe.engine.state.ZbColumnFamilies;
@@ -20,6 +21,8 @@ import io.zeebe.engine.state.instance.EventScopeInstanceState;
 import io.zeebe.engine.state.instance.TimerInstanceState;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import org.agrona.DirectBuffer;
 
 public final class WorkflowState {
@@ -46,7 +49,22 @@ public final class WorkflowState {
   }
 
   public boolean putDeployment(final long deploymentKey, final DeploymentRecord deploymentRecord) {
-    return workflowPersistenceCache.putDeployment(deploymentKey, deploymentRecord);
+    return workflowPersistenceCache.putDeployment(
+        deploymentKey, deploymentRecord, Collections.emptyMap());
+  }
+
+  /**
+   * Puts the deployment and caches the given workflows, which were already transformed from the
+   * resources of the deployment.
+   *
+   * @param executableWorkflows the transformed workflows by their BPMN process id
+   */
+  public boolean putDeployment(
+      final long deploymentKey,
+      final DeploymentRecord deploymentRecord,
+      final Map<DirectBuffer, ExecutableWorkflow> executableWorkflows) {
+    return workflowPersistenceCache.putDeployment(
+        deploymentKey, deploymentRecord, executableWorkflows);
   }
 
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
@@ -92,6 +110,19 @@ public final class WorkflowState {
 
   public <T extends ExecutableFlowElement> T getFlowElement(
       final long workflowKey, final DirectBuffer elementId, final Class<T> elementType) {
+    return getFlowElement(workflowKey, -1, elementId, elementType);
+  }
+
+  /**
+   * Returns the flow element with the given index, or with the given id if the index doesn't belong
+   * to it - see {@link io.zeebe.engine.processing.deployment.model.element.ExecutableWorkflow
+   * #getElementByIndex(int, DirectBuffer, Class)}.
+   */
+  public <T extends ExecutableFlowElement> T getFlowElement(
+      final long workflowKey,
+      final int elementIndex,
+      final DirectBuffer elementId,
+      final Class<T> elementType) {
 
     final var deployedWorkflow = getWorkflowByKey(workflowKey);
     if (deployedWorkflow == null) {
@@ -101,7 +132,7 @@ public final class WorkflowState {
     }
 
     final var workflow = deployedWorkflow.getWorkflow();
-    final var element = workflow.getElementById(elementId, elementType);
+    final var element = workflow.getElementByIndex(elementIndex, elementId, elementType);
     if (element == null) {
       throw new IllegalStateException(
           String.format(
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.engine.metrics.ProcessingPhaseMetrics.Phase;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public final class ProcessingPhaseMetricsTest {
+
+  @Test
+  public void shouldObservePhases() {
+    // given
+    final ProcessingPhaseMetrics metrics = new ProcessingPhaseMetrics(101, true);
+
+    // when
+    metrics.observe(Phase.READ, metrics.start());
+    metrics.observeNanos(Phase.STATE_ACCESS, TimeUnit.MILLISECONDS.toNanos(3));
+
+    // then
+    assertThat(phaseCount("read", "101")).isEqualTo(1);
+    assertThat(phaseSum("stateAccess", "101")).isEqualTo(0.003);
+  }
+
+  @Test
+  public void shouldObserveProcessorByValueTypeAndIntent() {
+    // given
+    final ProcessingPhaseMetrics metrics = new ProcessingPhaseMetrics(102, true);
+
+    // when
+    metrics.observeProcessor(ValueType.JOB, JobIntent.COMPLETE, metrics.start());
+    metrics.observeProcessor(ValueType.JOB, JobIntent.COMPLETE, metrics.start());
+    metrics.observeProcessor(ValueType.JOB, JobIntent.FAIL, metrics.start());
+
+    // then
+    assertThat(processorCount("JOB", "COMPLETE", "102")).isEqualTo(2);
+    assertThat(processorCount("JOB", "FAIL", "102")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldIgnoreObservationsIfDisabled() {
+    // given
+    final ProcessingPhaseMetrics metrics = new ProcessingPhaseMetrics(103, false);
+
+    // when
+    metrics.observe(Phase.READ, metrics.start());
+    metrics.observeProcessor(ValueType.JOB, JobIntent.COMPLETE, metrics.start());
+
+    // then
+    assertThat(metrics.start()).isZero();
+    assertThat(phaseCount("read", "103")).isNull();
+    assertThat(processorCount("JOB", "COMPLETE", "103")).isNull();
+  }
+
+  private static Double phaseCount(final String phase, final String partition) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_stream_processor_phase_latency_count",
+        new String[] {"phase", "partition"},
+        new String[] {phase, partition});
+  }
+
+  private static Double phaseSum(final String phase, final String partition) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_stream_processor_phase_latency_sum",
+        new String[] {"phase", "partition"},
+        new String[] {phase, partition});
+  }
+
+  private static Double processorCount(
+      final String valueType, final String intent, final String partition) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_stream_processor_processor_latency_count",
+        new String[] {"valueType", "intent", "partition"},
+        new String[] {valueType, intent, partition});
+  }
+}
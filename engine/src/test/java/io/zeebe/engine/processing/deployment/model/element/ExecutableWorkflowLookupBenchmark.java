@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deployment.model.element;
+
+import io.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the lookup of a flow element, as the BPMN stream processor does for every workflow
+ * instance record, by its id and by its index (which is verified against the id). The ids are read
+ * from a separate buffer, like the element id of a record, and the lookups cycle through all
+ * elements of the workflow.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutableWorkflowLookupBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int tasks;
+
+  private ExecutableWorkflow workflow;
+  private DirectBuffer[] elementIds;
+  private int[] elementIndices;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    for (int i = 0; i < tasks; i++) {
+      final int task = i;
+      builder = builder.serviceTask("Activity_" + task, t -> t.zeebeJobType("type"));
+    }
+
+    workflow =
+        BpmnFactory.createTransformer().transformDefinitions(builder.endEvent().done()).get(0);
+
+    elementIds = new DirectBuffer[tasks];
+    elementIndices = new int[tasks];
+    for (int i = 0; i < tasks; i++) {
+      // wrap the id in a larger buffer, like the property of a record
+      final byte[] id = ("Activity_" + i).getBytes();
+      final UnsafeBuffer recordBuffer = new UnsafeBuffer(new byte[id.length + 32]);
+      recordBuffer.putBytes(16, id);
+      elementIds[i] = new UnsafeBuffer(recordBuffer, 16, id.length);
+      elementIndices[i] = workflow.getElementById(elementIds[i]).getIndex();
+    }
+  }
+
+  @Benchmark
+  public ExecutableFlowNode getElementById() {
+    final DirectBuffer elementId = elementIds[next];
+    next = (next + 1) % elementIds.length;
+
+    return workflow.getElementById(elementId, ExecutableFlowNode.class);
+  }
+
+  @Benchmark
+  public ExecutableFlowNode getElementByIndex() {
+    final int element = next;
+    next = (next + 1) % elementIds.length;
+
+    return workflow.getElementByIndex(
+        elementIndices[element], elementIds[element], ExecutableFlowNode.class);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ExecutableWorkflowLookupBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
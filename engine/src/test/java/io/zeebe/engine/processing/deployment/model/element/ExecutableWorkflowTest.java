@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deployment.model.element;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.protocol.record.value.BpmnElementType;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ExecutableWorkflowTest {
+
+  @Test
+  public void shouldFindElementByIdView() {
+    // given
+    final ExecutableWorkflow workflow = new ExecutableWorkflow("process");
+    final ExecutableFlowNode task = new ExecutableFlowNode("a-rather-long-task-id");
+    workflow.addFlowElement(task);
+
+    // when
+    final byte[] bytes = "xxa-rather-long-task-idyy".getBytes();
+    final UnsafeBuffer idView = new UnsafeBuffer(bytes, 2, bytes.length - 4);
+
+    // then
+    assertThat(workflow.getElementById(idView)).isSameAs(task);
+    assertThat(workflow.getElementById(wrapString("a-rather-long-task-i"))).isNull();
+  }
+
+  @Test
+  public void shouldReplaceElementWithSameId() {
+    // given
+    final ExecutableWorkflow workflow = new ExecutableWorkflow("process");
+    final ExecutableActivity task = new ExecutableActivity("task");
+    task.setElementType(BpmnElementType.SERVICE_TASK);
+    workflow.addFlowElement(task);
+
+    // when
+    final ExecutableMultiInstanceBody multiInstanceBody =
+        new ExecutableMultiInstanceBody("task", null, task);
+    multiInstanceBody.setElementType(BpmnElementType.MULTI_INSTANCE_BODY);
+    workflow.addFlowElement(multiInstanceBody);
+
+    // then
+    assertThat(workflow.getElementById(wrapString("task"))).isSameAs(multiInstanceBody);
+    assertThat(
+            workflow.getElementById(
+                wrapString("task"), BpmnElementType.SERVICE_TASK, ExecutableActivity.class))
+        .isSameAs(task);
+  }
+
+  @Test
+  public void shouldAssignDenseIndices() {
+    // given
+    final ExecutableWorkflow workflow = new ExecutableWorkflow("process");
+    final ExecutableFlowNode start = new ExecutableFlowNode("start");
+    final ExecutableFlowNode task = new ExecutableFlowNode("task");
+
+    // when
+    workflow.addFlowElement(start);
+    workflow.addFlowElement(task);
+
+    // then
+    assertThat(workflow.getIndex()).isEqualTo(0);
+    assertThat(start.getIndex()).isEqualTo(1);
+    assertThat(task.getIndex()).isEqualTo(2);
+    assertThat(workflow.getElementCount()).isEqualTo(3);
+    assertThat(workflow.getElementByIndex(2, wrapString("task"), ExecutableFlowNode.class))
+        .isSameAs(task);
+  }
+
+  @Test
+  public void shouldShareIndexWithReplacedElement() {
+    // given
+    final ExecutableWorkflow workflow = new ExecutableWorkflow("process");
+    final ExecutableActivity task = new ExecutableActivity("task");
+    task.setElementType(BpmnElementType.SERVICE_TASK);
+    workflow.addFlowElement(task);
+
+    // when
+    final ExecutableMultiInstanceBody multiInstanceBody =
+        new ExecutableMultiInstanceBody("task", null, task);
+    multiInstanceBody.setElementType(BpmnElementType.MULTI_INSTANCE_BODY);
+    workflow.addFlowElement(multiInstanceBody);
+
+    // then
+    assertThat(multiInstanceBody.getIndex()).isEqualTo(task.getIndex());
+    assertThat(workflow.getElementCount()).isEqualTo(2);
+    assertThat(
+            workflow.getElementByIndex(
+                task.getIndex(), wrapString("task"), ExecutableMultiInstanceBody.class))
+        .isSameAs(multiInstanceBody);
+    assertThat(
+            workflow.getElementByIndex(
+                task.getIndex(), wrapString("task"), ExecutableActivity.class))
+        .isSameAs(task);
+  }
+
+  @Test
+  public void shouldFallBackToIdIfIndexDoesNotMatch() {
+    // given
+    final ExecutableWorkflow workflow = new ExecutableWorkflow("process");
+    final ExecutableFlowNode start = new ExecutableFlowNode("start");
+    final ExecutableFlowNode task = new ExecutableFlowNode("task");
+    workflow.addFlowElement(start);
+    workflow.addFlowElement(task);
+
+    // then
+    assertThat(workflow.getElementByIndex(-1, wrapString("task"), ExecutableFlowNode.class))
+        .isSameAs(task);
+    assertThat(
+            workflow.getElementByIndex(
+                start.getIndex(), wrapString("task"), ExecutableFlowNode.class))
+        .isSameAs(task);
+    assertThat(workflow.getElementByIndex(42, wrapString("task"), ExecutableFlowNode.class))
+        .isSameAs(task);
+    assertThat(
+            workflow.getElementByIndex(
+                task.getIndex(), wrapString("foo"), ExecutableFlowNode.class))
+        .isNull();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class SubscriptionCommandBatchTest {
+
+  @Test
+  public void shouldWriteAndReadCommands() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.setReceiverPartitionId(3);
+
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(3);
+    command.setMessageName(wrapString("message"));
+    for (int i = 0; i < 5; i++) {
+      command.setWorkflowInstanceKey(i);
+      command.setElementInstanceKey(10 + i);
+      batch.addCommand(command);
+    }
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[batch.getLength()]);
+    batch.write(buffer, 0);
+
+    // when
+    final SubscriptionCommandBatch readBatch = new SubscriptionCommandBatch();
+    readBatch.wrap(buffer, 0, buffer.capacity());
+
+    final List<Long> workflowInstanceKeys = new ArrayList<>();
+    final List<Long> elementInstanceKeys = new ArrayList<>();
+    readBatch.forEachCommand(
+        (commandBuffer, offset, length) -> {
+          final CloseMessageSubscriptionCommand readCommand = new CloseMessageSubscriptionCommand();
+          readCommand.wrap(commandBuffer, offset, length);
+          workflowInstanceKeys.add(readCommand.getWorkflowInstanceKey());
+          elementInstanceKeys.add(readCommand.getElementInstanceKey());
+          assertThat(readCommand.getMessageName()).isEqualTo(wrapString("message"));
+        });
+
+    // then
+    assertThat(readBatch.getReceiverPartitionId()).isEqualTo(3);
+    assertThat(workflowInstanceKeys).containsExactly(0L, 1L, 2L, 3L, 4L);
+    assertThat(elementInstanceKeys).containsExactly(10L, 11L, 12L, 13L, 14L);
+  }
+
+  @Test
+  public void shouldNotAddMoreThanMaxCommands() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setMessageName(wrapString("message"));
+
+    // when
+    while (!batch.isFull()) {
+      assertThat(batch.addCommand(command)).isTrue();
+    }
+
+    // then
+    assertThat(batch.addCommand(command)).isFalse();
+    assertThat(batch.getCommandCount()).isGreaterThan(1);
+  }
+
+  @Test
+  public void shouldResetBatch() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setMessageName(wrapString("message"));
+    batch.addCommand(command);
+    final int emptyLength = new SubscriptionCommandBatch().getLength();
+
+    // when
+    batch.reset();
+
+    // then
+    assertThat(batch.isEmpty()).isTrue();
+    assertThat(batch.getLength()).isEqualTo(emptyLength);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class SubscriptionCommandMessageHandlerTest {
+
+  private LogStreamBatchWriter batchWriter;
+  private LogEntryBuilder entryBuilder;
+  private SubscriptionCommandMessageHandler handler;
+
+  @Before
+  public void setUp() {
+    batchWriter = mock(LogStreamBatchWriter.class);
+    entryBuilder = mock(LogEntryBuilder.class, RETURNS_SELF);
+    when(batchWriter.event()).thenReturn(entryBuilder);
+    when(entryBuilder.done()).thenReturn(batchWriter);
+
+    handler = new SubscriptionCommandMessageHandler(Runnable::run, partitionId -> batchWriter);
+  }
+
+  @Test
+  public void shouldWriteBatchAsOneLogBatch() {
+    // given
+    when(batchWriter.tryWrite()).thenReturn(1L);
+
+    // when
+    handler.apply(createBatch(3)).join();
+
+    // then
+    verify(batchWriter, times(3)).event();
+    verify(batchWriter, times(1)).tryWrite();
+  }
+
+  @Test
+  public void shouldWriteCommandsOneByOneIfBatchCannotBeWritten() {
+    // given
+    when(batchWriter.tryWrite()).thenReturn(-1L, 2L, 3L, 4L);
+
+    // when
+    handler.apply(createBatch(3)).join();
+
+    // then
+    verify(batchWriter, times(6)).event();
+    verify(batchWriter, times(4)).tryWrite();
+    verify(entryBuilder, times(6)).valueWriter(any());
+  }
+
+  private static byte[] createBatch(final int commandCount) {
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.setReceiverPartitionId(1);
+
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(1);
+    command.setMessageName(wrapString("message"));
+    for (int i = 0; i < commandCount; i++) {
+      command.setWorkflowInstanceKey(i);
+      command.setElementInstanceKey(10 + i);
+      batch.addCommand(command);
+    }
+
+    final byte[] bytes = new byte[batch.getLength()];
+    batch.write(new UnsafeBuffer(bytes), 0);
+    return bytes;
+  }
+}
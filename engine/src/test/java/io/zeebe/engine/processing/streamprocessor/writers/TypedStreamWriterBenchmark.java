@@ -0,0 +1,198 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor.writers;
+
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.spi.LogStorageReader;
+import io.zeebe.logstreams.util.SyncLogStream;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.ActorScheduler;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of appending the follow-up events of a processed command through the {@link
+ * TypedStreamWriterImpl}. Each operation writes one batch which takes a service task through its
+ * lifecycle and the outgoing sequence flow, as the BPMN processors do. The log storage discards the
+ * written blocks, so the results reflect the serialization into the log write buffer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypedStreamWriterBenchmark {
+
+  private static final WorkflowInstanceIntent[] ELEMENT_TRANSITIONS = {
+    WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+    WorkflowInstanceIntent.ELEMENT_ACTIVATED,
+    WorkflowInstanceIntent.ELEMENT_COMPLETING,
+    WorkflowInstanceIntent.ELEMENT_COMPLETED,
+    WorkflowInstanceIntent.SEQUENCE_FLOW_TAKEN
+  };
+
+  private static final DirectBuffer TASK_ID = BufferUtil.wrapString("task");
+  private static final DirectBuffer SEQUENCE_FLOW_ID = BufferUtil.wrapString("flow");
+
+  @Param({"1", "5", "20"})
+  public int followUpEvents;
+
+  private final WorkflowInstanceRecord record = new WorkflowInstanceRecord();
+
+  private ActorScheduler actorScheduler;
+  private SyncLogStream logStream;
+  private TypedStreamWriterImpl streamWriter;
+  private long sourcePosition;
+
+  @Setup
+  public void setUp() {
+    actorScheduler = ActorScheduler.newActorScheduler().build();
+    actorScheduler.start();
+
+    logStream =
+        SyncLogStream.builder()
+            .withActorScheduler(actorScheduler)
+            .withLogStorage(new DiscardingLogStorage())
+            .withPartitionId(1)
+            .withLogName("benchmark")
+            .build();
+
+    streamWriter = new TypedStreamWriterImpl(logStream.newLogStreamBatchWriter());
+
+    record
+        .setBpmnProcessId("process")
+        .setWorkflowKey(1L)
+        .setVersion(1)
+        .setWorkflowInstanceKey(2L)
+        .setFlowScopeKey(2L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    logStream.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  public long appendFollowUpEvents() {
+    streamWriter.reset();
+    streamWriter.configureSourceContext(++sourcePosition);
+
+    for (int i = 0; i < followUpEvents; i++) {
+      final WorkflowInstanceIntent intent = ELEMENT_TRANSITIONS[i % ELEMENT_TRANSITIONS.length];
+      if (intent == WorkflowInstanceIntent.SEQUENCE_FLOW_TAKEN) {
+        record.setElementId(SEQUENCE_FLOW_ID).setBpmnElementType(BpmnElementType.SEQUENCE_FLOW);
+      } else {
+        record.setElementId(TASK_ID).setBpmnElementType(BpmnElementType.SERVICE_TASK);
+      }
+
+      streamWriter.appendFollowUpEvent(3L + i, intent, record);
+    }
+
+    long position;
+    do {
+      // the log write buffer is full until the appender catches up
+      position = streamWriter.flush();
+    } while (position < 0);
+
+    return position;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(TypedStreamWriterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+
+  private static final class DiscardingLogStorage implements LogStorage {
+    private long address;
+
+    @Override
+    public LogStorageReader newReader() {
+      return new LogStorageReader() {
+        @Override
+        public boolean isEmpty() {
+          return true;
+        }
+
+        @Override
+        public long read(final DirectBuffer readBuffer, final long address) {
+          return OP_RESULT_NO_DATA;
+        }
+
+        @Override
+        public long readLastBlock(final DirectBuffer readBuffer) {
+          return OP_RESULT_NO_DATA;
+        }
+
+        @Override
+        public long lookUpApproximateAddress(final long position) {
+          return OP_RESULT_INVALID_ADDR;
+        }
+
+        @Override
+        public void close() {}
+      };
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final ByteBuffer blockBuffer,
+        final AppendListener listener) {
+      address += 1;
+      listener.onWrite(address);
+      listener.onCommit(address);
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public boolean isClosed() {
+      return false;
+    }
+
+    @Override
+    public void flush() {}
+  }
+}
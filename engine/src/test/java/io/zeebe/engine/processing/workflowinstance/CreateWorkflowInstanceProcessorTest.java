@@ -292,6 +292,7 @@ public final class CreateWorkflowInstanceProcessorTest
       final DeployedWorkflow workflow, final long instanceKey) {
     return new WorkflowInstanceRecord()
         .setElementId(workflow.getBpmnProcessId())
+        .setElementIndex(workflow.getWorkflow().getIndex())
         .setBpmnElementType(BpmnElementType.PROCESS)
         .setWorkflowKey(workflow.getKey())
         .setFlowScopeKey(-1L)
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.tuple;
 
 import io.zeebe.engine.util.EngineRule;
 import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.Assertions;
 import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
@@ -68,6 +69,35 @@ public final class CreateWorkflowInstanceTest {
         .hasWorkflowInstanceKey(workflowInstanceKey);
   }
 
+  @Test
+  public void shouldCarryElementIndexInRecords() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .exclusiveGateway()
+                .defaultFlow()
+                .endEvent()
+                .done())
+        .deploy();
+
+    // when
+    final long workflowInstanceKey = ENGINE.workflowInstance().ofBpmnProcessId("process").create();
+
+    // then
+    assertThat(
+            RecordingExporter.workflowInstanceRecords()
+                .withWorkflowInstanceKey(workflowInstanceKey)
+                .limitToWorkflowInstanceCompleted()
+                .map(Record::getValue))
+        .isNotEmpty()
+        .allSatisfy(
+            value ->
+                assertThat(((WorkflowInstanceRecord) value).getElementIndex()).isNotNegative());
+  }
+
   @Test
   public void shouldCreateWorkflowInstanceWithVariables() {
     // given
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.BpmnModelInstance;
+import io.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.zeebe.protocol.record.value.deployment.ResourceType;
+import io.zeebe.util.FileUtil;
+import io.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how long it takes to load the deployed workflows after a restart. Each operation creates
+ * a new {@link ZeebeState} on the same database, so the in-memory workflow cache is empty, and
+ * looks up every deployed workflow by its key, as the engine does when it continues the workflow
+ * instances after recovery.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkflowRecoveryBenchmark {
+
+  @Param({"100"})
+  public int workflows;
+
+  @Param({"10", "100"})
+  public int tasksPerWorkflow;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private long[] workflowKeys;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("workflow-recovery");
+    db = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+
+    final ZeebeState zeebeState = new ZeebeState(1, db, db.createContext());
+    final WorkflowState workflowState = zeebeState.getWorkflowState();
+
+    workflowKeys = new long[workflows];
+    for (int i = 0; i < workflows; i++) {
+      final String processId = "process-" + i;
+      final BpmnModelInstance workflow = createWorkflow(processId);
+
+      final DeploymentRecord deploymentRecord = new DeploymentRecord();
+      deploymentRecord
+          .resources()
+          .add()
+          .setResourceName(BufferUtil.wrapString(processId + ".bpmn"))
+          .setResource(BufferUtil.wrapString(Bpmn.convertToString(workflow)))
+          .setResourceType(ResourceType.BPMN_XML);
+
+      workflowKeys[i] = zeebeState.getKeyGenerator().nextKey();
+      deploymentRecord
+          .workflows()
+          .add()
+          .setBpmnProcessId(BufferUtil.wrapString(processId))
+          .setVersion(workflowState.getNextWorkflowVersion(processId))
+          .setKey(workflowKeys[i])
+          .setResourceName(BufferUtil.wrapString(processId + ".bpmn"));
+
+      workflowState.putDeployment(zeebeState.getKeyGenerator().nextKey(), deploymentRecord);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public int recoverWorkflows() {
+    final WorkflowState workflowState =
+        new ZeebeState(1, db, db.createContext()).getWorkflowState();
+
+    int startEvents = 0;
+    for (final long workflowKey : workflowKeys) {
+      startEvents +=
+          workflowState.getWorkflowByKey(workflowKey).getWorkflow().getStartEvents().size();
+    }
+    return startEvents;
+  }
+
+  private BpmnModelInstance createWorkflow(final String processId) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(processId).startEvent();
+
+    for (int i = 0; i < tasksPerWorkflow; i++) {
+      final int task = i;
+      builder =
+          builder.serviceTask(
+              "task-" + task,
+              t ->
+                  t.zeebeJobType("type-" + task)
+                      .zeebeJobRetries("5")
+                      .zeebeTaskHeader("header", "value-" + task)
+                      .zeebeInput("=order.items[" + task + "]", "item")
+                      .zeebeOutput("=result.total + " + task, "total" + task));
+    }
+
+    return builder.endEvent().done();
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(WorkflowRecoveryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
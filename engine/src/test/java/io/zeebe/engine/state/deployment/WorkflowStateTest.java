@@ -22,6 +22,7 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.record.value.deployment.ResourceType;
 import io.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
+import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
@@ -324,6 +325,25 @@ public final class WorkflowStateTest {
     Assertions.assertThat(serviceTask).isNotNull();
   }
 
+  @Test
+  public void shouldCacheTransformedWorkflowOfDeployment() {
+    // given
+    final DeploymentRecord deploymentRecord = creatingDeploymentRecord(zeebeState);
+    final ExecutableWorkflow transformedWorkflow = new ExecutableWorkflow("processId");
+
+    // when
+    workflowState.putDeployment(
+        FIRST_WORKFLOW_KEY,
+        deploymentRecord,
+        Map.of(transformedWorkflow.getId(), transformedWorkflow));
+
+    // then
+    final DeployedWorkflow deployedWorkflow = workflowState.getWorkflowByKey(FIRST_WORKFLOW_KEY);
+    Assertions.assertThat(deployedWorkflow.getWorkflow()).isSameAs(transformedWorkflow);
+    Assertions.assertThat(deployedWorkflow.getVersion()).isEqualTo(1);
+    Assertions.assertThat(deployedWorkflow.getResourceName()).isEqualTo(wrapString("process.bpmn"));
+  }
+
   @Test
   public void shouldGetExecutableWorkflowByLatestWorkflow() {
     // given
@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the iteration over the variables of a scope on a populated database, with and without
+ * the prefix extractor and prefix bloom filter of the variables column family. The variables are
+ * stored for every second scope key only, as most element instances don't have own variables, so
+ * the scan over a missing scope is measured separately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariablesPrefixScanBenchmark {
+
+  private static final int VARIABLES_PER_SCOPE = 4;
+
+  @Param({"true", "false"})
+  public boolean prefixBloomFilter;
+
+  @Param({"200000"})
+  public int scopes;
+
+  private Path directory;
+  private ZeebeDbFactory<ZbColumnFamilies> dbFactory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private ColumnFamily<DbCompositeKey<DbLong, DbString>, DbString> variablesColumnFamily;
+  private DbLong scopeKey;
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("variables-prefix-scan");
+
+    // small memtables, so the variables are spread over many files
+    final var columnFamilyOptions = new Properties();
+    columnFamilyOptions.put("write_buffer_size", String.valueOf(ByteValue.ofMegabytes(2)));
+    final var configuration =
+        new RocksDbConfiguration().setColumnFamilyOptions(columnFamilyOptions);
+
+    dbFactory =
+        prefixBloomFilter
+            ? DefaultZeebeDbFactory.defaultFactory(configuration)
+            : ZeebeRocksDbFactory.newFactory(ZbColumnFamilies.class, configuration);
+
+    db = dbFactory.createDb(directory.toFile());
+    openColumnFamily();
+    populate();
+
+    // reopen the database, to flush the remaining variables to files as after a restart
+    db.close();
+    db = dbFactory.createDb(directory.toFile());
+    openColumnFamily();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public int scanExistingScope() {
+    return scanScope(ThreadLocalRandom.current().nextInt(scopes) * 2L);
+  }
+
+  @Benchmark
+  public int scanMissingScope() {
+    return scanScope(ThreadLocalRandom.current().nextInt(scopes) * 2L + 1);
+  }
+
+  private int scanScope(final long key) {
+    final int[] variables = new int[1];
+    scopeKey.wrapLong(key);
+    variablesColumnFamily.whileEqualPrefix(
+        scopeKey,
+        (k, v) -> {
+          variables[0]++;
+        });
+    return variables[0];
+  }
+
+  private void openColumnFamily() {
+    final DbContext context = db.createContext();
+    scopeKey = new DbLong();
+    variablesColumnFamily =
+        db.createColumnFamily(
+            ZbColumnFamilies.VARIABLES,
+            context,
+            new DbCompositeKey<>(scopeKey, new DbString()),
+            new DbString());
+  }
+
+  private void populate() {
+    final DbLong key = new DbLong();
+    final DbString name = new DbString();
+    final DbCompositeKey<DbLong, DbString> variableKey = new DbCompositeKey<>(key, name);
+    final DbString value = new DbString();
+    final ColumnFamily<DbCompositeKey<DbLong, DbString>, DbString> columnFamily =
+        db.createColumnFamily(ZbColumnFamilies.VARIABLES, db.createContext(), variableKey, value);
+
+    for (int scope = 0; scope < scopes; scope++) {
+      key.wrapLong(scope * 2L);
+      for (int variable = 0; variable < VARIABLES_PER_SCOPE; variable++) {
+        name.wrapString("variable-" + variable);
+        value.wrapString(
+            "{\"orderId\":" + scope + ",\"items\":[1,2,3],\"total\":" + variable + "}");
+        columnFamily.put(variableKey, value);
+      }
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(VariablesPrefixScanBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -16,6 +16,7 @@ import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.record.RecordType;
@@ -44,6 +45,11 @@ public class StreamProcessingComposite {
     return streams.getLogStreamRecordWriter(logName);
   }
 
+  public LogStreamBatchWriter getLogStreamBatchWriter(final int partitionId) {
+    final String logName = getLogName(partitionId);
+    return streams.getLogStreamBatchWriter(logName);
+  }
+
   public StreamProcessor startTypedStreamProcessor(final StreamProcessorTestFactory factory) {
     return startTypedStreamProcessor(factory, r -> {});
   }
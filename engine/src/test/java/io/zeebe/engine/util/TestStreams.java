@@ -154,6 +154,10 @@ public final class TestStreams {
     return logContextMap.get(name).getLogStreamWriter();
   }
 
+  public LogStreamBatchWriter getLogStreamBatchWriter(final String name) {
+    return logContextMap.get(name).getLogStreamBatchWriter();
+  }
+
   public LogStreamRecordWriter newLogStreamRecordWriter(final String name) {
     return logContextMap.get(name).newLogStreamRecordWriter();
   }
@@ -358,10 +362,12 @@ public final class TestStreams {
     private final SynchronousLogStream logStream;
     private final LogStorage logStorage;
     private final LogStreamRecordWriter logStreamWriter;
+    private final LogStreamBatchWriter logStreamBatchWriter;
 
     private LogContext(final SynchronousLogStream logStream, final LogStorage logStorage) {
       this.logStream = logStream;
       logStreamWriter = logStream.newLogStreamRecordWriter();
+      logStreamBatchWriter = logStream.newLogStreamBatchWriter();
       this.logStorage = logStorage;
     }
 
@@ -380,6 +386,10 @@ public final class TestStreams {
       return logStreamWriter;
     }
 
+    public LogStreamBatchWriter getLogStreamBatchWriter() {
+      return logStreamBatchWriter;
+    }
+
     public SynchronousLogStream getLogStream() {
       return logStream;
     }
@@ -7,6 +7,7 @@
  */
 package io.zeebe.gateway;
 
+import com.google.protobuf.ByteString;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCancelWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
@@ -33,7 +34,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowRequestObject;
 import io.zeebe.msgpack.value.DocumentValue;
-import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.encoding.MsgPackTranscoder;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -59,7 +60,8 @@ public final class RequestMapper {
     brokerRequest
         .setMessageId(grpcRequest.getMessageId())
         .setTimeToLive(grpcRequest.getTimeToLive())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()));
+        .setVariables(
+            ensureVariablesSet(grpcRequest.getVariablesBytes(), grpcRequest.getBinaryVariables()));
 
     return brokerRequest;
   }
@@ -82,7 +84,8 @@ public final class RequestMapper {
   public static BrokerCompleteJobRequest toCompleteJobRequest(
       final CompleteJobRequest grpcRequest) {
     return new BrokerCompleteJobRequest(
-        grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
+        grpcRequest.getJobKey(),
+        ensureVariablesSet(grpcRequest.getVariablesBytes(), grpcRequest.getBinaryVariables()));
   }
 
   public static BrokerCreateWorkflowInstanceRequest toCreateWorkflowInstanceRequest(
@@ -94,7 +97,7 @@ public final class RequestMapper {
         .setBpmnProcessId(grpcRequest.getBpmnProcessId())
         .setKey(grpcRequest.getWorkflowKey())
         .setVersion(grpcRequest.getVersion())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()));
+        .setVariables(ensureJsonSet(grpcRequest.getVariablesBytes()));
 
     return brokerRequest;
   }
@@ -110,7 +113,7 @@ public final class RequestMapper {
         .setBpmnProcessId(request.getBpmnProcessId())
         .setKey(request.getWorkflowKey())
         .setVersion(request.getVersion())
-        .setVariables(ensureJsonSet(request.getVariables()))
+        .setVariables(ensureJsonSet(request.getVariablesBytes()))
         .setFetchVariables(grpcRequest.getFetchVariablesList());
 
     return brokerRequest;
@@ -131,7 +134,7 @@ public final class RequestMapper {
     final BrokerSetVariablesRequest brokerRequest = new BrokerSetVariablesRequest();
 
     brokerRequest.setElementInstanceKey(grpcRequest.getElementInstanceKey());
-    brokerRequest.setVariables(ensureJsonSet(grpcRequest.getVariables()));
+    brokerRequest.setVariables(ensureJsonSet(grpcRequest.getVariablesBytes()));
     brokerRequest.setLocal(grpcRequest.getLocal());
 
     return brokerRequest;
@@ -143,7 +146,8 @@ public final class RequestMapper {
         .setTimeout(grpcRequest.getTimeout())
         .setWorker(grpcRequest.getWorker())
         .setMaxJobsToActivate(grpcRequest.getMaxJobsToActivate())
-        .setVariables(grpcRequest.getFetchVariableList());
+        .setVariables(grpcRequest.getFetchVariableList())
+        .setBinaryVariables(grpcRequest.getBinaryVariables());
   }
 
   public static BrokerResolveIncidentRequest toResolveIncidentRequest(
@@ -151,11 +155,31 @@ public final class RequestMapper {
     return new BrokerResolveIncidentRequest(grpcRequest.getIncidentKey());
   }
 
-  private static DirectBuffer ensureJsonSet(final String value) {
-    if (value == null || value.trim().isEmpty()) {
+  private static DirectBuffer ensureVariablesSet(
+      final ByteString jsonVariables, final ByteString binaryVariables) {
+    if (binaryVariables.isEmpty()) {
+      return ensureJsonSet(jsonVariables);
+    } else {
+      // passed through as is - the root of the document is validated when it is set as variables
+      return new UnsafeBuffer(binaryVariables.toByteArray());
+    }
+  }
+
+  private static DirectBuffer ensureJsonSet(final ByteString value) {
+    if (isBlank(value)) {
       return DocumentValue.EMPTY_DOCUMENT;
     } else {
-      return new UnsafeBuffer(MsgPackConverter.convertToMsgPack(value));
+      return new UnsafeBuffer(MsgPackTranscoder.jsonToMsgPack(value.newInput()));
+    }
+  }
+
+  private static boolean isBlank(final ByteString value) {
+    for (int i = 0; i < value.size(); i++) {
+      // the same characters are considered as whitespace as by String#trim
+      if ((value.byteAt(i) & 0xFF) > ' ') {
+        return false;
+      }
     }
+    return true;
   }
 }
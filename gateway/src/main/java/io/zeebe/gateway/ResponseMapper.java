@@ -7,9 +7,10 @@
  */
 package io.zeebe.gateway;
 
-import static io.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
@@ -24,7 +25,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.msgpack.value.LongValue;
-import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.encoding.MsgPackTranscoder;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
@@ -98,7 +99,7 @@ public final class ResponseMapper {
         .setBpmnProcessId(bufferAsString(brokerResponse.getBpmnProcessIdBuffer()))
         .setVersion(brokerResponse.getVersion())
         .setWorkflowInstanceKey(brokerResponse.getWorkflowInstanceKey())
-        .setVariables(bufferAsJson(brokerResponse.getVariablesBuffer()))
+        .setVariablesBytes(bufferAsJson(brokerResponse.getVariablesBuffer()))
         .build();
   }
 
@@ -113,7 +114,7 @@ public final class ResponseMapper {
   }
 
   public static ActivateJobsResponse toActivateJobsResponse(
-      final long key, final JobBatchRecord brokerResponse) {
+      final long key, final JobBatchRecord brokerResponse, final boolean binaryVariables) {
     final ActivateJobsResponse.Builder responseBuilder = ActivateJobsResponse.newBuilder();
 
     final Iterator<LongValue> jobKeys = brokerResponse.jobKeys().iterator();
@@ -122,7 +123,7 @@ public final class ResponseMapper {
     while (jobKeys.hasNext() && jobs.hasNext()) {
       final LongValue jobKey = jobKeys.next();
       final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob =
+      final ActivatedJob.Builder activatedJob =
           ActivatedJob.newBuilder()
               .setKey(jobKey.getValue())
               .setType(bufferAsString(job.getTypeBuffer()))
@@ -132,12 +133,16 @@ public final class ResponseMapper {
               .setWorkflowDefinitionVersion(job.getWorkflowDefinitionVersion())
               .setWorkflowKey(job.getWorkflowKey())
               .setElementInstanceKey(job.getElementInstanceKey())
-              .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
+              .setCustomHeadersBytes(bufferAsJson(job.getCustomHeadersBuffer()))
               .setWorker(bufferAsString(job.getWorkerBuffer()))
               .setRetries(job.getRetries())
-              .setDeadline(job.getDeadline())
-              .setVariables(bufferAsJson(job.getVariablesBuffer()))
-              .build();
+              .setDeadline(job.getDeadline());
+
+      if (binaryVariables) {
+        activatedJob.setBinaryVariables(bufferAsBytes(job.getVariablesBuffer()));
+      } else {
+        activatedJob.setVariablesBytes(bufferAsJson(job.getVariablesBuffer()));
+      }
 
       responseBuilder.addJobs(activatedJob);
     }
@@ -150,8 +155,14 @@ public final class ResponseMapper {
     return ResolveIncidentResponse.getDefaultInstance();
   }
 
-  private static String bufferAsJson(final DirectBuffer customHeaders) {
-    return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
+  private static ByteString bufferAsBytes(final DirectBuffer buffer) {
+    final byte[] bytes = new byte[buffer.capacity()];
+    buffer.getBytes(0, bytes);
+    return UnsafeByteOperations.unsafeWrap(bytes);
+  }
+
+  private static ByteString bufferAsJson(final DirectBuffer msgPack) {
+    return MsgPackTranscoder.msgPackToJson(msgPack, ByteString::copyFrom);
   }
 
   @FunctionalInterface
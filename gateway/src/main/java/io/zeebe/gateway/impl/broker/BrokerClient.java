@@ -83,4 +83,12 @@ public interface BrokerClient extends AutoCloseable {
   BrokerTopologyManager getTopologyManager();
 
   void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
+
+  /**
+   * Registers the interest of this gateway in job available notifications of the given job type at
+   * all known brokers. The interest expires on the brokers if it is not registered again.
+   *
+   * @return a future which is completed when all brokers received the interest
+   */
+  CompletableFuture<Void> registerJobAvailableInterest(String topic, String jobType);
 }
@@ -10,8 +10,10 @@ package io.zeebe.gateway.impl.broker;
 import io.atomix.cluster.AtomixCluster;
 import io.atomix.cluster.ClusterMembershipEvent;
 import io.atomix.cluster.ClusterMembershipEvent.Type;
+import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.Subscription;
 import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
@@ -42,6 +44,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final BrokerRequestManager requestManager;
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
+  private final String localMemberId;
+  private final Duration requestTimeout;
 
   public BrokerClientImpl(final GatewayCfg configuration, final AtomixCluster atomixCluster) {
     this(configuration, atomixCluster, null);
@@ -71,12 +75,14 @@ public final class BrokerClientImpl implements BrokerClient {
     this.atomixCluster = atomixCluster;
     this.actorScheduler = actorScheduler;
     this.ownsActorScheduler = ownsActorScheduler;
+    localMemberId = atomixCluster.getMembershipService().getLocalMember().id().id();
 
     if (ownsActorScheduler) {
       actorScheduler.start();
     }
 
     final ClusterCfg clusterCfg = configuration.getCluster();
+    requestTimeout = clusterCfg.getRequestTimeout();
     final var membershipService = atomixCluster.getMembershipService();
     topologyManager = new BrokerTopologyManagerImpl(membershipService::getMembers);
     actorScheduler.submitActor(topologyManager);
@@ -93,7 +99,9 @@ public final class BrokerClientImpl implements BrokerClient {
         new BrokerRequestManager(
             atomixTransportAdapter,
             topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
+            clusterCfg.isLoadAwareDispatch()
+                ? new LoadAwareDispatchStrategy(topologyManager)
+                : new RoundRobinDispatchStrategy(topologyManager),
             clusterCfg.getRequestTimeout());
     actorScheduler.submitActor(requestManager);
   }
@@ -189,6 +197,26 @@ public final class BrokerClientImpl implements BrokerClient {
             .join();
   }
 
+  @Override
+  public CompletableFuture<Void> registerJobAvailableInterest(
+      final String topic, final String jobType) {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var communicationService = atomixCluster.getCommunicationService();
+    final var interest = new String[] {localMemberId, jobType};
+    final CompletableFuture<?>[] registrations =
+        topology.getBrokers().stream()
+            .map(
+                brokerId ->
+                    communicationService.send(
+                        topic, interest, MemberId.from(String.valueOf(brokerId)), requestTimeout))
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(registrations);
+  }
+
   public <T> void sendRequestWithRetry(
       final BrokerRequest<T> request,
       final BrokerResponseConsumer<T> responseConsumer,
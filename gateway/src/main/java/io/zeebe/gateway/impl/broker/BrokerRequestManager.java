@@ -35,6 +35,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 
 final class BrokerRequestManager extends Actor {
 
@@ -46,6 +47,12 @@ final class BrokerRequestManager extends Actor {
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
 
+  // the leader of a partition is resolved when a request is sent (or retried), so the providers
+  // can be reused for all requests
+  private final Int2ObjectHashMap<BrokerAddressProvider> partitionAddressProviders =
+      new Int2ObjectHashMap<>();
+  private final BrokerAddressProvider randomBrokerAddressProvider = new BrokerAddressProvider();
+
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManagerImpl topologyManager,
@@ -122,36 +129,56 @@ final class BrokerRequestManager extends Actor {
       return;
     }
 
+    final int partitionId = nodeIdProvider.getPartitionId();
+    dispatchStrategy.onRequestSent(partitionId);
+
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
     final long startTime = System.currentTimeMillis();
+    final long startNanos = System.nanoTime();
 
     actor.runOnCompletion(
         responseFuture,
         (clientResponse, error) -> {
-          RequestResult result = null;
-          try {
-            if (error == null) {
-              final BrokerResponse<T> response = request.getResponse(clientResponse);
-
-              result = handleResponse(response, returnFuture);
-              if (result.wasProcessed()) {
-                final long elapsedTime = System.currentTimeMillis() - startTime;
-                GatewayMetrics.registerSuccessfulRequest(
-                    request.getPartitionId(), request.getType(), elapsedTime);
-                return;
-              }
-            } else {
-              returnFuture.completeExceptionally(error);
-            }
-          } catch (final RuntimeException e) {
-            returnFuture.completeExceptionally(new ClientResponseException(e));
-          }
-
-          registerFailure(request, result, error);
+          final RequestResult result =
+              handleCompletion(request, returnFuture, clientResponse, error, startTime);
+
+          final boolean backpressure =
+              result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED;
+          dispatchStrategy.onRequestCompleted(
+              partitionId, System.nanoTime() - startNanos, backpressure);
         });
   }
 
+  private <T> RequestResult handleCompletion(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final DirectBuffer clientResponse,
+      final Throwable error,
+      final long startTime) {
+    RequestResult result = null;
+    try {
+      if (error == null) {
+        final BrokerResponse<T> response = request.getResponse(clientResponse);
+
+        result = handleResponse(response, returnFuture);
+        if (result.wasProcessed()) {
+          final long elapsedTime = System.currentTimeMillis() - startTime;
+          GatewayMetrics.registerSuccessfulRequest(
+              request.getPartitionId(), request.getType(), elapsedTime);
+          return result;
+        }
+      } else {
+        returnFuture.completeExceptionally(error);
+      }
+    } catch (final RuntimeException e) {
+      returnFuture.completeExceptionally(new ClientResponseException(e));
+    }
+
+    registerFailure(request, result, error);
+    return result;
+  }
+
   private <T> void registerFailure(
       final BrokerRequest<T> request, final RequestResult result, final Throwable error) {
     if (result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
@@ -206,7 +233,7 @@ final class BrokerRequestManager extends Actor {
         throw new PartitionNotFoundException();
       }
       // already know partition id
-      return new BrokerAddressProvider(request.getPartitionId());
+      return getPartitionAddressProvider(request.getPartitionId());
     } else if (request.requiresPartitionId()) {
       if (request instanceof BrokerPublishMessageRequest) {
         determinePartitionIdForPublishMessageRequest((BrokerPublishMessageRequest) request);
@@ -221,13 +248,22 @@ final class BrokerRequestManager extends Actor {
         }
         request.setPartitionId(partitionId);
       }
-      return new BrokerAddressProvider(request.getPartitionId());
+      return getPartitionAddressProvider(request.getPartitionId());
     } else {
       // random broker
-      return new BrokerAddressProvider();
+      return randomBrokerAddressProvider;
     }
   }
 
+  private BrokerAddressProvider getPartitionAddressProvider(final int partitionId) {
+    BrokerAddressProvider addressProvider = partitionAddressProviders.get(partitionId);
+    if (addressProvider == null) {
+      addressProvider = new BrokerAddressProvider(partitionId);
+      partitionAddressProviders.put(partitionId, addressProvider);
+    }
+    return addressProvider;
+  }
+
   private void determinePartitionIdForPublishMessageRequest(
       final BrokerPublishMessageRequest request) {
     final BrokerClusterState topology = topologyManager.getTopology();
@@ -259,20 +295,27 @@ final class BrokerRequestManager extends Actor {
 
   private class BrokerAddressProvider implements Supplier<String> {
 
+    private final int partitionId;
     private final ToIntFunction<BrokerClusterState> nodeIdSelector;
 
     BrokerAddressProvider() {
-      this(BrokerClusterState::getRandomBroker);
+      this(BrokerClusterState.PARTITION_ID_NULL, BrokerClusterState::getRandomBroker);
     }
 
     BrokerAddressProvider(final int partitionId) {
-      this(state -> state.getLeaderForPartition(partitionId));
+      this(partitionId, state -> state.getLeaderForPartition(partitionId));
     }
 
-    BrokerAddressProvider(final ToIntFunction<BrokerClusterState> nodeIdSelector) {
+    BrokerAddressProvider(
+        final int partitionId, final ToIntFunction<BrokerClusterState> nodeIdSelector) {
+      this.partitionId = partitionId;
       this.nodeIdSelector = nodeIdSelector;
     }
 
+    int getPartitionId() {
+      return partitionId;
+    }
+
     @Override
     public String get() {
       final BrokerClusterState topology = topologyManager.getTopology();
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import io.prometheus.client.Counter;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.metrics.GatewayMetrics;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks the partition by the power of two choices: it samples two partitions with a leader and
+ * takes the one with the lower load. The load of a partition is estimated by its in-flight
+ * requests, weighted by its smoothed request latency; a partition without a measured latency yet is
+ * weighted by the average latency of all partitions. A partition which rejected a request because
+ * of backpressure is avoided for a short time, unless both sampled partitions are affected.
+ *
+ * <p>Compared to round-robin, this shifts requests away from partitions which are slow or under
+ * backpressure, while still spreading the requests over all partitions.
+ *
+ * <p>The strategy is not thread-safe. It is used by the broker request manager actor only.
+ */
+public final class LoadAwareDispatchStrategy implements RequestDispatchStrategy {
+
+  private static final long BACKPRESSURE_BACKOFF_MS = Duration.ofMillis(250).toMillis();
+  private static final double SMOOTHING = 0.2;
+  // used until the first request of any partition completed, such that the in-flight requests
+  // still count
+  private static final double DEFAULT_LATENCY_NANOS = Duration.ofMillis(1).toNanos();
+
+  private final BrokerTopologyManager topologyManager;
+
+  // the state is indexed by the partition id
+  private int[] inFlightRequests = new int[0];
+  private double[] latencyNanos = new double[0];
+  private long[] backpressureUntil = new long[0];
+  private Counter.Child[] dispatchedRequests = new Counter.Child[0];
+  private double averageLatencyNanos;
+
+  public LoadAwareDispatchStrategy(final BrokerTopologyManager topologyManager) {
+    this.topologyManager = topologyManager;
+  }
+
+  @Override
+  public int determinePartition() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null) {
+      return BrokerClusterState.PARTITION_ID_NULL;
+    }
+
+    final int partitionsCount = topology.getPartitions().size();
+    if (partitionsCount == 0) {
+      return BrokerClusterState.PARTITION_ID_NULL;
+    }
+
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int firstIndex = random.nextInt(partitionsCount);
+    final int first = nextPartitionWithLeader(topology, firstIndex, partitionsCount);
+    if (first == BrokerClusterState.PARTITION_ID_NULL) {
+      return BrokerClusterState.PARTITION_ID_NULL;
+    }
+
+    int partitionId = first;
+    if (partitionsCount > 1) {
+      final int secondIndex = firstIndex + 1 + random.nextInt(partitionsCount - 1);
+      final int second = nextPartitionWithLeader(topology, secondIndex, partitionsCount);
+      if (second != first && isLessLoaded(second, first)) {
+        partitionId = second;
+      }
+    }
+
+    ensureCapacity(partitionId);
+    Counter.Child dispatchedRequestsCounter = dispatchedRequests[partitionId];
+    if (dispatchedRequestsCounter == null) {
+      dispatchedRequestsCounter = GatewayMetrics.getDispatchedRequestsCounter(partitionId);
+      dispatchedRequests[partitionId] = dispatchedRequestsCounter;
+    }
+    dispatchedRequestsCounter.inc();
+    return partitionId;
+  }
+
+  @Override
+  public void onRequestSent(final int partitionId) {
+    if (partitionId < 0) {
+      return;
+    }
+
+    ensureCapacity(partitionId);
+    inFlightRequests[partitionId] += 1;
+  }
+
+  @Override
+  public void onRequestCompleted(
+      final int partitionId, final long latencyNanos, final boolean backpressure) {
+    if (partitionId < 0 || partitionId >= inFlightRequests.length) {
+      return;
+    }
+
+    inFlightRequests[partitionId] = Math.max(0, inFlightRequests[partitionId] - 1);
+
+    this.latencyNanos[partitionId] = smooth(this.latencyNanos[partitionId], latencyNanos);
+    averageLatencyNanos = smooth(averageLatencyNanos, latencyNanos);
+
+    if (backpressure) {
+      backpressureUntil[partitionId] = ActorClock.currentTimeMillis() + BACKPRESSURE_BACKOFF_MS;
+    }
+  }
+
+  private boolean isLessLoaded(final int partitionId, final int otherPartitionId) {
+    ensureCapacity(Math.max(partitionId, otherPartitionId));
+
+    final long now = ActorClock.currentTimeMillis();
+    final boolean underBackpressure = backpressureUntil[partitionId] > now;
+    final boolean otherUnderBackpressure = backpressureUntil[otherPartitionId] > now;
+    if (underBackpressure != otherUnderBackpressure) {
+      return otherUnderBackpressure;
+    }
+
+    return load(partitionId) < load(otherPartitionId);
+  }
+
+  private double load(final int partitionId) {
+    double latency = latencyNanos[partitionId];
+    if (latency == 0) {
+      latency = averageLatencyNanos == 0 ? DEFAULT_LATENCY_NANOS : averageLatencyNanos;
+    }
+
+    return (inFlightRequests[partitionId] + 1) * latency;
+  }
+
+  private static double smooth(final double average, final long sample) {
+    return average == 0 ? sample : average + SMOOTHING * (sample - average);
+  }
+
+  private static int nextPartitionWithLeader(
+      final BrokerClusterState topology, final int startIndex, final int partitionsCount) {
+    for (int i = 0; i < partitionsCount; i++) {
+      final int partition = topology.getPartition(startIndex + i);
+      if (topology.getLeaderForPartition(partition) != BrokerClusterState.NODE_ID_NULL) {
+        return partition;
+      }
+    }
+
+    return BrokerClusterState.PARTITION_ID_NULL;
+  }
+
+  private void ensureCapacity(final int partitionId) {
+    if (partitionId < inFlightRequests.length) {
+      return;
+    }
+
+    final int newLength = partitionId + 1;
+    inFlightRequests = Arrays.copyOf(inFlightRequests, newLength);
+    latencyNanos = Arrays.copyOf(latencyNanos, newLength);
+    backpressureUntil = Arrays.copyOf(backpressureUntil, newLength);
+    dispatchedRequests = Arrays.copyOf(dispatchedRequests, newLength);
+  }
+}
@@ -14,4 +14,20 @@ public interface RequestDispatchStrategy {
 
   /** @return {@link BrokerClusterState#PARTITION_ID_NULL} if no partition can be determined */
   int determinePartition();
+
+  /**
+   * Invoked when a request is sent to the given partition, regardless of whether the partition was
+   * determined by this strategy.
+   */
+  default void onRequestSent(final int partitionId) {}
+
+  /**
+   * Invoked when a request to the given partition is completed, i.e. when the response, an error or
+   * a timeout is received.
+   *
+   * @param latencyNanos the time between sending the request and its completion
+   * @param backpressure {@code true} if the partition rejected the request because of backpressure
+   */
+  default void onRequestCompleted(
+      final int partitionId, final long latencyNanos, final boolean backpressure) {}
 }
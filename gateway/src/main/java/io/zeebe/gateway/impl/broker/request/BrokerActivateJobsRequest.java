@@ -19,6 +19,7 @@ import org.agrona.DirectBuffer;
 public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
 
   private final JobBatchRecord requestDto = new JobBatchRecord();
+  private boolean binaryVariables;
 
   public BrokerActivateJobsRequest(final String jobType) {
     super(ValueType.JOB_BATCH, JobBatchIntent.ACTIVATE);
@@ -49,6 +50,19 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /**
+   * Sets whether the variables of the activated jobs are returned to the client as MessagePack
+   * document. The flag is only evaluated by the gateway and not sent to the broker.
+   */
+  public BrokerActivateJobsRequest setBinaryVariables(final boolean binaryVariables) {
+    this.binaryVariables = binaryVariables;
+    return this;
+  }
+
+  public boolean hasBinaryVariables() {
+    return binaryVariables;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
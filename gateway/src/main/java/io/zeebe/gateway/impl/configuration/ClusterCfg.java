@@ -13,6 +13,7 @@ import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_PORT;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_HOST;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_PORT;
+import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LOAD_AWARE_DISPATCH;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_TIMEOUT;
 
 import java.time.Duration;
@@ -22,6 +23,7 @@ public final class ClusterCfg {
   private String contactPoint = DEFAULT_CONTACT_POINT_HOST + ":" + DEFAULT_CONTACT_POINT_PORT;
 
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+  private boolean loadAwareDispatch = DEFAULT_LOAD_AWARE_DISPATCH;
   private String clusterName = DEFAULT_CLUSTER_NAME;
   private String memberId = DEFAULT_CLUSTER_MEMBER_ID;
   private String host = DEFAULT_CLUSTER_HOST;
@@ -73,6 +75,15 @@ public final class ClusterCfg {
     return this;
   }
 
+  public boolean isLoadAwareDispatch() {
+    return loadAwareDispatch;
+  }
+
+  public ClusterCfg setLoadAwareDispatch(final boolean loadAwareDispatch) {
+    this.loadAwareDispatch = loadAwareDispatch;
+    return this;
+  }
+
   public String getClusterName() {
     return clusterName;
   }
@@ -92,7 +103,8 @@ public final class ClusterCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(contactPoint, requestTimeout, clusterName, memberId, host, port);
+    return Objects.hash(
+        contactPoint, requestTimeout, loadAwareDispatch, clusterName, memberId, host, port);
   }
 
   @Override
@@ -105,6 +117,7 @@ public final class ClusterCfg {
     }
     final ClusterCfg that = (ClusterCfg) o;
     return port == that.port
+        && loadAwareDispatch == that.loadAwareDispatch
         && Objects.equals(contactPoint, that.contactPoint)
         && Objects.equals(requestTimeout, that.requestTimeout)
         && Objects.equals(clusterName, that.clusterName)
@@ -120,6 +133,8 @@ public final class ClusterCfg {
         + '\''
         + ", requestTimeout='"
         + requestTimeout
+        + ", loadAwareDispatch="
+        + loadAwareDispatch
         + ", clusterName='"
         + clusterName
         + '\''
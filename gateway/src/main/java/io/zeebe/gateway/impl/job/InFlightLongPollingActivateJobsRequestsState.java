@@ -25,6 +25,7 @@ public final class InFlightLongPollingActivateJobsRequestsState {
   private final Queue<LongPollingActivateJobsRequest> pendingRequests = new LinkedList<>();
   private int failedAttempts;
   private long lastUpdatedTime;
+  private boolean interestRegistered;
 
   public InFlightLongPollingActivateJobsRequestsState(
       final String jobType, final LongPollingMetrics metrics) {
@@ -56,6 +57,14 @@ public final class InFlightLongPollingActivateJobsRequestsState {
     return lastUpdatedTime;
   }
 
+  public boolean isInterestRegistered() {
+    return interestRegistered;
+  }
+
+  public void setInterestRegistered(final boolean interestRegistered) {
+    this.interestRegistered = interestRegistered;
+  }
+
   public void enqueueRequest(final LongPollingActivateJobsRequest request) {
     if (!pendingRequests.contains(request)) {
       pendingRequests.offer(request);
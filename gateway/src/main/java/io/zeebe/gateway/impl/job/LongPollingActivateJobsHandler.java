@@ -24,6 +24,7 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -37,6 +38,7 @@ import org.slf4j.Logger;
 public final class LongPollingActivateJobsHandler extends Actor implements ActivateJobsHandler {
 
   private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  private static final String JOBS_AVAILABLE_INTEREST_TOPIC = "jobsAvailableInterest";
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
@@ -50,6 +52,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   private final Duration longPollingTimeout;
   private final long probeTimeoutMillis;
   private final int failedAttemptThreshold;
+  private final Duration interestRefreshInterval;
 
   private final LongPollingMetrics metrics;
 
@@ -57,12 +60,14 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final Duration interestRefreshInterval) {
     this.brokerClient = brokerClient;
     activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
+    this.interestRefreshInterval = interestRefreshInterval;
     metrics = new LongPollingMetrics();
   }
 
@@ -75,6 +80,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   protected void onActorStarted() {
     brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
     actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
+    actor.runAtFixedRate(interestRefreshInterval, this::refreshInterests);
   }
 
   @Override
@@ -128,7 +134,44 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   private void onNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
 
-    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
+    actor.run(
+        () -> {
+          metrics.notificationReceived(jobType);
+          final int wokenRequests = resetFailedAttemptsAndHandlePendingRequests(jobType);
+          metrics.requestsWoken(jobType, wokenRequests);
+        });
+  }
+
+  /**
+   * Registers the interest in the job type at the brokers, so that brokers which send targeted
+   * notifications notify this gateway. Since jobs may have become available before the brokers
+   * received the interest, the pending requests are retried once the first registration completed.
+   */
+  private void registerInterest(
+      final InFlightLongPollingActivateJobsRequestsState state, final String jobType) {
+    final boolean isFirstRegistration = !state.isInterestRegistered();
+    state.setInterestRegistered(true);
+
+    brokerClient
+        .registerJobAvailableInterest(JOBS_AVAILABLE_INTEREST_TOPIC, jobType)
+        .whenComplete(
+            (nothing, error) -> {
+              if (error != null) {
+                LOG.trace("Failed to register interest in jobs of type {}", jobType, error);
+              }
+
+              if (isFirstRegistration) {
+                actor.run(() -> retryPendingRequests(jobType));
+              }
+            });
+  }
+
+  private void retryPendingRequests(final String jobType) {
+    final InFlightLongPollingActivateJobsRequestsState state = jobTypeState.get(jobType);
+    if (state != null) {
+      new ArrayList<>(state.getPendingRequests())
+          .forEach(pendingRequest -> activateJobsUnchecked(state, pendingRequest));
+    }
   }
 
   private void onCompleted(
@@ -182,13 +225,14 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     actor.submit(() -> request.onResponse(activateJobsResponse));
   }
 
-  private void resetFailedAttemptsAndHandlePendingRequests(final String jobType) {
+  private int resetFailedAttemptsAndHandlePendingRequests(final String jobType) {
     final InFlightLongPollingActivateJobsRequestsState state = getJobTypeState(jobType);
 
     state.resetFailedAttempts();
 
     final Queue<LongPollingActivateJobsRequest> pendingRequests = state.getPendingRequests();
 
+    final int pendingRequestsCount = pendingRequests.size();
     if (!pendingRequests.isEmpty()) {
       pendingRequests.stream()
           .forEach(
@@ -201,6 +245,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
         jobTypeState.remove(jobType);
       }
     }
+    return pendingRequestsCount;
   }
 
   private void completeOrEnqueueRequest(
@@ -222,6 +267,9 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       if (!request.hasScheduledTimer()) {
         addTimeOut(state, request);
       }
+      if (!state.isInterestRegistered()) {
+        registerInterest(state, request.getType());
+      }
     }
   }
 
@@ -241,6 +289,11 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
                   requestTimeout);
               state.removeRequest(request);
               request.timeout();
+
+              if (state.getPendingRequests().isEmpty()) {
+                // the interest expires on the brokers, so the next blocked request registers it
+                state.setInterestRegistered(false);
+              }
             });
     request.setScheduledTimer(timeout);
   }
@@ -263,6 +316,22 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
         });
   }
 
+  /**
+   * Refreshes the interest in the job types with blocked requests before it expires on the brokers.
+   * For the other job types, the interest is left to expire, and the next blocked request registers
+   * it again.
+   */
+  private void refreshInterests() {
+    jobTypeState.forEach(
+        (type, state) -> {
+          if (!state.getPendingRequests().isEmpty()) {
+            registerInterest(state, type);
+          } else {
+            state.setInterestRegistered(false);
+          }
+        });
+  }
+
   public static Builder newBuilder() {
     return new Builder();
   }
@@ -273,11 +342,14 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     private static final long DEFAULT_PROBE_TIMEOUT = 10_000; // 10 seconds
     // Minimum number of responses with jobCount 0 to infer that no jobs are available
     private static final int EMPTY_RESPONSE_THRESHOLD = 3;
+    // must be well below the interest timeout of the brokers (30 seconds by default)
+    private static final Duration DEFAULT_INTEREST_REFRESH_INTERVAL = Duration.ofSeconds(10);
 
     private BrokerClient brokerClient;
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private Duration interestRefreshInterval = DEFAULT_INTEREST_REFRESH_INTERVAL;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -299,10 +371,20 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       return this;
     }
 
+    public Builder setInterestRefreshInterval(final Duration interestRefreshInterval) {
+      this.interestRefreshInterval = interestRefreshInterval;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
+      Objects.requireNonNull(interestRefreshInterval, "interestRefreshInterval");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient,
+          longPollingTimeout,
+          probeTimeoutMillis,
+          minEmptyResponses,
+          interestRefreshInterval);
     }
   }
 }
@@ -121,7 +121,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
                 if (error == null) {
                   final ActivateJobsResponse grpcResponse =
                       ResponseMapper.toActivateJobsResponse(
-                          response.getKey(), response.getResponse());
+                          response.getKey(), response.getResponse(), request.hasBinaryVariables());
                   final int jobsCount = grpcResponse.getJobsCount();
                   if (jobsCount > 0) {
                     onResponse.accept(grpcResponse);
@@ -36,6 +36,15 @@ public final class GatewayMetrics {
           .labelNames("partition", "requestType")
           .register();
 
+  private static final Counter DISPATCHED_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_dispatched_requests")
+          .help(
+              "Number of requests which were routed to a partition by the load-aware dispatch strategy")
+          .labelNames("partition")
+          .register();
+
   private GatewayMetrics() {}
 
   public static void registerSuccessfulRequest(
@@ -49,4 +58,12 @@ public final class GatewayMetrics {
     FAILED_REQUESTS.labels(Long.toString(partition), requestType, error).inc();
     TOTAL_REQUESTS.labels(Long.toString(partition), requestType).inc();
   }
+
+  /**
+   * @return the counter of the requests which were routed to the given partition - the caller
+   *     should keep it to avoid resolving the labels on every request
+   */
+  public static Counter.Child getDispatchedRequestsCounter(final int partition) {
+    return DISPATCHED_REQUESTS.labels(Integer.toString(partition));
+  }
 }
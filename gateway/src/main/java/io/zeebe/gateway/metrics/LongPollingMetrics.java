@@ -7,6 +7,7 @@
  */
 package io.zeebe.gateway.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public final class LongPollingMetrics {
@@ -18,6 +19,30 @@ public final class LongPollingMetrics {
           .labelNames("type")
           .register();
 
+  private static final Counter NOTIFICATIONS_RECEIVED =
+      Counter.build()
+          .namespace("zeebe")
+          .name("long_polling_notifications_received_total")
+          .help("Number of job available notifications received from the brokers")
+          .labelNames("type")
+          .register();
+
+  private static final Counter REQUESTS_WOKEN =
+      Counter.build()
+          .namespace("zeebe")
+          .name("long_polling_requests_woken_total")
+          .help("Number of queued requests which were woken up by a job available notification")
+          .labelNames("type")
+          .register();
+
+  public void notificationReceived(final String type) {
+    NOTIFICATIONS_RECEIVED.labels(type).inc();
+  }
+
+  public void requestsWoken(final String type, final int count) {
+    REQUESTS_WOKEN.labels(type).inc(count);
+  }
+
   public void setBlockedRequestsCount(final String type, final int count) {
     REQUESTS_QUEUED_CURRENT.labels(type).set(count);
   }
@@ -109,6 +109,35 @@ public final class ActivateJobsTest extends GatewayTest {
         .containsExactlyInAnyOrderElementsOf(fetchVariables);
   }
 
+  @Test
+  public void shouldReturnBinaryVariables() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String jobType = "testJob";
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(jobType)
+            .setMaxJobsToActivate(1)
+            .setBinaryVariables(true)
+            .build();
+
+    stub.addAvailableJobs(jobType, 1);
+
+    // when
+    final ActivateJobsResponse response = client.activateJobs(request).next();
+
+    // then
+    assertThat(response.getJobsCount()).isEqualTo(1);
+
+    final ActivatedJob job = response.getJobs(0);
+    assertThat(job.getVariables()).isEmpty();
+    assertThat(job.getBinaryVariables().toByteArray())
+        .isEqualTo(BufferUtil.bufferAsArray(ActivateJobsStub.VARIABLES_MSGPACK));
+    JsonUtil.assertEquality(job.getCustomHeaders(), stub.getCustomHeaders());
+  }
+
   @Test
   public void shouldActivateJobsRoundRobin() {
     // given
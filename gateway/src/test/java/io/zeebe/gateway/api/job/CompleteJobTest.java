@@ -9,10 +9,12 @@ package io.zeebe.gateway.api.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.protobuf.ByteString;
 import io.zeebe.gateway.api.util.GatewayTest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
@@ -70,4 +72,29 @@ public final class CompleteJobTest extends GatewayTest {
     final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
     MsgPackUtil.assertEqualityExcluding(brokerRequestValue.getVariablesBuffer(), "{}");
   }
+
+  @Test
+  public void shouldPassBinaryVariables() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final String variables = JsonUtil.toJson(Collections.singletonMap("key", "value"));
+
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setBinaryVariables(ByteString.copyFrom(MsgPackConverter.convertToMsgPack(variables)))
+            .build();
+
+    // when
+    final CompleteJobResponse response = client.completeJob(request);
+
+    // then
+    assertThat(response).isNotNull();
+
+    final BrokerCompleteJobRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
+    MsgPackUtil.assertEqualityExcluding(brokerRequestValue.getVariablesBuffer(), variables);
+  }
 }
@@ -209,6 +209,88 @@ public final class LongPollingActivateJobsTest {
     verify(otherRequest.getResponseObserver(), timeout(2000).times(1)).onCompleted();
   }
 
+  @Test
+  public void shouldRegisterInterestWhenRequestIsBlocked() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+
+    // when
+    handler.activateJobs(request);
+    waitUntil(() -> request.hasScheduledTimer());
+
+    // then
+    waitUntil(() -> !brokerClient.getJobAvailableInterests().isEmpty());
+    assertThat(brokerClient.getJobAvailableInterests()).containsExactly(TYPE);
+  }
+
+  @Test
+  public void shouldRetryBlockedRequestWhenInterestIsRegistered() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(() -> request.hasScheduledTimer());
+    waitUntil(() -> !brokerClient.getJobAvailableInterests().isEmpty());
+
+    // when
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.acknowledgeJobAvailableInterest(TYPE);
+
+    // then
+    verify(request.getResponseObserver(), timeout(2000).times(1)).onNext(any());
+    verify(request.getResponseObserver(), timeout(1000).times(1)).onCompleted();
+  }
+
+  @Test
+  public void shouldRefreshInterestWhileRequestIsBlocked() {
+    // given
+    final Duration interestRefreshInterval = Duration.ofMillis(2000);
+    handler =
+        LongPollingActivateJobsHandler.newBuilder()
+            .setBrokerClient(brokerClient)
+            .setLongPollingTimeout(20000)
+            .setInterestRefreshInterval(interestRefreshInterval)
+            .build();
+    actorSchedulerRule.submitActor(handler);
+
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(() -> request.hasScheduledTimer());
+    waitUntil(() -> brokerClient.getJobAvailableInterests().size() == 1);
+
+    // when
+    actorClock.addTime(interestRefreshInterval);
+
+    // then
+    waitUntil(() -> brokerClient.getJobAvailableInterests().size() > 1);
+    assertThat(brokerClient.getJobAvailableInterests()).containsOnly(TYPE);
+  }
+
+  @Test
+  public void shouldRegisterInterestAgainAfterBlockedRequestsTimedOut() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(() -> request.hasScheduledTimer());
+    waitUntil(() -> brokerClient.getJobAvailableInterests().size() == 1);
+    brokerClient.acknowledgeJobAvailableInterest(TYPE);
+
+    // the request times out, and the interest expires on the brokers
+    actorClock.addTime(Duration.ofMillis(LONG_POLLING_TIMEOUT));
+    waitUntil(request::isTimedOut);
+
+    // when
+    final LongPollingActivateJobsRequest nextRequest = getLongPollingActivateJobsRequest();
+    handler.activateJobs(nextRequest);
+    waitUntil(() -> brokerClient.getJobAvailableInterests().size() == 2);
+
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.acknowledgeJobAvailableInterest(TYPE);
+
+    // then
+    verify(nextRequest.getResponseObserver(), timeout(2000).times(1)).onNext(any());
+    verify(nextRequest.getResponseObserver(), timeout(1000).times(1)).onCompleted();
+  }
+
   @Test
   public void shouldProbeIfNoNotificationReceived() throws Exception {
     // given
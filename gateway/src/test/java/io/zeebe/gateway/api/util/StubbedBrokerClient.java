@@ -25,12 +25,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
   private Consumer<String> jobsAvailableHandler;
+  private final List<String> jobAvailableInterests = new CopyOnWriteArrayList<>();
+  private final Map<String, CompletableFuture<Void>> jobAvailableInterestRegistrations =
+      new ConcurrentHashMap<>();
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
@@ -110,6 +115,22 @@ public final class StubbedBrokerClient implements BrokerClient {
     jobsAvailableHandler = handler;
   }
 
+  @Override
+  public CompletableFuture<Void> registerJobAvailableInterest(
+      final String topic, final String jobType) {
+    jobAvailableInterests.add(jobType);
+    return jobAvailableInterestRegistrations.computeIfAbsent(
+        jobType, type -> new CompletableFuture<>());
+  }
+
+  public List<String> getJobAvailableInterests() {
+    return jobAvailableInterests;
+  }
+
+  public void acknowledgeJobAvailableInterest(final String jobType) {
+    jobAvailableInterestRegistrations.remove(jobType).complete(null);
+  }
+
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
       void registerHandler(
           final Class<?> requestType, final RequestHandler<RequestT, ResponseT> requestHandler) {
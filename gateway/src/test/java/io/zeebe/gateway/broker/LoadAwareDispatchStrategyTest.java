@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.impl.broker.LoadAwareDispatchStrategy;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class LoadAwareDispatchStrategyTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private BrokerClusterStateImpl topology;
+  private LoadAwareDispatchStrategy strategy;
+
+  @Before
+  public void setUp() {
+    topology = new BrokerClusterStateImpl();
+    topology.addBrokerIfAbsent(0);
+    topology.addPartitionIfAbsent(1);
+    topology.addPartitionIfAbsent(2);
+    topology.setPartitionLeader(1, 0, 1);
+    topology.setPartitionLeader(2, 0, 1);
+
+    strategy = new LoadAwareDispatchStrategy(() -> topology);
+  }
+
+  @Test
+  public void shouldPreferPartitionWithFewerInFlightRequests() {
+    // given
+    completeRequest(1, FAST, false);
+    completeRequest(2, FAST, false);
+
+    // when
+    strategy.onRequestSent(1);
+    strategy.onRequestSent(1);
+
+    // then
+    assertThat(determinePartitions(10)).containsOnly(2);
+  }
+
+  @Test
+  public void shouldPreferPartitionWithLowerLatency() {
+    // when
+    completeRequest(1, SLOW, false);
+    completeRequest(2, FAST, false);
+
+    // then
+    assertThat(determinePartitions(10)).containsOnly(2);
+  }
+
+  @Test
+  public void shouldEstimateLoadOfPartitionWithoutLatencyByAverageLatency() {
+    // given
+    completeRequest(1, FAST, false);
+
+    // when
+    strategy.onRequestSent(2);
+    strategy.onRequestSent(2);
+
+    // then
+    assertThat(determinePartitions(10)).containsOnly(1);
+  }
+
+  @Test
+  public void shouldPreferPartitionWithFewerInFlightRequestsWithoutLatency() {
+    // when
+    strategy.onRequestSent(1);
+
+    // then
+    assertThat(determinePartitions(10)).containsOnly(2);
+  }
+
+  @Test
+  public void shouldAvoidPartitionUnderBackpressure() {
+    // when
+    completeRequest(1, SLOW, false);
+    completeRequest(2, FAST, true);
+
+    // then
+    assertThat(determinePartitions(10)).containsOnly(1);
+  }
+
+  @Test
+  public void shouldOnlyPickPartitionWithLeader() {
+    // given
+    topology = new BrokerClusterStateImpl();
+    topology.addBrokerIfAbsent(0);
+    topology.addPartitionIfAbsent(1);
+    topology.addPartitionIfAbsent(2);
+    topology.addPartitionIfAbsent(3);
+    topology.setPartitionLeader(3, 0, 1);
+
+    // then
+    assertThat(determinePartitions(10)).containsOnly(3);
+  }
+
+  @Test
+  public void shouldReturnNullPartitionWithoutTopology() {
+    // given
+    strategy = new LoadAwareDispatchStrategy(() -> null);
+
+    // then
+    assertThat(strategy.determinePartition()).isEqualTo(BrokerClusterState.PARTITION_ID_NULL);
+  }
+
+  private void completeRequest(
+      final int partitionId, final long latencyNanos, final boolean backpressure) {
+    strategy.onRequestSent(partitionId);
+    strategy.onRequestCompleted(partitionId, latencyNanos, backpressure);
+  }
+
+  private int[] determinePartitions(final int count) {
+    final int[] partitions = new int[count];
+    for (int i = 0; i < count; i++) {
+      partitions[i] = strategy.determinePartition();
+    }
+    return partitions;
+  }
+}
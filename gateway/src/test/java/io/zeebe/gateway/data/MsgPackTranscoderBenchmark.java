@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.data;
+
+import com.google.protobuf.ByteString;
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.encoding.MsgPackTranscoder;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link MsgPackConverter} with the {@link MsgPackTranscoder} on variable documents of
+ * different sizes, in both directions as the gateway converts them: JSON request variables given as
+ * gRPC {@link ByteString}, and MessagePack job variables which are returned as {@link ByteString}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MsgPackTranscoderBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int variables;
+
+  private ByteString json;
+  private DirectBuffer msgPack;
+
+  @Setup
+  public void setUp() {
+    final String document =
+        IntStream.range(0, variables)
+            .mapToObj(
+                i ->
+                    String.format(
+                        "\"variable%d\":{\"id\":%d,\"name\":\"name of %d\",\"amount\":%d.25,"
+                            + "\"active\":%b,\"tags\":[\"a\",\"b\",\"c\"]}",
+                        i, i, i, i, i % 2 == 0))
+            .collect(Collectors.joining(",", "{", "}"));
+
+    json = ByteString.copyFromUtf8(document);
+    msgPack = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(document));
+  }
+
+  @Benchmark
+  public byte[] jsonToMsgPackWithConverter() {
+    return MsgPackConverter.convertToMsgPack(json.toStringUtf8());
+  }
+
+  @Benchmark
+  public byte[] jsonToMsgPackWithTranscoder() {
+    return MsgPackTranscoder.jsonToMsgPack(json.newInput());
+  }
+
+  @Benchmark
+  public ByteString msgPackToJsonWithConverter() {
+    return ByteString.copyFromUtf8(
+        MsgPackConverter.convertToJson(BufferUtil.bufferAsArray(msgPack)));
+  }
+
+  @Benchmark
+  public ByteString msgPackToJsonWithTranscoder() {
+    return MsgPackTranscoder.msgPackToJson(msgPack, ByteString::copyFrom);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(MsgPackTranscoderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.data;
+
+import static io.zeebe.util.StringUtil.getBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.msgpack.spec.MsgPackCodes;
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.encoding.MsgPackTranscoder;
+import io.zeebe.test.util.MsgPackUtil;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class MsgPackTranscoderTest {
+
+  private static final String JSON = "{\"key1\":1,\"key2\":2}";
+
+  @Test
+  public void shouldConvertFromJsonToMsgPack() {
+    // given
+    final byte[] json = getBytes(JSON);
+
+    // when
+    final byte[] msgPack = MsgPackTranscoder.jsonToMsgPack(json, 0, json.length);
+
+    // then
+    assertThat(msgPack).isEqualTo(MsgPackConverter.convertToMsgPack(JSON));
+  }
+
+  @Test
+  public void shouldConvertFromJsonStreamToMsgPack() {
+    // when
+    final byte[] msgPack =
+        MsgPackTranscoder.jsonToMsgPack(new ByteArrayInputStream(getBytes(JSON)));
+
+    // then
+    assertThat(msgPack).isEqualTo(MsgPackConverter.convertToMsgPack(JSON));
+  }
+
+  @Test
+  public void shouldConvertFromMsgPackToJson() {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(JSON);
+
+    // when
+    final String json = MsgPackTranscoder.msgPackToJson(new UnsafeBuffer(msgPack));
+
+    // then
+    assertThat(json).isEqualTo(JSON);
+  }
+
+  @Test
+  public void shouldConvertNestedDocumentsLikeConverter() {
+    // given
+    final String largeObject =
+        IntStream.range(0, 20)
+            .mapToObj(i -> "\"key" + i + "\":" + i * 1000)
+            .collect(Collectors.joining(",", "{", "}"));
+    final String largeArray =
+        IntStream.range(0, 70_000)
+            .mapToObj(Integer::toString)
+            .collect(Collectors.joining(",", "[", "]"));
+    final String json =
+        "{\"object\":"
+            + largeObject
+            + ",\"array\":"
+            + largeArray
+            + ",\"empty\":{},\"emptyArray\":[],\"nested\":[[{\"a\":[true,false,null]}]],"
+            + "\"negative\":-123456789012,"
+            + "\"text\":\"quote \\\" backslash \\\\ tab \\t bell \\u0007 umlaut \\u00e4 emoji \\ud83d\\ude00\"}";
+
+    // when
+    final byte[] msgPack =
+        MsgPackTranscoder.jsonToMsgPack(getBytes(json), 0, getBytes(json).length);
+
+    // then
+    assertThat(msgPack).isEqualTo(MsgPackConverter.convertToMsgPack(json));
+    assertThat(MsgPackTranscoder.msgPackToJson(new UnsafeBuffer(msgPack)))
+        .isEqualTo(MsgPackConverter.convertToJson(msgPack));
+  }
+
+  @Test
+  public void shouldConvertUnsignedIntegerLikeConverter() {
+    // given
+    final String json = "{\"unsigned\":18446744073709551615}";
+
+    // when
+    final byte[] msgPack = MsgPackTranscoder.jsonToMsgPack(getBytes(json), 0, json.length());
+
+    // then
+    assertThat(msgPack).isEqualTo(MsgPackConverter.convertToMsgPack(json));
+  }
+
+  @Test
+  public void shouldConvertSingleQuotedJson() {
+    // given
+    final String json = "{'key':'value'}";
+
+    // when
+    final byte[] msgPack = MsgPackTranscoder.jsonToMsgPack(getBytes(json), 0, json.length());
+
+    // then
+    assertThat(msgPack).isEqualTo(MsgPackConverter.convertToMsgPack(json));
+  }
+
+  @Test
+  public void shouldConvertFloatToEquivalentDocument() {
+    // given
+    final String json = "{\"half\":0.5,\"third\":0.3333333333333333}";
+
+    // when
+    final byte[] msgPack = MsgPackTranscoder.jsonToMsgPack(getBytes(json), 0, json.length());
+
+    // then
+    assertThat(MsgPackConverter.convertToMap(new UnsafeBuffer(msgPack)))
+        .containsEntry("half", 0.5)
+        .containsEntry("third", 0.3333333333333333);
+    assertThat(MsgPackTranscoder.msgPackToJson(new UnsafeBuffer(msgPack))).isEqualTo(json);
+  }
+
+  @Test
+  public void shouldConvertMsgPackAtOffsetToJson() {
+    // given
+    final String json = "{\"third\":0.3333333333333333}";
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    // the document is preceded by bytes which look like a float32 header
+    final int offset = 64;
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[offset + msgPack.length]);
+    buffer.setMemory(0, offset, MsgPackCodes.FLOAT32);
+    buffer.putBytes(offset, msgPack);
+
+    // when
+    final String result =
+        MsgPackTranscoder.msgPackToJson(
+            buffer,
+            offset,
+            msgPack.length,
+            (bytes, jsonOffset, length) ->
+                new String(bytes, jsonOffset, length, StandardCharsets.UTF_8));
+
+    // then
+    assertThat(result).isEqualTo(json);
+  }
+
+  @Test
+  public void shouldConvertScalarsFromMsgPackToJson() {
+    assertThat(MsgPackTranscoder.msgPackToJson(MsgPackUtil.encodeMsgPack(b -> b.packString("x"))))
+        .isEqualTo("\"x\"");
+    assertThat(MsgPackTranscoder.msgPackToJson(MsgPackUtil.encodeMsgPack(b -> b.packInt(123))))
+        .isEqualTo("123");
+    assertThat(MsgPackTranscoder.msgPackToJson(MsgPackUtil.encodeMsgPack(b -> b.packFloat(1.1f))))
+        .isEqualTo("1.1");
+    assertThat(MsgPackTranscoder.msgPackToJson(MsgPackUtil.encodeMsgPack(b -> b.packBoolean(true))))
+        .isEqualTo("true");
+    assertThat(MsgPackTranscoder.msgPackToJson(MsgPackUtil.encodeMsgPack(b -> b.packNil())))
+        .isEqualTo("null");
+  }
+
+  @Test
+  public void shouldConvertNonStringKeysFromMsgPackToJson() {
+    // when
+    final String json =
+        MsgPackTranscoder.msgPackToJson(
+            MsgPackUtil.encodeMsgPack(b -> b.packMapHeader(1).packInt(1).packString("one")));
+
+    // then
+    assertThat(json).isEqualTo("{\"1\":\"one\"}");
+  }
+
+  @Test
+  public void shouldThrowExceptionIfNotAJsonDocument() {
+    assertThatThrownBy(() -> MsgPackTranscoder.jsonToMsgPack(getBytes("}"), 0, 1))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Failed to convert JSON to MessagePack");
+  }
+
+  @Test
+  public void shouldThrowExceptionIfJsonDocumentIsIncomplete() {
+    assertThatThrownBy(() -> MsgPackTranscoder.jsonToMsgPack(getBytes("{\"a\":1"), 0, 6))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Failed to convert JSON to MessagePack");
+  }
+}
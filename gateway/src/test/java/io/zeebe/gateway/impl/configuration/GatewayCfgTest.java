@@ -36,6 +36,7 @@ public final class GatewayCfgTest {
         .getCluster()
         .setContactPoint("foobar:1234")
         .setRequestTimeout(Duration.ofHours(123))
+        .setLoadAwareDispatch(true)
         .setClusterName("testCluster")
         .setMemberId("testMember")
         .setHost("1.2.3.4")
@@ -145,6 +146,7 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.cluster.contactPoint", "broker:432");
     setEnv("zeebe.gateway.threads.managementThreads", "32");
     setEnv("zeebe.gateway.cluster.requestTimeout", Duration.ofMinutes(43).toString());
+    setEnv("zeebe.gateway.cluster.loadAwareDispatch", "true");
     setEnv("zeebe.gateway.cluster.longPollingEnabled", "false");
     setEnv("zeebe.gateway.cluster.clusterName", "envCluster");
     setEnv("zeebe.gateway.cluster.memberId", "envMember");
@@ -178,6 +180,7 @@ public final class GatewayCfgTest {
         .getCluster()
         .setContactPoint("broker:432")
         .setRequestTimeout(Duration.ofMinutes(43))
+        .setLoadAwareDispatch(true)
         .setClusterName("envCluster")
         .setMemberId("envMember")
         .setHost("envHost")
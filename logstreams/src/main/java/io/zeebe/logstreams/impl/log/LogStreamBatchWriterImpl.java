@@ -19,7 +19,6 @@ import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.setTimestamp;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.valueOffset;
 import static io.zeebe.util.EnsureUtil.ensureNotNull;
 import static org.agrona.BitUtil.SIZE_OF_INT;
-import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 import io.zeebe.dispatcher.ClaimedFragmentBatch;
 import io.zeebe.dispatcher.Dispatcher;
@@ -158,29 +157,20 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       return;
     }
 
-    // copy event to buffer
+    // the events are staged in the layout of the log entry, prefixed by the fragment length and the
+    // source index, so that every event is serialized once and copied with a single operation
     final int metadataLength = metadataWriter.getLength();
     final int valueLength = valueWriter.getLength();
+    final int fragmentLength = headerLength(metadataLength) + valueLength;
 
-    eventBuffer.putLong(eventBufferOffset, key, Protocol.ENDIANNESS);
-    eventBufferOffset += SIZE_OF_LONG;
-
-    eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
-    eventBufferOffset += SIZE_OF_INT;
-
-    eventBuffer.putInt(eventBufferOffset, metadataLength, Protocol.ENDIANNESS);
+    eventBuffer.putInt(eventBufferOffset, fragmentLength, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
-    eventBuffer.putInt(eventBufferOffset, valueLength, Protocol.ENDIANNESS);
+    eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
-    if (metadataLength > 0) {
-      metadataWriter.write(eventBuffer, eventBufferOffset);
-      eventBufferOffset += metadataLength;
-    }
-
-    valueWriter.write(eventBuffer, eventBufferOffset);
-    eventBufferOffset += valueLength;
+    writeEvent(eventBuffer, eventBufferOffset, metadataLength);
+    eventBufferOffset += fragmentLength;
 
     eventLength += metadataLength + valueLength;
     eventCount += 1;
@@ -193,7 +183,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
         return 0;
       }
 
-      copyExistingEventToBuffer();
+      return writeSingleEvent();
     }
 
     long position = claimBatchForEvents();
@@ -214,6 +204,44 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return position;
   }
 
+  /**
+   * Writes a single event which was not completed by {@link #done()} directly into the claimed
+   * fragment, without staging it first.
+   */
+  private long writeSingleEvent() {
+    final int metadataLength = metadataWriter.getLength();
+    final int valueLength = valueWriter.getLength();
+
+    eventCount = 1;
+    eventLength = metadataLength + valueLength;
+
+    final long position = claimBatchForEvents();
+    if (position >= 0) {
+      try {
+        claimedBatch.nextFragment(headerLength(metadataLength) + valueLength, logId);
+
+        final MutableDirectBuffer writeBuffer = claimedBatch.getBuffer();
+        final int bufferOffset = claimedBatch.getFragmentOffset();
+
+        writeEvent(writeBuffer, bufferOffset, metadataLength);
+        setPosition(writeBuffer, bufferOffset, position);
+        setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
+        setTimestamp(writeBuffer, bufferOffset, ActorClock.currentTimeMillis());
+
+        claimedBatch.commit();
+      } catch (final Exception e) {
+        claimedBatch.abort();
+        LangUtil.rethrowUnchecked(e);
+      } finally {
+        reset();
+      }
+    } else {
+      eventCount = 0;
+      eventLength = 0;
+    }
+    return position;
+  }
+
   private long claimBatchForEvents() {
     final int batchLength = eventLength + (eventCount * HEADER_BLOCK_LENGTH);
 
@@ -225,30 +253,44 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return claimedPosition;
   }
 
+  /**
+   * Writes the key, the metadata and the value of the current event in the log entry layout. The
+   * position, the source event position and the timestamp are set when the event is written to the
+   * claimed batch.
+   */
+  private void writeEvent(
+      final MutableDirectBuffer buffer, final int offset, final int metadataLength) {
+    buffer.setMemory(offset, HEADER_BLOCK_LENGTH, (byte) 0);
+    setKey(buffer, offset, key);
+    setMetadataLength(buffer, offset, (short) metadataLength);
+
+    if (metadataLength > 0) {
+      metadataWriter.write(buffer, metadataOffset(offset));
+    }
+
+    valueWriter.write(buffer, valueOffset(offset, metadataLength));
+  }
+
   private void writeEventsToBuffer(
       final MutableDirectBuffer writeBuffer, final long firstPosition) {
+    final long timestamp = ActorClock.currentTimeMillis();
     eventBufferOffset = 0;
 
     for (int i = 0; i < eventCount; i++) {
-      final long key = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
-      eventBufferOffset += SIZE_OF_LONG;
-
-      final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
+      final int fragmentLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
-      final int metadataLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
-      eventBufferOffset += SIZE_OF_INT;
-
-      final int valueLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
+      final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
-      final int fragmentLength = headerLength(metadataLength) + valueLength;
-
       // allocate fragment for log entry
       claimedBatch.nextFragment(fragmentLength, logId);
       final int bufferOffset = claimedBatch.getFragmentOffset();
 
-      // write log entry header
+      // copy the staged log entry and complete its header
+      writeBuffer.putBytes(bufferOffset, eventBuffer, eventBufferOffset, fragmentLength);
+      eventBufferOffset += fragmentLength;
+
       setPosition(writeBuffer, bufferOffset, firstPosition + i);
 
       if (sourceIndex >= 0 && sourceIndex < i) {
@@ -257,20 +299,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
         setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
       }
 
-      setKey(writeBuffer, bufferOffset, key);
-      setTimestamp(writeBuffer, bufferOffset, ActorClock.currentTimeMillis());
-      setMetadataLength(writeBuffer, bufferOffset, (short) metadataLength);
-
-      if (metadataLength > 0) {
-        writeBuffer.putBytes(
-            metadataOffset(bufferOffset), eventBuffer, eventBufferOffset, metadataLength);
-        eventBufferOffset += metadataLength;
-      }
-
-      // write log entry value
-      writeBuffer.putBytes(
-          valueOffset(bufferOffset, metadataLength), eventBuffer, eventBufferOffset, valueLength);
-      eventBufferOffset += valueLength;
+      setTimestamp(writeBuffer, bufferOffset, timestamp);
     }
   }
 
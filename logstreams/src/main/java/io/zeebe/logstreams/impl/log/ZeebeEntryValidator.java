@@ -10,12 +10,21 @@ package io.zeebe.logstreams.impl.log;
 import io.atomix.raft.zeebe.EntryValidator;
 import io.atomix.raft.zeebe.ValidationResult;
 import io.atomix.raft.zeebe.ZeebeEntry;
+import io.zeebe.logstreams.storage.atomix.EntryCompression;
+import io.zeebe.logstreams.storage.atomix.ZeebeEntryCodec;
+import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class ZeebeEntryValidator implements EntryValidator {
+  // the validator is shared by the partitions, which validate their entries on their own threads
+  private final ThreadLocal<ZeebeEntryCodec> entryCodec =
+      ThreadLocal.withInitial(() -> new ZeebeEntryCodec(EntryCompression.NONE));
+  private final ThreadLocal<ExpandableDirectByteBuffer> decompressedEntry =
+      ThreadLocal.withInitial(() -> new ExpandableDirectByteBuffer(0));
+
   @Override
   public ValidationResult validateEntry(final ZeebeEntry lastEntry, final ZeebeEntry entry) {
-    final UnsafeBuffer reader = new UnsafeBuffer(entry.data());
+    final UnsafeBuffer reader = wrapEntryData(entry);
     long lastPosition = lastEntry != null ? lastEntry.highestPosition() : -1;
     int offset = 0;
 
@@ -34,4 +43,15 @@ public class ZeebeEntryValidator implements EntryValidator {
 
     return ValidationResult.success();
   }
+
+  private UnsafeBuffer wrapEntryData(final ZeebeEntry entry) {
+    final var data = entry.data();
+    if (!ZeebeEntryCodec.isCompressed(data)) {
+      return new UnsafeBuffer(data);
+    }
+
+    final var buffer = decompressedEntry.get();
+    final int length = entryCodec.get().decode(data, buffer);
+    return new UnsafeBuffer(buffer, 0, length);
+  }
 }
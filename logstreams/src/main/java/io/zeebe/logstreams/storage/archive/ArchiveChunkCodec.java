@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.archive;
+
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.alignedLength;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
+
+import io.zeebe.dispatcher.impl.log.DataFrameDescriptor;
+import io.zeebe.logstreams.impl.log.LogEntryDescriptor;
+import io.zeebe.logstreams.storage.atomix.EntryCompression;
+import io.zeebe.logstreams.storage.atomix.ZeebeEntryCodec;
+import io.zeebe.protocol.Protocol;
+import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Converts a block of log entries into the columnar layout of an archive chunk, and back. The fixed
+ * size headers of the entries are stored apart from their metadata and values, and transposed such
+ * that the n-th byte of every header is stored next to the n-th byte of the other headers:
+ *
+ * <pre>
+ * +------------------+--------------------------------+-------------------------------+
+ * | entry count (4B) | header bytes, byte by byte     | metadata and values, entry by |
+ * |                  | across all entries             | entry                         |
+ * +------------------+--------------------------------+-------------------------------+
+ * </pre>
+ *
+ * <p>Positions, keys and timestamps of consecutive entries differ mostly in their lowest bytes, so
+ * the transposed headers consist of long runs of equal bytes, which compress much better than the
+ * interleaved entries. The columnar chunk is then compressed as a whole; the padding between the
+ * entries is dropped and restored when decoding.
+ *
+ * <p>A codec keeps its buffers and compression state between calls, so it must not be shared
+ * between threads.
+ */
+final class ArchiveChunkCodec {
+  static final int ENTRY_HEADER_LENGTH =
+      DataFrameDescriptor.HEADER_LENGTH + LogEntryDescriptor.HEADER_BLOCK_LENGTH;
+  private static final int ENTRY_COUNT_LENGTH = Integer.BYTES;
+
+  private final ZeebeEntryCodec compressor = new ZeebeEntryCodec(EntryCompression.DEFLATE);
+  private final ExpandableDirectByteBuffer columnarChunk = new ExpandableDirectByteBuffer(0);
+  private final UnsafeBuffer view = new UnsafeBuffer(0, 0);
+
+  /**
+   * Converts the given block into a compressed chunk.
+   *
+   * @return a new buffer which contains the chunk exactly
+   */
+  ByteBuffer encode(final DirectBuffer block, final int offset, final int length) {
+    final int entryCount = countEntries(block, offset, length);
+    final int headersLength = entryCount * ENTRY_HEADER_LENGTH;
+    columnarChunk.checkLimit(ENTRY_COUNT_LENGTH + length);
+    columnarChunk.putInt(0, entryCount, Protocol.ENDIANNESS);
+
+    int entryOffset = offset;
+    int tailOffset = ENTRY_COUNT_LENGTH + headersLength;
+    for (int entry = 0; entry < entryCount; entry++) {
+      for (int headerByte = 0; headerByte < ENTRY_HEADER_LENGTH; headerByte++) {
+        columnarChunk.putByte(
+            ENTRY_COUNT_LENGTH + headerByte * entryCount + entry,
+            block.getByte(entryOffset + headerByte));
+      }
+
+      final int tailLength = getFramedLength(block, entryOffset) - ENTRY_HEADER_LENGTH;
+      columnarChunk.putBytes(tailOffset, block, entryOffset + ENTRY_HEADER_LENGTH, tailLength);
+      tailOffset += tailLength;
+      entryOffset += LogEntryDescriptor.getFragmentLength(block, entryOffset);
+    }
+
+    final ByteBuffer columnar = columnarChunk.byteBuffer().duplicate();
+    columnar.clear().limit(tailOffset);
+    final ByteBuffer compressed = compressor.encode(columnar);
+    if (compressed != columnar) {
+      return compressed;
+    }
+
+    // the chunk did not get smaller, so it is stored as it is; the buffer is reused on the next
+    // call
+    final ByteBuffer copy = ByteBuffer.allocate(tailOffset);
+    return copy.put(columnar).flip();
+  }
+
+  /**
+   * Restores the block of log entries of the given chunk into the destination, which is expanded if
+   * necessary.
+   *
+   * @return the length of the restored block
+   */
+  int decode(final ByteBuffer chunk, final ExpandableDirectByteBuffer destination) {
+    if (ZeebeEntryCodec.isCompressed(chunk)) {
+      final int columnarLength = compressor.decode(chunk, columnarChunk);
+      view.wrap(columnarChunk, 0, columnarLength);
+    } else {
+      view.wrap(chunk, chunk.position(), chunk.remaining());
+    }
+
+    final int entryCount = view.getInt(0, Protocol.ENDIANNESS);
+    final int headersLength = entryCount * ENTRY_HEADER_LENGTH;
+    int tailOffset = ENTRY_COUNT_LENGTH + headersLength;
+    int entryOffset = 0;
+    for (int entry = 0; entry < entryCount; entry++) {
+      destination.checkLimit(entryOffset + ENTRY_HEADER_LENGTH);
+      for (int headerByte = 0; headerByte < ENTRY_HEADER_LENGTH; headerByte++) {
+        destination.putByte(
+            entryOffset + headerByte,
+            view.getByte(ENTRY_COUNT_LENGTH + headerByte * entryCount + entry));
+      }
+
+      final int framedLength = getFramedLength(destination, entryOffset);
+      final int tailLength = framedLength - ENTRY_HEADER_LENGTH;
+      final int fragmentLength = alignedLength(framedLength);
+      destination.checkLimit(entryOffset + fragmentLength);
+      destination.putBytes(entryOffset + ENTRY_HEADER_LENGTH, view, tailOffset, tailLength);
+      destination.setMemory(entryOffset + framedLength, fragmentLength - framedLength, (byte) 0);
+
+      tailOffset += tailLength;
+      entryOffset += fragmentLength;
+    }
+
+    return entryOffset;
+  }
+
+  void close() {
+    compressor.close();
+  }
+
+  private static int countEntries(final DirectBuffer block, final int offset, final int length) {
+    int entryCount = 0;
+    int entryOffset = offset;
+    while (entryOffset < offset + length) {
+      entryOffset += LogEntryDescriptor.getFragmentLength(block, entryOffset);
+      entryCount++;
+    }
+
+    return entryCount;
+  }
+
+  private static int getFramedLength(final DirectBuffer buffer, final int entryOffset) {
+    return buffer.getInt(lengthOffset(entryOffset), Protocol.ENDIANNESS);
+  }
+}
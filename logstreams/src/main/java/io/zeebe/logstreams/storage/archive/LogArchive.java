@@ -0,0 +1,380 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.archive;
+
+import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.impl.log.LogEntryDescriptor;
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.spi.LogStorageReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+
+/**
+ * A compressed, read-mostly archive of log entries, e.g. of the entries of compacted log segments.
+ * Blocks of entries are appended as chunks in a columnar, compressed layout (see {@link
+ * ArchiveChunkCodec}), and are indexed by their positions, such that archived ranges can be
+ * replayed with a {@link io.zeebe.logstreams.log.LogStreamReader} on top of this storage, without
+ * touching the live log.
+ *
+ * <p>The archive consists of two files in its directory. The data file contains the chunks, each
+ * preceded by a header with the chunk length, its checksum and its lowest and highest position. The
+ * index file contains the positions and the data file offset of every chunk; it is written after
+ * the chunk, so on open, the chunks which were not indexed yet are recovered from the data file,
+ * and a partially written chunk is truncated.
+ *
+ * <p>The addresses of the archive are the ordinals of its chunks. Blocks are expected to be
+ * appended by a single thread, while readers may read concurrently.
+ */
+public final class LogArchive implements LogStorage {
+  static final String DATA_FILE_NAME = "archive.data";
+  static final String INDEX_FILE_NAME = "archive.index";
+
+  private static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+  private static final int CHUNK_HEADER_LENGTH = 2 * Integer.BYTES + 2 * Long.BYTES;
+  private static final int INDEX_ENTRY_LENGTH = 3 * Long.BYTES;
+  private static final int INITIAL_INDEX_CAPACITY = 64;
+
+  private final Path directory;
+  private final ArchiveChunkCodec codec = new ArchiveChunkCodec();
+  private final CRC32 checksum = new CRC32();
+  private final ByteBuffer chunkHeader = ByteBuffer.allocate(CHUNK_HEADER_LENGTH).order(BYTE_ORDER);
+  private final ByteBuffer indexEntry = ByteBuffer.allocate(INDEX_ENTRY_LENGTH).order(BYTE_ORDER);
+
+  private FileChannel dataChannel;
+  private FileChannel indexChannel;
+  private long dataLength;
+
+  // guarded by this
+  private long[] lowestPositions = new long[INITIAL_INDEX_CAPACITY];
+  private long[] highestPositions = new long[INITIAL_INDEX_CAPACITY];
+  private long[] chunkOffsets = new long[INITIAL_INDEX_CAPACITY];
+  private int chunkCount;
+
+  public LogArchive(final Path directory) {
+    this.directory = directory;
+  }
+
+  @Override
+  public LogStorageReader newReader() {
+    return new LogArchiveReader(this);
+  }
+
+  /**
+   * Archives the given block as one chunk, see {@link #archive(DirectBuffer, int, int)}. The
+   * listener is notified of the write and the commit of the chunk before this method returns.
+   */
+  @Override
+  public void append(
+      final long lowestPosition,
+      final long highestPosition,
+      final ByteBuffer blockBuffer,
+      final AppendListener listener) {
+    final long address;
+    try {
+      address = archive(new UnsafeBuffer(blockBuffer), 0, blockBuffer.remaining());
+    } catch (final UncheckedIOException e) {
+      listener.onWriteError(e);
+      return;
+    }
+
+    listener.onWrite(address);
+    listener.onCommit(address);
+  }
+
+  /**
+   * Appends the given block of log entries as a new chunk. The chunk is durable only after the
+   * archive was flushed.
+   *
+   * @return the address of the new chunk
+   * @throws UncheckedIOException if the chunk could not be written
+   */
+  public long archive(final DirectBuffer block, final int offset, final int length) {
+    final long lowestPosition = LogEntryDescriptor.getPosition(block, offset);
+    long highestPosition = lowestPosition;
+    for (int entryOffset = offset; entryOffset < offset + length; ) {
+      highestPosition = LogEntryDescriptor.getPosition(block, entryOffset);
+      entryOffset += LogEntryDescriptor.getFragmentLength(block, entryOffset);
+    }
+
+    final ByteBuffer chunk = codec.encode(block, offset, length);
+    checksum.reset();
+    checksum.update(chunk.duplicate());
+
+    chunkHeader
+        .clear()
+        .putInt(chunk.remaining())
+        .putInt((int) checksum.getValue())
+        .putLong(lowestPosition)
+        .putLong(highestPosition)
+        .flip();
+
+    final long chunkOffset = dataLength;
+    try {
+      writeFully(dataChannel, chunkHeader, chunkOffset);
+      writeFully(dataChannel, chunk, chunkOffset + CHUNK_HEADER_LENGTH);
+      dataLength = chunkOffset + CHUNK_HEADER_LENGTH + chunk.limit();
+      writeIndexEntry(lowestPosition, highestPosition, chunkOffset);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return addChunk(lowestPosition, highestPosition, chunkOffset);
+  }
+
+  /** @return the highest archived position, or -1 if the archive is empty */
+  public synchronized long getLastPosition() {
+    return chunkCount == 0 ? -1 : highestPositions[chunkCount - 1];
+  }
+
+  @Override
+  public void open() throws IOException {
+    Files.createDirectories(directory);
+    dataChannel =
+        FileChannel.open(
+            directory.resolve(DATA_FILE_NAME),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    indexChannel =
+        FileChannel.open(
+            directory.resolve(INDEX_FILE_NAME),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+
+    synchronized (this) {
+      chunkCount = 0;
+    }
+    loadIndex();
+    recoverChunks();
+  }
+
+  @Override
+  public void close() {
+    codec.close();
+    closeChannel(dataChannel);
+    dataChannel = null;
+    closeChannel(indexChannel);
+    indexChannel = null;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return dataChannel != null && dataChannel.isOpen();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return !isOpen();
+  }
+
+  @Override
+  public void flush() throws IOException {
+    dataChannel.force(false);
+    indexChannel.force(false);
+  }
+
+  synchronized int getChunkCount() {
+    return chunkCount;
+  }
+
+  /**
+   * @return the ordinal of the last chunk whose lowest position is less than or equal to the given
+   *     position, or 0 if there is none
+   */
+  synchronized int lookUpChunk(final long position) {
+    final int index = Arrays.binarySearch(lowestPositions, 0, chunkCount, position);
+    if (index >= 0) {
+      return index;
+    }
+
+    return Math.max(0, -index - 2);
+  }
+
+  /**
+   * Reads the chunk with the given ordinal.
+   *
+   * @param buffer the buffer to read the chunk into, if it is large enough
+   * @return the given buffer or a new, larger one, which contains the chunk
+   */
+  ByteBuffer readChunk(final int chunk, final ByteBuffer buffer) {
+    final long chunkOffset;
+    synchronized (this) {
+      chunkOffset = chunkOffsets[chunk];
+    }
+
+    try {
+      final ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_LENGTH).order(BYTE_ORDER);
+      readFully(header, chunkOffset);
+      final int chunkLength = header.getInt(0);
+
+      final ByteBuffer destination =
+          buffer.capacity() >= chunkLength ? buffer : ByteBuffer.allocate(chunkLength);
+      destination.clear().limit(chunkLength);
+      readFully(destination, chunkOffset + CHUNK_HEADER_LENGTH);
+      return destination;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private synchronized long addChunk(
+      final long lowestPosition, final long highestPosition, final long chunkOffset) {
+    if (chunkCount == lowestPositions.length) {
+      final int capacity = chunkCount * 2;
+      lowestPositions = Arrays.copyOf(lowestPositions, capacity);
+      highestPositions = Arrays.copyOf(highestPositions, capacity);
+      chunkOffsets = Arrays.copyOf(chunkOffsets, capacity);
+    }
+
+    lowestPositions[chunkCount] = lowestPosition;
+    highestPositions[chunkCount] = highestPosition;
+    chunkOffsets[chunkCount] = chunkOffset;
+    return chunkCount++;
+  }
+
+  private void writeIndexEntry(
+      final long lowestPosition, final long highestPosition, final long chunkOffset)
+      throws IOException {
+    indexEntry.clear().putLong(lowestPosition).putLong(highestPosition).putLong(chunkOffset).flip();
+    writeFully(indexChannel, indexEntry, (long) chunkCount * INDEX_ENTRY_LENGTH);
+  }
+
+  private void loadIndex() throws IOException {
+    final long dataFileLength = dataChannel.size();
+    final long indexEntries = indexChannel.size() / INDEX_ENTRY_LENGTH;
+    final ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_LENGTH).order(BYTE_ORDER);
+
+    for (long i = 0; i < indexEntries; i++) {
+      entry.clear();
+      while (entry.hasRemaining()) {
+        indexChannel.read(entry, i * INDEX_ENTRY_LENGTH + entry.position());
+      }
+
+      final long chunkOffset = entry.getLong(2 * Long.BYTES);
+      if (chunkOffset + CHUNK_HEADER_LENGTH > dataFileLength) {
+        break;
+      }
+
+      addChunk(entry.getLong(0), entry.getLong(Long.BYTES), chunkOffset);
+    }
+
+    // the index entry may have been written before the chunk was durable, so a torn last chunk is
+    // dropped from the index and truncated by the recovery
+    dataLength = 0;
+    final ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_LENGTH).order(BYTE_ORDER);
+    while (chunkCount > 0) {
+      final long lastOffset = chunkOffsets[chunkCount - 1];
+      header.clear();
+      readFully(header, lastOffset);
+      final int chunkLength = header.getInt(0);
+      if (chunkLength > 0
+          && lastOffset + CHUNK_HEADER_LENGTH + chunkLength <= dataFileLength
+          && isChunkValid(lastOffset + CHUNK_HEADER_LENGTH, chunkLength, header.getInt(4))) {
+        dataLength = lastOffset + CHUNK_HEADER_LENGTH + chunkLength;
+        break;
+      }
+
+      LOG.warn(
+          "Dropping the invalid chunk at offset {} from the index of the log archive {}",
+          lastOffset,
+          directory);
+      synchronized (this) {
+        chunkCount--;
+      }
+    }
+
+    indexChannel.truncate((long) chunkCount * INDEX_ENTRY_LENGTH);
+  }
+
+  private void recoverChunks() throws IOException {
+    final long dataFileLength = dataChannel.size();
+    final ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_LENGTH).order(BYTE_ORDER);
+
+    while (dataLength + CHUNK_HEADER_LENGTH <= dataFileLength) {
+      header.clear();
+      readFully(header, dataLength);
+      final int chunkLength = header.getInt(0);
+      if (chunkLength <= 0
+          || dataLength + CHUNK_HEADER_LENGTH + chunkLength > dataFileLength
+          || !isChunkValid(dataLength + CHUNK_HEADER_LENGTH, chunkLength, header.getInt(4))) {
+        break;
+      }
+
+      final long lowestPosition = header.getLong(2 * Integer.BYTES);
+      final long highestPosition = header.getLong(2 * Integer.BYTES + Long.BYTES);
+      writeIndexEntry(lowestPosition, highestPosition, dataLength);
+      addChunk(lowestPosition, highestPosition, dataLength);
+      dataLength += CHUNK_HEADER_LENGTH + chunkLength;
+    }
+
+    if (dataLength < dataFileLength) {
+      LOG.warn(
+          "Truncating {} bytes of a partially written chunk of the log archive {}",
+          dataFileLength - dataLength,
+          directory);
+      dataChannel.truncate(dataLength);
+    }
+  }
+
+  private boolean isChunkValid(final long chunkOffset, final int chunkLength, final int expected)
+      throws IOException {
+    final ByteBuffer chunk = ByteBuffer.allocate(chunkLength);
+    readFully(chunk, chunkOffset);
+    checksum.reset();
+    checksum.update(chunk);
+    return (int) checksum.getValue() == expected;
+  }
+
+  /** Reads from the data file until the buffer is full, and flips it. */
+  private void readFully(final ByteBuffer buffer, final long offset) throws IOException {
+    final int start = buffer.position();
+    while (buffer.hasRemaining()) {
+      final int read = dataChannel.read(buffer, offset + buffer.position() - start);
+      if (read < 0) {
+        throw new IOException(
+            String.format(
+                "Expected to read %d bytes at offset %d of the log archive %s, but reached its end",
+                buffer.remaining(), offset, directory));
+      }
+    }
+    buffer.flip();
+  }
+
+  private static void writeFully(
+      final FileChannel channel, final ByteBuffer buffer, final long offset) throws IOException {
+    final int start = buffer.position();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, offset + buffer.position() - start);
+    }
+  }
+
+  private static void closeChannel(final FileChannel channel) {
+    if (channel == null) {
+      return;
+    }
+
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      LOG.warn("Failed to close the log archive channel", e);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.archive;
+
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.spi.LogStorageReader;
+import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+
+final class LogArchiveReader implements LogStorageReader {
+  private final LogArchive archive;
+  private final ArchiveChunkCodec codec = new ArchiveChunkCodec();
+  // the log stream reader still returns the events of the previously read block while it reads the
+  // next one, so the chunks are decoded alternately into one of two buffers
+  private final ExpandableDirectByteBuffer[] blockBuffers = {
+    new ExpandableDirectByteBuffer(0), new ExpandableDirectByteBuffer(0)
+  };
+  private int blockBufferIndex;
+  private ByteBuffer chunkBuffer = ByteBuffer.allocate(0);
+
+  LogArchiveReader(final LogArchive archive) {
+    this.archive = archive;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return archive.getChunkCount() == 0;
+  }
+
+  @Override
+  public long read(final DirectBuffer readBuffer, final long address) {
+    if (address < 0) {
+      return LogStorage.OP_RESULT_INVALID_ADDR;
+    }
+
+    if (address >= archive.getChunkCount()) {
+      return LogStorage.OP_RESULT_NO_DATA;
+    }
+
+    final int chunk = (int) address;
+    chunkBuffer = archive.readChunk(chunk, chunkBuffer);
+
+    final var blockBuffer = blockBuffers[blockBufferIndex];
+    final int length = codec.decode(chunkBuffer, blockBuffer);
+    blockBufferIndex = 1 - blockBufferIndex;
+    readBuffer.wrap(blockBuffer, 0, length);
+
+    return address + 1;
+  }
+
+  @Override
+  public long readLastBlock(final DirectBuffer readBuffer) {
+    final int chunkCount = archive.getChunkCount();
+    if (chunkCount == 0) {
+      return LogStorage.OP_RESULT_NO_DATA;
+    }
+
+    return read(readBuffer, chunkCount - 1);
+  }
+
+  /**
+   * Looks up the last chunk whose lowest position is less than or equal to the given position, in
+   * the position index of the archive.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  public long lookUpApproximateAddress(final long position) {
+    if (archive.getChunkCount() == 0) {
+      return LogStorage.OP_RESULT_INVALID_ADDR;
+    }
+
+    return archive.lookUpChunk(position);
+  }
+
+  @Override
+  public void close() {
+    codec.close();
+  }
+}
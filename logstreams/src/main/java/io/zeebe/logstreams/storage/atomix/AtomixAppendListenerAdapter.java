@@ -11,12 +11,28 @@ import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.raft.zeebe.ZeebeLogAppender.AppendListener;
 import io.atomix.storage.journal.Indexed;
 import io.zeebe.logstreams.spi.LogStorage;
+import java.nio.ByteBuffer;
 
 public final class AtomixAppendListenerAdapter implements AppendListener {
   private final LogStorage.AppendListener delegate;
+  private final ZeebeEntryCache entryCache;
+  private final ByteBuffer block;
 
   public AtomixAppendListenerAdapter(final LogStorage.AppendListener delegate) {
+    this(delegate, ZeebeEntryCache.disabled(), null);
+  }
+
+  /**
+   * @param block the uncompressed block which is appended; it is cached once committed, instead of
+   *     the possibly compressed entry data. If null, the entry data is cached as it is.
+   */
+  public AtomixAppendListenerAdapter(
+      final LogStorage.AppendListener delegate,
+      final ZeebeEntryCache entryCache,
+      final ByteBuffer block) {
     this.delegate = delegate;
+    this.entryCache = entryCache;
+    this.block = block;
   }
 
   @Override
@@ -31,6 +47,9 @@ public final class AtomixAppendListenerAdapter implements AppendListener {
 
   @Override
   public void onCommit(final Indexed<ZeebeEntry> indexed) {
+    if (entryCache.isEnabled()) {
+      entryCache.put(indexed.index(), block != null ? block : indexed.entry().data());
+    }
     delegate.onCommit(indexed.index());
   }
 
@@ -19,27 +19,88 @@ public class AtomixLogStorage implements LogStorage {
 
   private boolean opened;
   private final ZeebeIndexMapping zeebeIndexMapping;
+  private final ZeebeEntryCache entryCache;
+  private final ZeebeEntryCodec entryCodec;
 
   public AtomixLogStorage(
       final ZeebeIndexMapping zeebeIndexMapping,
       final AtomixReaderFactory readerFactory,
       final AtomixAppenderSupplier appenderSupplier) {
+    this(zeebeIndexMapping, readerFactory, appenderSupplier, ZeebeEntryCache.disabled());
+  }
+
+  public AtomixLogStorage(
+      final ZeebeIndexMapping zeebeIndexMapping,
+      final AtomixReaderFactory readerFactory,
+      final AtomixAppenderSupplier appenderSupplier,
+      final ZeebeEntryCache entryCache) {
+    this(zeebeIndexMapping, readerFactory, appenderSupplier, entryCache, EntryCompression.NONE);
+  }
+
+  public AtomixLogStorage(
+      final ZeebeIndexMapping zeebeIndexMapping,
+      final AtomixReaderFactory readerFactory,
+      final AtomixAppenderSupplier appenderSupplier,
+      final ZeebeEntryCache entryCache,
+      final EntryCompression entryCompression) {
     this.zeebeIndexMapping = zeebeIndexMapping;
     this.readerFactory = readerFactory;
     this.appenderSupplier = appenderSupplier;
+    this.entryCache = entryCache;
+    entryCodec = new ZeebeEntryCodec(entryCompression);
   }
 
   public static AtomixLogStorage ofPartition(
       final ZeebeIndexMapping zeebeIndexMapping, final RaftPartition partition) {
+    return ofPartition(zeebeIndexMapping, partition, 0);
+  }
+
+  /**
+   * Creates the log storage of the given partition, whose readers share a cache of the most
+   * recently committed entries.
+   *
+   * @param entryCacheSize the capacity of the entry cache in bytes; 0 disables the cache
+   */
+  public static AtomixLogStorage ofPartition(
+      final ZeebeIndexMapping zeebeIndexMapping,
+      final RaftPartition partition,
+      final int entryCacheSize) {
+    return ofPartition(zeebeIndexMapping, partition, entryCacheSize, EntryCompression.NONE);
+  }
+
+  /**
+   * Creates the log storage of the given partition, whose readers share a cache of the most
+   * recently committed entries, and whose appended blocks are compressed with the given
+   * compression.
+   *
+   * @param entryCacheSize the capacity of the entry cache in bytes; 0 disables the cache
+   * @param entryCompression the compression of appended blocks; entries are always readable,
+   *     regardless of the compression they were written with
+   */
+  public static AtomixLogStorage ofPartition(
+      final ZeebeIndexMapping zeebeIndexMapping,
+      final RaftPartition partition,
+      final int entryCacheSize,
+      final EntryCompression entryCompression) {
     final var server = new AtomixRaftServer(partition.getServer());
-    return new AtomixLogStorage(zeebeIndexMapping, server, server);
+    final var entryCache =
+        entryCacheSize > 0
+            ? new ZeebeEntryCache(entryCacheSize, new EntryCacheMetrics(partition.id().id()))
+            : ZeebeEntryCache.disabled();
+    return new AtomixLogStorage(zeebeIndexMapping, server, server, entryCache, entryCompression);
   }
 
   @Override
   public LogStorageReader newReader() {
-    return new AtomixLogStorageReader(zeebeIndexMapping, readerFactory.create());
+    return new AtomixLogStorageReader(zeebeIndexMapping, readerFactory.create(), entryCache);
   }
 
+  /**
+   * Appends the given block, compressed with the configured compression. The block is compressed
+   * once here, and is then stored and replicated compressed; the entry cache still receives the
+   * uncompressed block, such that tailing readers do not have to decompress it. Blocks are expected
+   * to be appended by a single appender at a time.
+   */
   @Override
   public void append(
       final long lowestPosition,
@@ -50,8 +111,8 @@ public class AtomixLogStorage implements LogStorage {
 
     if (optionalAppender.isPresent()) {
       final var appender = optionalAppender.get();
-      final var adapter = new AtomixAppendListenerAdapter(listener);
-      appender.appendEntry(lowestPosition, highestPosition, buffer, adapter);
+      final var adapter = new AtomixAppendListenerAdapter(listener, entryCache, buffer);
+      appender.appendEntry(lowestPosition, highestPosition, entryCodec.encode(buffer), adapter);
     } else {
       // todo: better error message
       listener.onWriteError(
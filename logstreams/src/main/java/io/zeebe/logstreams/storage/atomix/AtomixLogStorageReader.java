@@ -14,15 +14,32 @@ import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.logstreams.spi.LogStorageReader;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
 
 public final class AtomixLogStorageReader implements LogStorageReader {
   private final RaftLogReader reader;
   private final ZeebeIndexMapping zeebeIndexMapping;
+  private final ZeebeEntryCache entryCache;
+  private final ZeebeEntryCodec entryCodec = new ZeebeEntryCodec(EntryCompression.NONE);
+  // the log stream reader still returns the events of the previously read block while it reads the
+  // next one, so cached and decompressed entries are copied alternately into one of two buffers
+  private final ExpandableDirectByteBuffer[] entryBuffers = {
+    new ExpandableDirectByteBuffer(0), new ExpandableDirectByteBuffer(0)
+  };
+  private int entryBufferIndex;
 
   public AtomixLogStorageReader(
       final ZeebeIndexMapping zeebeIndexMapping, final RaftLogReader reader) {
+    this(zeebeIndexMapping, reader, ZeebeEntryCache.disabled());
+  }
+
+  public AtomixLogStorageReader(
+      final ZeebeIndexMapping zeebeIndexMapping,
+      final RaftLogReader reader,
+      final ZeebeEntryCache entryCache) {
     this.reader = reader;
     this.zeebeIndexMapping = zeebeIndexMapping;
+    this.entryCache = entryCache;
   }
 
   @Override
@@ -51,6 +68,16 @@ public final class AtomixLogStorageReader implements LogStorageReader {
       return LogStorage.OP_RESULT_NO_DATA;
     }
 
+    // readers tailing the log mostly read entries which were just committed; serving them from the
+    // cache spares seeking the journal reader and reading the entry back from the segment
+    final var cachedEntryBuffer = entryBuffers[entryBufferIndex];
+    final int cachedLength = entryCache.copy(address, cachedEntryBuffer);
+    if (cachedLength > 0) {
+      entryBufferIndex = 1 - entryBufferIndex;
+      readBuffer.wrap(cachedEntryBuffer, 0, cachedLength);
+      return address + 1;
+    }
+
     final var result =
         findEntry(address)
             .map(indexed -> wrapEntryData(indexed, readBuffer))
@@ -66,32 +93,35 @@ public final class AtomixLogStorageReader implements LogStorageReader {
   }
 
   /**
-   * This is currently a quite slow implementation as Atomix does not support navigating backwards;
-   * it would require a refactor there if this is ever too slow.
+   * Seeks to the last readable entry and walks backwards until it finds a Zeebe entry. Seeking
+   * skips the entries preceding the target by their length, so only the entries at the tail of the
+   * log are deserialized.
    *
    * <p>{@inheritDoc}
    */
   @Override
   public long readLastBlock(final DirectBuffer readBuffer) {
-    final var firstIndex = reader.getFirstIndex();
-    var index = reader.getLastIndex();
+    final var lastIndex = reader.getLastIndex();
+    if (lastIndex < reader.getFirstIndex()) {
+      return LogStorage.OP_RESULT_NO_DATA;
+    }
 
-    do {
-      reader.reset(index);
-      if (!reader.hasNext()) {
-        break;
-      }
+    reader.reset(lastIndex);
+    if (!reader.hasNext()) {
+      return LogStorage.OP_RESULT_NO_DATA;
+    }
 
-      final var indexed = reader.next();
-      if (indexed.type() == ZeebeEntry.class) {
-        wrapEntryData(indexed.cast(), readBuffer);
-        return reader.getNextIndex();
+    var indexed = reader.next();
+    while (indexed.type() != ZeebeEntry.class) {
+      if (!reader.hasPrevious()) {
+        return LogStorage.OP_RESULT_NO_DATA;
       }
 
-      index--;
-    } while (index >= firstIndex);
+      indexed = reader.previous();
+    }
 
-    return LogStorage.OP_RESULT_NO_DATA;
+    wrapEntryData(indexed.cast(), readBuffer);
+    return reader.getNextIndex();
   }
 
   /**
@@ -133,6 +163,7 @@ public final class AtomixLogStorageReader implements LogStorageReader {
   @Override
   public void close() {
     reader.close();
+    entryCodec.close();
   }
 
   /**
@@ -164,6 +195,14 @@ public final class AtomixLogStorageReader implements LogStorageReader {
 
   private long wrapEntryData(final Indexed<ZeebeEntry> entry, final DirectBuffer dest) {
     final var data = entry.entry().data();
+    if (ZeebeEntryCodec.isCompressed(data)) {
+      final var entryBuffer = entryBuffers[entryBufferIndex];
+      final var length = entryCodec.decode(data, entryBuffer);
+      entryBufferIndex = 1 - entryBufferIndex;
+      dest.wrap(entryBuffer, 0, length);
+      return length;
+    }
+
     final var length = data.remaining();
     dest.wrap(data, data.position(), data.remaining());
     return length;
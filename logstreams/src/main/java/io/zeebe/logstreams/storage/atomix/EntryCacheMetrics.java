@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import io.prometheus.client.Counter;
+
+public final class EntryCacheMetrics {
+
+  private static final Counter CACHE_HITS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("log_entry_cache_hits_total")
+          .help("Number of log storage reads which were served by the entry cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter CACHE_MISSES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("log_entry_cache_misses_total")
+          .help("Number of log storage reads which were not served by the entry cache")
+          .labelNames("partition")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+
+  public EntryCacheMetrics(final int partitionId) {
+    final String partitionLabel = String.valueOf(partitionId);
+    hits = CACHE_HITS.labels(partitionLabel);
+    misses = CACHE_MISSES.labels(partitionLabel);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+/**
+ * The codecs which can be used to compress the blocks of a {@link io.atomix.raft.zeebe.ZeebeEntry}.
+ * The id of the codec is stored with every compressed block, so it must never change; entries are
+ * always decompressed with the codec they were written with, regardless of the configured one.
+ */
+public enum EntryCompression {
+  /** Blocks are stored as they are. */
+  NONE((byte) 0),
+  /** Blocks are compressed with deflate, tuned for speed. */
+  DEFLATE((byte) 1),
+  /**
+   * Blocks are compressed with deflate, tuned for speed, using a preset dictionary of common record
+   * properties, which improves the ratio of small blocks.
+   */
+  DEFLATE_DICTIONARY((byte) 2);
+
+  private final byte id;
+
+  EntryCompression(final byte id) {
+    this.id = id;
+  }
+
+  public byte getId() {
+    return id;
+  }
+
+  public static EntryCompression ofId(final byte id) {
+    for (final EntryCompression compression : values()) {
+      if (compression.id == id) {
+        return compression;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        String.format("Expected a known entry compression id, but found %d", id));
+  }
+}
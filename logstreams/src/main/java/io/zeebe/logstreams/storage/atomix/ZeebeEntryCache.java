@@ -0,0 +1,212 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded, off-heap cache of the data of the most recently committed {@link
+ * io.atomix.raft.zeebe.ZeebeEntry}s of a partition, which is shared by all readers of the
+ * partition's log storage. The entries are copied into a ring buffer in the order of their index;
+ * when the ring is full, the oldest entries are evicted.
+ *
+ * <p>Only committed entries are cached, since uncommitted entries can be truncated and replaced by
+ * entries with the same index after a leader change.
+ *
+ * <p>The cache is written by the Raft thread which commits the entries and read concurrently by the
+ * log storage readers.
+ */
+public final class ZeebeEntryCache {
+
+  // we expect blocks of at least a few records, so this bounds the number of entries per capacity
+  private static final int MIN_EXPECTED_ENTRY_LENGTH = 128;
+
+  private final int capacity;
+  private final UnsafeBuffer data;
+
+  private final long[] indexes;
+  private final int[] offsets;
+  private final int[] lengths;
+  private int head;
+  private int size;
+  private int writeOffset;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final EntryCacheMetrics metrics;
+
+  public ZeebeEntryCache(final int capacity, final EntryCacheMetrics metrics) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected the cache capacity to be positive, but was %d", capacity));
+    }
+
+    this.capacity = capacity;
+    this.metrics = metrics;
+    data = new UnsafeBuffer(ByteBuffer.allocateDirect(capacity));
+
+    final int maxEntries = Math.max(1, capacity / MIN_EXPECTED_ENTRY_LENGTH);
+    indexes = new long[maxEntries];
+    offsets = new int[maxEntries];
+    lengths = new int[maxEntries];
+  }
+
+  /** Returns a cache which doesn't hold any entry. */
+  public static ZeebeEntryCache disabled() {
+    return new ZeebeEntryCache(0, null);
+  }
+
+  public boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  /**
+   * Copies the data of the given committed entry into the cache. Entries which are larger than the
+   * cache are not cached.
+   *
+   * @param index the index of the entry, which must be greater than the index of all cached
+   *     entries; otherwise the cache is cleared first
+   * @param entryData the data of the entry, from its position to its limit
+   */
+  public void put(final long index, final ByteBuffer entryData) {
+    final int length = entryData.remaining();
+    if (length == 0 || length > capacity) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      if (size > 0 && index <= indexes[slot(size - 1)]) {
+        clear();
+      }
+
+      if (writeOffset + length > capacity) {
+        evictFrom(writeOffset);
+        writeOffset = 0;
+      }
+
+      evictOverlapping(writeOffset, length);
+      if (size == indexes.length) {
+        evictOldest();
+      }
+
+      data.putBytes(writeOffset, entryData, entryData.position(), length);
+
+      final int slot = slot(size);
+      indexes[slot] = index;
+      offsets[slot] = writeOffset;
+      lengths[slot] = length;
+      size += 1;
+
+      writeOffset += length;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Copies the data of the entry with the given index into the destination buffer.
+   *
+   * @return the length of the entry's data, or -1 if the entry is not cached
+   */
+  public int copy(final long index, final MutableDirectBuffer destination) {
+    if (!isEnabled()) {
+      return -1;
+    }
+
+    int length = -1;
+
+    lock.readLock().lock();
+    try {
+      final int position = find(index);
+      if (position >= 0) {
+        final int slot = slot(position);
+        length = lengths[slot];
+        destination.putBytes(0, data, offsets[slot], length);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    if (length >= 0) {
+      metrics.hit();
+    } else {
+      metrics.miss();
+    }
+
+    return length;
+  }
+
+  private int find(final long index) {
+    int low = 0;
+    int high = size - 1;
+
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final long middleIndex = indexes[slot(middle)];
+
+      if (middleIndex < index) {
+        low = middle + 1;
+      } else if (middleIndex > index) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Evicts the entries at or behind the given offset when the writer wraps around. These entries
+   * were written before the writer wrapped the last time, so they are older than the entries at the
+   * start of the buffer, and they are not overwritten before the entries at the start are. Leaving
+   * them would stop {@link #evictOverlapping(int, int)} before the newer entries which the next
+   * write overlaps.
+   */
+  private void evictFrom(final int offset) {
+    while (size > 0 && offsets[head] >= offset) {
+      evictOldest();
+    }
+  }
+
+  /**
+   * The entries are written one after the other around the ring, so the oldest entries are the ones
+   * right after the write offset.
+   */
+  private void evictOverlapping(final int offset, final int length) {
+    while (size > 0) {
+      final int oldestOffset = offsets[head];
+      final int oldestEnd = oldestOffset + lengths[head];
+
+      if (oldestOffset < offset + length && offset < oldestEnd) {
+        evictOldest();
+      } else {
+        break;
+      }
+    }
+  }
+
+  private void evictOldest() {
+    head = slot(1);
+    size -= 1;
+  }
+
+  private void clear() {
+    head = 0;
+    size = 0;
+    writeOffset = 0;
+  }
+
+  private int slot(final int position) {
+    return (head + position) % indexes.length;
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.agrona.ExpandableDirectByteBuffer;
+
+/**
+ * Compresses and decompresses the blocks stored in a {@link io.atomix.raft.zeebe.ZeebeEntry}. A
+ * block is compressed once when it is appended, and is then stored and replicated as it is.
+ *
+ * <p>A compressed block starts with a header, followed by the compressed data:
+ *
+ * <pre>
+ *  0                   1                   2                   3
+ *  0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * |                             Magic                             |
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * |  Compression  |               Uncompressed Length            ...
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * ...             |               Compressed Data                ...
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * </pre>
+ *
+ * <p>An uncompressed block starts with the length of its first fragment, which is never negative,
+ * so the negative magic tells compressed and uncompressed blocks apart. This keeps the entries
+ * written before compression was enabled, or while it is disabled, readable as they are.
+ *
+ * <p>A codec keeps its deflater and inflater between calls, so it must not be shared between
+ * threads.
+ */
+public final class ZeebeEntryCodec {
+  public static final int HEADER_LENGTH = 9;
+
+  private static final int MAGIC = 0xC0DEC0DE;
+  private static final int MAGIC_OFFSET = 0;
+  private static final int COMPRESSION_OFFSET = 4;
+  private static final int UNCOMPRESSED_LENGTH_OFFSET = 5;
+  private static final String CORRUPTED_BLOCK_MESSAGE =
+      "Expected to decompress block, but it is corrupted";
+
+  // deflate finds matches in the preset dictionary, which helps small blocks the most; the most
+  // common strings are at the end, as they can then be referenced with the shortest distances
+  private static final byte[] PRESET_DICTIONARY =
+      ("errorMessageerrorCodecustomHeadersdeadlineworkerretriestimeToLivemessageIdmessageName"
+              + "correlationKeyparentWorkflowInstanceKeyparentElementInstanceKeyscopeKeyname"
+              + "resourceresourceNameresourceTypedeployedWorkflowsversionvariablestypeflowScopeKey"
+              + "bpmnElementTypeSERVICE_TASKSTART_EVENTEND_EVENTPROCESSSEQUENCE_FLOWelementId"
+              + "workflowKeybpmnProcessIdworkflowInstanceKeyELEMENT_ACTIVATINGELEMENT_ACTIVATED"
+              + "ELEMENT_COMPLETINGELEMENT_COMPLETED")
+          .getBytes(StandardCharsets.UTF_8);
+
+  private final EntryCompression compression;
+  private final ExpandableDirectByteBuffer compressedBuffer = new ExpandableDirectByteBuffer(0);
+  private Deflater deflater;
+  private Inflater inflater;
+
+  /** @param compression the compression applied to the blocks passed to {@link #encode} */
+  public ZeebeEntryCodec(final EntryCompression compression) {
+    this.compression = compression;
+  }
+
+  /** @return true if the given block was compressed by {@link #encode} */
+  public static boolean isCompressed(final ByteBuffer block) {
+    return block.remaining() >= HEADER_LENGTH
+        && getInt(block, block.position() + MAGIC_OFFSET) == MAGIC;
+  }
+
+  /**
+   * Compresses the given block. The block is returned as it is if compression is disabled, or if
+   * the compressed block would not be smaller than the block itself; otherwise a new buffer is
+   * returned, which fits the compressed block exactly.
+   */
+  public ByteBuffer encode(final ByteBuffer block) {
+    if (compression == EntryCompression.NONE) {
+      return block;
+    }
+
+    final int length = block.remaining();
+    compressedBuffer.checkLimit(length);
+    final ByteBuffer output = compressedBuffer.byteBuffer().duplicate();
+    output.clear().limit(length);
+
+    final Deflater deflater = deflater();
+    deflater.setInput(block.duplicate());
+    deflater.finish();
+    while (!deflater.finished() && output.hasRemaining()) {
+      deflater.deflate(output);
+    }
+
+    final boolean isSmaller = deflater.finished() && output.position() + HEADER_LENGTH < length;
+    deflater.reset();
+    if (!isSmaller) {
+      return block;
+    }
+
+    final ByteBuffer encoded =
+        ByteBuffer.allocate(HEADER_LENGTH + output.position()).order(ByteOrder.LITTLE_ENDIAN);
+    encoded.putInt(MAGIC).put(compression.getId()).putInt(length).put(output.flip());
+    return encoded.flip();
+  }
+
+  /**
+   * Decompresses the given block into the destination, which is expanded if necessary.
+   *
+   * @param block a block which was compressed by {@link #encode}, see {@link #isCompressed}
+   * @return the length of the decompressed block
+   * @throws IllegalStateException if the block is corrupted
+   */
+  public int decode(final ByteBuffer block, final ExpandableDirectByteBuffer destination) {
+    final int offset = block.position();
+    final EntryCompression blockCompression =
+        EntryCompression.ofId(block.get(offset + COMPRESSION_OFFSET));
+    final int length = getInt(block, offset + UNCOMPRESSED_LENGTH_OFFSET);
+
+    destination.checkLimit(length);
+    final ByteBuffer output = destination.byteBuffer().duplicate();
+    output.clear().limit(length);
+
+    final Inflater inflater = inflater();
+    inflater.setInput(block.duplicate().position(offset + HEADER_LENGTH));
+    try {
+      while (!inflater.finished() && output.hasRemaining()) {
+        if (inflater.inflate(output) == 0) {
+          if (inflater.needsDictionary()) {
+            if (blockCompression != EntryCompression.DEFLATE_DICTIONARY) {
+              throw new IllegalStateException(
+                  String.format(
+                      "Expected block compressed with %s to need no dictionary, but it does",
+                      blockCompression));
+            }
+            inflater.setDictionary(PRESET_DICTIONARY);
+          } else if (inflater.needsInput()) {
+            // the whole block was consumed, but the compressed stream is not finished
+            throw new IllegalStateException(CORRUPTED_BLOCK_MESSAGE);
+          }
+        }
+      }
+    } catch (final DataFormatException | IllegalArgumentException e) {
+      // the inflater rejects a dictionary whose checksum does not match the one of the block
+      throw new IllegalStateException(CORRUPTED_BLOCK_MESSAGE, e);
+    } finally {
+      inflater.reset();
+    }
+
+    if (output.position() != length) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to decompress block of %d bytes, but got %d bytes",
+              length, output.position()));
+    }
+
+    return length;
+  }
+
+  /** Releases the native resources of the codec; it can still be used afterwards. */
+  public void close() {
+    if (deflater != null) {
+      deflater.end();
+      deflater = null;
+    }
+
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+  }
+
+  private Deflater deflater() {
+    if (deflater == null) {
+      deflater = new Deflater(Deflater.BEST_SPEED);
+    }
+
+    // the dictionary has to be set again after every reset
+    if (compression == EntryCompression.DEFLATE_DICTIONARY) {
+      deflater.setDictionary(PRESET_DICTIONARY);
+    }
+
+    return deflater;
+  }
+
+  private Inflater inflater() {
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+
+    return inflater;
+  }
+
+  private static int getInt(final ByteBuffer buffer, final int index) {
+    final int value = buffer.getInt(index);
+    return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value);
+  }
+}
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.atomix.raft.zeebe.ZeebeEntry;
 import io.zeebe.dispatcher.BlockPeek;
 import io.zeebe.dispatcher.Dispatcher;
 import io.zeebe.dispatcher.Dispatchers;
@@ -24,6 +25,10 @@ import io.zeebe.dispatcher.Subscription;
 import io.zeebe.dispatcher.impl.log.DataFrameDescriptor;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.logstreams.spi.LogStorage.AppendListener;
+import io.zeebe.logstreams.storage.atomix.AtomixLogStorage;
+import io.zeebe.logstreams.storage.atomix.EntryCompression;
+import io.zeebe.logstreams.storage.atomix.ZeebeEntryCache;
+import io.zeebe.logstreams.storage.atomix.ZeebeEntryCodec;
 import io.zeebe.logstreams.util.AtomixLogStorageRule;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.util.ByteValue;
@@ -37,6 +42,8 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.junit.After;
@@ -147,6 +154,45 @@ public final class LogStorageAppenderTest {
     }
   }
 
+  @Test
+  public void shouldAppendCompressedEvents() throws InterruptedException {
+    // given
+    // the cache is disabled, such that the reader decompresses the stored entries
+    logStorage =
+        new AtomixLogStorage(
+            logStorageRule.getIndexMapping(),
+            logStorageRule,
+            logStorageRule,
+            ZeebeEntryCache.disabled(),
+            EntryCompression.DEFLATE);
+    appender =
+        new LogStorageAppender(
+            "appender", PARTITION_ID, logStorage, subscription, MAX_FRAGMENT_SIZE, l -> {});
+    reader = new LogStreamReaderImpl(logStorage);
+    final var values = IntStream.range(0, 10).mapToObj(Value::new).collect(Collectors.toList());
+    final var latch = new CountDownLatch(1);
+
+    // when
+    final var lowestPosition = writer.valueWriter(values.get(0)).tryWrite();
+    values.stream().skip(1).forEach(value -> writer.valueWriter(value).tryWrite());
+    logStorageRule.setPositionListener(i -> latch.countDown());
+    schedulerRule.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    final var entry = logStorageRule.getRaftLog().openReader(1).next();
+    final var zeebeEntry = (ZeebeEntry) entry.entry();
+    assertThat(ZeebeEntryCodec.isCompressed(zeebeEntry.data())).isTrue();
+
+    final Value expected = new Value();
+    assertThat(reader.seek(lowestPosition)).isTrue();
+    for (final var value : values) {
+      assertThat(reader.hasNext()).isTrue();
+      reader.next().readValue(expected);
+      assertThat(expected).isEqualTo(value);
+    }
+  }
+
   @Test
   public void shouldDetectInconsistentEntry() throws InterruptedException {
     // given
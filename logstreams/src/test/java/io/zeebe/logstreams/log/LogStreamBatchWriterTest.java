@@ -406,6 +406,30 @@ public final class LogStreamBatchWriterTest {
         .hasMessage("value must not be null");
   }
 
+  @Test
+  public void shouldWriteSingleEventWithoutDone() {
+    // when
+    final long position =
+        write(
+            w ->
+                w.sourceRecordPosition(123L)
+                    .event()
+                    .key(1)
+                    .metadata(EVENT_METADATA_1)
+                    .value(EVENT_VALUE_1));
+
+    // then
+    final List<LoggedEvent> events = getWrittenEvents(position);
+    assertThat(events).hasSize(1);
+
+    final LoggedEvent event = events.get(0);
+    assertThat(event.getPosition()).isEqualTo(position);
+    assertThat(event.getKey()).isEqualTo(1L);
+    assertThat(event.getSourceEventPosition()).isEqualTo(123L);
+    assertThat(getMetadataBuffer(event)).isEqualTo(EVENT_METADATA_1);
+    assertThat(getValueBuffer(event)).isEqualTo(EVENT_VALUE_1);
+  }
+
   @Test
   public void shouldNotFailToWriteBatchWithoutEvents() {
     // when
@@ -0,0 +1,235 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.dispatcher.impl.log.DataFrameDescriptor;
+import io.zeebe.logstreams.impl.log.LogEntryDescriptor;
+import io.zeebe.logstreams.impl.log.LogStreamReaderImpl;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.protocol.Protocol;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class LogArchiveTest {
+  private static final int METADATA_LENGTH = 12;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path directory;
+  private LogArchive archive;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = temporaryFolder.getRoot().toPath().resolve("archive");
+    archive = new LogArchive(directory);
+    archive.open();
+  }
+
+  @After
+  public void tearDown() {
+    archive.close();
+  }
+
+  @Test
+  public void shouldRestoreArchivedBlock() {
+    // given
+    final var block = createBlock(1, 5);
+    archive.archive(block, 0, block.capacity());
+
+    // when
+    final var reader = archive.newReader();
+    final var readBuffer = new UnsafeBuffer();
+    final var nextAddress = reader.read(readBuffer, 0);
+
+    // then
+    assertThat(nextAddress).isEqualTo(1);
+    assertThat(readBuffer).isEqualTo(block);
+  }
+
+  @Test
+  public void shouldReplayArchivedEntries() {
+    // given
+    archive(1, 3);
+    archive(4, 6);
+    archive(7, 10);
+
+    // when
+    final var positions = readPositions(new LogStreamReaderImpl(archive), Long.MIN_VALUE);
+
+    // then
+    assertThat(positions).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+  }
+
+  @Test
+  public void shouldSeekToArchivedPosition() {
+    // given
+    archive(1, 3);
+    archive(4, 6);
+    archive(7, 10);
+    final var reader = archive.newReader();
+
+    // when
+    final var positions = readPositions(new LogStreamReaderImpl(archive), 5);
+
+    // then
+    assertThat(reader.lookUpApproximateAddress(5)).isEqualTo(1);
+    assertThat(reader.lookUpApproximateAddress(7)).isEqualTo(2);
+    assertThat(reader.lookUpApproximateAddress(100)).isEqualTo(2);
+    assertThat(positions).containsExactly(5L, 6L, 7L, 8L, 9L, 10L);
+  }
+
+  @Test
+  public void shouldReturnNoDataAfterLastChunk() {
+    // given
+    archive(1, 3);
+    final var reader = archive.newReader();
+
+    // when
+    final var result = reader.read(new UnsafeBuffer(), 1);
+
+    // then
+    assertThat(result).isEqualTo(LogStorage.OP_RESULT_NO_DATA);
+    assertThat(archive.getLastPosition()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldBeEmptyInitially() {
+    // given
+    final var reader = archive.newReader();
+
+    // then
+    assertThat(reader.isEmpty()).isTrue();
+    assertThat(reader.lookUpApproximateAddress(1)).isEqualTo(LogStorage.OP_RESULT_INVALID_ADDR);
+    assertThat(archive.getLastPosition()).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldRecoverChunksWhichWereNotIndexed() throws IOException {
+    // given
+    archive(1, 3);
+    archive(4, 6);
+    archive.close();
+    Files.write(directory.resolve(LogArchive.INDEX_FILE_NAME), new byte[0]);
+
+    // when
+    archive.open();
+
+    // then
+    assertThat(archive.getLastPosition()).isEqualTo(6);
+    assertThat(readPositions(new LogStreamReaderImpl(archive), Long.MIN_VALUE))
+        .containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+  }
+
+  @Test
+  public void shouldTruncatePartiallyWrittenChunk() throws IOException {
+    // given
+    archive(1, 3);
+    archive.close();
+    try (final var channel =
+        FileChannel.open(directory.resolve(LogArchive.DATA_FILE_NAME), StandardOpenOption.APPEND)) {
+      channel.write(ByteBuffer.wrap(new byte[] {32, 0, 0, 0, 1, 2, 3}));
+    }
+
+    // when
+    archive.open();
+    archive(4, 6);
+
+    // then
+    assertThat(archive.getLastPosition()).isEqualTo(6);
+    assertThat(readPositions(new LogStreamReaderImpl(archive), Long.MIN_VALUE))
+        .containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+  }
+
+  @Test
+  public void shouldDropIndexedChunkWhichIsTorn() throws IOException {
+    // given
+    archive(1, 3);
+    archive(4, 6);
+    archive.close();
+    final Path dataFile = directory.resolve(LogArchive.DATA_FILE_NAME);
+    try (final var channel = FileChannel.open(dataFile, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 4);
+    }
+
+    // when
+    archive.open();
+    archive(7, 9);
+
+    // then
+    assertThat(archive.getLastPosition()).isEqualTo(9);
+    assertThat(readPositions(new LogStreamReaderImpl(archive), Long.MIN_VALUE))
+        .containsExactly(1L, 2L, 3L, 7L, 8L, 9L);
+  }
+
+  private void archive(final long lowestPosition, final long highestPosition) {
+    final var block = createBlock(lowestPosition, highestPosition);
+    archive.archive(block, 0, block.capacity());
+  }
+
+  private static List<Long> readPositions(final LogStreamReaderImpl reader, final long position) {
+    final List<Long> positions = new ArrayList<>();
+    if (position == Long.MIN_VALUE) {
+      reader.seekToFirstEvent();
+    } else {
+      reader.seek(position);
+    }
+
+    while (reader.hasNext()) {
+      final LoggedEvent event = reader.next();
+      assertThat(event.getKey()).isEqualTo(event.getPosition() * 10);
+      positions.add(event.getPosition());
+    }
+
+    reader.close();
+    return positions;
+  }
+
+  private static UnsafeBuffer createBlock(final long lowestPosition, final long highestPosition) {
+    final var buffer =
+        new UnsafeBuffer(new byte[(int) (highestPosition - lowestPosition + 1) * 128]);
+    int offset = 0;
+
+    for (long position = lowestPosition; position <= highestPosition; position++) {
+      // values of different lengths exercise the padding between the entries
+      final byte[] value = ("value-" + position).getBytes();
+      final int messageLength = LogEntryDescriptor.headerLength(METADATA_LENGTH) + value.length;
+      final int messageOffset = DataFrameDescriptor.messageOffset(offset);
+
+      buffer.putInt(
+          DataFrameDescriptor.lengthOffset(offset),
+          DataFrameDescriptor.framedLength(messageLength),
+          Protocol.ENDIANNESS);
+      LogEntryDescriptor.setPosition(buffer, messageOffset, position);
+      LogEntryDescriptor.setSourceEventPosition(buffer, messageOffset, position - 1);
+      LogEntryDescriptor.setKey(buffer, messageOffset, position * 10);
+      LogEntryDescriptor.setTimestamp(buffer, messageOffset, 1_000 + position);
+      LogEntryDescriptor.setMetadataLength(buffer, messageOffset, (short) METADATA_LENGTH);
+      buffer.putBytes(
+          LogEntryDescriptor.valueOffset(messageOffset, METADATA_LENGTH), value, 0, value.length);
+
+      offset += DataFrameDescriptor.alignedFramedLength(messageLength);
+    }
+
+    return new UnsafeBuffer(buffer, 0, offset);
+  }
+}
@@ -96,6 +96,66 @@ public final class AtomixLogStorageReaderTest {
     assertThat(secondEntryResults).isEqualTo(tuple(2, secondEntry.index() + 1));
   }
 
+  @Test
+  public void shouldReadCompressedEntry() {
+    // given
+    final var codec = new ZeebeEntryCodec(EntryCompression.DEFLATE);
+    final var reader = storageRule.get().newReader();
+    final var firstEntry = append(1, 4, codec.encode(allocateCompressibleData(1)));
+    final var secondEntry = append(5, 8, codec.encode(allocateCompressibleData(2)));
+    final DirectBuffer secondBuffer = new UnsafeBuffer();
+
+    // when
+    final var firstResult = reader.read(buffer, firstEntry.index());
+    final var secondResult = reader.read(secondBuffer, secondEntry.index());
+
+    // then - the previously read block is still readable after reading the next one
+    assertThat(firstResult).isEqualTo(secondEntry.index());
+    assertThat(secondResult).isEqualTo(secondEntry.index() + 1);
+    assertThat(buffer.capacity()).isEqualTo(1024);
+    assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(1);
+    assertThat(secondBuffer.getInt(0, BYTE_ORDER)).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReadLastCompressedEntry() {
+    // given
+    final var codec = new ZeebeEntryCodec(EntryCompression.DEFLATE_DICTIONARY);
+    final var reader = storageRule.get().newReader();
+    final var expected = append(1, 4, codec.encode(allocateCompressibleData(1)));
+
+    // when
+    final var address = reader.readLastBlock(buffer);
+
+    // then
+    assertThat(address).isEqualTo(expected.index() + 1);
+    assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldAppendCompressedBlock() {
+    // given
+    final var storage =
+        new AtomixLogStorage(
+            storageRule.getIndexMapping(),
+            storageRule,
+            storageRule,
+            new ZeebeEntryCache(64 * 1024, new EntryCacheMetrics(1)),
+            EntryCompression.DEFLATE);
+    final var address = new CompletableFuture<Long>();
+
+    // when
+    storage.append(1, 4, allocateCompressibleData(1), new CommitListener(address));
+
+    // then
+    final var entry = storageRule.getRaftLog().openReader(address.join()).next();
+    final var zeebeEntry = (ZeebeEntry) entry.entry();
+    assertThat(ZeebeEntryCodec.isCompressed(zeebeEntry.data())).isTrue();
+    assertThat(storage.newReader().read(buffer, address.join())).isEqualTo(address.join() + 1);
+    assertThat(buffer.capacity()).isEqualTo(1024);
+    assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(1);
+  }
+
   @Test
   public void shouldLookUpEntryWithGaps() {
     // given
@@ -140,6 +200,26 @@ public final class AtomixLogStorageReaderTest {
     assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(1);
   }
 
+  @Test
+  public void shouldReadLastZeebeEntryBeforeCommittedNonZeebeEntries() {
+    // given
+    final var reader = storageRule.get().newReader();
+    append(1, 4, allocateData(1));
+    final var expected = append(5, 8, allocateData(2));
+    final var writer = storageRule.getRaftLog().writer();
+    for (int i = 0; i < 3; i++) {
+      writer.append(new ConfigurationEntry(1, System.currentTimeMillis(), Collections.emptyList()));
+    }
+    writer.commit(writer.getLastIndex());
+
+    // when
+    final var address = reader.readLastBlock(buffer);
+
+    // then
+    assertThat(address).isEqualTo(expected.index() + 1);
+    assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(2);
+  }
+
   @Test
   public void shouldReturnEmptyIfLogIsEmpty() {
     // given
@@ -208,6 +288,38 @@ public final class AtomixLogStorageReaderTest {
     return ByteBuffer.allocate(4).order(BYTE_ORDER).putInt(0, value);
   }
 
+  private ByteBuffer allocateCompressibleData(final int value) {
+    return ByteBuffer.allocate(1024).order(BYTE_ORDER).putInt(0, value);
+  }
+
+  private static final class CommitListener implements LogStorage.AppendListener {
+    private final CompletableFuture<Long> future;
+
+    private CommitListener(final CompletableFuture<Long> future) {
+      this.future = future;
+    }
+
+    @Override
+    public void onWrite(final long address) {
+      // do nothing
+    }
+
+    @Override
+    public void onWriteError(final Throwable error) {
+      future.completeExceptionally(error);
+    }
+
+    @Override
+    public void onCommit(final long address) {
+      future.complete(address);
+    }
+
+    @Override
+    public void onCommitError(final long address, final Throwable error) {
+      future.completeExceptionally(error);
+    }
+  }
+
   private static final class Listener implements AppendListener {
     private final CompletableFuture<Indexed<ZeebeEntry>> future;
 
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import io.zeebe.dispatcher.impl.log.DataFrameDescriptor;
+import io.zeebe.logstreams.impl.log.LogEntryDescriptor;
+import io.zeebe.protocol.Protocol;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of compressing and decompressing blocks of log entries with each entry
+ * compression, and the number of bytes which are stored and replicated per block. The blocks
+ * resemble the ones written by the engine: the entries have a record metadata and a value with the
+ * common workflow instance properties, and differ in their positions, keys and variables.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntryCompressionBenchmark {
+
+  private static final int METADATA_LENGTH = 64;
+
+  @Param({"NONE", "DEFLATE", "DEFLATE_DICTIONARY"})
+  public EntryCompression compression;
+
+  @Param({"1", "16"})
+  public int entriesPerBlock;
+
+  private ZeebeEntryCodec codec;
+  private ByteBuffer block;
+  private ByteBuffer encodedBlock;
+  private final ExpandableDirectByteBuffer decodedBlock = new ExpandableDirectByteBuffer(0);
+
+  @Setup
+  public void setUp() {
+    codec = new ZeebeEntryCodec(compression);
+    block = createBlock(entriesPerBlock);
+    encodedBlock = codec.encode(block);
+  }
+
+  @Benchmark
+  public ByteBuffer encode(final BlockBytes bytes) {
+    final ByteBuffer encoded = codec.encode(block);
+    bytes.blockBytes += block.remaining();
+    bytes.storedBytes += encoded.remaining();
+    return encoded;
+  }
+
+  @Benchmark
+  public int decode() {
+    if (!ZeebeEntryCodec.isCompressed(encodedBlock)) {
+      return encodedBlock.remaining();
+    }
+
+    return codec.decode(encodedBlock, decodedBlock);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(EntryCompressionBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  private static ByteBuffer createBlock(final int entryCount) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[entryCount * 1024]);
+    int offset = 0;
+
+    for (int i = 0; i < entryCount; i++) {
+      final byte[] value =
+          String.format(
+                  "{\"bpmnProcessId\":\"order-process\",\"version\":3,\"workflowKey\":2251799813685249,"
+                      + "\"workflowInstanceKey\":%d,\"elementId\":\"collect-money\","
+                      + "\"flowScopeKey\":%d,\"bpmnElementType\":\"SERVICE_TASK\","
+                      + "\"parentWorkflowInstanceKey\":-1,\"parentElementInstanceKey\":-1,"
+                      + "\"variables\":{\"orderId\":\"order-%d\",\"total\":%d}}",
+                  2251799813685300L + i, 2251799813685300L + i, i * 31, i * 17 % 1000)
+              .getBytes(StandardCharsets.UTF_8);
+      final int messageLength = LogEntryDescriptor.headerLength(METADATA_LENGTH) + value.length;
+      final int messageOffset = DataFrameDescriptor.messageOffset(offset);
+
+      buffer.putInt(
+          DataFrameDescriptor.lengthOffset(offset),
+          DataFrameDescriptor.framedLength(messageLength),
+          Protocol.ENDIANNESS);
+      LogEntryDescriptor.setPosition(buffer, messageOffset, 4294967296L + i);
+      LogEntryDescriptor.setSourceEventPosition(buffer, messageOffset, 4294967200L + i);
+      LogEntryDescriptor.setKey(buffer, messageOffset, 2251799813685300L + i);
+      LogEntryDescriptor.setTimestamp(buffer, messageOffset, 1600000000000L + i);
+      LogEntryDescriptor.setMetadataLength(buffer, messageOffset, (short) METADATA_LENGTH);
+      for (int j = 0; j < METADATA_LENGTH; j += Integer.BYTES) {
+        buffer.putInt(LogEntryDescriptor.metadataOffset(messageOffset) + j, j % 3);
+      }
+      buffer.putBytes(
+          LogEntryDescriptor.valueOffset(messageOffset, METADATA_LENGTH), value, 0, value.length);
+
+      offset += DataFrameDescriptor.alignedFramedLength(messageLength);
+    }
+
+    return ByteBuffer.wrap(buffer.byteArray(), 0, offset).slice();
+  }
+
+  /** Counts the bytes of the blocks, and the bytes which are stored and replicated for them. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class BlockBytes {
+    public long blockBytes;
+    public long storedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      blockBytes = 0;
+      storedBytes = 0;
+    }
+  }
+}
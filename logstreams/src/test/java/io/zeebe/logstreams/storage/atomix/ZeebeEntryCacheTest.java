@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.junit.Test;
+
+public final class ZeebeEntryCacheTest {
+
+  private static final int ENTRY_LENGTH = 256;
+
+  private final ExpandableArrayBuffer destination = new ExpandableArrayBuffer();
+
+  @Test
+  public void shouldCopyCachedEntry() {
+    // given
+    final var cache = newCache(4 * ENTRY_LENGTH);
+    cache.put(1, entryData(1));
+    cache.put(2, entryData(2));
+
+    // when
+    final var length = cache.copy(2, destination);
+
+    // then
+    assertThat(length).isEqualTo(ENTRY_LENGTH);
+    assertThat(destination.getByte(0)).isEqualTo((byte) 2);
+    assertThat(destination.getByte(ENTRY_LENGTH - 1)).isEqualTo((byte) 2);
+  }
+
+  @Test
+  public void shouldMissUnknownEntry() {
+    // given
+    final var cache = newCache(4 * ENTRY_LENGTH);
+    cache.put(1, entryData(1));
+
+    // when
+    final var length = cache.copy(2, destination);
+
+    // then
+    assertThat(length).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldEvictOldestEntriesWhenFull() {
+    // given
+    final var cache = newCache(4 * ENTRY_LENGTH);
+
+    // when
+    for (int index = 1; index <= 6; index++) {
+      cache.put(index, entryData(index));
+    }
+
+    // then
+    assertThat(cache.copy(1, destination)).isEqualTo(-1);
+    assertThat(cache.copy(2, destination)).isEqualTo(-1);
+    for (int index = 3; index <= 6; index++) {
+      assertThat(cache.copy(index, destination)).isEqualTo(ENTRY_LENGTH);
+      assertThat(destination.getByte(0)).isEqualTo((byte) index);
+    }
+  }
+
+  @Test
+  public void shouldClearCacheOnNonIncreasingIndex() {
+    // given
+    final var cache = newCache(4 * ENTRY_LENGTH);
+    cache.put(1, entryData(1));
+    cache.put(2, entryData(2));
+
+    // when
+    cache.put(2, entryData(3));
+
+    // then
+    assertThat(cache.copy(1, destination)).isEqualTo(-1);
+    assertThat(cache.copy(2, destination)).isEqualTo(ENTRY_LENGTH);
+    assertThat(destination.getByte(0)).isEqualTo((byte) 3);
+  }
+
+  @Test
+  public void shouldNotCacheEntryLargerThanCapacity() {
+    // given
+    final var cache = newCache(ENTRY_LENGTH - 1);
+
+    // when
+    cache.put(1, entryData(1));
+
+    // then
+    assertThat(cache.copy(1, destination)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldNotModifyEntryData() {
+    // given
+    final var cache = newCache(4 * ENTRY_LENGTH);
+    final var data = entryData(1);
+
+    // when
+    cache.put(1, data);
+
+    // then
+    assertThat(data.position()).isEqualTo(0);
+    assertThat(data.remaining()).isEqualTo(ENTRY_LENGTH);
+  }
+
+  @Test
+  public void shouldNotCacheIfDisabled() {
+    // given
+    final var cache = ZeebeEntryCache.disabled();
+
+    // when
+    cache.put(1, entryData(1));
+
+    // then
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.copy(1, destination)).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldEvictOverwrittenEntriesOnWrapAroundWithUnevenSizes() {
+    // given
+    final var cache = newCache(1000);
+    final int[] lengths = {600, 350, 450, 560, 300, 120, 700, 90};
+
+    // when
+    for (int index = 1; index <= lengths.length; index++) {
+      cache.put(index, entryData(index, lengths[index - 1]));
+
+      // then - every cached entry still has its own data
+      for (int cached = 1; cached <= index; cached++) {
+        final var length = cache.copy(cached, destination);
+        if (length >= 0) {
+          assertThat(length).isEqualTo(lengths[cached - 1]);
+          assertThat(destination.getByte(0)).isEqualTo((byte) cached);
+          assertThat(destination.getByte(length - 1)).isEqualTo((byte) cached);
+        }
+      }
+    }
+
+    assertThat(cache.copy(3, destination)).isEqualTo(-1);
+    assertThat(cache.copy(lengths.length, destination)).isEqualTo(90);
+  }
+
+  private static ZeebeEntryCache newCache(final int capacity) {
+    return new ZeebeEntryCache(capacity, new EntryCacheMetrics(1));
+  }
+
+  private static ByteBuffer entryData(final int value) {
+    return entryData(value, ENTRY_LENGTH);
+  }
+
+  private static ByteBuffer entryData(final int value, final int length) {
+    final var data = ByteBuffer.allocate(length);
+    for (int i = 0; i < length; i++) {
+      data.put(i, (byte) value);
+    }
+    return data;
+  }
+}
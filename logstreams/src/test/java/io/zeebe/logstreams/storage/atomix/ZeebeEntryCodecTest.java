@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public final class ZeebeEntryCodecTest {
+
+  @Parameter public EntryCompression compression;
+
+  private final ExpandableDirectByteBuffer destination = new ExpandableDirectByteBuffer(0);
+
+  @Parameters(name = "{0}")
+  public static Object[] compressions() {
+    return new Object[] {EntryCompression.DEFLATE, EntryCompression.DEFLATE_DICTIONARY};
+  }
+
+  @Test
+  public void shouldCompressAndDecompressBlock() {
+    // given
+    final var codec = new ZeebeEntryCodec(compression);
+    final var block = compressibleBlock();
+
+    // when
+    final var encoded = codec.encode(block);
+    final var length = codec.decode(encoded, destination);
+
+    // then
+    assertThat(ZeebeEntryCodec.isCompressed(encoded)).isTrue();
+    assertThat(encoded.remaining()).isLessThan(block.remaining());
+    assertThat(new UnsafeBuffer(destination, 0, length)).isEqualTo(new UnsafeBuffer(block));
+    assertThat(block.position()).isZero();
+  }
+
+  @Test
+  public void shouldDecompressBlockRegardlessOfConfiguredCompression() {
+    // given
+    final var block = compressibleBlock();
+    final var encoded = new ZeebeEntryCodec(compression).encode(block);
+
+    // when
+    final var length = new ZeebeEntryCodec(EntryCompression.NONE).decode(encoded, destination);
+
+    // then
+    assertThat(new UnsafeBuffer(destination, 0, length)).isEqualTo(new UnsafeBuffer(block));
+  }
+
+  @Test
+  public void shouldReuseCodecForConsecutiveBlocks() {
+    // given
+    final var codec = new ZeebeEntryCodec(compression);
+    final var first = compressibleBlock();
+    final var second = ByteBuffer.wrap(repeat("another block ", 50));
+
+    // when
+    final var firstEncoded = codec.encode(first);
+    final var secondEncoded = codec.encode(second);
+    codec.close();
+
+    // then
+    final var length = codec.decode(secondEncoded, destination);
+    assertThat(new UnsafeBuffer(destination, 0, length)).isEqualTo(new UnsafeBuffer(second));
+    final var firstLength = codec.decode(firstEncoded, destination);
+    assertThat(new UnsafeBuffer(destination, 0, firstLength)).isEqualTo(new UnsafeBuffer(first));
+  }
+
+  @Test
+  public void shouldNotCompressBlockWhichDoesNotGetSmaller() {
+    // given
+    final var codec = new ZeebeEntryCodec(compression);
+    final var bytes = new byte[256];
+    new Random(42).nextBytes(bytes);
+    final var block = ByteBuffer.wrap(bytes);
+
+    // when
+    final var encoded = codec.encode(block);
+
+    // then
+    assertThat(encoded).isSameAs(block);
+    assertThat(ZeebeEntryCodec.isCompressed(encoded)).isFalse();
+  }
+
+  @Test
+  public void shouldNotCompressBlockIfDisabled() {
+    // given
+    final var codec = new ZeebeEntryCodec(EntryCompression.NONE);
+    final var block = compressibleBlock();
+
+    // when
+    final var encoded = codec.encode(block);
+
+    // then
+    assertThat(encoded).isSameAs(block);
+    assertThat(ZeebeEntryCodec.isCompressed(encoded)).isFalse();
+  }
+
+  @Test
+  public void shouldRejectCorruptedBlock() {
+    // given
+    final var codec = new ZeebeEntryCodec(compression);
+    final var encoded = codec.encode(compressibleBlock());
+    encoded.put(ZeebeEntryCodec.HEADER_LENGTH + 2, (byte) 0xFF);
+    encoded.put(ZeebeEntryCodec.HEADER_LENGTH + 3, (byte) 0xFF);
+
+    // when - then
+    assertThatThrownBy(() -> codec.decode(encoded, destination))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test(timeout = 10_000)
+  public void shouldRejectTruncatedBlock() {
+    // given
+    final var codec = new ZeebeEntryCodec(compression);
+    final var encoded = codec.encode(compressibleBlock());
+    encoded.limit(encoded.limit() - 8);
+
+    // when - then
+    assertThatThrownBy(() -> codec.decode(encoded, destination))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Expected to decompress block, but it is corrupted");
+  }
+
+  private static ByteBuffer compressibleBlock() {
+    final var block = ByteBuffer.wrap(repeat("bpmnProcessId=process,elementId=task;", 30));
+    // an uncompressed block starts with the length of its first fragment
+    block.putInt(0, block.capacity());
+    return block;
+  }
+
+  private static byte[] repeat(final String value, final int times) {
+    return value.repeat(times).getBytes(StandardCharsets.UTF_8);
+  }
+}
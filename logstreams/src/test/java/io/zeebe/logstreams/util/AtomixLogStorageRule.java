@@ -26,6 +26,8 @@ import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.logstreams.storage.atomix.AtomixAppenderSupplier;
 import io.zeebe.logstreams.storage.atomix.AtomixLogStorage;
 import io.zeebe.logstreams.storage.atomix.AtomixReaderFactory;
+import io.zeebe.logstreams.storage.atomix.EntryCacheMetrics;
+import io.zeebe.logstreams.storage.atomix.ZeebeEntryCache;
 import io.zeebe.logstreams.storage.atomix.ZeebeIndexAdapter;
 import java.io.File;
 import java.io.IOException;
@@ -201,7 +203,13 @@ public final class AtomixLogStorageRule extends ExternalResource
     raftLog = raftStorage.openLog();
     metaStore = raftStorage.openMetaStore();
 
-    storage = spy(new AtomixLogStorage(indexMapping, this, this));
+    storage =
+        spy(
+            new AtomixLogStorage(
+                indexMapping,
+                this,
+                this,
+                new ZeebeEntryCache(64 * 1024, new EntryCacheMetrics(1))));
   }
 
   public void close() {
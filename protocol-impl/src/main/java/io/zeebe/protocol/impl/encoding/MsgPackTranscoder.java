@@ -0,0 +1,581 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.Feature;
+import com.fasterxml.jackson.core.JsonToken;
+import io.zeebe.msgpack.spec.MsgPackCodes;
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackToken;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Transcodes JSON documents to MessagePack and back in a single pass. In contrast to {@link
+ * MsgPackConverter}, the documents are not copied through intermediate streams or token buffers:
+ * JSON tokens are written straight into a MessagePack buffer, and MessagePack tokens are read from
+ * the given buffer and written as JSON bytes. The output buffers are pooled per thread.
+ *
+ * <p>The produced documents are equivalent to the ones of {@link MsgPackConverter}, except that
+ * floating point numbers are encoded as float32 if no precision is lost, as the {@link
+ * MsgPackWriter} does for all other documents.
+ */
+public final class MsgPackTranscoder {
+
+  private static final JsonFactory JSON_FACTORY =
+      new JsonFactory().configure(Feature.ALLOW_SINGLE_QUOTES, true);
+  private static final ThreadLocal<MsgPackTranscoder> TRANSCODERS =
+      ThreadLocal.withInitial(MsgPackTranscoder::new);
+
+  private static final int INITIAL_BUFFER_CAPACITY = 4 * 1024;
+  // pooled buffers which grew beyond this capacity are released after use
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 1024 * 1024;
+  private static final int INITIAL_DEPTH = 16;
+  // containers are written with a map32/array32 header until their size is known
+  private static final int RESERVED_HEADER_LENGTH = 5;
+  private static final int MAX_ESCAPED_BYTE_LENGTH = 6;
+  private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+  private static final BigInteger MAX_UINT64 =
+      BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private ExpandableArrayBuffer buffer = new ExpandableArrayBuffer(INITIAL_BUFFER_CAPACITY);
+
+  private int[] containerOffsets = new int[INITIAL_DEPTH];
+  private int[] containerSizes = new int[INITIAL_DEPTH];
+  private int[] containerIndices = new int[INITIAL_DEPTH];
+  private boolean[] containerIsArray = new boolean[INITIAL_DEPTH];
+  private int depth;
+  private int jsonLength;
+
+  private MsgPackTranscoder() {}
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// JSON to MSGPACK //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  public static byte[] jsonToMsgPack(final byte[] json, final int offset, final int length) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(json, offset, length)) {
+      return TRANSCODERS.get().transcodeJson(parser);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert JSON to MessagePack", e);
+    }
+  }
+
+  public static byte[] jsonToMsgPack(final InputStream json) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(json)) {
+      return TRANSCODERS.get().transcodeJson(parser);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert JSON to MessagePack", e);
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// MSGPACK to JSON //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  public static String msgPackToJson(final DirectBuffer msgPack) {
+    return msgPackToJson(
+        msgPack,
+        (json, offset, length) -> new String(json, offset, length, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Transcodes the given MessagePack document to JSON. The UTF-8 encoded JSON is passed to the
+   * given mapper, and is only valid during its invocation.
+   */
+  public static <T> T msgPackToJson(final DirectBuffer msgPack, final JsonMapper<T> mapper) {
+    return msgPackToJson(msgPack, 0, msgPack.capacity(), mapper);
+  }
+
+  public static <T> T msgPackToJson(
+      final DirectBuffer msgPack, final int offset, final int length, final JsonMapper<T> mapper) {
+    final MsgPackTranscoder transcoder = TRANSCODERS.get();
+
+    final int jsonLength;
+    try {
+      jsonLength = transcoder.transcodeMsgPack(msgPack, offset, length);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert MessagePack to JSON", e);
+    }
+
+    try {
+      return mapper.apply(transcoder.buffer.byteArray(), 0, jsonLength);
+    } finally {
+      transcoder.releaseOversizedBuffer();
+    }
+  }
+
+  private byte[] transcodeJson(final JsonParser parser) throws IOException {
+    depth = 0;
+    writer.wrap(buffer, 0);
+
+    JsonToken token = parser.nextToken();
+    if (token == null || !(token.isStructStart() || token.isScalarValue())) {
+      throw new IllegalArgumentException(
+          "Document does not begin with an object, an array, or a scalar value");
+    }
+
+    writeJsonToken(parser, token);
+    while (depth > 0) {
+      token = parser.nextToken();
+      if (token == null) {
+        throw new IllegalArgumentException("Document ends within an object or an array");
+      }
+
+      writeJsonToken(parser, token);
+    }
+
+    final byte[] msgPack = Arrays.copyOf(buffer.byteArray(), writer.getOffset());
+    releaseOversizedBuffer();
+    return msgPack;
+  }
+
+  private void writeJsonToken(final JsonParser parser, final JsonToken token) throws IOException {
+    switch (token) {
+      case START_OBJECT:
+        countArrayElement();
+        openContainer(false);
+        break;
+      case START_ARRAY:
+        countArrayElement();
+        openContainer(true);
+        break;
+      case END_OBJECT:
+      case END_ARRAY:
+        closeContainer();
+        break;
+      case FIELD_NAME:
+        containerSizes[depth - 1] += 1;
+        writeText(parser);
+        break;
+      case VALUE_STRING:
+        countArrayElement();
+        writeText(parser);
+        break;
+      case VALUE_NUMBER_INT:
+        countArrayElement();
+        writeInteger(parser);
+        break;
+      case VALUE_NUMBER_FLOAT:
+        countArrayElement();
+        writer.writeFloat(parser.getDoubleValue());
+        break;
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+        countArrayElement();
+        writer.writeBoolean(token == JsonToken.VALUE_TRUE);
+        break;
+      case VALUE_NULL:
+        countArrayElement();
+        writer.writeNil();
+        break;
+      default:
+        throw new IllegalArgumentException("Unexpected JSON token: " + token);
+    }
+  }
+
+  private void countArrayElement() {
+    // the entries of an object are counted by their field names
+    if (depth > 0 && containerIsArray[depth - 1]) {
+      containerSizes[depth - 1] += 1;
+    }
+  }
+
+  private void openContainer(final boolean isArray) {
+    ensureDepthCapacity();
+
+    containerOffsets[depth] = writer.getOffset();
+    containerSizes[depth] = 0;
+    containerIsArray[depth] = isArray;
+    depth += 1;
+
+    writer.reserveMapHeader();
+  }
+
+  private void closeContainer() {
+    depth -= 1;
+
+    final int offset = containerOffsets[depth];
+    final int size = containerSizes[depth];
+    final boolean isArray = containerIsArray[depth];
+
+    final int headerLength =
+        isArray
+            ? MsgPackWriter.getEncodedArrayHeaderLenght(size)
+            : MsgPackWriter.getEncodedMapHeaderLenght(size);
+
+    final int contentOffset = offset + RESERVED_HEADER_LENGTH;
+    final int contentLength = writer.getOffset() - contentOffset;
+
+    if (headerLength < RESERVED_HEADER_LENGTH) {
+      final byte[] bytes = buffer.byteArray();
+      System.arraycopy(bytes, contentOffset, bytes, offset + headerLength, contentLength);
+    }
+
+    writer.wrap(buffer, offset);
+    if (isArray) {
+      writer.writeArrayHeader(size);
+    } else {
+      writer.writeMapHeader(size);
+    }
+    writer.wrap(buffer, offset + headerLength + contentLength);
+  }
+
+  private void writeText(final JsonParser parser) throws IOException {
+    final char[] chars = parser.getTextCharacters();
+    final int offset = parser.getTextOffset();
+    final int end = offset + parser.getTextLength();
+
+    final int utf8Length = getUtf8Length(chars, offset, end);
+    writer.writeStringHeader(utf8Length);
+
+    final int writeOffset = writer.getOffset();
+    buffer.checkLimit(writeOffset + utf8Length);
+    final byte[] bytes = buffer.byteArray();
+
+    int position = writeOffset;
+    for (int i = offset; i < end; i++) {
+      final char c = chars[i];
+
+      if (c < 0x80) {
+        bytes[position++] = (byte) c;
+      } else if (c < 0x800) {
+        bytes[position++] = (byte) (0xC0 | (c >> 6));
+        bytes[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        if (isSurrogatePair(chars, i, end)) {
+          final int codePoint = Character.toCodePoint(c, chars[++i]);
+          bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+          bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+          bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+          bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+          // malformed surrogates are replaced, as by String#getBytes
+          bytes[position++] = '?';
+        }
+      } else {
+        bytes[position++] = (byte) (0xE0 | (c >> 12));
+        bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        bytes[position++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+
+    writer.wrap(buffer, position);
+  }
+
+  private static int getUtf8Length(final char[] chars, final int offset, final int end) {
+    int length = 0;
+    for (int i = offset; i < end; i++) {
+      final char c = chars[i];
+
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isSurrogate(c)) {
+        if (isSurrogatePair(chars, i, end)) {
+          length += 4;
+          i++;
+        } else {
+          length += 1;
+        }
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static boolean isSurrogatePair(final char[] chars, final int index, final int end) {
+    return Character.isHighSurrogate(chars[index])
+        && index + 1 < end
+        && Character.isLowSurrogate(chars[index + 1]);
+  }
+
+  private void writeInteger(final JsonParser parser) throws IOException {
+    if (parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+      writer.writeInteger(parser.getLongValue());
+      return;
+    }
+
+    // integers beyond the signed 64-bit range are encoded as uint64, as by MsgPackConverter
+    final BigInteger value = parser.getBigIntegerValue();
+    if (value.signum() < 0 || value.compareTo(MAX_UINT64) > 0) {
+      throw new IllegalArgumentException(
+          "Integer exceeds the range of a 64-bit integer: " + parser.getText());
+    }
+
+    final int offset = writer.getOffset();
+    buffer.putByte(offset, MsgPackCodes.UINT64);
+    buffer.putLong(offset + 1, value.longValue(), MsgPackCodes.BYTE_ORDER);
+    writer.wrap(buffer, offset + 1 + Long.BYTES);
+  }
+
+  private int transcodeMsgPack(final DirectBuffer msgPack, final int offset, final int length) {
+    depth = 0;
+    jsonLength = 0;
+    reader.wrap(msgPack, offset, length);
+
+    if (!reader.hasNext()) {
+      throw new IllegalArgumentException("Document is empty");
+    }
+
+    do {
+      boolean isKey = false;
+      if (depth > 0) {
+        final int index = containerIndices[depth - 1]++;
+
+        if (containerIsArray[depth - 1]) {
+          if (index > 0) {
+            writeJsonByte(',');
+          }
+        } else if ((index & 1) == 0) {
+          if (index > 0) {
+            writeJsonByte(',');
+          }
+          isKey = true;
+        } else {
+          writeJsonByte(':');
+        }
+      }
+
+      if (isKey) {
+        writeJsonKey();
+      } else {
+        writeJsonValue();
+      }
+
+      while (depth > 0 && containerIndices[depth - 1] == containerSizes[depth - 1]) {
+        depth -= 1;
+        writeJsonByte(containerIsArray[depth] ? ']' : '}');
+      }
+    } while (depth > 0);
+
+    return jsonLength;
+  }
+
+  private boolean isNextFloat32() {
+    // the reader wraps a view of the document, so its offset is relative to the view
+    return reader.getBuffer().getByte(reader.getOffset()) == MsgPackCodes.FLOAT32;
+  }
+
+  private void writeJsonValue() {
+    final boolean isFloat32 = isNextFloat32();
+    final MsgPackToken token = reader.readToken();
+
+    switch (token.getType()) {
+      case MAP:
+        writeJsonByte('{');
+        pushJsonContainer(false, token.getSize() * 2);
+        break;
+      case ARRAY:
+        writeJsonByte('[');
+        pushJsonContainer(true, token.getSize());
+        break;
+      case STRING:
+        writeJsonString(token.getValueBuffer());
+        break;
+      case INTEGER:
+        writeJsonInteger(token.getIntegerValue());
+        break;
+      case FLOAT:
+        writeJsonFloat(token.getFloatValue(), isFloat32);
+        break;
+      case BOOLEAN:
+        writeJsonBytes(token.getBooleanValue() ? TRUE : FALSE);
+        break;
+      case NIL:
+        writeJsonBytes(NULL);
+        break;
+      case BINARY:
+        writeJsonBinary(token.getValueBuffer());
+        break;
+      default:
+        throw new IllegalArgumentException(
+            "Cannot convert MessagePack token of type " + token.getType() + " to JSON");
+    }
+  }
+
+  private void writeJsonKey() {
+    final boolean isFloat32 = isNextFloat32();
+    final MsgPackToken token = reader.readToken();
+
+    switch (token.getType()) {
+      case STRING:
+        writeJsonString(token.getValueBuffer());
+        break;
+      case INTEGER:
+        writeJsonByte('"');
+        writeJsonInteger(token.getIntegerValue());
+        writeJsonByte('"');
+        break;
+      case FLOAT:
+        writeJsonByte('"');
+        writeJsonFloat(token.getFloatValue(), isFloat32);
+        writeJsonByte('"');
+        break;
+      case BOOLEAN:
+        writeJsonByte('"');
+        writeJsonBytes(token.getBooleanValue() ? TRUE : FALSE);
+        writeJsonByte('"');
+        break;
+      default:
+        throw new IllegalArgumentException(
+            "Cannot convert MessagePack map key of type " + token.getType() + " to JSON");
+    }
+  }
+
+  private void pushJsonContainer(final boolean isArray, final int size) {
+    ensureDepthCapacity();
+
+    containerIsArray[depth] = isArray;
+    containerSizes[depth] = size;
+    containerIndices[depth] = 0;
+    depth += 1;
+  }
+
+  private void writeJsonString(final DirectBuffer value) {
+    final int length = value.capacity();
+    buffer.checkLimit(jsonLength + length * MAX_ESCAPED_BYTE_LENGTH + 2);
+    final byte[] bytes = buffer.byteArray();
+
+    int position = jsonLength;
+    bytes[position++] = '"';
+
+    for (int i = 0; i < length; i++) {
+      final byte b = value.getByte(i);
+
+      if (b == '"' || b == '\\') {
+        bytes[position++] = '\\';
+        bytes[position++] = b;
+      } else if (b >= 0 && b < 0x20) {
+        bytes[position++] = '\\';
+        switch (b) {
+          case '\b':
+            bytes[position++] = 'b';
+            break;
+          case '\t':
+            bytes[position++] = 't';
+            break;
+          case '\n':
+            bytes[position++] = 'n';
+            break;
+          case '\f':
+            bytes[position++] = 'f';
+            break;
+          case '\r':
+            bytes[position++] = 'r';
+            break;
+          default:
+            bytes[position++] = 'u';
+            bytes[position++] = '0';
+            bytes[position++] = '0';
+            bytes[position++] = HEX_DIGITS[b >> 4];
+            bytes[position++] = HEX_DIGITS[b & 0xF];
+        }
+      } else if ((b & 0xF8) == 0xF0 && i + 3 < length) {
+        // supplementary characters are escaped as surrogate pairs, as by the JSON generator
+        final int codePoint =
+            ((b & 0x07) << 18)
+                | ((value.getByte(i + 1) & 0x3F) << 12)
+                | ((value.getByte(i + 2) & 0x3F) << 6)
+                | (value.getByte(i + 3) & 0x3F);
+        position = writeUnicodeEscape(bytes, position, Character.highSurrogate(codePoint));
+        position = writeUnicodeEscape(bytes, position, Character.lowSurrogate(codePoint));
+        i += 3;
+      } else {
+        // other multi-byte characters are already UTF-8 encoded
+        bytes[position++] = b;
+      }
+    }
+
+    bytes[position++] = '"';
+    jsonLength = position;
+  }
+
+  private static int writeUnicodeEscape(final byte[] bytes, int position, final char c) {
+    bytes[position++] = '\\';
+    bytes[position++] = 'u';
+    bytes[position++] = HEX_DIGITS[(c >> 12) & 0xF];
+    bytes[position++] = HEX_DIGITS[(c >> 8) & 0xF];
+    bytes[position++] = HEX_DIGITS[(c >> 4) & 0xF];
+    bytes[position++] = HEX_DIGITS[c & 0xF];
+    return position;
+  }
+
+  private void writeJsonInteger(final long value) {
+    jsonLength += buffer.putLongAscii(jsonLength, value);
+  }
+
+  private void writeJsonFloat(final double value, final boolean isFloat32) {
+    final String text = isFloat32 ? Float.toString((float) value) : Double.toString(value);
+
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      // non-numeric values are quoted, as by the default JSON generator
+      writeJsonByte('"');
+      jsonLength += buffer.putStringWithoutLengthAscii(jsonLength, text);
+      writeJsonByte('"');
+    } else {
+      jsonLength += buffer.putStringWithoutLengthAscii(jsonLength, text);
+    }
+  }
+
+  private void writeJsonBinary(final DirectBuffer value) {
+    final byte[] data = new byte[value.capacity()];
+    value.getBytes(0, data);
+
+    writeJsonByte('"');
+    writeJsonBytes(Base64.getEncoder().encode(data));
+    writeJsonByte('"');
+  }
+
+  private void writeJsonByte(final char c) {
+    buffer.putByte(jsonLength, (byte) c);
+    jsonLength += 1;
+  }
+
+  private void writeJsonBytes(final byte[] bytes) {
+    buffer.putBytes(jsonLength, bytes);
+    jsonLength += bytes.length;
+  }
+
+  private void ensureDepthCapacity() {
+    if (depth == containerSizes.length) {
+      final int newLength = depth * 2;
+      containerOffsets = Arrays.copyOf(containerOffsets, newLength);
+      containerSizes = Arrays.copyOf(containerSizes, newLength);
+      containerIndices = Arrays.copyOf(containerIndices, newLength);
+      containerIsArray = Arrays.copyOf(containerIsArray, newLength);
+    }
+  }
+
+  private void releaseOversizedBuffer() {
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+      buffer = new ExpandableArrayBuffer(INITIAL_BUFFER_CAPACITY);
+    }
+  }
+
+  @FunctionalInterface
+  public interface JsonMapper<T> {
+    T apply(byte[] json, int offset, int length);
+  }
+}
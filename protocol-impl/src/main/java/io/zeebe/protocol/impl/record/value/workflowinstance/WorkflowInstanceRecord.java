@@ -30,6 +30,7 @@ public final class WorkflowInstanceRecord extends UnifiedRecordValue
   public static final String PROP_WORKFLOW_KEY = "workflowKey";
   public static final String PROP_WORKFLOW_BPMN_TYPE = "bpmnElementType";
   public static final String PROP_WORKFLOW_SCOPE_KEY = "flowScopeKey";
+  public static final String PROP_WORKFLOW_ELEMENT_INDEX = "elementIndex";
 
   private final StringProperty bpmnProcessIdProp =
       new StringProperty(PROP_WORKFLOW_BPMN_PROCESS_ID, "");
@@ -51,6 +52,11 @@ public final class WorkflowInstanceRecord extends UnifiedRecordValue
   private final LongProperty parentElementInstanceKeyProp =
       new LongProperty("parentElementInstanceKey", -1L);
 
+  // the index of the element in the transformed workflow; it is only used internally to look up the
+  // element and is not part of the exported record
+  private final IntegerProperty elementIndexProp =
+      new IntegerProperty(PROP_WORKFLOW_ELEMENT_INDEX, -1);
+
   public WorkflowInstanceRecord() {
     declareProperty(bpmnProcessIdProp)
         .declareProperty(versionProp)
@@ -60,7 +66,8 @@ public final class WorkflowInstanceRecord extends UnifiedRecordValue
         .declareProperty(flowScopeKeyProp)
         .declareProperty(bpmnElementTypeProp)
         .declareProperty(parentWorkflowInstanceKeyProp)
-        .declareProperty(parentElementInstanceKeyProp);
+        .declareProperty(parentElementInstanceKeyProp)
+        .declareProperty(elementIndexProp);
   }
 
   public void wrap(final WorkflowInstanceRecord record) {
@@ -73,6 +80,7 @@ public final class WorkflowInstanceRecord extends UnifiedRecordValue
     bpmnElementTypeProp.setValue(record.getBpmnElementType());
     parentWorkflowInstanceKeyProp.setValue(record.getParentWorkflowInstanceKey());
     parentElementInstanceKeyProp.setValue(record.getParentElementInstanceKey());
+    elementIndexProp.setValue(record.getElementIndex());
   }
 
   @JsonIgnore
@@ -121,6 +129,23 @@ public final class WorkflowInstanceRecord extends UnifiedRecordValue
     return bufferAsString(elementIdProp.getValue());
   }
 
+  /**
+   * @return the index of the element in the transformed workflow, or {@code -1} if it is unknown
+   */
+  @JsonIgnore
+  public int getElementIndex() {
+    return elementIndexProp.getValue();
+  }
+
+  /**
+   * Sets the index of the element in the transformed workflow, which allows to look up the element
+   * without its id. The index must be set after the element id, since setting the id resets it.
+   */
+  public WorkflowInstanceRecord setElementIndex(final int elementIndex) {
+    elementIndexProp.setValue(elementIndex);
+    return this;
+  }
+
   @Override
   public long getFlowScopeKey() {
     return flowScopeKeyProp.getValue();
@@ -163,6 +188,7 @@ public final class WorkflowInstanceRecord extends UnifiedRecordValue
 
   public WorkflowInstanceRecord setElementId(final String elementId) {
     elementIdProp.setValue(elementId);
+    elementIndexProp.setValue(-1);
     return this;
   }
 
@@ -193,6 +219,7 @@ public final class WorkflowInstanceRecord extends UnifiedRecordValue
   public WorkflowInstanceRecord setElementId(
       final DirectBuffer elementId, final int offset, final int length) {
     elementIdProp.setValue(elementId, offset, length);
+    elementIndexProp.setValue(-1);
     return this;
   }
 }
@@ -653,6 +653,7 @@ public final class JsonSerializableToJsonTest {
 
               return new WorkflowInstanceRecord()
                   .setElementId(elementId)
+                  .setElementIndex(3)
                   .setBpmnElementType(bpmnElementType)
                   .setBpmnProcessId(wrapString(bpmnProcessId))
                   .setVersion(version)
@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.it.client.multipartition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.it.clustering.ClusteringRule;
+import io.zeebe.broker.it.util.GrpcClientRule;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.test.util.BrokerClassRuleHelper;
+import io.zeebe.test.util.record.RecordingExporter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public final class MessageCorrelationWithSubscriptionBatchingTest {
+
+  private static final int PARTITION_COUNT = 3;
+  private static final int INSTANCE_COUNT = 30;
+
+  private static final ClusteringRule CLUSTERING_RULE =
+      new ClusteringRule(
+          PARTITION_COUNT,
+          1,
+          1,
+          cfg -> cfg.getExperimental().getSubscriptionBatching().setEnabled(true));
+  private static final GrpcClientRule CLIENT_RULE = new GrpcClientRule(CLUSTERING_RULE);
+
+  @ClassRule
+  public static RuleChain ruleChain = RuleChain.outerRule(CLUSTERING_RULE).around(CLIENT_RULE);
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldCorrelateMessagesOnDifferentPartitions() {
+    // given
+    final String messageName = helper.getMessageName();
+    final long workflowKey =
+        CLIENT_RULE.deployWorkflow(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .intermediateCatchEvent()
+                .message(m -> m.name(messageName).zeebeCorrelationKeyExpression("key"))
+                .endEvent("end")
+                .done());
+
+    final List<Long> workflowInstanceKeys =
+        IntStream.range(0, INSTANCE_COUNT)
+            .mapToObj(i -> createWorkflowInstance(workflowKey, "key-" + i))
+            .collect(Collectors.toList());
+
+    // when
+    IntStream.range(0, INSTANCE_COUNT).forEach(i -> publishMessage(messageName, "key-" + i));
+
+    // then
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .withElementId("process")
+                .limit(INSTANCE_COUNT))
+        .extracting(r -> r.getValue().getWorkflowInstanceKey())
+        .containsExactlyInAnyOrderElementsOf(workflowInstanceKeys);
+  }
+
+  private long createWorkflowInstance(final long workflowKey, final String correlationKey) {
+    return CLIENT_RULE
+        .getClient()
+        .newCreateInstanceCommand()
+        .workflowKey(workflowKey)
+        .variables(Map.of("key", correlationKey))
+        .send()
+        .join()
+        .getWorkflowInstanceKey();
+  }
+
+  private void publishMessage(final String messageName, final String correlationKey) {
+    CLIENT_RULE
+        .getClient()
+        .newPublishMessageCommand()
+        .messageName(messageName)
+        .correlationKey(correlationKey)
+        .send()
+        .join();
+  }
+}
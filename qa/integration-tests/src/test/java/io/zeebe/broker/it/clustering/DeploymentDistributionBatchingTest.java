@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.it.clustering;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.it.util.GrpcClientRule;
+import io.zeebe.broker.system.configuration.DeploymentDistributionCfg;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.response.DeploymentEvent;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.intent.DeploymentIntent;
+import io.zeebe.test.util.record.RecordingExporter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.rules.Timeout;
+
+public final class DeploymentDistributionBatchingTest {
+
+  private static final int DEPLOYMENT_COUNT = 20;
+
+  public final Timeout testTimeout = Timeout.seconds(120);
+  public final ClusteringRule clusteringRule =
+      new ClusteringRule(
+          3,
+          3,
+          3,
+          cfg -> {
+            cfg.getData().setUseMmap(false);
+
+            final DeploymentDistributionCfg distributionCfg =
+                cfg.getExperimental().getDeploymentDistribution();
+            distributionCfg.setBatchingEnabled(true);
+            distributionCfg.setMaxConcurrentPushes(1);
+          });
+  public final GrpcClientRule clientRule = new GrpcClientRule(clusteringRule);
+
+  @Rule
+  public RuleChain ruleChain =
+      RuleChain.outerRule(testTimeout).around(clusteringRule).around(clientRule);
+
+  @Test
+  public void shouldDistributeConcurrentDeploymentsToAllPartitions() {
+    // when
+    final List<ZeebeFuture<DeploymentEvent>> deployments =
+        IntStream.range(0, DEPLOYMENT_COUNT)
+            .mapToObj(
+                i ->
+                    clientRule
+                        .getClient()
+                        .newDeployCommand()
+                        .addWorkflowModel(
+                            Bpmn.createExecutableProcess("process-" + i)
+                                .startEvent()
+                                .endEvent()
+                                .done(),
+                            "process-" + i + ".bpmn")
+                        .send())
+            .collect(Collectors.toList());
+
+    final List<Long> deploymentKeys =
+        deployments.stream()
+            .map(ZeebeFuture::join)
+            .map(DeploymentEvent::getKey)
+            .collect(Collectors.toList());
+
+    // then
+    deploymentKeys.forEach(clientRule::waitUntilDeploymentIsDone);
+
+    final int otherPartitions = clusteringRule.getPartitionCount() - 1;
+    assertThat(
+            RecordingExporter.deploymentRecords(DeploymentIntent.CREATED)
+                .filter(r -> r.getPartitionId() != 1)
+                .limit(DEPLOYMENT_COUNT * otherPartitions))
+        .extracting(Record::getKey)
+        .hasSize(DEPLOYMENT_COUNT * otherPartitions)
+        .containsOnlyElementsOf(deploymentKeys);
+  }
+}
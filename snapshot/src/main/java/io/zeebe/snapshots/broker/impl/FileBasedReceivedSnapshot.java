@@ -12,7 +12,6 @@ import static java.nio.file.StandardOpenOption.CREATE_NEW;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.ReceivedSnapshot;
 import io.zeebe.snapshots.raft.SnapshotChunk;
-import io.zeebe.util.ChecksumUtil;
 import io.zeebe.util.FileUtil;
 import io.zeebe.util.ZbLogger;
 import java.io.File;
@@ -213,7 +212,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         Arrays.stream(files).sorted().map(File::toPath).collect(Collectors.toList());
     final long actualSnapshotChecksum;
     try {
-      actualSnapshotChecksum = ChecksumUtil.createCombinedChecksum(filePaths);
+      actualSnapshotChecksum = snapshotStore.getChecksumCalculator().calculate(filePaths);
     } catch (final IOException e) {
       throw new UncheckedIOException("Unexpected exception on calculating snapshot checksum.", e);
     }
@@ -225,7 +224,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
               expectedSnapshotChecksum, actualSnapshotChecksum));
     }
 
-    return snapshotStore.newSnapshot(metadata, directory);
+    return snapshotStore.newSnapshot(metadata, directory, actualSnapshotChecksum);
   }
 
   public Path getPath() {
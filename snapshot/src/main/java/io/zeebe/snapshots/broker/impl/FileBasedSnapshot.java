@@ -26,10 +26,40 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
 
   private final Path directory;
   private final FileBasedSnapshotMetadata metadata;
+  private final SnapshotChecksumCalculator checksumCalculator;
+  private Long checksum;
 
   FileBasedSnapshot(final Path directory, final FileBasedSnapshotMetadata metadata) {
+    this(directory, metadata, SnapshotChecksumCalculator.SEQUENTIAL);
+  }
+
+  FileBasedSnapshot(
+      final Path directory,
+      final FileBasedSnapshotMetadata metadata,
+      final SnapshotChecksumCalculator checksumCalculator) {
     this.directory = directory;
     this.metadata = metadata;
+    this.checksumCalculator = checksumCalculator;
+  }
+
+  /**
+   * Returns the combined checksum of the snapshot files. The files are immutable, so the checksum
+   * is computed only once and shared by all chunk readers of the snapshot.
+   */
+  synchronized long getChecksum() {
+    if (checksum == null) {
+      try {
+        checksum = checksumCalculator.calculate(directory);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    return checksum;
+  }
+
+  synchronized void setChecksum(final long checksum) {
+    this.checksum = checksum;
   }
 
   public FileBasedSnapshotMetadata getMetadata() {
@@ -63,7 +93,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      return new FileBasedSnapshotChunkReader(directory, getChecksum());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -10,7 +10,6 @@ package io.zeebe.snapshots.broker.impl;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.snapshots.raft.SnapshotChunk;
 import io.zeebe.snapshots.raft.SnapshotChunkReader;
-import io.zeebe.util.ChecksumUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
@@ -21,7 +20,6 @@ import java.nio.file.Path;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
-import java.util.stream.Collectors;
 import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -44,17 +42,18 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final String snapshotID;
 
   FileBasedSnapshotChunkReader(final Path directory) throws IOException {
+    this(directory, SnapshotChecksumCalculator.SEQUENTIAL.calculate(directory));
+  }
+
+  FileBasedSnapshotChunkReader(final Path directory, final long snapshotChecksum)
+      throws IOException {
     this.directory = directory;
+    this.snapshotChecksum = snapshotChecksum;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
     chunkIdView = new CharSequenceView();
 
-    try (final var fileStream = Files.list(directory).sorted()) {
-      snapshotChecksum =
-          ChecksumUtil.createCombinedChecksum(fileStream.collect(Collectors.toList()));
-    }
-
     snapshotID = directory.getFileName().toString();
   }
 
@@ -47,6 +47,7 @@ public final class FileBasedSnapshotStore
   private final Set<PersistedSnapshotListener> listeners;
 
   private final SnapshotMetrics snapshotMetrics;
+  private final SnapshotChecksumCalculator checksumCalculator;
 
   private final AtomicReference<FileBasedSnapshot> currentPersistedSnapshotRef;
   // used to write concurrently received snapshots in different pending directories
@@ -56,9 +57,22 @@ public final class FileBasedSnapshotStore
       final SnapshotMetrics snapshotMetrics,
       final Path snapshotsDirectory,
       final Path pendingDirectory) {
+    this(
+        snapshotMetrics,
+        snapshotsDirectory,
+        pendingDirectory,
+        SnapshotChecksumCalculator.SEQUENTIAL);
+  }
+
+  FileBasedSnapshotStore(
+      final SnapshotMetrics snapshotMetrics,
+      final Path snapshotsDirectory,
+      final Path pendingDirectory,
+      final SnapshotChecksumCalculator checksumCalculator) {
     this.snapshotsDirectory = snapshotsDirectory;
     this.pendingDirectory = pendingDirectory;
     this.snapshotMetrics = snapshotMetrics;
+    this.checksumCalculator = checksumCalculator;
     receivingSnapshotStartCount = new AtomicLong();
 
     listeners = new CopyOnWriteArraySet<>();
@@ -83,7 +97,7 @@ public final class FileBasedSnapshotStore
     final var optionalMeta = FileBasedSnapshotMetadata.ofPath(path);
     if (optionalMeta.isPresent()) {
       final var metadata = optionalMeta.get();
-      return new FileBasedSnapshot(path, metadata);
+      return new FileBasedSnapshot(path, metadata, checksumCalculator);
     } else {
       LOGGER.warn("Expected snapshot file format to be %d-%d-%d-%d, but was {}", path);
     }
@@ -255,7 +269,21 @@ public final class FileBasedSnapshotStore
     return (persistedSnapshot != null && persistedSnapshot.getMetadata().compareTo(metadata) >= 0);
   }
 
+  SnapshotChecksumCalculator getChecksumCalculator() {
+    return checksumCalculator;
+  }
+
   PersistedSnapshot newSnapshot(final FileBasedSnapshotMetadata metadata, final Path directory) {
+    return newSnapshot(metadata, directory, null);
+  }
+
+  /**
+   * Moves the snapshot into the snapshots directory and makes it the current snapshot. If the
+   * checksum of the snapshot is already known, it is shared by all chunk readers of the snapshot;
+   * otherwise, it is computed when the first chunk reader is created.
+   */
+  PersistedSnapshot newSnapshot(
+      final FileBasedSnapshotMetadata metadata, final Path directory, final Long checksum) {
     final var currentPersistedSnapshot = currentPersistedSnapshotRef.get();
 
     if (isCurrentSnapshotNewer(metadata)) {
@@ -277,7 +305,11 @@ public final class FileBasedSnapshotStore
       throw new UncheckedIOException(e);
     }
 
-    final var newPersistedSnapshot = new FileBasedSnapshot(destination, metadata);
+    final var newPersistedSnapshot =
+        new FileBasedSnapshot(destination, metadata, checksumCalculator);
+    if (checksum != null) {
+      newPersistedSnapshot.setChecksum(checksum);
+    }
     final var failed =
         !currentPersistedSnapshotRef.compareAndSet(currentPersistedSnapshot, newPersistedSnapshot);
     if (failed) {
@@ -12,9 +12,13 @@ import io.zeebe.snapshots.broker.SnapshotStoreSupplier;
 import io.zeebe.snapshots.raft.PersistedSnapshotStore;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStoreFactory;
+import io.zeebe.util.IoRateLimiter;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.IoUtil;
 
 /**
@@ -26,13 +30,45 @@ import org.agrona.IoUtil;
  *
  * <p>The metadata extraction is done by parsing the directory name using '%d-%d-%d-%d', where in
  * order we expect: index, term, timestamp, and position.
+ *
+ * <p>The checksums of the snapshots of all partitions are calculated on a shared pool of threads,
+ * and the reads can be limited to a given rate, so that many partitions which take a snapshot at
+ * the same time don't saturate the disk.
  */
 public final class FileBasedSnapshotStoreFactory
-    implements SnapshotStoreSupplier, ReceivableSnapshotStoreFactory {
+    implements SnapshotStoreSupplier, ReceivableSnapshotStoreFactory, AutoCloseable {
   public static final String SNAPSHOTS_DIRECTORY = "snapshots";
   public static final String PENDING_DIRECTORY = "pending";
 
   private final Map<String, FileBasedSnapshotStore> partitionSnapshotStores = new HashMap();
+  private final ExecutorService checksumExecutor;
+  private final SnapshotChecksumCalculator checksumCalculator;
+
+  public FileBasedSnapshotStoreFactory() {
+    this(1, 0);
+  }
+
+  /**
+   * @param checksumThreads the number of threads which calculate the checksums of new snapshots in
+   *     the background
+   * @param checksumRateLimit the maximum number of bytes per second which are read to calculate the
+   *     checksums in the background, or a non-positive value for no limit
+   */
+  public FileBasedSnapshotStoreFactory(final int checksumThreads, final long checksumRateLimit) {
+    final var threadCount = new AtomicInteger();
+    checksumExecutor =
+        Executors.newFixedThreadPool(
+            checksumThreads,
+            r -> {
+              final var thread =
+                  new Thread(r, "snapshot-checksum-" + threadCount.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+    checksumCalculator =
+        new SnapshotChecksumCalculator(
+            checksumExecutor, IoRateLimiter.ofBytesPerSecond(checksumRateLimit));
+  }
 
   @Override
   public ReceivableSnapshotStore createReceivableSnapshotStore(
@@ -47,7 +83,10 @@ public final class FileBasedSnapshotStoreFactory
         partitionName,
         p ->
             new FileBasedSnapshotStore(
-                new SnapshotMetrics(partitionName), snapshotDirectory, pendingDirectory));
+                new SnapshotMetrics(partitionName),
+                snapshotDirectory,
+                pendingDirectory,
+                checksumCalculator));
   }
 
   @Override
@@ -64,4 +103,9 @@ public final class FileBasedSnapshotStoreFactory
   public PersistedSnapshotStore getPersistedSnapshotStore(final String partitionName) {
     return partitionSnapshotStores.get(partitionName);
   }
+
+  @Override
+  public void close() {
+    checksumExecutor.shutdownNow();
+  }
 }
@@ -11,6 +11,8 @@ import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.TransientSnapshot;
 import io.zeebe.util.FileUtil;
 import io.zeebe.util.ZbLogger;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.function.Predicate;
@@ -26,6 +28,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
   private final Path directory;
   private final FileBasedSnapshotStore snapshotStore;
   private final FileBasedSnapshotMetadata metadata;
+  private volatile Long checksum;
 
   FileBasedTransientSnapshot(
       final FileBasedSnapshotMetadata metadata,
@@ -67,9 +70,31 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
     }
   }
 
+  @Override
+  public ActorFuture<Void> computeChecksum() {
+    final CompletableActorFuture<Void> result = new CompletableActorFuture<>();
+    final var timer = snapshotStore.getSnapshotMetrics().startChecksumTimer();
+
+    snapshotStore
+        .getChecksumCalculator()
+        .calculateAsync(directory)
+        .whenComplete(
+            (calculatedChecksum, error) -> {
+              timer.close();
+              if (error == null) {
+                checksum = calculatedChecksum;
+                result.complete(null);
+              } else {
+                result.completeExceptionally(error);
+              }
+            });
+
+    return result;
+  }
+
   @Override
   public PersistedSnapshot persist() {
-    return snapshotStore.newSnapshot(metadata, directory);
+    return snapshotStore.newSnapshot(metadata, directory, checksum);
   }
 
   public Path getPath() {
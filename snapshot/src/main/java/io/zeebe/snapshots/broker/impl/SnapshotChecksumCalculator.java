@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.snapshots.broker.impl;
+
+import io.zeebe.util.ChecksumUtil;
+import io.zeebe.util.IoRateLimiter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the combined checksum of the files of a snapshot. The files are streamed block by block
+ * instead of being read into memory at once.
+ *
+ * <p>The checksum of a new snapshot is computed in the background: the checksums of its files are
+ * computed in parallel on a shared executor, and the reads are rate limited so that computing the
+ * checksum does not starve the I/O of the processing. The rate limit only parks the executor
+ * threads. A checksum which is needed right away, e.g. to verify a received snapshot, is computed
+ * on the caller's thread without a limit.
+ */
+final class SnapshotChecksumCalculator {
+
+  static final SnapshotChecksumCalculator SEQUENTIAL =
+      new SnapshotChecksumCalculator(Runnable::run, IoRateLimiter.unlimited());
+
+  private final Executor executor;
+  private final IoRateLimiter rateLimiter;
+
+  SnapshotChecksumCalculator(final Executor executor, final IoRateLimiter rateLimiter) {
+    this.executor = executor;
+    this.rateLimiter = rateLimiter;
+  }
+
+  long calculate(final Path directory) throws IOException {
+    return calculate(listFiles(directory));
+  }
+
+  long calculate(final List<Path> files) throws IOException {
+    return ChecksumUtil.createCombinedChecksum(files);
+  }
+
+  /**
+   * @return a future which is completed with the checksum of the files in the given directory, or
+   *     exceptionally with an {@link UncheckedIOException} if a file can't be read
+   */
+  CompletableFuture<Long> calculateAsync(final Path directory) {
+    return CompletableFuture.supplyAsync(() -> listUncheckedFiles(directory), executor)
+        .thenCompose(
+            files -> ChecksumUtil.createCombinedChecksumAsync(files, executor, rateLimiter));
+  }
+
+  private static List<Path> listFiles(final Path directory) throws IOException {
+    try (final var files = Files.list(directory).sorted()) {
+      return files.collect(Collectors.toList());
+    }
+  }
+
+  private static List<Path> listUncheckedFiles(final Path directory) {
+    try {
+      return listFiles(directory);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
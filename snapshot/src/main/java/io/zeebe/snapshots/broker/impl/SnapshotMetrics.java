@@ -44,6 +44,13 @@ public final class SnapshotMetrics {
           .name("snapshot_duration")
           .help("Approximate duration of snapshot operation")
           .register();
+  private static final Histogram SNAPSHOT_CHECKSUM_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_checksum_duration")
+          .help("Approximate duration of calculating the checksum of a snapshot")
+          .register();
   private static final Histogram SNAPSHOT_FILE_SIZE =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -78,4 +85,8 @@ public final class SnapshotMetrics {
   Timer startTimer() {
     return SNAPSHOT_DURATION.labels(partitionId).startTimer();
   }
+
+  Timer startChecksumTimer() {
+    return SNAPSHOT_CHECKSUM_DURATION.labels(partitionId).startTimer();
+  }
 }
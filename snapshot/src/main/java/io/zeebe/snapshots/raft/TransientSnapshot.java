@@ -7,6 +7,7 @@
  */
 package io.zeebe.snapshots.raft;
 
+import io.zeebe.util.sched.future.ActorFuture;
 import java.nio.file.Path;
 import java.util.function.Predicate;
 
@@ -23,4 +24,13 @@ public interface TransientSnapshot extends PersistableSnapshot {
    * @return true on success, false otherwise
    */
   boolean take(Predicate<Path> takeSnapshot);
+
+  /**
+   * Computes the checksum of the taken snapshot in the background, so that persisting the snapshot
+   * doesn't have to read its files. The snapshot can be persisted without it; the checksum is then
+   * computed when it is needed.
+   *
+   * @return a future which is completed when the checksum is computed
+   */
+  ActorFuture<Void> computeChecksum();
 }
@@ -9,6 +9,10 @@ package io.zeebe.snapshots.broker.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -34,4 +38,43 @@ public final class FileBasedSnapshotStoreFactoryTest {
         .isDirectory();
     assertThat(store.getLatestSnapshot()).isEmpty();
   }
+
+  @Test
+  public void shouldCalculateSameChecksumOnMultipleThreads() throws Exception {
+    // given
+    final var sequentialSnapshot =
+        takeSnapshot(new FileBasedSnapshotStoreFactory(), temporaryFolder.newFolder().toPath());
+
+    // when
+    final var parallelSnapshot =
+        takeSnapshot(
+            new FileBasedSnapshotStoreFactory(4, 1024 * 1024),
+            temporaryFolder.newFolder().toPath());
+
+    // then
+    assertThat(parallelSnapshot.getChecksum()).isEqualTo(sequentialSnapshot.getChecksum());
+  }
+
+  private FileBasedSnapshot takeSnapshot(
+      final FileBasedSnapshotStoreFactory factory, final Path root) {
+    try (factory) {
+      factory.createReceivableSnapshotStore(root, "1");
+      final var transientSnapshot =
+          factory.getConstructableSnapshotStore("1").newTransientSnapshot(1, 0, 1, 0).orElseThrow();
+      transientSnapshot.take(
+          path -> {
+            try {
+              Files.createDirectories(path);
+              for (int i = 0; i < 8; i++) {
+                Files.writeString(path.resolve("file" + i), "content of file " + i);
+              }
+            } catch (final IOException e) {
+              throw new UncheckedIOException(e);
+            }
+            return true;
+          });
+      transientSnapshot.computeChecksum().join();
+      return (FileBasedSnapshot) transientSnapshot.persist();
+    }
+  }
 }
@@ -16,6 +16,7 @@ import static org.mockito.Mockito.verify;
 
 import io.zeebe.snapshots.broker.ConstructableSnapshotStore;
 import io.zeebe.snapshots.raft.PersistedSnapshotListener;
+import io.zeebe.util.ChecksumUtil;
 import io.zeebe.util.FileUtil;
 import java.io.File;
 import java.io.IOException;
@@ -23,6 +24,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -413,6 +415,49 @@ public class FileBasedTransientSnapshotTest {
         .isEmpty();
   }
 
+  @Test
+  public void shouldUseChecksumComputedBeforePersist() throws Exception {
+    // given
+    final var transientSnapshot =
+        persistedSnapshotStore.newTransientSnapshot(1L, 0L, 1, 0).orElseThrow();
+    transientSnapshot.take(this::createSnapshotDir);
+    final var expectedChecksum =
+        ChecksumUtil.createCombinedChecksum(
+            List.of(
+                ((FileBasedTransientSnapshot) transientSnapshot).getPath().resolve("file1.txt")));
+
+    // when
+    transientSnapshot.computeChecksum().join();
+    final var persistedSnapshot = transientSnapshot.persist();
+
+    // then - modifying the files doesn't change the already calculated checksum
+    Files.writeString(persistedSnapshot.getPath().resolve("file1.txt"), "modified");
+    try (final var chunkReader = persistedSnapshot.newChunkReader()) {
+      assertThat(chunkReader.next().getSnapshotChecksum()).isEqualTo(expectedChecksum);
+    }
+  }
+
+  @Test
+  public void shouldCalculateChecksumLazilyOnce() throws Exception {
+    // given
+    final var transientSnapshot =
+        persistedSnapshotStore.newTransientSnapshot(1L, 0L, 1, 0).orElseThrow();
+    transientSnapshot.take(this::createSnapshotDir);
+
+    // when
+    final var persistedSnapshot = transientSnapshot.persist();
+    final var expectedChecksum =
+        ChecksumUtil.createCombinedChecksum(
+            List.of(persistedSnapshot.getPath().resolve("file1.txt")));
+    persistedSnapshot.newChunkReader().close();
+
+    // then - modifying the files doesn't change the already calculated checksum
+    Files.writeString(persistedSnapshot.getPath().resolve("file1.txt"), "modified");
+    try (final var chunkReader = persistedSnapshot.newChunkReader()) {
+      assertThat(chunkReader.next().getSnapshotChecksum()).isEqualTo(expectedChecksum);
+    }
+  }
+
   private boolean createSnapshotDir(final Path path) {
     try {
       FileUtil.ensureDirectoryExists(path);
@@ -13,7 +13,8 @@ import org.agrona.DirectBuffer;
 public interface RequestHandler {
 
   /**
-   * Called on new request on given partition.
+   * Called on new request on given partition. The request buffer is only valid during the
+   * invocation, it must be copied if it is accessed afterwards.
    *
    * @param serverOutput output to write the response
    * @param partitionId the corresponding partition id
@@ -7,6 +7,7 @@
  */
 package io.zeebe.transport.impl;
 
+import io.atomix.cluster.messaging.MessagePayload;
 import io.atomix.cluster.messaging.MessagingService;
 import io.zeebe.transport.RequestHandler;
 import io.zeebe.transport.ServerResponse;
@@ -15,7 +16,6 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
-import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -27,11 +27,14 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   private static final String API_TOPIC_FORMAT = "command-api-%d";
   private static final String ERROR_MSG_MISSING_PARTITON_MAP =
       "Node already unsubscribed from partition %d, this can only happen when atomix does not cleanly remove its handlers.";
+  private static final String ERROR_MSG_TRANSPORT_CLOSED =
+      "Expected to handle request, but the server transport is closed";
+  private static final String ERROR_MSG_UNSUBSCRIBED =
+      "Expected to respond to request, but the node unsubscribed from partition %d";
 
   private final Int2ObjectHashMap<Long2ObjectHashMap<CompletableFuture<byte[]>>>
       partitionsRequestMap;
   private final AtomicLong requestCount;
-  private final DirectBuffer reusableRequestBuffer;
   private final MessagingService messagingService;
   private final String actorName;
 
@@ -39,7 +42,6 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     this.messagingService = messagingService;
     partitionsRequestMap = new Int2ObjectHashMap<>();
     requestCount = new AtomicLong(0);
-    reusableRequestBuffer = new UnsafeBuffer(0, 0);
     actorName = buildActorName(nodeId, "ServerTransport");
   }
 
@@ -70,7 +72,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
             LOG.trace("Subscribe for topic {}", topicName);
           }
           partitionsRequestMap.put(partitionId, new Long2ObjectHashMap<>());
-          messagingService.registerHandler(
+          messagingService.registerPayloadHandler(
               topicName,
               (sender, request) -> handleAtomixRequest(request, partitionId, requestHandler));
         });
@@ -91,41 +93,57 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
 
     final var requestMap = partitionsRequestMap.remove(partitionId);
     if (requestMap != null) {
+      // the responses to the pending requests can't be sent anymore
+      final var failure =
+          new IllegalStateException(String.format(ERROR_MSG_UNSUBSCRIBED, partitionId));
+      requestMap.values().forEach(pending -> pending.completeExceptionally(failure));
       requestMap.clear();
     }
   }
 
   private CompletableFuture<byte[]> handleAtomixRequest(
-      final byte[] requestBytes, final int partitionId, final RequestHandler requestHandler) {
+      final MessagePayload request, final int partitionId, final RequestHandler requestHandler) {
     final var completableFuture = new CompletableFuture<byte[]>();
-    actor.call(
-        () -> {
-          final var requestId = requestCount.getAndIncrement();
-          final var requestMap = partitionsRequestMap.get(partitionId);
-          if (requestMap == null) {
-            final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
-            LOG.trace(errorMsg);
-            completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
-            return;
-          }
+    final var handled =
+        actor.call(
+            () -> {
+              final var requestId = requestCount.getAndIncrement();
+              final var requestMap = partitionsRequestMap.get(partitionId);
+              if (requestMap == null) {
+                final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
+                LOG.trace(errorMsg);
+                request.release();
+                completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
+                return;
+              }
 
-          try {
-            reusableRequestBuffer.wrap(requestBytes);
-            requestHandler.onRequest(
-                this, partitionId, requestId, reusableRequestBuffer, 0, requestBytes.length);
-            if (LOG.isTraceEnabled()) {
-              LOG.trace("Handled request {} for topic {}", requestId, topicName(partitionId));
-            }
-            // we only add the request to the map after successful handling
-            requestMap.put(requestId, completableFuture);
-          } catch (final Exception exception) {
-            LOG.error(
-                "Unexpected exception on handling request for partition {}.",
-                partitionId,
-                exception);
-            completableFuture.completeExceptionally(exception);
-          }
-        });
+              try {
+                // the request is wrapped without copy, it is only valid until it is released
+                requestHandler.onRequest(
+                    this, partitionId, requestId, request.buffer(), 0, request.length());
+                if (LOG.isTraceEnabled()) {
+                  LOG.trace("Handled request {} for topic {}", requestId, topicName(partitionId));
+                }
+                // we only add the request to the map after successful handling
+                requestMap.put(requestId, completableFuture);
+              } catch (final Exception exception) {
+                LOG.error(
+                    "Unexpected exception on handling request for partition {}.",
+                    partitionId,
+                    exception);
+                completableFuture.completeExceptionally(exception);
+              } finally {
+                request.release();
+              }
+            });
+
+    if (handled.isDone() && handled.isCompletedExceptionally()) {
+      // the actor refused the job, it is closed and never runs the handler which releases the
+      // request; the handlers are unregistered on close, so only requests racing with it land here
+      request.release();
+      completableFuture.completeExceptionally(
+          new IllegalStateException(ERROR_MSG_TRANSPORT_CLOSED, handled.getException()));
+    }
 
     return completableFuture;
   }
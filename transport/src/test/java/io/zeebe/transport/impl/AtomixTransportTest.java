@@ -231,6 +231,31 @@ public class AtomixTransportTest {
     assertThat(incomingRequestFuture).isNotCompleted();
   }
 
+  @Test
+  public void shouldFailPendingRequestWhenUnsubscribed() throws InterruptedException {
+    // given
+    final var requestReceived = new CountDownLatch(1);
+    serverTransport
+        .subscribe(
+            0,
+            (serverOutput, partitionId, requestId, buffer, offset, length) ->
+                requestReceived.countDown())
+        .join();
+
+    final var requestFuture =
+        clientTransport.sendRequestWithRetry(
+            nodeAddressSupplier, new Request("messageABC"), REQUEST_TIMEOUT);
+    assertThat(requestReceived.await(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+    // when
+    serverTransport.unsubscribe(0).join();
+
+    // then
+    assertThatThrownBy(requestFuture::join)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(MessagingException.RemoteHandlerFailure.class);
+  }
+
   @Test
   public void shouldTimeoutAfterDurationOnNonExistingRemote() {
     // given
@@ -390,7 +415,9 @@ public class AtomixTransportTest {
               .buffer(buffer, 0, length)
               .setRequestId(requestId)
               .setPartitionId(partitionId);
-      requestConsumer.accept(buffer.byteArray());
+      final var requestBytes = new byte[length];
+      buffer.getBytes(offset, requestBytes);
+      requestConsumer.accept(requestBytes);
       serverOutput.sendResponse(serverResponse);
     }
   }
@@ -8,30 +8,89 @@
 package io.zeebe.util;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.zip.CRC32;
 
 public final class ChecksumUtil {
 
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
   private ChecksumUtil() {}
 
   /** computes a checksum for the files, in the order they're presented */
   public static long createCombinedChecksum(final List<Path> paths) throws IOException {
-    final CRC32 checksumGenerator = new CRC32();
-    final List<Long> chunkChecksum = new ArrayList<>();
+    final long[] fileChecksums = new long[paths.size()];
+    for (int i = 0; i < paths.size(); i++) {
+      fileChecksums[i] = createChecksum(paths.get(i), IoRateLimiter.unlimited());
+    }
+    return combineChecksums(fileChecksums);
+  }
 
+  /**
+   * Computes a checksum for the files, in the order they're presented, without blocking the caller.
+   * The checksums of the single files are independent of each other, so they are computed
+   * concurrently on the given executor; the files are read in blocks whose throughput is limited by
+   * the given rate limiter, which only parks the threads of the executor.
+   *
+   * @return a future which is completed with the checksum, or exceptionally with an {@link
+   *     UncheckedIOException} if a file can't be read
+   */
+  public static CompletableFuture<Long> createCombinedChecksumAsync(
+      final List<Path> paths, final Executor executor, final IoRateLimiter rateLimiter) {
+    final List<CompletableFuture<Long>> fileChecksums = new ArrayList<>(paths.size());
     for (final var path : paths) {
-      checksumGenerator.update(Files.readAllBytes(path));
-      chunkChecksum.add(checksumGenerator.getValue());
-      checksumGenerator.reset();
+      fileChecksums.add(
+          CompletableFuture.supplyAsync(
+              () -> createUncheckedChecksum(path, rateLimiter), executor));
+    }
+
+    return CompletableFuture.allOf(fileChecksums.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored ->
+                combineChecksums(
+                    fileChecksums.stream().mapToLong(CompletableFuture::join).toArray()));
+  }
+
+  /** computes the checksum of the file content, reading the file block by block */
+  public static long createChecksum(final Path path, final IoRateLimiter rateLimiter)
+      throws IOException {
+    final CRC32 checksumGenerator = new CRC32();
+    final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      int bytesRead;
+      while ((bytesRead = channel.read(buffer.clear())) >= 0) {
+        rateLimiter.acquire(bytesRead);
+        checksumGenerator.update(buffer.flip());
+      }
     }
 
-    chunkChecksum.forEach(
-        c -> checksumGenerator.update(ByteBuffer.allocate(Long.BYTES).putLong(0, c)));
+    return checksumGenerator.getValue();
+  }
+
+  private static long createUncheckedChecksum(final Path path, final IoRateLimiter rateLimiter) {
+    try {
+      return createChecksum(path, rateLimiter);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static long combineChecksums(final long[] fileChecksums) {
+    final CRC32 checksumGenerator = new CRC32();
+    final ByteBuffer checksumBuffer = ByteBuffer.allocate(Long.BYTES);
+    for (final var fileChecksum : fileChecksums) {
+      checksumBuffer.putLong(0, fileChecksum);
+      checksumGenerator.update(checksumBuffer.clear());
+    }
     return checksumGenerator.getValue();
   }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the throughput of I/O operations to a number of bytes per second, which is shared by all
+ * threads using the same limiter. Callers acquire the bytes before reading or writing them and are
+ * parked until the rate allows the operation; the bytes of an operation are accounted for after it
+ * was admitted, so a single large operation is not delayed but the following ones are.
+ */
+public final class IoRateLimiter {
+
+  private static final IoRateLimiter UNLIMITED = new IoRateLimiter(0);
+
+  private final long bytesPerSecond;
+  private long nextFreeNanos;
+
+  private IoRateLimiter(final long bytesPerSecond) {
+    this.bytesPerSecond = bytesPerSecond;
+    nextFreeNanos = System.nanoTime();
+  }
+
+  public static IoRateLimiter unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * @param bytesPerSecond the maximum number of bytes per second, or a non-positive value to not
+   *     limit the rate
+   */
+  public static IoRateLimiter ofBytesPerSecond(final long bytesPerSecond) {
+    return bytesPerSecond > 0 ? new IoRateLimiter(bytesPerSecond) : UNLIMITED;
+  }
+
+  public boolean isLimited() {
+    return bytesPerSecond > 0;
+  }
+
+  /** Parks the calling thread until the given number of bytes can be read or written. */
+  public void acquire(final long bytes) {
+    if (!isLimited() || bytes <= 0) {
+      return;
+    }
+
+    final long waitNanos;
+    synchronized (this) {
+      final long now = System.nanoTime();
+      if (nextFreeNanos - now < 0) {
+        nextFreeNanos = now;
+      }
+
+      waitNanos = nextFreeNanos - now;
+      nextFreeNanos += bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+    }
+
+    if (waitNanos > 0) {
+      LockSupport.parkNanos(waitNanos);
+    }
+  }
+}
@@ -44,6 +44,7 @@ public final class ActorExecutor {
     }
     final ActorFuture<Void> startingFuture = task.onTaskScheduled(this, threadGroup);
 
+    threadGroup.register(task);
     threadGroup.submit(task);
     return startingFuture;
   }
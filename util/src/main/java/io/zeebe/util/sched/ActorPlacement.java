@@ -0,0 +1,248 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.zeebe.util.Loggers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Places the actors of a thread group on its threads according to the time they spent executing.
+ * The threads account the execution time of the tasks they run; periodically, one of them
+ * rebalances the tasks, such that every thread gets about the same load:
+ *
+ * <ul>
+ *   <li>a task which used at least the isolation threshold of a thread's time in the last interval
+ *       (e.g. the stream processor of a hot partition) gets a thread of its own. The thread doesn't
+ *       steal other tasks, so the other tasks are not delayed behind it. At least one thread is
+ *       left for the other tasks.
+ *   <li>the other tasks are placed on the remaining threads, the most expensive task first on the
+ *       least loaded thread. A task stays on its thread if that is one of the least loaded ones.
+ * </ul>
+ *
+ * <p>A placed task is always submitted to the queue of its thread. Work stealing still moves tasks
+ * to threads which are idle, so the placement is a preference and not a restriction.
+ */
+final class ActorPlacement {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Counter EXECUTION_TIME =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("actor_execution_time_seconds_total")
+          .help("Time which the actor spent executing on the actor threads")
+          .labelNames("actorName")
+          .register();
+
+  private static final Gauge ISOLATED =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("actor_isolated")
+          .help("Whether the actor was placed on a thread of its own (1) or not (0)")
+          .labelNames("actorName")
+          .register();
+
+  private static final Gauge THREAD_LOAD =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("actor_thread_load")
+          .help(
+              "Share of the last placement interval which the actors placed on the thread executed")
+          .labelNames("thread")
+          .register();
+
+  private final String groupName;
+  private final int threadCount;
+  private final long intervalNanos;
+  private final double isolationThreshold;
+
+  private final Set<ActorTask> tasks = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean rebalancing = new AtomicBoolean();
+  private volatile long nextRebalanceNanos;
+  private volatile boolean[] isolatedThreads;
+
+  // only accessed by the thread which holds the rebalancing flag
+  private final Map<ActorTask, Long> lastExecutionTimes = new HashMap<>();
+  private long lastRebalanceNanos;
+
+  ActorPlacement(
+      final String groupName,
+      final int threadCount,
+      final Duration interval,
+      final double isolationThreshold) {
+    this.groupName = groupName;
+    this.threadCount = threadCount;
+    intervalNanos = interval.toNanos();
+    this.isolationThreshold = isolationThreshold;
+    isolatedThreads = new boolean[threadCount];
+
+    lastRebalanceNanos = System.nanoTime();
+    nextRebalanceNanos = lastRebalanceNanos + intervalNanos;
+  }
+
+  /** Registers a task which was submitted to the thread group. */
+  void register(final ActorTask task) {
+    tasks.add(task);
+  }
+
+  /** Returns true if the given thread runs an isolated task and must not steal other tasks. */
+  boolean isIsolated(final int threadId) {
+    return isolatedThreads[threadId];
+  }
+
+  /** Rebalances the tasks if the interval elapsed and no other thread is rebalancing them. */
+  void maybeRebalance(final long nowNanos) {
+    if (nowNanos < nextRebalanceNanos || !rebalancing.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      if (nowNanos >= nextRebalanceNanos) {
+        rebalance(nowNanos - lastRebalanceNanos);
+        lastRebalanceNanos = nowNanos;
+        nextRebalanceNanos = nowNanos + intervalNanos;
+      }
+    } finally {
+      rebalancing.set(false);
+    }
+  }
+
+  void rebalance(final long elapsedNanos) {
+    final List<TaskLoad> loads = collectLoads();
+    loads.sort(Comparator.comparingLong(TaskLoad::getExecutionTime).reversed());
+
+    final long[] threadLoads = new long[threadCount];
+    final boolean[] isolated = new boolean[threadCount];
+    final double isolationLimit = isolationThreshold * elapsedNanos;
+
+    int isolatedCount = 0;
+    for (final TaskLoad load : loads) {
+      final ActorTask task = load.task;
+      final boolean isolate =
+          isolatedCount < threadCount - 1 && load.executionTime >= isolationLimit;
+
+      final int threadId;
+      if (isolate) {
+        // the isolated tasks get the last threads, so the placement of the others is stable
+        threadId = threadCount - 1 - isolatedCount;
+        isolated[threadId] = true;
+        isolatedCount += 1;
+      } else {
+        threadId = leastLoadedThread(threadLoads, isolated, task.getPlacedThreadId());
+      }
+
+      if (isolate != (task.getPlacedThreadId() >= 0 && isIsolated(task.getPlacedThreadId()))) {
+        Loggers.ACTOR_LOGGER.debug(
+            "{} actor '{}' which executed {} ms in the last {} ms",
+            isolate ? "Isolating" : "No longer isolating",
+            task.getName(),
+            load.executionTime / 1_000_000,
+            elapsedNanos / 1_000_000);
+      }
+
+      task.setPlacedThreadId(threadId);
+      threadLoads[threadId] += load.executionTime;
+      ISOLATED.labels(task.getName()).set(isolate ? 1 : 0);
+    }
+
+    isolatedThreads = isolated;
+
+    for (int i = 0; i < threadCount; i++) {
+      THREAD_LOAD
+          .labels(String.format("%s-%d", groupName, i))
+          .set(elapsedNanos > 0 ? (double) threadLoads[i] / elapsedNanos : 0);
+    }
+  }
+
+  private List<TaskLoad> collectLoads() {
+    final List<TaskLoad> loads = new ArrayList<>(tasks.size());
+
+    for (final ActorTask task : tasks) {
+      if (!isPlacedByThisGroup(task)) {
+        tasks.remove(task);
+        lastExecutionTimes.remove(task);
+        ISOLATED.remove(task.getName());
+        continue;
+      }
+
+      final long executionTime = task.getExecutionTimeNanos();
+      final long lastExecutionTime = lastExecutionTimes.getOrDefault(task, 0L);
+      lastExecutionTimes.put(task, executionTime);
+
+      final long executionTimeInInterval = Math.max(0, executionTime - lastExecutionTime);
+      EXECUTION_TIME.labels(task.getName()).inc(executionTimeInInterval / 1_000_000_000d);
+      loads.add(new TaskLoad(task, executionTimeInInterval));
+    }
+
+    return loads;
+  }
+
+  private boolean isPlacedByThisGroup(final ActorTask task) {
+    final var phase = task.getLifecyclePhase();
+    return phase != ActorTask.ActorLifecyclePhase.CLOSED
+        && phase != ActorTask.ActorLifecyclePhase.FAILED
+        && task.getActorThreadGroup() != null
+        && task.getActorThreadGroup().getPlacement() == this;
+  }
+
+  private int leastLoadedThread(
+      final long[] threadLoads, final boolean[] isolated, final int currentThreadId) {
+    int leastLoaded = -1;
+    for (int i = 0; i < threadCount; i++) {
+      if (isolated[i]) {
+        continue;
+      }
+
+      if (leastLoaded < 0
+          || threadLoads[i] < threadLoads[leastLoaded]
+          || (threadLoads[i] == threadLoads[leastLoaded] && i == currentThreadId)) {
+        leastLoaded = i;
+      }
+    }
+
+    return leastLoaded;
+  }
+
+  @Override
+  public String toString() {
+    return "ActorPlacement{"
+        + "groupName='"
+        + groupName
+        + '\''
+        + ", tasks="
+        + tasks.size()
+        + ", isolatedThreads="
+        + Arrays.toString(isolatedThreads)
+        + '}';
+  }
+
+  private static final class TaskLoad {
+    private final ActorTask task;
+    private final long executionTime;
+
+    private TaskLoad(final ActorTask task, final long executionTime) {
+      this.task = task;
+      this.executionTime = executionTime;
+    }
+
+    private long getExecutionTime() {
+      return executionTime;
+    }
+  }
+}
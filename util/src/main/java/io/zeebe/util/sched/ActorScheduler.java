@@ -9,6 +9,7 @@ package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
@@ -90,6 +91,8 @@ public final class ActorScheduler {
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private Duration actorPlacementInterval;
+    private double actorIsolationThreshold = 0.8;
 
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
@@ -141,6 +144,32 @@ public final class ActorScheduler {
       return this;
     }
 
+    public Duration getActorPlacementInterval() {
+      return actorPlacementInterval;
+    }
+
+    /**
+     * Enables the placement of the CPU-bound actors on the threads by the time they spend
+     * executing, which is rebalanced in the given interval. It is disabled if the interval is null.
+     */
+    public ActorSchedulerBuilder setActorPlacementInterval(final Duration actorPlacementInterval) {
+      this.actorPlacementInterval = actorPlacementInterval;
+      return this;
+    }
+
+    public double getActorIsolationThreshold() {
+      return actorIsolationThreshold;
+    }
+
+    /**
+     * Sets the share of a thread's time above which an actor gets a thread of its own, if the
+     * placement is enabled.
+     */
+    public ActorSchedulerBuilder setActorIsolationThreshold(final double actorIsolationThreshold) {
+      this.actorIsolationThreshold = actorIsolationThreshold;
+      return this;
+    }
+
     public double[] getPriorityQuotas() {
       return Arrays.copyOf(priorityQuotas, priorityQuotas.length);
     }
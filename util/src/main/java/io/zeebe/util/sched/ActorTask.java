@@ -51,6 +51,13 @@ public class ActorTask {
    * submitted from a job within the same actor while the task is in RUNNING state.
    */
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
+  /**
+   * the time the task spent executing, if the thread group accounts it. Only the thread which
+   * executes the task writes it.
+   */
+  private volatile long executionTimeNanos;
+  /** the thread of the group whose queue the task is submitted to, or -1 if it is not placed */
+  private volatile int placedThreadId = -1;
 
   public ActorTask(final Actor actor) {
     this.actor = actor;
@@ -516,6 +523,25 @@ public class ActorTask {
     } else {
       actorThreadGroup = actorExecutor.getIoBoundThreads();
     }
+
+    placedThreadId = -1;
+    actorThreadGroup.register(this);
+  }
+
+  public long getExecutionTimeNanos() {
+    return executionTimeNanos;
+  }
+
+  void addExecutionTime(final long nanos) {
+    executionTimeNanos += nanos;
+  }
+
+  int getPlacedThreadId() {
+    return placedThreadId;
+  }
+
+  void setPlacedThreadId(final int placedThreadId) {
+    this.placedThreadId = placedThreadId;
   }
 
   public void resubmit() {
@@ -59,6 +59,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final TaskScheduler taskScheduler;
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
+  private final ActorPlacement placement;
   private volatile ActorThreadState state;
 
   public ActorThread(
@@ -75,6 +76,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
+    placement = threadGroup != null ? threadGroup.getPlacement() : null;
   }
 
   private void doWork() {
@@ -84,6 +86,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       timerJobQueue.processExpiredTimers(clock);
     }
 
+    if (placement != null) {
+      placement.maybeRebalance(System.nanoTime());
+    }
+
     currentTask = taskScheduler.getNextTask(clock);
 
     if (currentTask != null) {
@@ -102,6 +108,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     idleStrategy.onTaskExecuted();
 
     boolean resubmit = false;
+    // the actor clock may be controlled, so the execution time is measured with the system clock
+    final long startNanos = placement != null ? System.nanoTime() : 0;
 
     try {
       resubmit = currentTask.execute(this);
@@ -115,6 +123,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     } finally {
       MDC.remove("actor-name");
 
+      if (placement != null) {
+        currentTask.addExecutionTime(System.nanoTime() - startNanos);
+      }
+
       clock.update();
     }
 
@@ -21,14 +21,25 @@ public abstract class ActorThreadGroup {
   protected final ActorThread[] threads;
   protected final MultiLevelWorkstealingGroup tasks;
   protected final int numOfThreads;
+  protected final ActorPlacement placement;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final int numOfQueuesPerThread,
       final ActorSchedulerBuilder builder) {
+    this(groupName, numOfThreads, numOfQueuesPerThread, builder, null);
+  }
+
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final int numOfQueuesPerThread,
+      final ActorSchedulerBuilder builder,
+      final ActorPlacement placement) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    this.placement = placement;
 
     tasks = new MultiLevelWorkstealingGroup(numOfThreads, numOfQueuesPerThread);
 
@@ -56,11 +67,27 @@ public abstract class ActorThreadGroup {
   protected abstract TaskScheduler createTaskScheduler(
       MultiLevelWorkstealingGroup tasks, ActorSchedulerBuilder builder);
 
+  /** Called when the task is scheduled on this group, before it is submitted the first time. */
+  public void register(final ActorTask actorTask) {
+    if (placement != null) {
+      placement.register(actorTask);
+    }
+  }
+
   public void submit(final ActorTask actorTask) {
     final int level = getLevel(actorTask);
 
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int placedThreadId = actorTask.getPlacedThreadId();
+    // the bounds check guards against a placement which raced with moving the task to this group
+    if (placedThreadId >= 0 && placedThreadId < numOfThreads) {
+      tasks.submit(actorTask, level, placedThreadId);
+      if (current == null
+          || current.getActorThreadGroup() != this
+          || current.getRunnerId() != placedThreadId) {
+        threads[placedThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, level, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -71,6 +98,10 @@ public abstract class ActorThreadGroup {
 
   protected abstract int getLevel(ActorTask actorTask);
 
+  ActorPlacement getPlacement() {
+    return placement;
+  }
+
   public String getGroupName() {
     return groupName;
   }
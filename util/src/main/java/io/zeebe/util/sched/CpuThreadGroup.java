@@ -13,17 +13,43 @@ import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
 public final class CpuThreadGroup extends ActorThreadGroup {
 
   public CpuThreadGroup(final ActorSchedulerBuilder builder) {
+    this(String.format("%s-%s", builder.getSchedulerName(), "zb-actors"), builder);
+  }
+
+  private CpuThreadGroup(final String groupName, final ActorSchedulerBuilder builder) {
     super(
-        String.format("%s-%s", builder.getSchedulerName(), "zb-actors"),
+        groupName,
         builder.getCpuBoundActorThreadCount(),
         builder.getPriorityQuotas().length,
-        builder);
+        builder,
+        createPlacement(groupName, builder));
+  }
+
+  private static ActorPlacement createPlacement(
+      final String groupName, final ActorSchedulerBuilder builder) {
+    if (builder.getActorPlacementInterval() == null) {
+      return null;
+    }
+
+    return new ActorPlacement(
+        groupName,
+        builder.getCpuBoundActorThreadCount(),
+        builder.getActorPlacementInterval(),
+        builder.getActorIsolationThreshold());
   }
 
   @Override
   protected TaskScheduler createTaskScheduler(
       final MultiLevelWorkstealingGroup tasks, final ActorSchedulerBuilder builder) {
-    return new PriorityScheduler(tasks::getNextTask, builder.getPriorityQuotas());
+    if (placement == null) {
+      return new PriorityScheduler(tasks::getNextTask, builder.getPriorityQuotas());
+    }
+
+    // a thread which runs an isolated actor doesn't steal the tasks of the other threads
+    return new PriorityScheduler(
+        level ->
+            tasks.getNextTask(level, !placement.isIsolated(ActorThread.current().getRunnerId())),
+        builder.getPriorityQuotas());
   }
 
   @Override
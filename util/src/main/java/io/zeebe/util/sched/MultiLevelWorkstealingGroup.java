@@ -25,6 +25,10 @@ public final class MultiLevelWorkstealingGroup {
     return workStealingGroups[level].getNextTask();
   }
 
+  public ActorTask getNextTask(final int level, final boolean steal) {
+    return workStealingGroups[level].getNextTask(steal);
+  }
+
   public void submit(final ActorTask task, final int level, final int threadId) {
     workStealingGroups[level].submit(task, threadId);
   }
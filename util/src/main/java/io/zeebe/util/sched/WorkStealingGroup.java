@@ -41,10 +41,20 @@ public final class WorkStealingGroup {
    * @return the acquired task or null if no task is available
    */
   protected ActorTask getNextTask() {
+    return getNextTask(true);
+  }
+
+  /**
+   * Attempts to acquire the next task to execute
+   *
+   * @param steal whether to steal a task from another thread if the own queue is empty
+   * @return the acquired task or null if no task is available
+   */
+  protected ActorTask getNextTask(final boolean steal) {
     final ActorThread currentThread = ActorThread.current();
     ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
 
-    if (nextTask == null) {
+    if (nextTask == null && steal) {
       nextTask = trySteal(currentThread);
     }
 
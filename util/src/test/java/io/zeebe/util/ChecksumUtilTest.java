@@ -8,14 +8,27 @@
 package io.zeebe.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class ChecksumUtilTest {
 
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   private Path thirdExampleFile;
   private Path exampleFile;
   private Path otherExampleFile;
@@ -95,4 +108,90 @@ public class ChecksumUtilTest {
     // then
     assertThat(actual).isNotEqualTo(expectedChecksum);
   }
+
+  @Test
+  public void shouldGenerateSameChecksumAsOverFullFileContents() throws Exception {
+    // given
+    final var expectedFileChecksums = new CRC32();
+    final var combinedChecksum = new CRC32();
+    for (final var file : List.of(exampleFile, otherExampleFile)) {
+      expectedFileChecksums.reset();
+      expectedFileChecksums.update(Files.readAllBytes(file));
+      combinedChecksum.update(
+          ByteBuffer.allocate(Long.BYTES).putLong(0, expectedFileChecksums.getValue()));
+    }
+
+    // when
+    final var actual = ChecksumUtil.createCombinedChecksum(List.of(exampleFile, otherExampleFile));
+
+    // then
+    assertThat(actual).isEqualTo(combinedChecksum.getValue());
+  }
+
+  @Test
+  public void shouldGenerateSameChecksumInParallel() throws Exception {
+    // given
+    final var files = List.of(exampleFile, otherExampleFile, thirdExampleFile);
+    final var expectedChecksum = ChecksumUtil.createCombinedChecksum(files);
+    final var executor = Executors.newFixedThreadPool(3);
+
+    // when
+    final long actual;
+    try {
+      actual =
+          ChecksumUtil.createCombinedChecksumAsync(
+                  files, executor, IoRateLimiter.ofBytesPerSecond(1024 * 1024))
+              .join();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then
+    assertThat(actual).isEqualTo(expectedChecksum);
+  }
+
+  @Test
+  public void shouldGenerateChecksumOfFileLargerThanReadBuffer() throws Exception {
+    // given
+    final var content = new byte[200 * 1024];
+    new Random(1).nextBytes(content);
+    final var largeFile = temporaryFolder.newFile().toPath();
+    Files.write(largeFile, content);
+    final var expectedChecksum = new CRC32();
+    expectedChecksum.update(content);
+
+    // when
+    final var actual = ChecksumUtil.createChecksum(largeFile, IoRateLimiter.unlimited());
+
+    // then
+    assertThat(actual).isEqualTo(expectedChecksum.getValue());
+  }
+
+  @Test
+  public void shouldFailOnMissingFile() {
+    // given
+    final var missingFile = exampleFile.resolveSibling("missing.txt");
+
+    // when - then
+    assertThatThrownBy(() -> ChecksumUtil.createCombinedChecksum(List.of(exampleFile, missingFile)))
+        .isInstanceOf(NoSuchFileException.class);
+  }
+
+  @Test
+  public void shouldCompleteExceptionallyOnMissingFile() {
+    // given
+    final var missingFile = exampleFile.resolveSibling("missing.txt");
+
+    // when
+    final var checksum =
+        ChecksumUtil.createCombinedChecksumAsync(
+            List.of(exampleFile, missingFile),
+            ForkJoinPool.commonPool(),
+            IoRateLimiter.unlimited());
+
+    // then
+    assertThatThrownBy(checksum::join)
+        .hasCauseInstanceOf(UncheckedIOException.class)
+        .hasRootCauseInstanceOf(NoSuchFileException.class);
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public final class IoRateLimiterTest {
+
+  @Test
+  public void shouldNotLimitUnlimitedRate() {
+    // given
+    final var rateLimiter = IoRateLimiter.unlimited();
+    final long start = System.nanoTime();
+
+    // when
+    for (int i = 0; i < 1_000; i++) {
+      rateLimiter.acquire(1024 * 1024);
+    }
+
+    // then
+    assertThat(rateLimiter.isLimited()).isFalse();
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void shouldTreatNonPositiveRateAsUnlimited() {
+    // when
+    final var rateLimiter = IoRateLimiter.ofBytesPerSecond(0);
+
+    // then
+    assertThat(rateLimiter.isLimited()).isFalse();
+  }
+
+  @Test
+  public void shouldLimitRate() {
+    // given
+    final var rateLimiter = IoRateLimiter.ofBytesPerSecond(1024);
+    final long start = System.nanoTime();
+
+    // when - the first acquisition is admitted immediately, the following ones wait for it
+    rateLimiter.acquire(256);
+    rateLimiter.acquire(256);
+    rateLimiter.acquire(256);
+
+    // then
+    assertThat(System.nanoTime() - start)
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the latency of processing a command on a partition while another partition of the same
+ * broker is overloaded. The partitions are CPU-bound actors: the hot partitions process their
+ * backlog continuously in small steps, like a stream processor which replays or processes a large
+ * batch, while the benchmark sends single commands to the other partitions and waits for them to be
+ * processed.
+ *
+ * <p>Without placement, the commands queue up behind the hot partitions on the threads where they
+ * are executed; with placement, the hot partitions are isolated on threads of their own.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActorPlacementBenchmark {
+
+  private static final long HOT_STEP_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+  private static final long COMMAND_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+  @Param({"false", "true"})
+  public boolean placement;
+
+  @Param({"4"})
+  public int threads;
+
+  @Param({"8"})
+  public int partitions;
+
+  @Param({"1"})
+  public int hotPartitions;
+
+  private ActorScheduler scheduler;
+  private Partition[] coldPartitions;
+  private Partition[] overloadedPartitions;
+
+  @Setup
+  public void setUp() {
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(threads)
+            .setIoBoundActorThreadCount(1)
+            .setSchedulerName("placement-benchmark");
+    if (placement) {
+      builder.setActorPlacementInterval(Duration.ofSeconds(1));
+    }
+    scheduler = builder.build();
+    scheduler.start();
+
+    overloadedPartitions = new Partition[hotPartitions];
+    for (int i = 0; i < hotPartitions; i++) {
+      overloadedPartitions[i] = new Partition(i + 1);
+      scheduler.submitActor(overloadedPartitions[i]).join();
+      overloadedPartitions[i].overload();
+    }
+
+    coldPartitions = new Partition[partitions - hotPartitions];
+    for (int i = 0; i < coldPartitions.length; i++) {
+      coldPartitions[i] = new Partition(hotPartitions + i + 1);
+      scheduler.submitActor(coldPartitions[i]).join();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    for (final Partition partition : overloadedPartitions) {
+      partition.closeAsync().join();
+    }
+    for (final Partition partition : coldPartitions) {
+      partition.closeAsync().join();
+    }
+    scheduler.stop().get();
+  }
+
+  @Benchmark
+  public Long processCommandOnColdPartition() {
+    final int partition = ThreadLocalRandom.current().nextInt(coldPartitions.length);
+    return coldPartitions[partition].processCommand().join();
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ActorPlacementBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  private static long spin(final long nanos) {
+    final long start = System.nanoTime();
+    long iterations = 0;
+    while (System.nanoTime() - start < nanos) {
+      iterations++;
+    }
+    return iterations;
+  }
+
+  private static final class Partition extends Actor {
+    private final int partitionId;
+    private boolean overloaded;
+
+    private Partition(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    public String getName() {
+      return "Partition-" + partitionId;
+    }
+
+    @Override
+    protected void onActorCloseRequested() {
+      overloaded = false;
+    }
+
+    private void overload() {
+      actor.call(
+          () -> {
+            overloaded = true;
+            actor.submit(this::processBacklog);
+          });
+    }
+
+    private void processBacklog() {
+      spin(HOT_STEP_NANOS);
+      if (overloaded) {
+        actor.submit(this::processBacklog);
+      }
+    }
+
+    private ActorFuture<Long> processCommand() {
+      return actor.call(() -> spin(COMMAND_NANOS));
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
+import java.time.Duration;
+import org.junit.Test;
+
+public final class ActorPlacementTest {
+
+  private static final Duration INTERVAL = Duration.ofSeconds(1);
+
+  @Test
+  public void shouldIsolateRunawayTask() {
+    // given
+    final var group = newGroup(3);
+    final var runaway = newTask(group, "runaway", 900);
+    final var first = newTask(group, "first", 50);
+    final var second = newTask(group, "second", 40);
+    final var third = newTask(group, "third", 10);
+
+    // when
+    group.getPlacement().rebalance(INTERVAL.toNanos());
+
+    // then
+    assertThat(runaway.getPlacedThreadId()).isEqualTo(2);
+    assertThat(group.getPlacement().isIsolated(2)).isTrue();
+    assertThat(group.getPlacement().isIsolated(0)).isFalse();
+    assertThat(group.getPlacement().isIsolated(1)).isFalse();
+    assertThat(first.getPlacedThreadId()).isIn(0, 1);
+    assertThat(second.getPlacedThreadId()).isIn(0, 1).isNotEqualTo(first.getPlacedThreadId());
+    assertThat(third.getPlacedThreadId()).isEqualTo(second.getPlacedThreadId());
+  }
+
+  @Test
+  public void shouldBalanceTasksByExecutionTime() {
+    // given
+    final var group = newGroup(2);
+    final var tasks =
+        new ActorTask[] {
+          newTask(group, "a", 300), newTask(group, "b", 200), newTask(group, "c", 100)
+        };
+
+    // when
+    group.getPlacement().rebalance(INTERVAL.toNanos());
+
+    // then
+    assertThat(tasks[0].getPlacedThreadId()).isNotEqualTo(tasks[1].getPlacedThreadId());
+    assertThat(tasks[2].getPlacedThreadId()).isEqualTo(tasks[1].getPlacedThreadId());
+    assertThat(group.getPlacement().isIsolated(0)).isFalse();
+    assertThat(group.getPlacement().isIsolated(1)).isFalse();
+  }
+
+  @Test
+  public void shouldLeaveOneThreadForOtherTasks() {
+    // given
+    final var group = newGroup(2);
+    final var first = newTask(group, "first", 950);
+    final var second = newTask(group, "second", 900);
+
+    // when
+    group.getPlacement().rebalance(INTERVAL.toNanos());
+
+    // then
+    assertThat(first.getPlacedThreadId()).isEqualTo(1);
+    assertThat(second.getPlacedThreadId()).isZero();
+    assertThat(group.getPlacement().isIsolated(1)).isTrue();
+    assertThat(group.getPlacement().isIsolated(0)).isFalse();
+  }
+
+  @Test
+  public void shouldUseExecutionTimeOfLastIntervalOnly() {
+    // given
+    final var group = newGroup(2);
+    final var task = newTask(group, "task", 900);
+    group.getPlacement().rebalance(INTERVAL.toNanos());
+
+    // when
+    task.addExecutionTime(Duration.ofMillis(100).toNanos());
+    group.getPlacement().rebalance(INTERVAL.toNanos());
+
+    // then
+    assertThat(group.getPlacement().isIsolated(1)).isFalse();
+    assertThat(task.getExecutionTimeNanos()).isEqualTo(Duration.ofMillis(1000).toNanos());
+  }
+
+  @Test
+  public void shouldNotPlaceTasksOfOtherGroups() {
+    // given
+    final var group = newGroup(2);
+    final var task = newTask(group, "task", 900);
+    final var otherGroup = newGroup(2);
+
+    // when
+    task.onTaskScheduled(null, otherGroup);
+    group.getPlacement().rebalance(INTERVAL.toNanos());
+
+    // then
+    assertThat(task.getPlacedThreadId()).isEqualTo(-1);
+    assertThat(group.getPlacement().isIsolated(1)).isFalse();
+  }
+
+  private static CpuThreadGroup newGroup(final int threads) {
+    final ActorSchedulerBuilder builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(threads)
+            .setActorPlacementInterval(INTERVAL)
+            .setActorIsolationThreshold(0.8)
+            .setActorThreadFactory(new ActorScheduler.DefaultActorThreadFactory());
+    return new CpuThreadGroup(builder);
+  }
+
+  private static ActorTask newTask(
+      final ActorThreadGroup group, final String name, final long executionTimeMillis) {
+    final var task =
+        new ActorTask(
+            new Actor() {
+              @Override
+              public String getName() {
+                return name;
+              }
+            });
+    task.onTaskScheduled(null, group);
+    group.register(task);
+    task.addExecutionTime(Duration.ofMillis(executionTimeMillis).toNanos());
+    return task;
+  }
+}
@@ -38,4 +38,20 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Enables or disables measuring the time which is spent in the get, put and delete operations of
+   * the transaction. It is disabled by default because it reads the clock twice per operation.
+   *
+   * @param enabled {@code true} to measure the time of the operations
+   */
+  default void setOperationTimingEnabled(final boolean enabled) {}
+
+  /**
+   * @return the time in nanoseconds which was spent in the get, put and delete operations since the
+   *     last invocation, or {@code 0} if the timing is disabled
+   */
+  default long getAndResetOperationNanos() {
+    return 0;
+  }
 }
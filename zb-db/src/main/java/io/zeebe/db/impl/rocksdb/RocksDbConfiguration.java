@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/** The configuration of the databases which are created by the {@link ZeebeRocksDbFactory}. */
+public final class RocksDbConfiguration {
+
+  private final Map<String, Properties> columnFamilySpecificOptions = new HashMap<>();
+  private final Map<String, Integer> columnFamilyPrefixLengths = new HashMap<>();
+  private Properties columnFamilyOptions = new Properties();
+  private RocksDbStatisticsLevel statisticsLevel;
+  private SharedRocksDbResources sharedResources;
+
+  public Properties getColumnFamilyOptions() {
+    return columnFamilyOptions;
+  }
+
+  /**
+   * @param columnFamilyOptions the options which are applied to all column families, overwriting
+   *     Zeebe's own defaults
+   */
+  public RocksDbConfiguration setColumnFamilyOptions(final Properties columnFamilyOptions) {
+    this.columnFamilyOptions = Objects.requireNonNull(columnFamilyOptions);
+    return this;
+  }
+
+  /** @return the options of the given column family, or {@code null} if it has no own options */
+  public Properties getColumnFamilyOptions(final String columnFamilyName) {
+    return columnFamilySpecificOptions.get(columnFamilyName.toLowerCase());
+  }
+
+  /**
+   * @param columnFamilyName the name of the column family, which is case insensitive
+   * @param options the options which are applied to the given column family only, overwriting the
+   *     options of all column families
+   */
+  public RocksDbConfiguration setColumnFamilyOptions(
+      final String columnFamilyName, final Properties options) {
+    columnFamilySpecificOptions.put(
+        columnFamilyName.toLowerCase(), Objects.requireNonNull(options));
+    return this;
+  }
+
+  /** @return the prefix length of the given column family, or {@code 0} if it has none */
+  public int getPrefixLength(final String columnFamilyName) {
+    return columnFamilyPrefixLengths.getOrDefault(columnFamilyName.toLowerCase(), 0);
+  }
+
+  /**
+   * Sets the length of the prefix which is used to iterate over the keys of the given column
+   * family. The column family gets a prefix extractor which caps the keys at this length and a
+   * bloom filter of the prefixes, so a prefix iteration can skip files and blocks which don't
+   * contain the prefix. Iterating over a prefix which is shorter than this length can't use the
+   * bloom filter, so it should not be longer than the shortest prefix which is iterated over.
+   *
+   * @param columnFamilyName the name of the column family, which is case insensitive
+   * @param prefixLength the length of the prefix in bytes
+   */
+  public RocksDbConfiguration setPrefixLength(
+      final String columnFamilyName, final int prefixLength) {
+    if (prefixLength <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected prefix length to be positive, but found %d", prefixLength));
+    }
+    columnFamilyPrefixLengths.put(columnFamilyName.toLowerCase(), prefixLength);
+    return this;
+  }
+
+  public RocksDbStatisticsLevel getStatisticsLevel() {
+    return statisticsLevel;
+  }
+
+  /**
+   * @param statisticsLevel the level of the collected statistics, or {@code null} to disable them
+   */
+  public RocksDbConfiguration setStatisticsLevel(final RocksDbStatisticsLevel statisticsLevel) {
+    this.statisticsLevel = statisticsLevel;
+    return this;
+  }
+
+  public SharedRocksDbResources getSharedResources() {
+    return sharedResources;
+  }
+
+  /**
+   * @param sharedResources the resources which are shared by all created databases, or {@code null}
+   *     to let each database use its own
+   */
+  public RocksDbConfiguration setSharedResources(final SharedRocksDbResources sharedResources) {
+    this.sharedResources = sharedResources;
+    return this;
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import org.rocksdb.StatsLevel;
+
+/**
+ * The level of the statistics which are collected by RocksDB. Each level includes the ones before,
+ * so the cost on the read and write path increases with it.
+ */
+public enum RocksDbStatisticsLevel {
+  /** Collects all statistics, except the ones which require to measure time inside locks. */
+  EXCEPT_DETAILED_TIMERS(StatsLevel.EXCEPT_DETAILED_TIMERS),
+  /** Collects all statistics, except the time spent on acquiring the DB mutex. */
+  EXCEPT_TIME_FOR_MUTEX(StatsLevel.EXCEPT_TIME_FOR_MUTEX),
+  /** Collects all statistics. */
+  ALL(StatsLevel.ALL);
+
+  private final StatsLevel statsLevel;
+
+  RocksDbStatisticsLevel(final StatsLevel statsLevel) {
+    this.statsLevel = statsLevel;
+  }
+
+  StatsLevel getStatsLevel() {
+    return statsLevel;
+  }
+}
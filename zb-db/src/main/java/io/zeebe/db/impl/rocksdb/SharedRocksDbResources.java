@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.LRUCache;
+import org.rocksdb.RateLimiter;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * RocksDB resources which are shared by all databases created with the same configuration, to bound
+ * the memory and the disk bandwidth of all databases together instead of each on its own.
+ *
+ * <p>The memory limit is used as capacity of a shared block cache. The memtables are charged
+ * against the same cache via a write buffer manager, which flushes them when they exceed the given
+ * ratio of the limit. Index and filter blocks are cached in the block cache as well, so the memory
+ * limit also covers them.
+ *
+ * <p>The resources have to be closed after all databases which use them are closed.
+ */
+public final class SharedRocksDbResources implements AutoCloseable {
+
+  private static final int DEFAULT_NUM_SHARD_BITS = -1;
+  // reserve part of the cache for index and filter blocks, which are needed for every lookup
+  private static final double HIGH_PRIORITY_POOL_RATIO = 0.1;
+
+  private final LRUCache blockCache;
+  private final WriteBufferManager writeBufferManager;
+  private final RateLimiter rateLimiter;
+
+  private SharedRocksDbResources(
+      final LRUCache blockCache,
+      final WriteBufferManager writeBufferManager,
+      final RateLimiter rateLimiter) {
+    this.blockCache = blockCache;
+    this.writeBufferManager = writeBufferManager;
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * Creates the shared resources.
+   *
+   * @param memoryLimit the memory in bytes which can be used by all databases together for the
+   *     block cache and the memtables
+   * @param writeBufferRatio the ratio of the memory limit which can be used by the memtables
+   * @param ioRateLimit the rate in bytes per second which can be used by flushes and compactions of
+   *     all databases together, or {@code 0} to not limit it
+   * @return the created resources
+   */
+  public static SharedRocksDbResources create(
+      final long memoryLimit, final double writeBufferRatio, final long ioRateLimit) {
+    if (memoryLimit <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected memory limit to be positive, but found %d", memoryLimit));
+    }
+    if (writeBufferRatio <= 0 || writeBufferRatio >= 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected write buffer ratio to be between 0 and 1 (exclusive), but found %f",
+              writeBufferRatio));
+    }
+    if (ioRateLimit < 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected IO rate limit to be non-negative, but found %d", ioRateLimit));
+    }
+
+    final var blockCache =
+        new LRUCache(memoryLimit, DEFAULT_NUM_SHARD_BITS, false, HIGH_PRIORITY_POOL_RATIO);
+    final var writeBufferManager =
+        new WriteBufferManager((long) (memoryLimit * writeBufferRatio), blockCache);
+    final var rateLimiter = ioRateLimit > 0 ? new RateLimiter(ioRateLimit) : null;
+
+    return new SharedRocksDbResources(blockCache, writeBufferManager, rateLimiter);
+  }
+
+  WriteBufferManager getWriteBufferManager() {
+    return writeBufferManager;
+  }
+
+  RateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+
+  BlockBasedTableConfig createTableConfig() {
+    return new BlockBasedTableConfig()
+        .setBlockCache(blockCache)
+        .setCacheIndexAndFilterBlocks(true)
+        .setCacheIndexAndFilterBlocksWithHighPriority(true)
+        .setPinL0FilterAndIndexBlocksInCache(true);
+  }
+
+  @Override
+  public void close() {
+    if (rateLimiter != null) {
+      rateLimiter.close();
+    }
+    writeBufferManager.close();
+    blockCache.close();
+  }
+}
@@ -7,15 +7,29 @@
  */
 package io.zeebe.db.impl.rocksdb;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import io.zeebe.util.ZbLogger;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Optional;
+import org.rocksdb.HistogramData;
+import org.rocksdb.HistogramType;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
 import org.slf4j.Logger;
 
 /**
  * This class exports metrics for a RocksDB instance to Prometheus.
  *
+ * <p>The properties are exported per column family. If the database collects {@link Statistics}
+ * (see {@link RocksDbConfiguration#setStatisticsLevel(RocksDbStatisticsLevel)}), the tickers and
+ * histograms can be exported via {@link #exportStatistics()}. RocksDB collects them for the whole
+ * database, so they are exported per partition only.
+ *
  * @param <ColumnFamilyType>
  */
 public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<ColumnFamilyType>> {
@@ -25,6 +39,7 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
   private static final String PARTITION = "partition";
   private static final String COLUMN_FAMILY_NAME = "columnFamilyName";
   private static final String PROPERTY_NAME = "propertyName";
+  private static final String QUANTILE = "quantile";
   private static final String ZEEBE_NAMESPACE = "zeebe";
 
   private static final String MEMORY_METRICS_HELP =
@@ -72,6 +87,40 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     new RocksDBMetric("rocksdb.mem-table-flush-pending", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
     new RocksDBMetric("rocksdb.num-running-flushes", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
+    new RocksDBMetric("rocksdb.compaction-pending", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
+    new RocksDBMetric(
+        "rocksdb.estimate-pending-compaction-bytes", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
+  };
+
+  private static final String STATISTICS_PREFIX = "rocksdb_statistics";
+  private static final RocksDBTicker[] TICKERS = {
+    new RocksDBTicker(TickerType.BLOCK_CACHE_HIT),
+    new RocksDBTicker(TickerType.BLOCK_CACHE_MISS),
+    new RocksDBTicker(TickerType.BLOCK_CACHE_DATA_HIT),
+    new RocksDBTicker(TickerType.BLOCK_CACHE_DATA_MISS),
+    new RocksDBTicker(TickerType.BLOOM_FILTER_USEFUL),
+    new RocksDBTicker(TickerType.BLOOM_FILTER_PREFIX_CHECKED),
+    new RocksDBTicker(TickerType.BLOOM_FILTER_PREFIX_USEFUL),
+    new RocksDBTicker(TickerType.MEMTABLE_HIT),
+    new RocksDBTicker(TickerType.MEMTABLE_MISS),
+    new RocksDBTicker(TickerType.NUMBER_KEYS_WRITTEN),
+    new RocksDBTicker(TickerType.NUMBER_KEYS_READ),
+    new RocksDBTicker(TickerType.BYTES_WRITTEN),
+    new RocksDBTicker(TickerType.BYTES_READ),
+    new RocksDBTicker(TickerType.STALL_MICROS),
+    new RocksDBTicker(TickerType.COMPACT_READ_BYTES),
+    new RocksDBTicker(TickerType.COMPACT_WRITE_BYTES),
+    new RocksDBTicker(TickerType.FLUSH_WRITE_BYTES),
+  };
+
+  private static final RocksDBHistogram[] HISTOGRAMS = {
+    new RocksDBHistogram(HistogramType.DB_GET),
+    new RocksDBHistogram(HistogramType.DB_WRITE),
+    new RocksDBHistogram(HistogramType.DB_SEEK),
+    new RocksDBHistogram(HistogramType.SST_READ_MICROS),
+    new RocksDBHistogram(HistogramType.WRITE_STALL),
+    new RocksDBHistogram(HistogramType.FLUSH_TIME),
+    new RocksDBHistogram(HistogramType.COMPACTION_TIME),
   };
 
   private final String partition;
@@ -101,6 +150,51 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     LOG.trace("Exporting RocksDBMetrics took + " + elapsedTime + " ms");
   }
 
+  /**
+   * Exports the tickers and histograms of the database statistics, if they are enabled. The
+   * statistics are reset afterwards, so the exported histograms describe the interval since the
+   * previous invocation.
+   */
+  public void exportStatistics() {
+    getStatistics().ifPresent(this::exportStatistics);
+  }
+
+  private void exportStatistics(final Statistics statistics) {
+    for (final RocksDBTicker ticker : TICKERS) {
+      ticker.exportValue(partition, statistics);
+    }
+
+    for (final RocksDBHistogram histogram : HISTOGRAMS) {
+      histogram.exportValue(partition, statistics);
+    }
+
+    try {
+      statistics.reset();
+    } catch (final RocksDBException e) {
+      LOG.debug(e.getMessage(), e);
+    }
+  }
+
+  private Optional<Statistics> getStatistics() {
+    if (database instanceof ZeebeTransactionDb) {
+      return ((ZeebeTransactionDb<ColumnFamilyType>) database).getStatistics();
+    }
+    return Optional.empty();
+  }
+
+  /** @return the histograms which are not exported and don't need to be recorded */
+  static EnumSet<HistogramType> ignoredHistograms() {
+    final var ignoredHistograms = EnumSet.allOf(HistogramType.class);
+    for (final RocksDBHistogram histogram : HISTOGRAMS) {
+      ignoredHistograms.remove(histogram.histogramType);
+    }
+    return ignoredHistograms;
+  }
+
+  private static String metricSuffix(final Enum<?> type) {
+    return "_" + type.name().toLowerCase();
+  }
+
   private void exportMetrics(
       final ColumnFamilyType columnFamilyName, final RocksDBMetric[] metrics) {
     for (final RocksDBMetric metric : metrics) {
@@ -146,4 +240,63 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
       return propertyName;
     }
   }
+
+  private static final class RocksDBTicker {
+
+    private final TickerType tickerType;
+    private final Counter counter;
+
+    private RocksDBTicker(final TickerType tickerType) {
+      this.tickerType = tickerType;
+
+      counter =
+          Counter.build()
+              .namespace(ZEEBE_NAMESPACE)
+              .name(STATISTICS_PREFIX + metricSuffix(tickerType))
+              .help("RocksDB statistics ticker " + tickerType.name() + " per partition")
+              .labelNames(PARTITION)
+              .register();
+    }
+
+    private void exportValue(final String partitionID, final Statistics statistics) {
+      final long count = statistics.getAndResetTickerCount(tickerType);
+      if (count > 0) {
+        counter.labels(partitionID).inc(count);
+      }
+    }
+  }
+
+  private static final class RocksDBHistogram {
+
+    private static final String MICROS_SUFFIX = "_micros";
+
+    private final HistogramType histogramType;
+    private final Gauge gauge;
+
+    private RocksDBHistogram(final HistogramType histogramType) {
+      this.histogramType = histogramType;
+
+      final var suffix = metricSuffix(histogramType);
+      gauge =
+          Gauge.build()
+              .namespace(ZEEBE_NAMESPACE)
+              .name(
+                  STATISTICS_PREFIX
+                      + (suffix.endsWith(MICROS_SUFFIX) ? suffix : suffix + MICROS_SUFFIX))
+              .help(
+                  "RocksDB statistics histogram "
+                      + histogramType.name()
+                      + " per partition, since the previous export")
+              .labelNames(PARTITION, QUANTILE)
+              .register();
+    }
+
+    private void exportValue(final String partitionID, final Statistics statistics) {
+      final HistogramData data = statistics.getHistogramData(histogramType);
+      gauge.labels(partitionID, "0.5").set(data.getMedian());
+      gauge.labels(partitionID, "0.95").set(data.getPercentile95());
+      gauge.labels(partitionID, "0.99").set(data.getPercentile99());
+      gauge.labels(partitionID, "1.0").set(data.getMax());
+    }
+  }
 }
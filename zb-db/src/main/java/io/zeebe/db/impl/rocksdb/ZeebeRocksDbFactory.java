@@ -16,41 +16,64 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.stream.Collectors;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.Filter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  private static final int BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+  private static final String BLOCK_BASED_TABLE_FACTORY = "block_based_table_factory";
+  // the filter contains the prefixes and the whole keys, to be used by seeks and gets
+  private static final String PREFIX_BLOOM_FILTER_TABLE_OPTIONS =
+      "filter_policy=bloomfilter:" + BLOOM_FILTER_BITS_PER_KEY + ":false;whole_key_filtering=true";
+
   static {
     RocksDB.loadLibrary();
   }
 
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
-  private final Properties userProvidedColumnFamilyOptions;
+  private final RocksDbConfiguration configuration;
 
   private ZeebeRocksDbFactory(
       final Class<ColumnFamilyType> columnFamilyTypeClass,
-      final Properties userProvidedColumnFamilyOptions) {
+      final RocksDbConfiguration configuration) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
-    this.userProvidedColumnFamilyOptions = Objects.requireNonNull(userProvidedColumnFamilyOptions);
+    this.configuration = Objects.requireNonNull(configuration);
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass) {
-    final var columnFamilyOptions = new Properties();
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, columnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, new RocksDbConfiguration());
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass,
           final Properties userProvidedColumnFamilyOptions) {
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, userProvidedColumnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass,
+        new RocksDbConfiguration().setColumnFamilyOptions(userProvidedColumnFamilyOptions));
+  }
+
+  /**
+   * Creates a factory for databases with the given configuration. If the configuration contains
+   * shared resources, all databases created by the factory use them, and they have to be closed
+   * after all databases are closed.
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final RocksDbConfiguration configuration) {
+    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, configuration);
   }
 
   @Override
@@ -58,23 +81,27 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return open(
         pathName,
         Arrays.stream(columnFamilyTypeClass.getEnumConstants())
-            .map(c -> c.name().toLowerCase().getBytes())
+            .map(c -> c.name().toLowerCase())
             .collect(Collectors.toList()));
   }
 
   private ZeebeTransactionDb<ColumnFamilyType> open(
-      final File dbDirectory, final List<byte[]> columnFamilyNames) {
+      final File dbDirectory, final List<String> columnFamilyNames) {
 
     final ZeebeTransactionDb<ColumnFamilyType> db;
     try {
       final List<AutoCloseable> closeables = new ArrayList<>();
 
       // column family options have to be closed as last
-      final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
-      closeables.add(columnFamilyOptions);
-
       final List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          createFamilyDescriptors(columnFamilyNames, columnFamilyOptions);
+          createFamilyDescriptors(columnFamilyNames, closeables);
+
+      // statistics have to be closed after the db options which reference them
+      final Statistics statistics = createStatistics();
+      if (statistics != null) {
+        closeables.add(statistics);
+      }
+
       final DBOptions dbOptions =
           new DBOptions()
               .setCreateMissingColumnFamilies(true)
@@ -82,6 +109,17 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
               .setCreateIfMissing(true)
               .setParanoidChecks(true);
       closeables.add(dbOptions);
+      if (statistics != null) {
+        dbOptions.setStatistics(statistics);
+      }
+
+      final SharedRocksDbResources sharedResources = configuration.getSharedResources();
+      if (sharedResources != null) {
+        dbOptions.setWriteBufferManager(sharedResources.getWriteBufferManager());
+        if (sharedResources.getRateLimiter() != null) {
+          dbOptions.setRateLimiter(sharedResources.getRateLimiter());
+        }
+      }
 
       db =
           ZeebeTransactionDb.openTransactionalDb(
@@ -89,7 +127,9 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
               dbDirectory.getAbsolutePath(),
               columnFamilyDescriptors,
               closeables,
-              columnFamilyTypeClass);
+              columnFamilyTypeClass,
+              statistics,
+              getPrefixLengths(columnFamilyNames));
 
     } catch (final RocksDBException e) {
       throw new RuntimeException("Unexpected error occurred trying to open the database", e);
@@ -98,21 +138,115 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private List<ColumnFamilyDescriptor> createFamilyDescriptors(
-      final List<byte[]> columnFamilyNames, final ColumnFamilyOptions columnFamilyOptions) {
+      final List<String> columnFamilyNames, final List<AutoCloseable> closeables) {
     final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
 
     if (columnFamilyNames != null && !columnFamilyNames.isEmpty()) {
-      for (final byte[] name : columnFamilyNames) {
+      // the filter is referenced by the column family options, so it has to be closed after them
+      final Filter prefixBloomFilter;
+      if (configuration.getSharedResources() != null) {
+        prefixBloomFilter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+        closeables.add(prefixBloomFilter);
+      } else {
+        prefixBloomFilter = null;
+      }
+
+      // the column families without specific options share the same options
+      final ColumnFamilyOptions sharedColumnFamilyOptions = createColumnFamilyOptions();
+      closeables.add(sharedColumnFamilyOptions);
+
+      for (final String name : columnFamilyNames) {
+        final Properties specificOptions = configuration.getColumnFamilyOptions(name);
+        final int prefixLength = configuration.getPrefixLength(name);
+
+        final ColumnFamilyOptions columnFamilyOptions;
+        if (specificOptions == null && prefixLength == 0) {
+          columnFamilyOptions = sharedColumnFamilyOptions;
+        } else {
+          columnFamilyOptions =
+              createColumnFamilyOptions(
+                  specificOptions != null ? specificOptions : new Properties(), prefixLength);
+          if (prefixLength > 0) {
+            usePrefixBloomFilter(columnFamilyOptions, prefixLength, prefixBloomFilter);
+          }
+          closeables.add(columnFamilyOptions);
+        }
+
         final ColumnFamilyDescriptor columnFamilyDescriptor =
-            new ColumnFamilyDescriptor(name, columnFamilyOptions);
+            new ColumnFamilyDescriptor(name.getBytes(), columnFamilyOptions);
         columnFamilyDescriptors.add(columnFamilyDescriptor);
       }
     }
     return columnFamilyDescriptors;
   }
 
+  private int[] getPrefixLengths(final List<String> columnFamilyNames) {
+    final int[] prefixLengths = new int[columnFamilyNames.size()];
+    for (int i = 0; i < prefixLengths.length; i++) {
+      prefixLengths[i] = configuration.getPrefixLength(columnFamilyNames.get(i));
+    }
+    return prefixLengths;
+  }
+
+  /**
+   * Uses a prefix extractor and bloom filters on the column family. Without shared resources, the
+   * table bloom filter is already part of the table options of the properties (see {@link
+   * #createColumnFamilyOptions(Properties, int)}), so that other user-provided table options are
+   * kept. With shared resources, it is added to the shared table config, which replaces the
+   * user-provided table options anyway.
+   */
+  private void usePrefixBloomFilter(
+      final ColumnFamilyOptions columnFamilyOptions,
+      final int prefixLength,
+      final Filter prefixBloomFilter) {
+    // keys which are shorter than the prefix length are in the domain of a capped extractor too
+    columnFamilyOptions.useCappedPrefixExtractor(prefixLength);
+    columnFamilyOptions.setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+
+    final SharedRocksDbResources sharedResources = configuration.getSharedResources();
+    if (sharedResources != null) {
+      columnFamilyOptions.setTableFormatConfig(
+          sharedResources
+              .createTableConfig()
+              .setFilterPolicy(prefixBloomFilter)
+              .setWholeKeyFiltering(true));
+    }
+  }
+
+  private Statistics createStatistics() {
+    final RocksDbStatisticsLevel statisticsLevel = configuration.getStatisticsLevel();
+    if (statisticsLevel == null) {
+      return null;
+    }
+
+    // histograms which are not exported are ignored, to avoid the cost of recording them
+    final var statistics = new Statistics(ZeebeRocksDBMetricExporter.ignoredHistograms());
+    statistics.setStatsLevel(statisticsLevel.getStatsLevel());
+    return statistics;
+  }
+
   /** @return Options which are used on all column families */
   public ColumnFamilyOptions createColumnFamilyOptions() {
+    return createColumnFamilyOptions(new Properties());
+  }
+
+  /**
+   * @param specificOptions the options of a single column family
+   * @return Options which are used on the column family with the given specific options
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(final Properties specificOptions) {
+    return createColumnFamilyOptions(specificOptions, 0);
+  }
+
+  /**
+   * @param specificOptions the options of a single column family
+   * @param prefixLength the prefix length of the column family, or 0 if it has none
+   * @return Options which are used on the column family with the given specific options; if it has
+   *     a prefix length and no shared resources are configured, its table options contain the
+   *     prefix bloom filter, unless the user-provided table options set another filter policy
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final Properties specificOptions, final int prefixLength) {
     // start with some defaults
     final var columnFamilyOptionProps = new Properties();
     // look for cf_options.h to find available keys
@@ -120,8 +254,22 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     columnFamilyOptionProps.put("compaction_pri", "kOldestSmallestSeqFirst");
 
     // apply custom options
+    final Properties userProvidedColumnFamilyOptions = new Properties();
+    userProvidedColumnFamilyOptions.putAll(configuration.getColumnFamilyOptions());
+    userProvidedColumnFamilyOptions.putAll(specificOptions);
     columnFamilyOptionProps.putAll(userProvidedColumnFamilyOptions);
 
+    if (prefixLength > 0 && configuration.getSharedResources() == null) {
+      // the user-provided table options come last, so they take precedence over the filter
+      final var userTableOptions =
+          stripBraces(userProvidedColumnFamilyOptions.getProperty(BLOCK_BASED_TABLE_FACTORY, ""));
+      final var tableOptions =
+          userTableOptions.isEmpty()
+              ? PREFIX_BLOOM_FILTER_TABLE_OPTIONS
+              : PREFIX_BLOOM_FILTER_TABLE_OPTIONS + ";" + userTableOptions;
+      columnFamilyOptionProps.put(BLOCK_BASED_TABLE_FACTORY, "{" + tableOptions + "}");
+    }
+
     final var columnFamilyOptions =
         ColumnFamilyOptions.getColumnFamilyOptionsFromProps(columnFamilyOptionProps);
     if (columnFamilyOptions == null) {
@@ -133,6 +281,20 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
                   + "See RocksDB's cf_options.h and options_helper.cc for available keys and values.",
               columnFamilyOptionProps, userProvidedColumnFamilyOptions));
     }
+
+    final SharedRocksDbResources sharedResources = configuration.getSharedResources();
+    if (sharedResources != null) {
+      // replaces the table options of the properties, to use the shared block cache
+      columnFamilyOptions.setTableFormatConfig(sharedResources.createTableConfig());
+    }
     return columnFamilyOptions;
   }
+
+  private static String stripBraces(final String options) {
+    final var trimmed = options.trim();
+    if (trimmed.startsWith("{") && trimmed.endsWith("}")) {
+      return trimmed.substring(1, trimmed.length() - 1);
+    }
+    return trimmed;
+  }
 }
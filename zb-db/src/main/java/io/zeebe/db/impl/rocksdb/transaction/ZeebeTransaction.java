@@ -24,6 +24,9 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final long nativeHandle;
   private boolean inCurrentTransaction;
 
+  private boolean operationTimingEnabled;
+  private long operationNanos;
+
   public ZeebeTransaction(final Transaction transaction) {
     this.transaction = transaction;
     try {
@@ -40,8 +43,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
+    final long startNanos = startOperation();
     RocksDbInternal.putWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    endOperation(startNanos);
   }
 
   public byte[] get(
@@ -50,21 +55,49 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] key,
       final int keyLength)
       throws Exception {
-    return (byte[])
-        RocksDbInternal.getWithHandle.invoke(
-            transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+    final long startNanos = startOperation();
+    final byte[] value =
+        (byte[])
+            RocksDbInternal.getWithHandle.invoke(
+                transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+    endOperation(startNanos);
+    return value;
   }
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
+    final long startNanos = startOperation();
     RocksDbInternal.removeWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    endOperation(startNanos);
   }
 
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
 
+  private long startOperation() {
+    return operationTimingEnabled ? System.nanoTime() : 0;
+  }
+
+  private void endOperation(final long startNanos) {
+    if (operationTimingEnabled) {
+      operationNanos += System.nanoTime() - startNanos;
+    }
+  }
+
+  @Override
+  public void setOperationTimingEnabled(final boolean enabled) {
+    operationTimingEnabled = enabled;
+  }
+
+  @Override
+  public long getAndResetOperationNanos() {
+    final long nanos = operationNanos;
+    operationNanos = 0;
+    return nanos;
+  }
+
   void resetTransaction() {
     inCurrentTransaction = true;
   }
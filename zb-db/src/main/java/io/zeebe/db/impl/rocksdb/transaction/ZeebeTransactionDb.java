@@ -27,6 +27,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -37,6 +38,7 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.RocksObject;
+import org.rocksdb.Statistics;
 import org.rocksdb.Transaction;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
@@ -53,14 +55,21 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
+  private final ReadOptions totalOrderReadOptions;
   private final WriteOptions defaultWriteOptions;
+  private final Statistics statistics;
+  private final Long2LongHashMap prefixLengths;
 
   protected ZeebeTransactionDb(
       final OptimisticTransactionDB optimisticTransactionDB,
       final EnumMap<ColumnFamilyNames, Long> columnFamilyMap,
       final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap,
-      final List<AutoCloseable> closables) {
+      final List<AutoCloseable> closables,
+      final Statistics statistics,
+      final Long2LongHashMap prefixLengths) {
     this.optimisticTransactionDB = optimisticTransactionDB;
+    this.statistics = statistics;
+    this.prefixLengths = prefixLengths;
     this.columnFamilyMap = columnFamilyMap;
     this.handelToEnumMap = handelToEnumMap;
     this.closables = closables;
@@ -69,6 +78,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     closables.add(prefixReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
+    // iterations which cross prefixes are undefined in prefix mode, if a prefix extractor is set
+    totalOrderReadOptions = new ReadOptions().setTotalOrderSeek(true);
+    closables.add(totalOrderReadOptions);
     defaultWriteOptions = new WriteOptions();
     closables.add(defaultWriteOptions);
   }
@@ -81,6 +93,33 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final List<AutoCloseable> closables,
           final Class<ColumnFamilyNames> columnFamilyTypeClass)
           throws RocksDBException {
+    return openTransactionalDb(
+        options,
+        path,
+        columnFamilyDescriptors,
+        closables,
+        columnFamilyTypeClass,
+        null,
+        new int[columnFamilyDescriptors.size()]);
+  }
+
+  /**
+   * Opens the database with the given options. If statistics are given, they have to be set on the
+   * options already; they are exposed via {@link #getStatistics()} and closed with the database.
+   *
+   * @param prefixLengths the length of the prefix extractor of each column family in the order of
+   *     the descriptors, or {@code 0} if the column family has none
+   */
+  public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
+          final DBOptions options,
+          final String path,
+          final List<ColumnFamilyDescriptor> columnFamilyDescriptors,
+          final List<AutoCloseable> closables,
+          final Class<ColumnFamilyNames> columnFamilyTypeClass,
+          final Statistics statistics,
+          final int[] prefixLengths)
+          throws RocksDBException {
     final EnumMap<ColumnFamilyNames, Long> columnFamilyMap = new EnumMap<>(columnFamilyTypeClass);
 
     final List<ColumnFamilyHandle> handles = new ArrayList<>();
@@ -90,15 +129,24 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
     final ColumnFamilyNames[] enumConstants = columnFamilyTypeClass.getEnumConstants();
     final Long2ObjectHashMap<ColumnFamilyHandle> handleToEnumMap = new Long2ObjectHashMap<>();
+    final Long2LongHashMap handleToPrefixLength = new Long2LongHashMap(0);
     for (int i = 0; i < handles.size(); i++) {
       final ColumnFamilyHandle columnFamilyHandle = handles.get(i);
       closables.add(columnFamilyHandle);
       columnFamilyMap.put(enumConstants[i], getNativeHandle(columnFamilyHandle));
       handleToEnumMap.put(getNativeHandle(handles.get(i)), handles.get(i));
+      if (prefixLengths[i] > 0) {
+        handleToPrefixLength.put(getNativeHandle(columnFamilyHandle), prefixLengths[i]);
+      }
     }
 
     return new ZeebeTransactionDb<>(
-        optimisticTransactionDB, columnFamilyMap, handleToEnumMap, closables);
+        optimisticTransactionDB,
+        columnFamilyMap,
+        handleToEnumMap,
+        closables,
+        statistics,
+        handleToPrefixLength);
   }
 
   private static long getNativeHandle(final RocksObject object) {
@@ -212,6 +260,11 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return Optional.ofNullable(propertyValue);
   }
 
+  /** @return the statistics which are collected by RocksDB, if they are enabled */
+  public Optional<Statistics> getStatistics() {
+    return Optional.ofNullable(statistics);
+  }
+
   ////////////////////////////////////////////////////////////////////
   //////////////////////////// ITERATION /////////////////////////////
   ////////////////////////////////////////////////////////////////////
@@ -285,7 +338,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
             for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
               context.wrapKeyView(iterator.key());
               context.wrapValueView(iterator.value());
@@ -305,7 +358,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
             boolean shouldVisitNext = true;
             for (iterator.seekToFirst(); iterator.isValid() && shouldVisitNext; iterator.next()) {
               shouldVisitNext = visit(context, keyInstance, valueInstance, visitor, iterator);
@@ -334,11 +387,13 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   }
 
   /**
-   * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on iterators
-   * at the moment, so using prefixes seem to be mostly related to skipping files that do not
-   * contain keys with the given prefix (which is useful anyway), but it will still iterate over all
-   * keys contained in those files, so we still need to make sure the key actually matches the
-   * prefix.
+   * NOTE: it isn't possible in Java RocksDB to set a flexible prefix extractor, so a column family
+   * can only have a prefix extractor which caps the keys at a fixed length (see {@link
+   * io.zeebe.db.impl.rocksdb.RocksDbConfiguration#setPrefixLength(String, int)}). If the given
+   * prefix is at least as long, the iteration is done in prefix mode, which uses the prefix bloom
+   * filters to skip files and blocks that do not contain keys with the given prefix. Otherwise, or
+   * if the column family has no prefix extractor, the iteration is done in total order. In both
+   * cases the iterator may return keys which don't match the whole prefix.
    *
    * <p>While iterating over subsequent keys we have to validate it.
    */
@@ -354,10 +409,12 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
             ensureInOpenTransaction(
                 context,
                 transaction -> {
+                  final int prefixLength = prefix.getLength();
+                  final ReadOptions readOptions =
+                      getPrefixReadOptions(columnFamilyHandle, prefixLength);
                   try (final RocksIterator iterator =
-                      newIterator(columnFamilyHandle, context, prefixReadOptions)) {
+                      newIterator(columnFamilyHandle, context, readOptions)) {
                     prefix.write(prefixKeyBuffer, 0);
-                    final int prefixLength = prefix.getLength();
 
                     boolean shouldVisitNext = true;
 
@@ -386,6 +443,14 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
                 }));
   }
 
+  private ReadOptions getPrefixReadOptions(final long columnFamilyHandle, final int prefixLength) {
+    final long extractorLength = prefixLengths.get(columnFamilyHandle);
+    if (extractorLength > 0 && prefixLength >= extractorLength) {
+      return prefixReadOptions;
+    }
+    return totalOrderReadOptions;
+  }
+
   private <KeyType extends DbKey, ValueType extends DbValue> boolean visit(
       final DbContext context,
       final KeyType keyInstance,
@@ -409,7 +474,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
             iterator.seekToFirst();
             final boolean hasEntry = iterator.isValid();
             isEmpty.set(!hasEntry);
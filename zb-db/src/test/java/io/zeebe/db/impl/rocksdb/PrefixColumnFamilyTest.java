@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class PrefixColumnFamilyTest {
+
+  // the length of the string and its first four bytes
+  private static final int PREFIX_LENGTH = Integer.BYTES + 4;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+      ZeebeRocksDbFactory.newFactory(
+          DefaultColumnFamily.class,
+          new RocksDbConfiguration()
+              .setPrefixLength(DefaultColumnFamily.DEFAULT.name(), PREFIX_LENGTH));
+
+  private File dbDirectory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbString, DbLong>, DbString> columnFamily;
+  private DbString firstKey;
+  private DbLong secondKey;
+  private DbCompositeKey<DbString, DbLong> compositeKey;
+  private DbString value;
+
+  @Before
+  public void setup() throws Exception {
+    dbDirectory = temporaryFolder.newFolder();
+    openDb();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldIterateOverPrefix() {
+    // given
+    putKeyValuePair("foobar", 12, "a");
+    putKeyValuePair("foobar", 13, "b");
+    putKeyValuePair("foobaz", 14, "c");
+    putKeyValuePair("foobar-2", 15, "d");
+    putKeyValuePair("other", 16, "e");
+
+    // when
+    final List<String> values = collectValuesWithPrefix("foobar");
+
+    // then
+    assertThat(values).containsExactly("a", "b");
+  }
+
+  @Test
+  public void shouldIterateOverPrefixShorterThanPrefixLength() {
+    // given
+    putKeyValuePair("foo", 12, "a");
+    putKeyValuePair("foo", 13, "b");
+    putKeyValuePair("fo", 14, "c");
+    putKeyValuePair("fooo", 15, "d");
+
+    // when
+    final List<String> values = collectValuesWithPrefix("foo");
+
+    // then
+    assertThat(values).containsExactly("a", "b");
+  }
+
+  @Test
+  public void shouldIterateOverPrefixAfterReopen() throws Exception {
+    // given
+    putKeyValuePair("foobar", 12, "a");
+    putKeyValuePair("foobaz", 13, "b");
+    putKeyValuePair("foo", 14, "c");
+    putKeyValuePair("foobar", 15, "d");
+
+    // when - the recovered entries are flushed to files with prefix bloom filters
+    zeebeDb.close();
+    openDb();
+
+    // then
+    assertThat(collectValuesWithPrefix("foobar")).containsExactly("a", "d");
+    assertThat(collectValuesWithPrefix("foo")).containsExactly("c");
+    assertThat(collectValuesWithPrefix("missing")).isEmpty();
+    assertThat(getValue("foobaz", 13)).isEqualTo("b");
+  }
+
+  @Test
+  public void shouldIterateOverAllKeys() {
+    // given
+    putKeyValuePair("foobar", 12, "a");
+    putKeyValuePair("foo", 13, "b");
+    putKeyValuePair("other", 14, "c");
+
+    // when
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach((key, value) -> values.add(value.toString()));
+
+    // then
+    assertThat(values).containsExactlyInAnyOrder("a", "b", "c");
+  }
+
+  private void openDb() {
+    zeebeDb = dbFactory.createDb(dbDirectory);
+
+    firstKey = new DbString();
+    secondKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    value = new DbString();
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), compositeKey, value);
+  }
+
+  private List<String> collectValuesWithPrefix(final String prefix) {
+    final List<String> values = new ArrayList<>();
+    firstKey.wrapString(prefix);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          values.add(value.toString());
+        });
+    return values;
+  }
+
+  private String getValue(final String firstKeyPart, final long secondKeyPart) {
+    firstKey.wrapString(firstKeyPart);
+    secondKey.wrapLong(secondKeyPart);
+    final DbString result = columnFamily.get(compositeKey);
+    return result == null ? null : result.toString();
+  }
+
+  private void putKeyValuePair(
+      final String firstKeyPart, final long secondKeyPart, final String valuePart) {
+    firstKey.wrapString(firstKeyPart);
+    secondKey.wrapLong(secondKeyPart);
+    value.wrapString(valuePart);
+    columnFamily.put(compositeKey, value);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.rocksdb.StatsLevel;
+import org.rocksdb.TickerType;
+
+public final class ZeebeRocksDBMetricExporterTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ZeebeTransactionDb<DefaultColumnFamily> db;
+
+  @After
+  public void tearDown() {
+    if (db != null) {
+      db.close();
+    }
+  }
+
+  @Test
+  public void shouldNotCollectStatisticsByDefault() throws Exception {
+    // given
+    db =
+        (ZeebeTransactionDb<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class)
+                .createDb(temporaryFolder.newFolder());
+
+    // when
+    putValue("foo", "bar");
+
+    // then
+    assertThat(db.getStatistics()).isEmpty();
+  }
+
+  @Test
+  public void shouldCollectStatisticsIfEnabled() throws Exception {
+    // given
+    db = createDbWithStatistics();
+
+    // when
+    putValue("foo", "bar");
+
+    // then
+    assertThat(db.getStatistics()).isPresent();
+    assertThat(db.getStatistics().get().statsLevel()).isEqualTo(StatsLevel.EXCEPT_DETAILED_TIMERS);
+    assertThat(db.getStatistics().get().getTickerCount(TickerType.NUMBER_KEYS_WRITTEN))
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void shouldExportStatisticsPerPartition() throws Exception {
+    // given
+    db = createDbWithStatistics();
+    final var exporter = new ZeebeRocksDBMetricExporter<>("1", db, DefaultColumnFamily.class);
+    final double keysWrittenBefore = getKeysWritten("1");
+    putValue("foo", "bar");
+    putValue("baz", "bar");
+
+    // when
+    exporter.exportStatistics();
+
+    // then
+    assertThat(getKeysWritten("1")).isEqualTo(keysWrittenBefore + 2);
+    assertThat(db.getStatistics().get().getTickerCount(TickerType.NUMBER_KEYS_WRITTEN)).isZero();
+  }
+
+  @Test
+  public void shouldNotExportStatisticsIfDisabled() throws Exception {
+    // given
+    db =
+        (ZeebeTransactionDb<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class)
+                .createDb(temporaryFolder.newFolder());
+    final var exporter = new ZeebeRocksDBMetricExporter<>("2", db, DefaultColumnFamily.class);
+    putValue("foo", "bar");
+
+    // when
+    exporter.exportStatistics();
+
+    // then
+    assertThat(getKeysWritten("2")).isZero();
+  }
+
+  private ZeebeTransactionDb<DefaultColumnFamily> createDbWithStatistics() throws Exception {
+    return (ZeebeTransactionDb<DefaultColumnFamily>)
+        ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new RocksDbConfiguration()
+                    .setStatisticsLevel(RocksDbStatisticsLevel.EXCEPT_DETAILED_TIMERS))
+            .createDb(temporaryFolder.newFolder());
+  }
+
+  private void putValue(final String keyString, final String valueString) {
+    final DbString key = new DbString();
+    key.wrapString(keyString);
+    final DbString value = new DbString();
+    value.wrapString(valueString);
+    final ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+    columnFamily.put(key, value);
+  }
+
+  private static double getKeysWritten(final String partition) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_statistics_number_keys_written",
+            new String[] {"partition"},
+            new String[] {partition});
+    return value == null ? 0 : value;
+  }
+}
@@ -8,12 +8,18 @@
 package io.zeebe.db.impl.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbString;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.util.ByteValue;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Properties;
 import org.junit.Rule;
 import org.junit.Test;
@@ -90,4 +96,119 @@ public final class ZeebeRocksDbFactoryTest {
         .extracting(ColumnFamilyOptions::writeBufferSize, ColumnFamilyOptions::compactionPriority)
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize);
   }
+
+  @Test
+  public void shouldOverwriteColumnFamilyOptionsPerColumnFamily() {
+    // given
+    final var commonProperties = new Properties();
+    commonProperties.put("write_buffer_size", String.valueOf(ByteValue.ofMegabytes(16)));
+    final var specificProperties = new Properties();
+    specificProperties.put("write_buffer_size", String.valueOf(ByteValue.ofMegabytes(8)));
+
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new RocksDbConfiguration()
+                    .setColumnFamilyOptions(commonProperties)
+                    .setColumnFamilyOptions("DEFAULT", specificProperties));
+
+    // when
+    final var commonOptions = factory.createColumnFamilyOptions();
+    final var specificOptions = factory.createColumnFamilyOptions(specificProperties);
+
+    // then
+    assertThat(commonOptions.writeBufferSize()).isEqualTo(ByteValue.ofMegabytes(16));
+    assertThat(specificOptions)
+        .extracting(ColumnFamilyOptions::writeBufferSize, ColumnFamilyOptions::compactionPriority)
+        .containsExactly(ByteValue.ofMegabytes(8), CompactionPriority.OldestSmallestSeqFirst);
+  }
+
+  @Test
+  public void shouldCreateDbsWithSharedResources() throws Exception {
+    // given
+    final var sharedResources =
+        SharedRocksDbResources.create(ByteValue.ofMegabytes(32), 0.5, ByteValue.ofMegabytes(64));
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class,
+            new RocksDbConfiguration().setSharedResources(sharedResources));
+
+    // when
+    final ZeebeDb<DefaultColumnFamily> firstDb = dbFactory.createDb(temporaryFolder.newFolder());
+    final ZeebeDb<DefaultColumnFamily> secondDb = dbFactory.createDb(temporaryFolder.newFolder());
+    putValue(firstDb, "foo", "bar");
+    putValue(secondDb, "foo", "baz");
+
+    // then
+    assertThat(getValue(firstDb, "foo")).isEqualTo("bar");
+    assertThat(getValue(secondDb, "foo")).isEqualTo("baz");
+    assertThat(firstDb.getProperty(DefaultColumnFamily.DEFAULT, "rocksdb.block-cache-capacity"))
+        .contains(String.valueOf(ByteValue.ofMegabytes(32)));
+
+    firstDb.close();
+    secondDb.close();
+    sharedResources.close();
+  }
+
+  @Test
+  public void shouldKeepUserProvidedTableOptionsWithPrefixBloomFilter() throws Exception {
+    // given
+    final var tableProperties = new Properties();
+    tableProperties.put("block_based_table_factory", "{block_size=16384}");
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class,
+            new RocksDbConfiguration()
+                .setColumnFamilyOptions(tableProperties)
+                .setPrefixLength(DefaultColumnFamily.DEFAULT.name(), 8));
+    final File dbDirectory = temporaryFolder.newFolder();
+
+    // when
+    final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(dbDirectory);
+    db.close();
+
+    // then
+    final String options = readOptionsFile(dbDirectory);
+    assertThat(options)
+        .contains("block_size=16384")
+        .contains("filter_policy=rocksdb.BuiltinBloomFilter")
+        .contains("whole_key_filtering=true");
+  }
+
+  @Test
+  public void shouldRejectInvalidSharedResources() {
+    assertThatThrownBy(() -> SharedRocksDbResources.create(0, 0.5, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SharedRocksDbResources.create(ByteValue.ofMegabytes(32), 1, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SharedRocksDbResources.create(ByteValue.ofMegabytes(32), 0.5, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void putValue(
+      final ZeebeDb<DefaultColumnFamily> db, final String keyString, final String valueString) {
+    final DbString key = new DbString();
+    key.wrapString(keyString);
+    final DbString value = new DbString();
+    value.wrapString(valueString);
+    final ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+    columnFamily.put(key, value);
+  }
+
+  private static String getValue(final ZeebeDb<DefaultColumnFamily> db, final String keyString) {
+    final DbString key = new DbString();
+    key.wrapString(keyString);
+    final ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, new DbString());
+    return columnFamily.get(key).toString();
+  }
+
+  private static String readOptionsFile(final File dbDirectory) throws IOException {
+    final File[] optionsFiles = dbDirectory.listFiles((dir, name) -> name.startsWith("OPTIONS-"));
+    assertThat(optionsFiles).isNotEmpty();
+    Arrays.sort(optionsFiles);
+    return Files.readString(optionsFiles[optionsFiles.length - 1].toPath());
+  }
 }